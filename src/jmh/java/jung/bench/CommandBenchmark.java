@@ -0,0 +1,89 @@
+package jung.bench;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import jung.command.AddTodoCommand;
+import jung.command.ListCommand;
+import jung.command.ModifyTaskCommand;
+import jung.command.UndoCommand;
+import jung.exceptions.JungException;
+import jung.storage.Storage;
+import jung.storage.TaskList;
+import jung.util.CommandResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures command execution: list formatting and add/mark followed by undo.
+ * Undo round-trips include the storage writes they trigger, as in the real application.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CommandBenchmark {
+
+    @Param({"1000", "100000"})
+    private int taskCount;
+
+    private Path dataFile;
+    private Storage storage;
+    private TaskList taskList;
+    private final ListCommand listCommand = new ListCommand(ListCommand.Action.FIRST, 1);
+    private final AddTodoCommand addCommand = new AddTodoCommand("benchmark todo");
+    private final ModifyTaskCommand markCommand = new ModifyTaskCommand(ModifyTaskCommand.Action.MARK, 0);
+    private final UndoCommand undoCommand = new UndoCommand();
+
+    /**
+     * Builds a task list of the requested size backed by a temporary data file.
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        dataFile = Files.createTempFile("jung-bench", ".txt");
+        storage = new Storage(dataFile.toString());
+        taskList = new TaskList(new TaskDataGenerator(42).generateTasks(taskCount), storage);
+    }
+
+    /**
+     * Deletes the temporary data file.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(dataFile);
+    }
+
+    /**
+     * Formats the first page of the task list.
+     */
+    @Benchmark
+    public String listExecute() throws JungException {
+        return listCommand.execute(taskList, null, storage).getMessage();
+    }
+
+    /**
+     * Adds a todo and undoes it again.
+     */
+    @Benchmark
+    public CommandResult addUndoRoundTrip() throws JungException, IOException {
+        addCommand.execute(taskList, null, storage);
+        return undoCommand.execute(taskList, null, storage);
+    }
+
+    /**
+     * Marks the first task and undoes it again.
+     */
+    @Benchmark
+    public CommandResult markUndoRoundTrip() throws JungException, IOException {
+        markCommand.execute(taskList, null, storage);
+        return undoCommand.execute(taskList, null, storage);
+    }
+}
@@ -0,0 +1,62 @@
+package jung.bench;
+
+import java.util.concurrent.TimeUnit;
+import jung.parser.CommandLexer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares {@link CommandLexer} with the regex normalization the parser used before it,
+ * which trimmed and ran {@code replaceAll("\\s+", " ")} for the command word and again for the arguments.
+ * Run with {@code -prof gc} to compare allocation as well as time.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CommandLexerBenchmark {
+
+    @Param({
+        "todo buy groceries for the week",
+        "todo   buy  groceries for the   week",
+        "event project meeting /from 15/3/2024 1400 /to 15/3/2024 1600"
+    })
+    private String input;
+
+    /**
+     * Lexes the input once, as the parser now does.
+     */
+    @Benchmark
+    public void lexer(Blackhole blackhole) {
+        CommandLexer lexer = CommandLexer.lex(input);
+        blackhole.consume(lexer.getCommandWord());
+        blackhole.consume(lexer.getNormalized());
+        blackhole.consume(lexer.getByIndex());
+        blackhole.consume(lexer.getFromIndex());
+        blackhole.consume(lexer.getToIndex());
+        blackhole.consume(lexer.hasReservedSeparator());
+    }
+
+    /**
+     * Repeats the regex-based steps of the previous parser for the same information.
+     */
+    @Benchmark
+    public void regexBaseline(Blackhole blackhole) {
+        boolean isReserved = input.contains(" | ") && !input.trim().toLowerCase().startsWith("find");
+        String commandText = input.trim().replaceAll("\\s+", " ");
+        int firstSpace = commandText.indexOf(" ");
+        String commandWord = (firstSpace == -1 ? commandText : commandText.substring(0, firstSpace)).toLowerCase();
+        String normalized = input.trim().replaceAll("\\s+", " ");
+        blackhole.consume(commandWord);
+        blackhole.consume(normalized);
+        blackhole.consume(normalized.indexOf("/by"));
+        blackhole.consume(normalized.indexOf("/from"));
+        blackhole.consume(normalized.indexOf("/to"));
+        blackhole.consume(isReserved);
+    }
+}
@@ -0,0 +1,132 @@
+package jung.bench;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import jung.util.DateFormats;
+
+/**
+ * Generates reproducible streams of user commands with a configurable mix of command types.
+ * Task numbers in mark and delete commands are kept within the list size the stream implies,
+ * so a replay exercises the success paths rather than error handling.
+ */
+public class CommandStreamGenerator {
+
+    /**
+     * Default mix used when no ratio is given: mostly adds, with regular marks, finds and deletes.
+     */
+    public static final String DEFAULT_MIX = "todo=30,deadline=15,event=15,mark=15,find=15,delete=10";
+
+    private static final String[] FIND_KEYWORDS = {"plants", "report", "buy", "standup", "car", "gift"};
+
+    private final TaskDataGenerator data;
+    private final String[] commandTypes;
+    private final int[] cumulativeWeights;
+    private final int totalWeight;
+    private int expectedTaskCount;
+
+    /**
+     * Creates a generator for a list that starts with the given number of tasks.
+     *
+     * @param seed Seed for the pseudo-random sequence
+     * @param mix Comma-separated command weights, such as {@code todo=3,find=1}
+     * @param initialTaskCount Number of tasks already in the list
+     */
+    public CommandStreamGenerator(long seed, String mix, int initialTaskCount) {
+        Map<String, Integer> weights = parseMix(mix);
+        this.data = new TaskDataGenerator(seed);
+        this.commandTypes = weights.keySet().toArray(new String[0]);
+        this.cumulativeWeights = new int[commandTypes.length];
+
+        int runningTotal = 0;
+        for (int i = 0; i < commandTypes.length; i++) {
+            runningTotal += weights.get(commandTypes[i]);
+            cumulativeWeights[i] = runningTotal;
+        }
+        this.totalWeight = runningTotal;
+        this.expectedTaskCount = initialTaskCount;
+    }
+
+    /**
+     * Generates the next command line.
+     *
+     * @return A user command such as {@code deadline buy car 3 /by 4/5/2024 1300}
+     */
+    public String nextCommand() {
+        String type = pickType();
+        if (expectedTaskCount == 0 && (type.equals("mark") || type.equals("delete"))) {
+            type = "todo";
+        }
+
+        switch (type) {
+        case "todo":
+            expectedTaskCount++;
+            return "todo " + data.nextDescription();
+        case "deadline":
+            expectedTaskCount++;
+            return "deadline " + data.nextDescription() + " /by " + format(data.nextTime());
+        case "event":
+            expectedTaskCount++;
+            LocalDateTime start = data.nextTime();
+            return "event " + data.nextDescription() + " /from " + format(start)
+                    + " /to " + format(start.plusMinutes(30 + data.nextInt(180)));
+        case "mark":
+            return "mark " + (1 + data.nextInt(expectedTaskCount));
+        case "delete":
+            expectedTaskCount--;
+            return "delete " + (1 + data.nextInt(expectedTaskCount + 1));
+        case "find":
+            return "find " + FIND_KEYWORDS[data.nextInt(FIND_KEYWORDS.length)];
+        default:
+            return type;
+        }
+    }
+
+    /**
+     * Generates a batch of command lines.
+     *
+     * @param count Number of commands to generate
+     * @return Generated commands in replay order
+     */
+    public List<String> nextCommands(int count) {
+        List<String> commands = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            commands.add(nextCommand());
+        }
+        return commands;
+    }
+
+    private String pickType() {
+        int roll = data.nextInt(totalWeight);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (roll < cumulativeWeights[i]) {
+                return commandTypes[i];
+            }
+        }
+        return commandTypes[commandTypes.length - 1];
+    }
+
+    private static String format(LocalDateTime time) {
+        return time.format(DateFormats.INPUT_FORMAT);
+    }
+
+    private static Map<String, Integer> parseMix(String mix) {
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split("=");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Mix entries must look like type=weight: " + entry);
+            }
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight > 0) {
+                weights.put(parts[0].trim().toLowerCase(), weight);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("Mix must give at least one command a positive weight");
+        }
+        return weights;
+    }
+}
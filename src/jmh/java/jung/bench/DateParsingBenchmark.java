@@ -0,0 +1,83 @@
+package jung.bench;
+
+import java.time.LocalDateTime;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import jung.util.DateFormats;
+import jung.util.DateTimeParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares parsing d/M/yyyy HHmm strings with {@link DateFormats#INPUT_FORMAT}, with the
+ * {@link DateTimeParser} fast path alone, and with the fast path plus its LRU cache.
+ * {@code distinctDates} controls how often strings repeat, as they do in task files and bulk imports.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DateParsingBenchmark {
+
+    private static final int SAMPLE_COUNT = 4096;
+
+    @Param({"16", "4096"})
+    private int distinctDates;
+
+    private String[] samples;
+    private DateTimeParser cachedParser;
+    private int next;
+
+    /**
+     * Generates date strings drawn from a pool of {@code distinctDates} values.
+     */
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        LocalDateTime base = LocalDateTime.of(2025, 1, 1, 0, 0);
+        String[] pool = new String[distinctDates];
+        for (int i = 0; i < distinctDates; i++) {
+            pool[i] = base.plusMinutes(random.nextInt(2 * 365 * 24 * 60)).format(DateFormats.INPUT_FORMAT);
+        }
+
+        samples = new String[SAMPLE_COUNT];
+        for (int i = 0; i < SAMPLE_COUNT; i++) {
+            samples[i] = pool[random.nextInt(distinctDates)];
+        }
+        cachedParser = new DateTimeParser(256);
+    }
+
+    /**
+     * Parses with the general-purpose formatter, as every date was parsed before.
+     */
+    @Benchmark
+    public LocalDateTime formatter() {
+        return LocalDateTime.parse(nextSample(), DateFormats.INPUT_FORMAT);
+    }
+
+    /**
+     * Parses with the digit-by-digit fast path only.
+     */
+    @Benchmark
+    public LocalDateTime fastPath() {
+        return DateTimeParser.parseWithoutCache(nextSample());
+    }
+
+    /**
+     * Parses through the LRU cache, falling back to the fast path on a miss.
+     */
+    @Benchmark
+    public LocalDateTime cached() {
+        return cachedParser.parse(nextSample());
+    }
+
+    private String nextSample() {
+        next = (next + 1) & (SAMPLE_COUNT - 1);
+        return samples[next];
+    }
+}
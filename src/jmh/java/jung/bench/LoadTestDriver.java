@@ -0,0 +1,153 @@
+package jung.bench;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import jung.gui.Jung;
+
+/**
+ * Headless load test for the command engine.
+ * Generates a realistic data file and command stream, replays the stream through
+ * {@link Jung#processCommand(String)} as fast as possible, and reports throughput and
+ * p50/p99/p999 latency per command type.
+ *
+ * <p>Options (all optional): {@code --tasks N} initial list size, {@code --commands N} stream length,
+ * {@code --seed N}, {@code --mix todo=30,find=10,...}, {@code --dir PATH} for the generated data file,
+ * {@code --write-commands PATH} to also save the stream for replay elsewhere.
+ */
+public class LoadTestDriver {
+
+    private static final double NANOS_PER_MICRO = 1_000.0;
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    private int initialTasks = 10_000;
+    private int commandCount = 20_000;
+    private long seed = 42;
+    private String mix = CommandStreamGenerator.DEFAULT_MIX;
+    private Path directory = Paths.get("build", "loadtest");
+    private Path commandsFile;
+
+    /**
+     * Runs the load test with the given command line options.
+     *
+     * @param args Command line options
+     * @throws IOException If the data file cannot be written or the engine fails to save
+     */
+    public static void main(String[] args) throws IOException {
+        LoadTestDriver driver = new LoadTestDriver();
+        driver.parseArguments(args);
+        driver.run();
+    }
+
+    private void parseArguments(String[] args) {
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            String value = args[i + 1];
+            switch (args[i]) {
+            case "--tasks":
+                initialTasks = Integer.parseInt(value);
+                break;
+            case "--commands":
+                commandCount = Integer.parseInt(value);
+                break;
+            case "--seed":
+                seed = Long.parseLong(value);
+                break;
+            case "--mix":
+                mix = value;
+                break;
+            case "--dir":
+                directory = Paths.get(value);
+                break;
+            case "--write-commands":
+                commandsFile = Paths.get(value);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+    }
+
+    private void run() throws IOException {
+        Files.createDirectories(directory);
+        Path dataFile = directory.resolve("jung.txt");
+        TaskDataGenerator.writeDataFile(dataFile, new TaskDataGenerator(seed).generateTasks(initialTasks));
+
+        List<String> commands = new CommandStreamGenerator(seed + 1, mix, initialTasks).nextCommands(commandCount);
+        if (commandsFile != null) {
+            Files.write(commandsFile, commands);
+        }
+
+        Jung jung = new Jung(dataFile.toString());
+        jung.initialize();
+
+        Map<String, LatencyRecorder> recorders = new TreeMap<>();
+        long runStart = System.nanoTime();
+        for (String command : commands) {
+            String type = command.split(" ", 2)[0];
+            LatencyRecorder recorder = recorders.computeIfAbsent(type, key -> new LatencyRecorder(commands.size()));
+
+            long start = System.nanoTime();
+            try {
+                jung.processCommand(command);
+            } catch (Exception e) {
+                recorder.recordError();
+            }
+            recorder.record(System.nanoTime() - start);
+        }
+        long elapsedNanos = System.nanoTime() - runStart;
+
+        printReport(commands.size(), elapsedNanos, recorders);
+    }
+
+    private void printReport(int total, long elapsedNanos, Map<String, LatencyRecorder> recorders) {
+        System.out.printf("Replayed %d commands against %d initial tasks in %.2f s (%.0f commands/s)%n",
+                total, initialTasks, elapsedNanos / NANOS_PER_SECOND, total / (elapsedNanos / NANOS_PER_SECOND));
+        System.out.printf("%-10s %8s %7s %10s %10s %10s %10s%n",
+                "command", "count", "errors", "p50 (us)", "p99 (us)", "p999 (us)", "max (us)");
+        for (Map.Entry<String, LatencyRecorder> entry : recorders.entrySet()) {
+            LatencyRecorder recorder = entry.getValue();
+            System.out.printf("%-10s %8d %7d %10.1f %10.1f %10.1f %10.1f%n",
+                    entry.getKey(), recorder.count, recorder.errors,
+                    recorder.percentile(0.50) / NANOS_PER_MICRO,
+                    recorder.percentile(0.99) / NANOS_PER_MICRO,
+                    recorder.percentile(0.999) / NANOS_PER_MICRO,
+                    recorder.percentile(1.0) / NANOS_PER_MICRO);
+        }
+    }
+
+    /**
+     * Keeps every latency sample of one command type so exact percentiles can be reported.
+     */
+    private static class LatencyRecorder {
+        private long[] samples;
+        private int count;
+        private int errors;
+
+        LatencyRecorder(int expectedSamples) {
+            samples = new long[Math.min(expectedSamples, 1024)];
+        }
+
+        void record(long nanos) {
+            if (count == samples.length) {
+                samples = Arrays.copyOf(samples, samples.length * 2);
+            }
+            samples[count++] = nanos;
+        }
+
+        void recordError() {
+            errors++;
+        }
+
+        long percentile(double fraction) {
+            long[] sorted = Arrays.copyOf(samples, count);
+            Arrays.sort(sorted);
+            int rank = (int) Math.ceil(fraction * count) - 1;
+            return sorted[Math.max(0, Math.min(rank, count - 1))];
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package jung.bench;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import jung.command.Command;
+import jung.exceptions.JungException;
+import jung.parser.Parser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures {@link Parser#parse(String)} for a typical input of every command word and alias.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ParserBenchmark {
+
+    private static final Map<String, String> SAMPLE_INPUTS = Map.ofEntries(
+            Map.entry("bye", "bye"),
+            Map.entry("list", "list"),
+            Map.entry("todo", "todo   buy  groceries for the   week"),
+            Map.entry("deadline", "deadline submit report /by 15/3/2024 1400"),
+            Map.entry("event", "event project meeting /from 15/3/2024 1400 /to 15/3/2024 1600"),
+            Map.entry("mark", "mark 3"),
+            Map.entry("unmark", "unmark 3"),
+            Map.entry("delete", "delete 3"),
+            Map.entry("find", "find groceries"),
+            Map.entry("undo", "undo"),
+            Map.entry("stats", "stats on"),
+            Map.entry("import", "import tasks.csv"),
+            Map.entry("export", "export tasks.jsonl"),
+            Map.entry("due", "due 14"),
+            Map.entry("conflicts", "conflicts on"),
+            Map.entry("archive", "archive find groceries"),
+            Map.entry("dl", "dl pay rent /by 1/11/2026 0900 /every month"),
+            Map.entry("ev", "ev standup /from 2/3/2026 0930 /to 2/3/2026 0945 /every mon,wed"),
+            Map.entry("del", "del 3"));
+
+    @Param({"bye", "list", "todo", "deadline", "event", "mark", "unmark", "delete", "find", "undo",
+            "stats", "import", "export", "due", "conflicts", "archive", "dl", "ev", "del"})
+    private String commandWord;
+
+    private String input;
+
+    /**
+     * Picks the sample input for the command word under test.
+     */
+    @Setup
+    public void setUp() {
+        input = SAMPLE_INPUTS.get(commandWord);
+    }
+
+    /**
+     * Parses the sample input into a command.
+     */
+    @Benchmark
+    public Command parse() throws JungException {
+        return Parser.parse(input);
+    }
+}
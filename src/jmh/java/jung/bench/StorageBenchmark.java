@@ -0,0 +1,79 @@
+package jung.bench;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import jung.storage.Storage;
+import jung.task.Task;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures full-file {@link Storage#load()} and {@link Storage#save(List)} at several list sizes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class StorageBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int taskCount;
+
+    private Path directory;
+    private Storage loadStorage;
+    private Storage saveStorage;
+    private List<Task> tasks;
+
+    /**
+     * Writes a generated data file to load from and prepares a separate file to save to.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("jung-bench");
+        tasks = new TaskDataGenerator(42).generateTasks(taskCount);
+
+        Path loadFile = directory.resolve("load.txt");
+        TaskDataGenerator.writeDataFile(loadFile, tasks);
+        loadStorage = new Storage(loadFile.toString());
+        saveStorage = new Storage(directory.resolve("save.txt").toString());
+    }
+
+    /**
+     * Deletes the temporary data files.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        try (var files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Files.deleteIfExists(file);
+            }
+        }
+        Files.deleteIfExists(directory);
+    }
+
+    /**
+     * Reads and parses the whole data file.
+     */
+    @Benchmark
+    public ArrayList<Task> load() throws IOException {
+        return loadStorage.load();
+    }
+
+    /**
+     * Serializes and writes the whole task list.
+     */
+    @Benchmark
+    public void save() throws IOException {
+        saveStorage.save(tasks);
+    }
+}
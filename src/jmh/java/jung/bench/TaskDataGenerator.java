@@ -0,0 +1,124 @@
+package jung.bench;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import jung.task.Deadline;
+import jung.task.Event;
+import jung.task.Task;
+import jung.task.ToDo;
+
+/**
+ * Generates reproducible synthetic task lists for benchmarks and load tests.
+ * The same seed always yields the same tasks, so results can be compared between runs.
+ */
+public class TaskDataGenerator {
+
+    private static final String[] VERBS = {
+        "buy", "read", "water", "fix", "call", "submit", "review", "clean", "book", "prepare"
+    };
+    private static final String[] OBJECTS = {
+        "groceries", "plants", "report", "dentist", "slides", "laundry", "tickets", "budget",
+        "homework", "car", "standup notes", "birthday gift"
+    };
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2024, 1, 1, 9, 0);
+    private static final int MINUTES_IN_TWO_YEARS = 2 * 365 * 24 * 60;
+
+    private final Random random;
+
+    /**
+     * Creates a generator with a fixed seed.
+     *
+     * @param seed Seed for the pseudo-random sequence
+     */
+    public TaskDataGenerator(long seed) {
+        this.random = new Random(seed);
+    }
+
+    /**
+     * Generates a mixed list of todos, deadlines and events, about a third of them done.
+     *
+     * @param count Number of tasks to generate
+     * @return Generated tasks
+     */
+    public List<Task> generateTasks(int count) {
+        List<Task> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            tasks.add(nextTask());
+        }
+        return tasks;
+    }
+
+    /**
+     * Generates one random task.
+     *
+     * @return A todo, deadline or event
+     */
+    public Task nextTask() {
+        String description = nextDescription();
+        LocalDateTime time = nextTime();
+        Task task;
+
+        switch (random.nextInt(3)) {
+        case 0:
+            task = new ToDo(description);
+            break;
+        case 1:
+            task = new Deadline(description, time);
+            break;
+        default:
+            task = new Event(description, time, time.plusMinutes(30 + random.nextInt(180)));
+            break;
+        }
+
+        return random.nextInt(3) == 0 ? task.withDone(true) : task;
+    }
+
+    /**
+     * Generates a short, realistic task description such as "water plants 42".
+     *
+     * @return Random description
+     */
+    public String nextDescription() {
+        return VERBS[random.nextInt(VERBS.length)] + " " + OBJECTS[random.nextInt(OBJECTS.length)]
+                + " " + random.nextInt(100);
+    }
+
+    /**
+     * Generates a whole-minute date and time within two years of the start of 2024.
+     *
+     * @return Random date and time
+     */
+    public LocalDateTime nextTime() {
+        return BASE_TIME.plusMinutes(random.nextInt(MINUTES_IN_TWO_YEARS));
+    }
+
+    /**
+     * Generates a random integer in [0, bound).
+     *
+     * @param bound Exclusive upper bound
+     * @return Random integer
+     */
+    public int nextInt(int bound) {
+        return random.nextInt(bound);
+    }
+
+    /**
+     * Writes tasks to a file in the storage format used by {@code data/jung.txt}.
+     *
+     * @param file File to create or overwrite
+     * @param tasks Tasks to write
+     * @throws IOException If writing fails
+     */
+    public static void writeDataFile(Path file, List<Task> tasks) throws IOException {
+        List<String> lines = new ArrayList<>(tasks.size());
+        for (Task task : tasks) {
+            lines.add(task.toFileString());
+        }
+        Files.write(file, lines);
+    }
+}
@@ -0,0 +1,47 @@
+package jung.bench;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+import jung.storage.TaskList;
+import jung.task.Task;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures keyword search with {@link TaskList#findTasksByKeyword(String)} over large lists.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TaskListBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int taskCount;
+
+    @Param({"plants", "zzz"})
+    private String keyword;
+
+    private TaskList taskList;
+
+    /**
+     * Builds an in-memory task list of the requested size.
+     */
+    @Setup
+    public void setUp() {
+        taskList = new TaskList(new TaskDataGenerator(42).generateTasks(taskCount), null);
+    }
+
+    /**
+     * Searches every task description for the keyword.
+     */
+    @Benchmark
+    public ArrayList<Task> findTasksByKeyword() {
+        return taskList.findTasksByKeyword(keyword);
+    }
+}
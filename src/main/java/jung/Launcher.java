@@ -1,23 +1,127 @@
 package jung;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
 import javafx.application.Application;
+import jung.batch.BatchRunner;
+import jung.batch.BatchSummary;
+import jung.gui.Jung;
 import jung.gui.JungGui;
+import jung.server.CommandServer;
+import jung.server.HttpApiServer;
 
 /**
  * Application entry point that launches the Jung GUI.
  * This is the main class that should be run to start the application.
+ * With {@code --server [PORT]} or {@code --socket PATH} it runs headless instead,
+ * serving commands to local tools through a {@link CommandServer}; with {@code --http [PORT]}
+ * it serves the JSON API of {@link HttpApiServer}; with {@code --batch [FILE]} it runs a command
+ * script, or standard input, through a {@link BatchRunner} and exits.
  */
 public class Launcher {
 
+    private static final String SERVER_OPTION = "--server";
+    private static final String SOCKET_OPTION = "--socket";
+    private static final String HTTP_OPTION = "--http";
+    private static final String BATCH_OPTION = "--batch";
+    private static final String STANDARD_INPUT = "-";
+    private static final int DEFAULT_PORT = 7878;
+    private static final int DEFAULT_HTTP_PORT = 7879;
+
     /**
      * Main method that starts the Jung task manager application.
-     * Launches the JavaFX GUI version.
+     * Launches the JavaFX GUI version unless a server option is given.
      *
-     * @param args Command line arguments (not used)
+     * @param args Command line arguments; {@code --server [PORT]}, {@code --socket PATH},
+     *             {@code --http [PORT]} or {@code --batch [FILE]} for headless mode
      */
     public static void main(String[] args) {
+        if (args.length > 0 && args[0].equals(BATCH_OPTION)) {
+            runBatch(args);
+            return;
+        }
+        if (args.length > 0 && args[0].equals(HTTP_OPTION)) {
+            runHttpServer(args);
+            return;
+        }
+        if (args.length > 0 && (args[0].equals(SERVER_OPTION) || args[0].equals(SOCKET_OPTION))) {
+            runServer(args);
+            return;
+        }
         Application.launch(JungGui.class, args);
     }
-}
 
+    /**
+     * Runs the headless command server until the process is stopped.
+     */
+    private static void runServer(String[] args) {
+        try {
+            CommandServer server = openServer(args);
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> closeQuietly(server)));
+            System.out.println("Jung server listening on " + server.getAddress());
+            server.serve();
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.println("Alamak! Failed to start Jung server: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Starts the HTTP API server; its listener thread keeps the process running.
+     */
+    private static void runHttpServer(String[] args) {
+        try {
+            int port = args.length < 2 ? DEFAULT_HTTP_PORT : Integer.parseInt(args[1]);
+            HttpApiServer server = HttpApiServer.open(new Jung(), port);
+            Runtime.getRuntime().addShutdownHook(new Thread(server::close));
+            server.start();
+            System.out.println("Jung HTTP API listening on http://" + server.getAddress().getHostString()
+                    + ":" + server.getAddress().getPort() + "/tasks");
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.println("Alamak! Failed to start Jung HTTP API: " + e.getMessage());
+            System.exit(1);
+        }
+    }
 
+    /**
+     * Runs a command script from the given file, or from standard input if none or {@code -} is given.
+     * Exits with status 1 if any command failed, so shell scripts can check the run.
+     */
+    private static void runBatch(String[] args) {
+        boolean isStandardInput = args.length < 2 || args[1].equals(STANDARD_INPUT);
+        try (BufferedReader script = isStandardInput
+                ? new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8))
+                : Files.newBufferedReader(Paths.get(args[1]), StandardCharsets.UTF_8)) {
+            BatchSummary summary = new BatchRunner(new Jung(), System.err).run(script);
+            System.out.println(summary.describe());
+            System.exit(summary.getErrorCount() == 0 ? 0 : 1);
+        } catch (IOException e) {
+            System.err.println("Alamak! Failed to run Jung batch script: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    private static CommandServer openServer(String[] args) throws IOException {
+        Jung jung = new Jung();
+        if (args[0].equals(SOCKET_OPTION)) {
+            if (args.length < 2) {
+                throw new IllegalArgumentException(SOCKET_OPTION + " needs the path of the socket file");
+            }
+            return CommandServer.openUnix(jung, Paths.get(args[1]));
+        }
+        int port = args.length < 2 ? DEFAULT_PORT : Integer.parseInt(args[1]);
+        return CommandServer.openTcp(jung, port);
+    }
+
+    private static void closeQuietly(CommandServer server) {
+        try {
+            server.close();
+        } catch (IOException e) {
+            System.err.println("Warning: Could not shut down server cleanly: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package jung.batch;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import jung.exceptions.JungException;
+import jung.gui.Jung;
+import jung.storage.Storage;
+import jung.util.CommandResult;
+
+/**
+ * Runs a script of commands, one per line, without any user interface.
+ * Blank lines and lines starting with {@code #} are skipped, and {@code bye} ends the script early.
+ *
+ * <p>Saving is deferred for the whole run: commands only update the in-memory task list, and the
+ * data file is written once at the end, even if the script stops on a read error. Failed commands
+ * do not stop the run; each one is reported with its line number as it happens (up to a limit),
+ * progress is reported every {@value #PROGRESS_INTERVAL} commands, and the returned summary counts
+ * failures by message.
+ */
+public class BatchRunner {
+
+    private static final int PROGRESS_INTERVAL = 10_000;
+    private static final int MAX_REPORTED_ERRORS = 100;
+    private static final String COMMENT_PREFIX = "#";
+
+    private final Jung jung;
+    private final PrintStream log;
+
+    /**
+     * Creates a runner that executes commands against the given Jung instance.
+     *
+     * @param jung Jung instance owning the task list and data file
+     * @param log Stream for progress and error reports, usually standard error
+     */
+    public BatchRunner(Jung jung, PrintStream log) {
+        this.jung = jung;
+        this.log = log;
+    }
+
+    /**
+     * Runs every command read from the script, then saves the task list once.
+     *
+     * @param script Reader positioned at the first command
+     * @return Totals for the run
+     * @throws IOException If the script cannot be read or the final save fails
+     */
+    public BatchSummary run(BufferedReader script) throws IOException {
+        String loadMessage = jung.initialize();
+        if (!loadMessage.isEmpty()) {
+            log.println(loadMessage);
+        }
+
+        Storage storage = jung.getStorage();
+        storage.deferWrites();
+        long startTime = System.nanoTime();
+        long saveStartTime;
+        int commandCount = 0;
+        int errorCount = 0;
+        Map<String, Integer> errorCounts = new LinkedHashMap<>();
+        try {
+            String line;
+            int lineNumber = 0;
+            while ((line = script.readLine()) != null) {
+                lineNumber++;
+                String input = line.trim();
+                if (input.isEmpty() || input.startsWith(COMMENT_PREFIX)) {
+                    continue;
+                }
+
+                commandCount++;
+                String error = null;
+                boolean shouldExit = false;
+                try {
+                    CommandResult result = jung.processCommand(input);
+                    shouldExit = result.shouldExit();
+                } catch (JungException | IOException e) {
+                    error = oneLine(e.getMessage());
+                }
+
+                if (error != null) {
+                    errorCount++;
+                    errorCounts.merge(error, 1, Integer::sum);
+                    reportError(lineNumber, error, errorCount);
+                }
+                if (commandCount % PROGRESS_INTERVAL == 0) {
+                    log.println("... " + commandCount + " commands done, " + errorCount + " failed");
+                }
+                if (shouldExit) {
+                    break;
+                }
+            }
+        } finally {
+            saveStartTime = System.nanoTime();
+            storage.flush();
+        }
+        long endTime = System.nanoTime();
+        return new BatchSummary(commandCount, errorCount, saveStartTime - startTime, endTime - saveStartTime,
+                errorCounts);
+    }
+
+    /**
+     * Reports a failed command, until so many have failed that only the summary is worth reading.
+     */
+    private void reportError(int lineNumber, String error, int errorCount) {
+        if (errorCount <= MAX_REPORTED_ERRORS) {
+            log.println("Line " + lineNumber + ": " + error);
+        } else if (errorCount == MAX_REPORTED_ERRORS + 1) {
+            log.println("Too many errors liao, only counting the rest...");
+        }
+    }
+
+    private static String oneLine(String message) {
+        return message == null ? "Unknown error" : message.replace('\n', ' ');
+    }
+}
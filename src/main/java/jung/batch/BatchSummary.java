@@ -0,0 +1,80 @@
+package jung.batch;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Totals for one batch run: how many commands ran, how many failed, and how long the commands
+ * and the final save took.
+ */
+public class BatchSummary {
+
+    private final int commandCount;
+    private final int errorCount;
+    private final long commandNanos;
+    private final long saveNanos;
+    private final Map<String, Integer> errorCounts;
+
+    /**
+     * Creates the summary of a finished batch run.
+     *
+     * @param commandCount Number of commands run, including failed ones
+     * @param errorCount Number of commands that failed
+     * @param commandNanos Time taken to run the commands
+     * @param saveNanos Time taken by the final save
+     * @param errorCounts Number of failures for each error message, in order of first appearance
+     */
+    public BatchSummary(int commandCount, int errorCount, long commandNanos, long saveNanos,
+            Map<String, Integer> errorCounts) {
+        this.commandCount = commandCount;
+        this.errorCount = errorCount;
+        this.commandNanos = commandNanos;
+        this.saveNanos = saveNanos;
+        this.errorCounts = Collections.unmodifiableMap(errorCounts);
+    }
+
+    public int getCommandCount() {
+        return commandCount;
+    }
+
+    public int getErrorCount() {
+        return errorCount;
+    }
+
+    public long getCommandNanos() {
+        return commandNanos;
+    }
+
+    public long getSaveNanos() {
+        return saveNanos;
+    }
+
+    public Map<String, Integer> getErrorCounts() {
+        return errorCounts;
+    }
+
+    /**
+     * Gets how fast the commands ran, not counting the final save.
+     *
+     * @return Commands per second, or 0 if no time was measured
+     */
+    public double getCommandsPerSecond() {
+        return commandNanos == 0 ? 0 : commandCount * 1_000_000_000.0 / commandNanos;
+    }
+
+    /**
+     * Describes the run for the console, listing each distinct error with how often it happened.
+     *
+     * @return Multi-line summary
+     */
+    public String describe() {
+        StringBuilder description = new StringBuilder();
+        description.append(String.format("Done liao! Ran %d commands in %.1f ms (%.0f commands/sec), %d failed. "
+                + "Saved in %.1f ms.", commandCount, commandNanos / 1_000_000.0, getCommandsPerSecond(), errorCount,
+                saveNanos / 1_000_000.0));
+        for (Map.Entry<String, Integer> entry : errorCounts.entrySet()) {
+            description.append(String.format("%n  %dx %s", entry.getValue(), entry.getKey()));
+        }
+        return description.toString();
+    }
+}
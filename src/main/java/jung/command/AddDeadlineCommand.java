@@ -1,12 +1,11 @@
 package jung.command;
 
 import java.time.LocalDateTime;
-import java.time.format.DateTimeParseException;
 import jung.exceptions.JungException;
+import jung.storage.DescriptionPool;
 import jung.task.Deadline;
+import jung.task.Recurrence;
 import jung.task.Task;
-import jung.util.DateFormats;
-import jung.util.ErrorMessages;
 
 /**
  * Command to add a deadline task with a specific due date and time.
@@ -16,31 +15,41 @@ public class AddDeadlineCommand extends AddTaskCommand {
 
     private final String taskDescription;
     private final String deadlineTimeString;
+    private final String repeatString;
 
     /**
      * Creates a command to add a deadline task.
      *
      * @param taskDescription What needs to be accomplished
-     * @param deadlineTimeString When it must be completed (in d/M/yyyy HHmm format)
+     * @param deadlineTimeString When it must be completed (d/M/yyyy HHmm or relative, like "tomorrow 5pm")
      */
     public AddDeadlineCommand(String taskDescription, String deadlineTimeString) {
+        this(taskDescription, deadlineTimeString, null);
+    }
+
+    /**
+     * Creates a command to add a deadline task that may repeat.
+     *
+     * @param taskDescription What needs to be accomplished
+     * @param deadlineTimeString When the first occurrence must be completed (d/M/yyyy HHmm or relative)
+     * @param repeatString How it repeats, as typed after /every (like "week" or "mon,thu"), or null for once
+     */
+    public AddDeadlineCommand(String taskDescription, String deadlineTimeString, String repeatString) {
         this.taskDescription = taskDescription;
         this.deadlineTimeString = deadlineTimeString;
+        this.repeatString = repeatString;
     }
 
     /**
      * Creates a new Deadline task by parsing the deadline time string.
      *
      * @return A new Deadline task instance
-     * @throws JungException If the deadline time format is invalid
+     * @throws JungException If the deadline time or repeat is invalid
      */
     @Override
     protected Task createTask() throws JungException {
-        try {
-            LocalDateTime deadlineTime = LocalDateTime.parse(deadlineTimeString, DateFormats.INPUT_FORMAT);
-            return new Deadline(taskDescription, deadlineTime);
-        } catch (DateTimeParseException e) {
-            throw new JungException(ErrorMessages.INVALID_DATE_FORMAT);
-        }
+        LocalDateTime deadlineTime = parseDateTime(deadlineTimeString);
+        Recurrence recurrence = parseRecurrence(repeatString);
+        return new Deadline(DescriptionPool.getShared().intern(taskDescription), deadlineTime, recurrence);
     }
 }
\ No newline at end of file
@@ -1,64 +1,140 @@
 package jung.command;
 
+import java.time.Clock;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
 import jung.exceptions.JungException;
+import jung.storage.DescriptionPool;
+import jung.storage.TaskList;
 import jung.task.Event;
+import jung.task.Recurrence;
 import jung.task.Task;
-import jung.util.DateFormats;
-import jung.util.ErrorMessages;
+import jung.util.EventConflicts;
 
 /**
  * Command to add an event task with start and end times.
  * This allows users to track activities that span a specific time period.
+ * When clash warnings are on, the response also lists the pending events the new one overlaps.
  */
 public class AddEventCommand extends AddTaskCommand {
 
+    private static final int MAX_CONFLICTS_SHOWN = 5;
+    private static final String CONFLICT_HEADER = "Eh careful, this one clashes with:";
+
     private final String taskDescription;
     private final String startTimeString;
     private final String endTimeString;
+    private final String repeatString;
+    private final Clock clock;
 
     /**
      * Creates a command to add an event task.
      *
      * @param taskDescription What the event is about
-     * @param startTimeString When the event begins (in d/M/yyyy HHmm format)
-     * @param endTimeString When the event ends (in d/M/yyyy HHmm format)
+     * @param startTimeString When the event begins (d/M/yyyy HHmm or relative, like "tomorrow 5pm")
+     * @param endTimeString When the event ends (d/M/yyyy HHmm or relative, like "tomorrow 5pm")
      */
     public AddEventCommand(String taskDescription, String startTimeString, String endTimeString) {
+        this(taskDescription, startTimeString, endTimeString, null);
+    }
+
+    /**
+     * Creates a command to add an event task that may repeat.
+     *
+     * @param taskDescription What the event is about
+     * @param startTimeString When the first occurrence begins (d/M/yyyy HHmm or relative)
+     * @param endTimeString When the first occurrence ends (d/M/yyyy HHmm or relative)
+     * @param repeatString How it repeats, as typed after /every (like "week" or "mon,thu"), or null for once
+     */
+    public AddEventCommand(String taskDescription, String startTimeString, String endTimeString,
+            String repeatString) {
+        this(taskDescription, startTimeString, endTimeString, repeatString, Clock.systemDefaultZone());
+    }
+
+    /**
+     * Creates a command to add an event task that may repeat, checking for clashes by the time of a clock.
+     *
+     * @param taskDescription What the event is about
+     * @param startTimeString When the first occurrence begins (d/M/yyyy HHmm or relative)
+     * @param endTimeString When the first occurrence ends (d/M/yyyy HHmm or relative)
+     * @param repeatString How it repeats, as typed after /every, or null for once
+     * @param clock Clock giving the current time; clashes with events already over are not reported
+     */
+    public AddEventCommand(String taskDescription, String startTimeString, String endTimeString,
+            String repeatString, Clock clock) {
         this.taskDescription = taskDescription;
         this.startTimeString = startTimeString;
         this.endTimeString = endTimeString;
+        this.repeatString = repeatString;
+        this.clock = clock;
+    }
+
+    /**
+     * Lists the pending events the new event overlaps, when the user has turned clash warnings on.
+     *
+     * @param tasks Task list the event was added to
+     * @param addedTask The event just added
+     * @param session Session of the user who added it
+     * @return Clash warning, or null if warnings are off or nothing clashes
+     */
+    @Override
+    protected String findWarnings(TaskList tasks, Task addedTask, Session session) {
+        if (!session.isConflictCheckEnabled()) {
+            return null;
+        }
+        List<Task> allTasks = tasks.getTasks();
+        // Tasks do not override equals, so this finds the very object added, even if another client added more
+        int index = allTasks.lastIndexOf(addedTask);
+        if (index < 0) {
+            return null;
+        }
+
+        LocalDateTime now = LocalDateTime.now(clock).truncatedTo(ChronoUnit.MINUTES);
+        EventConflicts conflicts = EventConflicts.findWith(allTasks, index, now,
+                now.plusDays(ConflictsCommand.HORIZON_DAYS), MAX_CONFLICTS_SHOWN);
+        if (conflicts.getTotalCount() == 0) {
+            return null;
+        }
+
+        StringBuilder warning = new StringBuilder(CONFLICT_HEADER);
+        for (EventConflicts.Conflict conflict : conflicts.getConflicts()) {
+            boolean isAddedFirst = conflict.getFirstNumber() == index + 1;
+            warning.append("\n").append(isAddedFirst ? conflict.getSecondNumber() : conflict.getFirstNumber())
+                    .append(". ").append(isAddedFirst ? conflict.getSecond() : conflict.getFirst());
+        }
+        long hidden = conflicts.getTotalCount() - conflicts.getConflicts().size();
+        if (hidden > 0) {
+            warning.append("\n...and ").append(hidden).append(" more.");
+        }
+        return warning.toString();
     }
 
     /**
      * Creates a new Event task by parsing the start and end time strings.
      *
      * @return A new Event task instance
-     * @throws JungException If either time format is invalid
+     * @throws JungException If either time format or the repeat is invalid
      */
     @Override
     protected Task createTask() throws JungException {
-        try {
-            LocalDateTime startTime = LocalDateTime.parse(startTimeString, DateFormats.INPUT_FORMAT);
-            LocalDateTime endTime = LocalDateTime.parse(endTimeString, DateFormats.INPUT_FORMAT);
-            // Validate logical date constraints
-            if (startTime.isAfter(endTime)) {
-                throw new JungException("Aiyo! Start time cannot be later than end time lah!");
-            }
-
-            if (startTime.equals(endTime)) {
-                throw new JungException("Start time and end time same-same! How can be event?");
-            }
+        LocalDateTime startTime = parseDateTime(startTimeString);
+        LocalDateTime endTime = parseDateTime(endTimeString);
+        // Validate logical date constraints
+        if (startTime.isAfter(endTime)) {
+            throw new JungException("Aiyo! Start time cannot be later than end time lah!");
+        }
 
-            // Optional: Check for reasonable time differences (at least 1 minute)
-            if (java.time.Duration.between(startTime, endTime).toMinutes() < 1) {
-                throw new JungException("Your event too short lah! Make it at least 1 minute long!");
-            }
+        if (startTime.equals(endTime)) {
+            throw new JungException("Start time and end time same-same! How can be event?");
+        }
 
-            return new Event(taskDescription, startTime, endTime);
-        } catch (DateTimeParseException e) {
-            throw new JungException(ErrorMessages.INVALID_DATE_FORMAT);
+        // Optional: Check for reasonable time differences (at least 1 minute)
+        if (java.time.Duration.between(startTime, endTime).toMinutes() < 1) {
+            throw new JungException("Your event too short lah! Make it at least 1 minute long!");
         }
+
+        Recurrence recurrence = parseRecurrence(repeatString);
+        return new Event(DescriptionPool.getShared().intern(taskDescription), startTime, endTime, recurrence);
     }
 }
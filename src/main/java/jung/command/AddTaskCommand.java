@@ -1,12 +1,18 @@
 package jung.command;
 
 import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import jung.exceptions.JungException;
 import jung.gui.Ui;
 import jung.storage.Storage;
 import jung.storage.TaskList;
+import jung.task.Recurrence;
 import jung.task.Task;
 import jung.util.CommandResult;
+import jung.util.DateTimeParser;
+import jung.util.ErrorMessages;
+import jung.util.RelativeDateResolver;
 
 /**
  * Abstract base class for commands that add tasks to the task list.
@@ -31,7 +37,7 @@ public abstract class AddTaskCommand extends Command {
     protected abstract Task createTask() throws JungException;
 
     /**
-     * Executes the task addition by creating the task and adding it to the list.
+     * Executes the task addition for a caller with no session, so no per-user warnings are given.
      *
      * @param tasks The task list to add to
      * @param ui User interface (not used in add operations)
@@ -43,10 +49,86 @@ public abstract class AddTaskCommand extends Command {
     @Override
     public CommandResult execute(TaskList tasks, Ui ui, Storage storage)
             throws JungException, IOException {
+        return execute(tasks, ui, storage, new Session());
+    }
+
+    /**
+     * Executes the task addition by creating the task and adding it to the list.
+     *
+     * @param tasks The task list to add to
+     * @param ui User interface (not used in add operations)
+     * @param storage Storage system for persistence
+     * @param session Session of the user adding the task, which decides the warnings given
+     * @return Result containing success message
+     * @throws JungException If task creation or validation fails
+     * @throws IOException If storage operations fail
+     */
+    @Override
+    public CommandResult execute(TaskList tasks, Ui ui, Storage storage, Session session)
+            throws JungException, IOException {
         Task newTask = createTask();
         tasks.addTask(newTask);
         String message = formatAddTaskResponse(newTask, tasks.size());
-        return new CommandResult(message);
+        String warnings = findWarnings(tasks, newTask, session);
+        return new CommandResult(warnings == null ? message : message + "\n" + warnings);
+    }
+
+    /**
+     * Checks the newly added task against the rest of the list for anything the user should know about.
+     * Subclasses override this to add warnings to the response; by default there are none.
+     *
+     * @param tasks Task list the task was added to
+     * @param addedTask The task just added
+     * @param session Session of the user who added it, which keeps the warnings they asked for
+     * @return Warning text to show below the response, or null for none
+     */
+    protected String findWarnings(TaskList tasks, Task addedTask, Session session) {
+        return null;
+    }
+
+    /**
+     * Parses a date-time typed by the user. Text containing a '/' must be in d/M/yyyy HHmm format;
+     * anything else is read as a relative expression such as "tomorrow 5pm" or "next mon".
+     *
+     * @param text Date-time typed by the user
+     * @return Parsed date-time
+     * @throws JungException If the text is neither a valid date-time nor a relative expression
+     */
+    protected static LocalDateTime parseDateTime(String text) throws JungException {
+        try {
+            LocalDateTime dateTime = text.indexOf('/') >= 0
+                    ? DateTimeParser.getShared().parse(text)
+                    : RelativeDateResolver.getShared().resolve(text);
+            if (dateTime == null) {
+                throw new JungException(ErrorMessages.INVALID_DATE_FORMAT);
+            }
+            return dateTime;
+        } catch (DateTimeParseException e) {
+            throw new JungException(ErrorMessages.INVALID_DATE_FORMAT);
+        }
+    }
+
+    /**
+     * Parses a repeat typed after {@code /every}, such as "2 weeks" or "mon,wed until 31/12/2026".
+     *
+     * @param text Repeat typed by the user, or null if the task does not repeat
+     * @return Parsed recurrence, or null if text is null
+     * @throws JungException If the text is not a repeat Jung understands
+     */
+    protected static Recurrence parseRecurrence(String text) throws JungException {
+        if (text == null) {
+            return null;
+        }
+        try {
+            return Recurrence.parse(text);
+        } catch (IllegalArgumentException e) {
+            throw new JungException(String.format(ErrorMessages.INVALID_REPEAT, e.getMessage()));
+        }
+    }
+
+    @Override
+    public boolean isMutating() {
+        return true;
     }
 
     /**
@@ -67,7 +149,7 @@ public abstract class AddTaskCommand extends Command {
         String response = getRandomResponse();
         String taskCountMessage = getTaskCountMessage(totalTasks);
 
-        return String.format("%s\n  %s\n%s", response, task, taskCountMessage);
+        return response + "\n  " + task + "\n" + taskCountMessage;
     }
 
     /**
@@ -85,11 +167,11 @@ public abstract class AddTaskCommand extends Command {
         if (totalTasks == 1) {
             return "Now you got 1 task only. Not bad ah, still manageable.";
         } else if (totalTasks <= 5) {
-            return String.format("Now you got %d tasks. Still okay lah.", totalTasks);
+            return "Now you got " + totalTasks + " tasks. Still okay lah.";
         } else if (totalTasks <= 10) {
-            return String.format("Wah, now you got %d tasks liao. Getting busy hor?", totalTasks);
+            return "Wah, now you got " + totalTasks + " tasks liao. Getting busy hor?";
         } else {
-            return String.format("Aiyo, %d tasks already?! You very busy person ah! 😅", totalTasks);
+            return "Aiyo, " + totalTasks + " tasks already?! You very busy person ah! 😅";
         }
     }
 }
\ No newline at end of file
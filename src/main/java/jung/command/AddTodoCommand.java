@@ -1,6 +1,7 @@
 package jung.command;
 
 import jung.exceptions.JungException;
+import jung.storage.DescriptionPool;
 import jung.task.Task;
 import jung.task.ToDo;
 
@@ -29,6 +30,6 @@ public class AddTodoCommand extends AddTaskCommand {
      */
     @Override
     protected Task createTask() throws JungException {
-        return new ToDo(taskDescription);
+        return new ToDo(DescriptionPool.getShared().intern(taskDescription));
     }
 }
\ No newline at end of file
@@ -0,0 +1,101 @@
+package jung.command;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import jung.gui.Ui;
+import jung.storage.Storage;
+import jung.storage.TaskArchive;
+import jung.storage.TaskList;
+import jung.task.Task;
+import jung.util.CommandResult;
+import jung.util.TaskListing;
+
+/**
+ * Command to move done tasks out of the task list into the archive, or to search the archived tasks.
+ * Archived tasks are numbered by their place in the archive, which never changes.
+ */
+public class ArchiveCommand extends Command {
+
+    /**
+     * Operations supported by the archive command.
+     */
+    public enum Action {
+        MOVE_DONE,
+        FIND
+    }
+
+    /** Maximum number of archived tasks shown for one search. */
+    public static final int MAX_SHOWN = 50;
+
+    private static final String NOTHING_DONE_MESSAGE = "Nothing to archive leh, you never finish any task yet!";
+    private static final String NO_MATCHES_MESSAGE = "Cannot find anything like that in your archive sia.";
+    private static final String MATCHES_HEADER = "Dug these out of your archive:";
+
+    private final Action action;
+    private final String keyword;
+
+    /**
+     * Creates a command to archive done tasks or search the archive.
+     *
+     * @param action The archive operation to perform
+     * @param keyword Text to search archived descriptions for; not used when moving done tasks
+     */
+    public ArchiveCommand(Action action, String keyword) {
+        this.action = action;
+        this.keyword = keyword;
+    }
+
+    /**
+     * Executes the archive operation against the archive kept beside the storage file.
+     *
+     * @param tasks Task list to move done tasks out of
+     * @param ui Not used in archive operations
+     * @param storage Storage whose archive is used
+     * @return Result saying how many tasks were archived, or listing archived matches
+     * @throws IOException If the archive or the task list cannot be saved or read
+     */
+    @Override
+    public CommandResult execute(TaskList tasks, Ui ui, Storage storage) throws IOException {
+        TaskArchive archive = storage.getArchive();
+
+        switch (action) {
+        case FIND:
+            return find(archive);
+        default:
+            int movedCount = tasks.moveDoneTasksTo(archive);
+            if (movedCount == 0) {
+                return new CommandResult(NOTHING_DONE_MESSAGE);
+            }
+            return new CommandResult("Shiok, cleared " + movedCount + (movedCount == 1 ? " done task" : " done tasks")
+                    + " into the archive. Cannot undo this one ah, but 'archive find' can still dig them out.");
+        }
+    }
+
+    /**
+     * Lists the first archived tasks matching the keyword, with a footer counting any left out.
+     */
+    private CommandResult find(TaskArchive archive) throws IOException {
+        int[] matchIndices = archive.findTaskIndices(keyword);
+        if (matchIndices.length == 0) {
+            return new CommandResult(NO_MATCHES_MESSAGE);
+        }
+
+        int shownCount = Math.min(matchIndices.length, MAX_SHOWN);
+        List<Task> rows = new ArrayList<>(shownCount);
+        int[] taskNumbers = new int[shownCount];
+        for (int i = 0; i < shownCount; i++) {
+            rows.add(archive.get(matchIndices[i]));
+            taskNumbers[i] = matchIndices[i] + 1;
+        }
+        String footer = matchIndices.length > shownCount
+                ? "...and " + (matchIndices.length - shownCount) + " more. Search something more specific lah."
+                : null;
+        return new CommandResult(TaskListing.numbered(MATCHES_HEADER, rows, taskNumbers, footer));
+    }
+
+    @Override
+    public boolean isMutating() {
+        return action == Action.MOVE_DONE;
+    }
+}
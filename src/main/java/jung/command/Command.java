@@ -25,7 +25,35 @@ public abstract class Command {
      */
     public abstract CommandResult execute(TaskList tasks, Ui ui, Storage storage) throws JungException, IOException;
 
+    /**
+     * Executes this command for one user, such as the GUI window or a server connection.
+     * Commands that read or keep per-user state, like the page {@code list next} continues from,
+     * override this; the rest ignore the session.
+     *
+     * @param tasks The task list to operate on
+     * @param ui The user interface for interactions
+     * @param storage The storage system for persistence
+     * @param session State of the user the command comes from
+     * @return The result of command execution
+     * @throws JungException If the command cannot be executed due to business logic violations
+     * @throws IOException If storage operations fail
+     */
+    public CommandResult execute(TaskList tasks, Ui ui, Storage storage, Session session)
+            throws JungException, IOException {
+        return execute(tasks, ui, storage);
+    }
+
     public boolean isExit() {
         return false;
     }
+
+    /**
+     * Returns whether this command changes the task list.
+     * Commands that only read may run concurrently against a snapshot; mutating ones are serialized.
+     *
+     * @return true if executing this command can modify tasks or undo history
+     */
+    public boolean isMutating() {
+        return false;
+    }
 }
\ No newline at end of file
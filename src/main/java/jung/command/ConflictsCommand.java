@@ -0,0 +1,123 @@
+package jung.command;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import jung.gui.Ui;
+import jung.storage.Storage;
+import jung.storage.TaskList;
+import jung.util.CommandResult;
+import jung.util.EventConflicts;
+
+/**
+ * Command to list the pending events whose times clash, or to turn clash warnings for new events on or off.
+ * Recurring events are checked for their occurrences in the coming {@value #HORIZON_DAYS} days.
+ */
+public class ConflictsCommand extends Command {
+
+    /**
+     * Operations supported by the conflicts command.
+     */
+    public enum Action {
+        SHOW,
+        ENABLE,
+        DISABLE
+    }
+
+    /** Number of days ahead that occurrences of recurring events are checked. */
+    public static final int HORIZON_DAYS = 366;
+
+    /** Maximum number of clashes shown. */
+    public static final int MAX_SHOWN = 50;
+
+    private static final String NO_CONFLICTS_MESSAGE = "No clashes at all! Your schedule very steady.";
+    private static final String HEADER = "Alamak, these events clash leh:";
+
+    private final Action action;
+    private final Clock clock;
+
+    /**
+     * Creates a command to show clashes or control clash warnings.
+     *
+     * @param action The conflicts operation to perform
+     */
+    public ConflictsCommand(Action action) {
+        this(action, Clock.systemDefaultZone());
+    }
+
+    /**
+     * Creates a command to show clashes or control clash warnings, reading the time from a clock.
+     *
+     * @param action The conflicts operation to perform
+     * @param clock Clock giving the current time
+     */
+    public ConflictsCommand(Action action, Clock clock) {
+        this.action = action;
+        this.clock = clock;
+    }
+
+    /**
+     * Executes the conflicts operation for a caller with no session,
+     * where turning warnings on or off has no lasting effect.
+     *
+     * @param tasks Task list to check
+     * @param ui Not used in conflicts operations
+     * @param storage Not used in conflicts operations
+     * @return Result listing the clashes, or a confirmation
+     */
+    @Override
+    public CommandResult execute(TaskList tasks, Ui ui, Storage storage) {
+        return execute(tasks, ui, storage, new Session());
+    }
+
+    /**
+     * Executes the conflicts operation, turning clash warnings on or off for the user's session only.
+     *
+     * @param tasks Task list to check
+     * @param ui Not used in conflicts operations
+     * @param storage Not used in conflicts operations
+     * @param session Session of the user, which keeps whether clash warnings are on
+     * @return Result listing the clashes, or a confirmation
+     */
+    @Override
+    public CommandResult execute(TaskList tasks, Ui ui, Storage storage, Session session) {
+        switch (action) {
+        case ENABLE:
+            session.setConflictCheckEnabled(true);
+            return new CommandResult("Okay, I tell you whenever a new event clashes with another one.");
+        case DISABLE:
+            session.setConflictCheckEnabled(false);
+            return new CommandResult("Fine lor, I keep quiet about clashes. Type 'conflicts' to check anytime.");
+        default:
+            LocalDateTime now = LocalDateTime.now(clock).truncatedTo(ChronoUnit.MINUTES);
+            EventConflicts conflicts = EventConflicts.findAll(tasks.getTasks(), now, now.plusDays(HORIZON_DAYS),
+                    MAX_SHOWN);
+            if (conflicts.getTotalCount() == 0) {
+                return new CommandResult(NO_CONFLICTS_MESSAGE);
+            }
+            return new CommandResult(HEADER + "\n" + describe(conflicts));
+        }
+    }
+
+    /**
+     * Describes clashes as two lines each, the events numbered as in the task list,
+     * with a last line counting any left out.
+     *
+     * @param conflicts Clashes to describe
+     * @return Text without a trailing newline
+     */
+    static String describe(EventConflicts conflicts) {
+        StringBuilder text = new StringBuilder();
+        for (EventConflicts.Conflict conflict : conflicts.getConflicts()) {
+            text.append(conflict.getFirstNumber()).append(". ").append(conflict.getFirst()).append('\n')
+                    .append("   clashes with ").append(conflict.getSecondNumber()).append(". ")
+                    .append(conflict.getSecond()).append('\n');
+        }
+        long hidden = conflicts.getTotalCount() - conflicts.getConflicts().size();
+        if (hidden > 0) {
+            text.append("...and ").append(hidden).append(" more clashes.\n");
+        }
+        text.setLength(text.length() - 1);
+        return text.toString();
+    }
+}
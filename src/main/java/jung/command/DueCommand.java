@@ -0,0 +1,76 @@
+package jung.command;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import jung.gui.Ui;
+import jung.storage.Storage;
+import jung.storage.TaskList;
+import jung.util.Agenda;
+import jung.util.CommandResult;
+import jung.util.TaskListing;
+
+/**
+ * Command to show the deadlines and events coming up in the next few days, earliest first.
+ * Recurring tasks are expanded into their occurrences in that window only, each shown with
+ * the number of its task so it can be marked or deleted.
+ */
+public class DueCommand extends Command {
+
+    /** Number of days ahead shown when no number is given. */
+    public static final int DEFAULT_DAYS = 7;
+
+    /** Largest number of days ahead that can be asked for. */
+    public static final int MAX_DAYS = 366;
+
+    /** Maximum number of occurrences shown. */
+    public static final int MAX_ROWS = 50;
+
+    private static final String NOTHING_DUE_MESSAGE = "Nothing due in the next %d days! Can relax a bit lah.";
+    private static final String HEADER = "Coming up in the next %d days, don't say I never remind you:";
+    private static final String TRUNCATED_FOOTER = "Still got more after this leh! Try a shorter 'due' to see them.";
+
+    private final int days;
+    private final Clock clock;
+
+    /**
+     * Creates a command to show what is due in the coming days.
+     *
+     * @param days Number of days ahead to show, from 1 to {@value #MAX_DAYS}
+     */
+    public DueCommand(int days) {
+        this(days, Clock.systemDefaultZone());
+    }
+
+    /**
+     * Creates a command to show what is due in the coming days, reading the time from a clock.
+     *
+     * @param days Number of days ahead to show, from 1 to {@value #MAX_DAYS}
+     * @param clock Clock giving the current time
+     */
+    public DueCommand(int days, Clock clock) {
+        this.days = days;
+        this.clock = clock;
+    }
+
+    /**
+     * Lists the pending deadlines and event occurrences between now and the end of the window.
+     *
+     * @param tasks Task list to look through
+     * @param ui Not used in due operations
+     * @param storage Not used in due operations
+     * @return Result listing upcoming occurrences, or a nothing-due message
+     */
+    @Override
+    public CommandResult execute(TaskList tasks, Ui ui, Storage storage) {
+        LocalDateTime now = LocalDateTime.now(clock).truncatedTo(ChronoUnit.MINUTES);
+        Agenda agenda = Agenda.collect(tasks.getTasks(), now, now.plusDays(days), MAX_ROWS);
+
+        if (agenda.getRows().isEmpty()) {
+            return new CommandResult(String.format(NOTHING_DUE_MESSAGE, days));
+        }
+        String footer = agenda.isTruncated() ? TRUNCATED_FOOTER : null;
+        return new CommandResult(TaskListing.numbered(String.format(HEADER, days), agenda.getRows(),
+                agenda.getTaskNumbers(), footer));
+    }
+}
@@ -0,0 +1,59 @@
+package jung.command;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.List;
+import jung.exceptions.JungException;
+import jung.gui.Ui;
+import jung.storage.Storage;
+import jung.storage.TaskList;
+import jung.task.Task;
+import jung.transfer.TaskRecordWriter;
+import jung.transfer.TransferFormat;
+import jung.util.CommandResult;
+import jung.util.ErrorMessages;
+
+/**
+ * Command to write every task to a CSV, JSON Lines or iCalendar file.
+ * Tasks are streamed out one record at a time from a snapshot of the list, replacing the file if it exists.
+ */
+public class ExportCommand extends Command {
+
+    private final String filePath;
+
+    /**
+     * Creates a command to export tasks to the given file.
+     *
+     * @param filePath Path of the file; its extension picks the format
+     */
+    public ExportCommand(String filePath) {
+        this.filePath = filePath;
+    }
+
+    /**
+     * Writes the current tasks to the file.
+     *
+     * @param tasks The task list to export
+     * @param ui User interface (not used in export operations)
+     * @param storage Not used in export operations
+     * @return Result saying how many tasks were exported
+     * @throws JungException If the format is unknown or the file cannot be written
+     */
+    @Override
+    public CommandResult execute(TaskList tasks, Ui ui, Storage storage) throws JungException {
+        TransferFormat format = TransferFormat.fromFileName(filePath);
+        List<Task> snapshot = tasks.getTasks();
+
+        try (TaskRecordWriter writer = format.openWriter(
+                Files.newBufferedWriter(Paths.get(filePath), StandardCharsets.UTF_8))) {
+            writer.writeAll(snapshot);
+        } catch (IOException e) {
+            throw new JungException(String.format(ErrorMessages.EXPORT_FAILED, filePath, e.getMessage()), e);
+        }
+
+        return new CommandResult("Done liao, exported " + snapshot.size()
+                + (snapshot.size() == 1 ? " task" : " tasks") + " to " + filePath + ".");
+    }
+}
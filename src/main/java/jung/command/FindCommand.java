@@ -1,11 +1,12 @@
 package jung.command;
 
-import java.util.ArrayList;
+import java.util.List;
 import jung.gui.Ui;
 import jung.storage.Storage;
 import jung.storage.TaskList;
 import jung.task.Task;
 import jung.util.CommandResult;
+import jung.util.TaskListing;
 
 /**
  * Command to search for tasks containing a specific keyword.
@@ -43,37 +44,19 @@ public class FindCommand extends Command {
      * @param tasks TaskList to search through
      * @param ui User interface (not used directly)
      * @param storage Not used in find operations
-     * @return Result containing matching tasks or no matches message
+     * @return Result listing matching tasks, or a no matches message
      */
     @Override
     public CommandResult execute(TaskList tasks, Ui ui, Storage storage) {
-        ArrayList<Task> matchedTasks = tasks.findTasksByKeyword(searchKeyword);
+        List<Task> allTasks = tasks.getTasks();
+        int[] matchIndices = TaskList.findTaskIndices(allTasks, searchKeyword);
 
-        if (matchedTasks.isEmpty()) {
+        if (matchIndices.length == 0) {
             String message = getRandomMessage(NO_MATCHES_MESSAGES);
             return new CommandResult(message);
         }
 
-        String formattedResults = formatSearchResults(matchedTasks);
-        return new CommandResult(formattedResults);
-    }
-
-    /**
-     * Formats the search results into a numbered list.
-     *
-     * @param matchedTasks List of tasks that contain the search keyword
-     * @return Formatted string with numbered results
-     */
-    private String formatSearchResults(ArrayList<Task> matchedTasks) {
-        StringBuilder resultsBuilder = new StringBuilder(getRandomMessage(MATCHES_HEADERS));
-        resultsBuilder.append("\n");
-
-        for (int i = 0; i < matchedTasks.size(); i++) {
-            int resultNumber = i + 1;
-            resultsBuilder.append(resultNumber).append(". ").append(matchedTasks.get(i)).append("\n");
-        }
-
-        return resultsBuilder.toString();
+        return new CommandResult(new TaskListing(getRandomMessage(MATCHES_HEADERS), allTasks, matchIndices));
     }
 
     private String getRandomMessage(String[] messages) {
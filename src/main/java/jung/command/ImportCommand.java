@@ -0,0 +1,85 @@
+package jung.command;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import jung.exceptions.JungException;
+import jung.gui.Ui;
+import jung.storage.Storage;
+import jung.storage.TaskList;
+import jung.transfer.TaskRecordReader;
+import jung.transfer.TransferException;
+import jung.transfer.TransferFormat;
+import jung.util.CommandResult;
+import jung.util.ErrorMessages;
+
+/**
+ * Command to add every task from a CSV, JSON Lines or iCalendar file.
+ * Records stream straight into the task list, which is saved once at the end; a single undo
+ * removes the whole import, and a file that cannot be read adds nothing at all.
+ */
+public class ImportCommand extends Command {
+
+    private final String filePath;
+
+    /**
+     * Creates a command to import tasks from the given file.
+     *
+     * @param filePath Path of the file; its extension picks the format
+     */
+    public ImportCommand(String filePath) {
+        this.filePath = filePath;
+    }
+
+    /**
+     * Reads the file and appends its tasks to the list.
+     *
+     * @param tasks The task list to add to
+     * @param ui User interface (not used in import operations)
+     * @param storage Storage system for persistence
+     * @return Result saying how many tasks were imported and skipped
+     * @throws JungException If the file is missing, of an unknown format or cannot be read
+     * @throws IOException If saving the imported tasks fails
+     */
+    @Override
+    public CommandResult execute(TaskList tasks, Ui ui, Storage storage) throws JungException, IOException {
+        TransferFormat format = TransferFormat.fromFileName(filePath);
+        Path path = Paths.get(filePath);
+
+        BufferedReader input;
+        try {
+            input = Files.newBufferedReader(path, StandardCharsets.UTF_8);
+        } catch (NoSuchFileException e) {
+            throw new JungException(String.format(ErrorMessages.FILE_NOT_FOUND, filePath));
+        } catch (IOException e) {
+            throw new JungException(String.format(ErrorMessages.IMPORT_FAILED, filePath, e.getMessage()), e);
+        }
+
+        int addedCount;
+        int skippedCount;
+        try (TaskRecordReader reader = format.openReader(input)) {
+            // Failures saving the imported tasks are not TransferExceptions and propagate as they are
+            addedCount = tasks.addAll(reader);
+            skippedCount = reader.getSkippedCount();
+        } catch (TransferException e) {
+            throw new JungException(String.format(ErrorMessages.IMPORT_FAILED, filePath, e.getMessage()), e);
+        }
+
+        String message = "Wah, imported " + addedCount + (addedCount == 1 ? " task" : " tasks")
+                + " from " + filePath + "! Now you got " + tasks.size() + " tasks.";
+        if (skippedCount > 0) {
+            message += "\nBut " + skippedCount + " of the records got problem, so I skipped them. "
+                    + "Check the warnings ah.";
+        }
+        return new CommandResult(message);
+    }
+
+    @Override
+    public boolean isMutating() {
+        return true;
+    }
+}
@@ -1,18 +1,36 @@
 package jung.command;
 
+import jung.exceptions.JungException;
 import jung.gui.Ui;
 import jung.storage.Storage;
 import jung.storage.TaskList;
 import jung.task.Task;
 import jung.util.CommandResult;
-import java.util.ArrayList;
+import jung.util.ErrorMessages;
+import jung.util.TaskListing;
+import java.util.List;
 
 /**
- * Command to display all tasks currently stored in the user's task list.
- * Provides a numbered list of all tasks with their current status.
+ * Command to display the tasks currently stored in the user's task list.
+ * Shows one page of at most {@value #PAGE_SIZE} numbered tasks at a time, so the cost of a
+ * {@code list} stays the same however long the list grows.
  */
 public class ListCommand extends Command {
 
+    /**
+     * Which page the list command shows.
+     */
+    public enum Action {
+        FIRST,
+        NEXT,
+        PAGE
+    }
+
+    /** Maximum number of tasks shown per page. */
+    public static final int PAGE_SIZE = 50;
+
+    private static final String LAST_PAGE_MESSAGE = "That's all your tasks already lah! Type 'list' to start again.";
+
     private static final String[] EMPTY_LIST_MESSAGES = {
             "Eh your task list empty leh! Very free ah you?",
             "Wah, no tasks at all! Shiok life you living!",
@@ -27,43 +45,88 @@ public class ListCommand extends Command {
             "Here's your to-do list. Jiayou!"
     };
 
+    private final Action action;
+    private final int pageNumber;
+
+    /**
+     * Creates a command to show a page of the task list.
+     *
+     * @param action Whether to show the first page, the page after the last one shown, or a given page
+     * @param pageNumber 1-based page to show for {@link Action#PAGE}; ignored otherwise
+     */
+    public ListCommand(Action action, int pageNumber) {
+        this.action = action;
+        this.pageNumber = pageNumber;
+    }
+
     /**
-     * Executes the list command to show all tasks to the user.
+     * Executes the list command for a caller with no session, so {@code list next} starts from the first page.
      *
      * @param tasks TaskList containing all user tasks
      * @param ui User interface for display (not used directly)
      * @param storage Not used in list operations
-     * @return Result containing formatted task list or empty message
+     * @return Result listing one page of tasks, or an empty list message
+     * @throws JungException If the requested page does not exist
      */
     @Override
-    public CommandResult execute(TaskList tasks, Ui ui, Storage storage) {
-        ArrayList<Task> allTasks = tasks.getTasks();
+    public CommandResult execute(TaskList tasks, Ui ui, Storage storage) throws JungException {
+        return execute(tasks, ui, storage, new Session());
+    }
+
+    /**
+     * Executes the list command to show a page of tasks to the user, remembering the page in their session.
+     *
+     * @param tasks TaskList containing all user tasks
+     * @param ui User interface for display (not used directly)
+     * @param storage Not used in list operations
+     * @param session Session of the user listing, which keeps the page {@code list next} continues from
+     * @return Result listing one page of tasks, or an empty list message
+     * @throws JungException If the requested page does not exist
+     */
+    @Override
+    public CommandResult execute(TaskList tasks, Ui ui, Storage storage, Session session) throws JungException {
+        List<Task> allTasks = tasks.getTasks();
 
         if (allTasks.isEmpty()) {
             String message = getRandomMessage(EMPTY_LIST_MESSAGES);
             return new CommandResult(message);
         }
 
-        String formattedList = formatTaskList(allTasks);
-        return new CommandResult(formattedList);
-    }
+        int pageCount = (allTasks.size() + PAGE_SIZE - 1) / PAGE_SIZE;
+        int page = action == Action.NEXT ? session.advanceListPage() : resolvePage();
+        if (action == Action.NEXT && page > pageCount) {
+            // Stay on the last page, so 'list next' picks up from there if more tasks are added
+            session.setListPage(pageCount);
+            return new CommandResult(LAST_PAGE_MESSAGE);
+        }
+        if (page > pageCount) {
+            throw new JungException(ErrorMessages.INVALID_PAGE_NUMBER);
+        }
+        if (action != Action.NEXT) {
+            session.setListPage(page);
+        }
 
-    /**
-     * Formats the task list into a numbered, user-friendly display.
-     *
-     * @param tasks List of tasks to format
-     * @return Formatted string with numbered task list
-     */
-    private String formatTaskList(ArrayList<Task> tasks) {
-        StringBuilder listBuilder = new StringBuilder(getRandomMessage(LIST_HEADERS));
-        listBuilder.append("\n");
+        int from = (page - 1) * PAGE_SIZE;
+        int to = Math.min(from + PAGE_SIZE, allTasks.size());
+        String footer = pageCount == 1 ? null : formatPageFooter(page, pageCount);
+        return new CommandResult(TaskListing.page(getRandomMessage(LIST_HEADERS), allTasks, from, to, footer));
+    }
 
-        for (int i = 0; i < tasks.size(); i++) {
-            int taskNumber = i + 1;
-            listBuilder.append(taskNumber).append(". ").append(tasks.get(i)).append("\n");
+    private int resolvePage() {
+        switch (action) {
+        case PAGE:
+            return pageNumber;
+        default:
+            return 1;
         }
+    }
 
-        return listBuilder.toString();
+    private String formatPageFooter(int page, int pageCount) {
+        if (page == pageCount) {
+            return String.format("(Page %d of %d, that's the last one.)", page, pageCount);
+        }
+        return String.format("(Page %d of %d. Type 'list next' for more, or 'list page N' to jump.)",
+                page, pageCount);
     }
 
     private String getRandomMessage(String[] messages) {
@@ -128,5 +128,9 @@ public class ModifyTaskCommand extends Command {
             return String.format("Wah, still got %d more tasks. Jiayou! 💪", remainingTasks);
         }
     }
-}
 
+    @Override
+    public boolean isMutating() {
+        return true;
+    }
+}
@@ -0,0 +1,60 @@
+package jung.command;
+
+/**
+ * State kept for one user of Jung, such as the GUI window, a batch run or one server connection.
+ * Unlike the task list, which every user shares, this holds what one user is looking at and the
+ * warnings they asked for, so one client's {@code list} never moves another client's {@code list next}.
+ *
+ * <p>Commands from the same user may run on different threads, so every method is thread-safe.
+ */
+public class Session {
+
+    private int listPage;
+    private boolean isConflictCheckEnabled;
+
+    /**
+     * Gets the page of the task list this user last viewed with {@code list}.
+     *
+     * @return 1-based page number, or 0 if no page has been shown yet
+     */
+    public synchronized int getListPage() {
+        return listPage;
+    }
+
+    /**
+     * Records the page of the task list this user is viewing.
+     *
+     * @param page 1-based page number
+     */
+    public synchronized void setListPage(int page) {
+        this.listPage = page;
+    }
+
+    /**
+     * Moves on to the page after the one last viewed, in one step so that two {@code list next}
+     * commands running at once never get the same page.
+     *
+     * @return 1-based number of the page to show next
+     */
+    public synchronized int advanceListPage() {
+        return ++listPage;
+    }
+
+    /**
+     * Checks whether this user wants to hear when a new event clashes with another.
+     *
+     * @return True if clash warnings are on; they are off until turned on
+     */
+    public synchronized boolean isConflictCheckEnabled() {
+        return isConflictCheckEnabled;
+    }
+
+    /**
+     * Turns clash warnings for this user's new events on or off.
+     *
+     * @param isEnabled Whether adding an event should report the events it overlaps
+     */
+    public synchronized void setConflictCheckEnabled(boolean isEnabled) {
+        this.isConflictCheckEnabled = isEnabled;
+    }
+}
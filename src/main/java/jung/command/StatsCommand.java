@@ -0,0 +1,70 @@
+package jung.command;
+
+import jung.gui.Ui;
+import jung.metrics.CommandMetrics;
+import jung.storage.DescriptionPool;
+import jung.storage.Storage;
+import jung.storage.TaskList;
+import jung.util.CommandResult;
+
+/**
+ * Command to show or control the performance metrics Jung records about itself.
+ * Supports showing the report, turning recording on or off, and resetting it.
+ */
+public class StatsCommand extends Command {
+
+    /**
+     * Operations supported by the stats command.
+     */
+    public enum Action {
+        SHOW,
+        ENABLE,
+        DISABLE,
+        RESET
+    }
+
+    private static final String REPORT_HEADER = "Wah, you want to see my numbers ah? Here:";
+    private static final String DISABLED_MESSAGE = "Stats not on leh, nothing to show. Type 'stats on' first lah!";
+
+    private final Action action;
+
+    /**
+     * Creates a command to show or control metrics.
+     *
+     * @param action The stats operation to perform
+     */
+    public StatsCommand(Action action) {
+        this.action = action;
+    }
+
+    /**
+     * Executes the stats operation.
+     *
+     * @param tasks Not used in stats operations
+     * @param ui Not used in stats operations
+     * @param storage Not used in stats operations
+     * @return Result containing the metrics report or a confirmation
+     */
+    @Override
+    public CommandResult execute(TaskList tasks, Ui ui, Storage storage) {
+        CommandMetrics metrics = CommandMetrics.getInstance();
+
+        switch (action) {
+        case ENABLE:
+            metrics.setEnabled(true);
+            return new CommandResult("Okay lor, I start counting how hard I work. Type 'stats' to see.");
+        case DISABLE:
+            metrics.setEnabled(false);
+            return new CommandResult("Shiok, stop counting already.");
+        case RESET:
+            metrics.reset();
+            return new CommandResult("All stats cleared. Start from zero again!");
+        default:
+            if (!metrics.isEnabled()) {
+                return new CommandResult(DISABLED_MESSAGE);
+            }
+            return new CommandResult(REPORT_HEADER + "\n" + metrics.getReport() + "\n"
+                    + DescriptionPool.getShared().formatStats());
+        }
+    }
+}
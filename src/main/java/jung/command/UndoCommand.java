@@ -43,7 +43,7 @@ public class UndoCommand extends Command {
 
         String undoResult = lastAction.executeUndo(tasks);
         tasks.clearLastAction();
-        storage.save(tasks.getTasks());
+        storage.save(tasks.snapshot());
 
         String response = getRandomResponse() + "\n" + undoResult;
         return new CommandResult(response);
@@ -56,4 +56,9 @@ public class UndoCommand extends Command {
         int randomIndex = (int) (Math.random() * UNDO_SUCCESS_RESPONSES.length);
         return UNDO_SUCCESS_RESPONSES[randomIndex];
     }
+
+    @Override
+    public boolean isMutating() {
+        return true;
+    }
 }
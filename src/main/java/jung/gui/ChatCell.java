@@ -0,0 +1,41 @@
+package jung.gui;
+
+import javafx.scene.control.ListCell;
+
+/**
+ * Recyclable list cell that shows one chat message.
+ * Each cell builds its {@link DialogBox} once and rebinds it to whichever message scrolls into view.
+ */
+class ChatCell extends ListCell<ChatMessage> {
+
+    // Room for the list view's scroll bar and cell insets, so wrapped text never scrolls sideways
+    private static final double HORIZONTAL_ALLOWANCE = 36.0;
+
+    private final ConversationView conversationView;
+    private DialogBox dialogBox;
+
+    ChatCell(ConversationView conversationView) {
+        this.conversationView = conversationView;
+        getStyleClass().add("chat-cell");
+        setPrefWidth(0);
+    }
+
+    @Override
+    protected void updateItem(ChatMessage message, boolean isEmpty) {
+        super.updateItem(message, isEmpty);
+        setText(null);
+
+        if (isEmpty || message == null) {
+            setGraphic(null);
+            return;
+        }
+
+        if (dialogBox == null) {
+            dialogBox = DialogBox.createEmpty();
+            dialogBox.maxWidthProperty().bind(conversationView.widthProperty().subtract(HORIZONTAL_ALLOWANCE));
+        }
+        dialogBox.show(message.getText(), conversationView.getImageFor(message), message.isError(),
+                message.isFromUser());
+        setGraphic(dialogBox);
+    }
+}
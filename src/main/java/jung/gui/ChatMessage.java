@@ -0,0 +1,69 @@
+package jung.gui;
+
+/**
+ * One message in the conversation between the user and Jung.
+ */
+public class ChatMessage {
+
+    /**
+     * Who sent a message.
+     */
+    public enum Sender {
+        USER,
+        JUNG
+    }
+
+    private final Sender sender;
+    private final String text;
+    private final boolean isError;
+
+    /**
+     * Creates a message.
+     *
+     * @param sender Who sent the message
+     * @param text Message text
+     * @param isError Whether the message reports an error
+     */
+    public ChatMessage(Sender sender, String text, boolean isError) {
+        this.sender = sender;
+        this.text = text == null ? "" : text;
+        this.isError = isError;
+    }
+
+    /**
+     * Creates a message typed by the user.
+     *
+     * @param text The user's input
+     * @return User message
+     */
+    public static ChatMessage fromUser(String text) {
+        return new ChatMessage(Sender.USER, text, false);
+    }
+
+    /**
+     * Creates a reply from Jung.
+     *
+     * @param text Reply text
+     * @param isError Whether the reply reports an error
+     * @return Jung message
+     */
+    public static ChatMessage fromJung(String text, boolean isError) {
+        return new ChatMessage(Sender.JUNG, text, isError);
+    }
+
+    public Sender getSender() {
+        return sender;
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    public boolean isError() {
+        return isError;
+    }
+
+    public boolean isFromUser() {
+        return sender == Sender.USER;
+    }
+}
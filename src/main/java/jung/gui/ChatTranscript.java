@@ -0,0 +1,181 @@
+package jung.gui;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Complete conversation history with a bounded memory footprint.
+ * Only the most recent messages are kept in memory; older ones are spilled to a history file
+ * in batches and read back on demand, with a small cache for messages scrolled back to.
+ * Memory use is bounded by twice the in-memory capacity plus 8 bytes per spilled message.
+ */
+public class ChatTranscript implements Closeable {
+
+    private static final int READ_CACHE_SIZE = 64;
+    private static final int INITIAL_OFFSETS = 256;
+
+    private final Path spillFile;
+    private final int memoryCapacity;
+    private final List<ChatMessage> recent = new ArrayList<>();
+    private final Map<Integer, ChatMessage> readCache = new LinkedHashMap<>(READ_CACHE_SIZE, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, ChatMessage> eldest) {
+            return size() > READ_CACHE_SIZE;
+        }
+    };
+    private RandomAccessFile spill;
+    private long[] spillOffsets = new long[INITIAL_OFFSETS];
+    private int spilledCount;
+
+    /**
+     * Creates a transcript that spills old messages to the given file, replacing any earlier contents.
+     *
+     * @param spillFile File to hold spilled messages
+     * @param memoryCapacity Number of recent messages always kept in memory
+     */
+    public ChatTranscript(Path spillFile, int memoryCapacity) {
+        if (memoryCapacity < 1) {
+            throw new IllegalArgumentException("Memory capacity must be positive: " + memoryCapacity);
+        }
+        this.spillFile = spillFile;
+        this.memoryCapacity = memoryCapacity;
+    }
+
+    /**
+     * Creates a transcript whose history file is a temporary file removed when the JVM exits.
+     *
+     * @param memoryCapacity Number of recent messages always kept in memory
+     * @return New empty transcript
+     * @throws IOException If the temporary file cannot be created
+     */
+    public static ChatTranscript createTemporary(int memoryCapacity) throws IOException {
+        Path file = Files.createTempFile("jung-chat", ".history");
+        file.toFile().deleteOnExit();
+        return new ChatTranscript(file, memoryCapacity);
+    }
+
+    /**
+     * Appends a message. Once twice the memory capacity is reached, the older half is spilled to disk.
+     * If spilling fails the messages simply stay in memory, so no history is lost.
+     *
+     * @param message Message to append
+     * @throws IOException If older messages could not be written to the history file
+     */
+    public synchronized void add(ChatMessage message) throws IOException {
+        recent.add(message);
+        if (recent.size() >= 2 * memoryCapacity) {
+            spillOldest(recent.size() - memoryCapacity);
+        }
+    }
+
+    /**
+     * Gets the total number of messages, including spilled ones.
+     *
+     * @return Message count
+     */
+    public synchronized int size() {
+        return spilledCount + recent.size();
+    }
+
+    /**
+     * Gets a message by position, reading it back from the history file if it was spilled.
+     *
+     * @param index 0-based position, oldest first
+     * @return Message at that position
+     * @throws IOException If a spilled message cannot be read
+     */
+    public synchronized ChatMessage get(int index) throws IOException {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+        if (index >= spilledCount) {
+            return recent.get(index - spilledCount);
+        }
+
+        ChatMessage cached = readCache.get(index);
+        if (cached != null) {
+            return cached;
+        }
+        ChatMessage message = readSpilled(index);
+        readCache.put(index, message);
+        return message;
+    }
+
+    /**
+     * Gets the number of messages currently held in memory.
+     *
+     * @return In-memory message count
+     */
+    public synchronized int getInMemoryCount() {
+        return recent.size();
+    }
+
+    /**
+     * Closes and deletes the history file.
+     *
+     * @throws IOException If the file cannot be closed or deleted
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (spill != null) {
+            spill.close();
+            spill = null;
+        }
+        Files.deleteIfExists(spillFile);
+    }
+
+    private void spillOldest(int count) throws IOException {
+        if (spill == null) {
+            spill = new RandomAccessFile(spillFile.toFile(), "rw");
+            spill.setLength(0);
+        }
+
+        long position = spill.length();
+        long[] newOffsets = new long[count];
+        ByteArrayOutputStream batch = new ByteArrayOutputStream(count * 128);
+        DataOutputStream out = new DataOutputStream(batch);
+        for (int i = 0; i < count; i++) {
+            newOffsets[i] = position + out.size();
+            writeMessage(out, recent.get(i));
+        }
+        out.flush();
+
+        spill.seek(position);
+        spill.write(batch.toByteArray());
+
+        if (spilledCount + count > spillOffsets.length) {
+            spillOffsets = Arrays.copyOf(spillOffsets, Math.max(spilledCount + count, spillOffsets.length * 2));
+        }
+        System.arraycopy(newOffsets, 0, spillOffsets, spilledCount, count);
+        spilledCount += count;
+        recent.subList(0, count).clear();
+    }
+
+    private static void writeMessage(DataOutputStream out, ChatMessage message) throws IOException {
+        byte[] text = message.getText().getBytes(StandardCharsets.UTF_8);
+        out.writeByte(message.getSender().ordinal());
+        out.writeBoolean(message.isError());
+        out.writeInt(text.length);
+        out.write(text);
+    }
+
+    private ChatMessage readSpilled(int index) throws IOException {
+        spill.seek(spillOffsets[index]);
+        ChatMessage.Sender sender = ChatMessage.Sender.values()[spill.readByte()];
+        boolean isError = spill.readBoolean();
+        byte[] text = new byte[spill.readInt()];
+        spill.readFully(text);
+        return new ChatMessage(sender, new String(text, StandardCharsets.UTF_8), isError);
+    }
+}
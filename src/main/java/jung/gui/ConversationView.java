@@ -0,0 +1,125 @@
+package jung.gui;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import javafx.collections.ObservableListBase;
+import javafx.scene.control.ListView;
+import javafx.scene.image.Image;
+
+/**
+ * Virtualized view of the conversation between the user and Jung.
+ * Only visible messages get a cell, and cells are recycled while scrolling, so the scene graph
+ * stays the same size however long the conversation grows. Messages are kept in a
+ * {@link ChatTranscript}, which holds recent ones in memory and spills older ones to disk.
+ */
+public class ConversationView extends ListView<ChatMessage> {
+
+    private static final int IN_MEMORY_MESSAGES = 200;
+
+    private final ChatTranscript transcript;
+    private final TranscriptItems messages;
+    private Image userImage;
+    private Image jungImage;
+
+    /**
+     * Creates an empty conversation view.
+     */
+    public ConversationView() {
+        transcript = createTranscript();
+        messages = new TranscriptItems(transcript);
+        setItems(messages);
+        setCellFactory(view -> new ChatCell(this));
+        setFocusTraversable(false);
+        getStyleClass().add("conversation-view");
+    }
+
+    /**
+     * Sets the profile pictures shown next to messages.
+     *
+     * @param userImage Picture for the user's messages
+     * @param jungImage Picture for Jung's replies
+     */
+    public void setImages(Image userImage, Image jungImage) {
+        this.userImage = userImage;
+        this.jungImage = jungImage;
+        refresh();
+    }
+
+    /**
+     * Appends a message and scrolls to it.
+     *
+     * @param message Message to show
+     */
+    public void addMessage(ChatMessage message) {
+        messages.append(message);
+        scrollTo(messages.size() - 1);
+    }
+
+    /**
+     * Gets the profile picture for a message's sender.
+     *
+     * @param message Message being shown
+     * @return Sender's picture, or null if none has been set
+     */
+    public Image getImageFor(ChatMessage message) {
+        return message.isFromUser() ? userImage : jungImage;
+    }
+
+    /**
+     * Deletes the on-disk part of the conversation history.
+     */
+    public void close() {
+        try {
+            transcript.close();
+        } catch (IOException e) {
+            System.out.println("Warning: Could not delete chat history: " + e.getMessage());
+        }
+    }
+
+    private static ChatTranscript createTranscript() {
+        try {
+            return ChatTranscript.createTemporary(IN_MEMORY_MESSAGES);
+        } catch (IOException e) {
+            System.out.println("Warning: Could not create chat history file, using data folder: " + e.getMessage());
+            return new ChatTranscript(Paths.get("data", "chat.history"), IN_MEMORY_MESSAGES);
+        }
+    }
+
+    /**
+     * Observable list adapter over the transcript. Only rows the list view asks for are materialized.
+     */
+    private static class TranscriptItems extends ObservableListBase<ChatMessage> {
+        private final ChatTranscript transcript;
+
+        TranscriptItems(ChatTranscript transcript) {
+            this.transcript = transcript;
+        }
+
+        @Override
+        public ChatMessage get(int index) {
+            try {
+                return transcript.get(index);
+            } catch (IOException e) {
+                return ChatMessage.fromJung("(Cannot load this old message: " + e.getMessage() + ")", true);
+            }
+        }
+
+        @Override
+        public int size() {
+            return transcript.size();
+        }
+
+        void append(ChatMessage message) {
+            int index = transcript.size();
+            try {
+                transcript.add(message);
+            } catch (IOException e) {
+                // The message is still kept in memory, only older history stays unspilled
+                System.out.println("Warning: Could not save older chat history: " + e.getMessage());
+            }
+            beginChange();
+            nextAdd(index, index + 1);
+            endChange();
+        }
+    }
+}
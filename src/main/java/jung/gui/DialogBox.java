@@ -1,58 +1,56 @@
 package jung.gui;
 
-import java.io.IOException;
-import java.util.Collections;
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
-import javafx.fxml.FXML;
-import javafx.fxml.FXMLLoader;
 import javafx.geometry.Pos;
-import javafx.scene.Node;
 import javafx.scene.control.Label;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.HBox;
+import javafx.scene.layout.Priority;
+import javafx.scene.layout.Region;
 import javafx.scene.shape.Circle;
 
 /**
- * Enhanced dialog box component with better error handling and resource management.
- * Fixed version that addresses CSS conflicts and resource loading issues.
+ * Dialog box showing one message next to the sender's picture.
+ * Built directly in code rather than from FXML, and styled only through the style classes in
+ * {@code jung-theme.css}, so creating or reusing a box never parses a layout file or inline CSS.
  */
 public class DialogBox extends HBox {
-    @FXML
-    private Label dialog;
-    @FXML
-    private ImageView displayPicture;
+    private static final String STYLE_CLASS = "dialog-box";
+    private static final String TEXT_STYLE_CLASS = "dialog-text";
+    private static final String PICTURE_STYLE_CLASS = "dialog-picture";
+    private static final String ERROR_STYLE_CLASS = "error";
+
+    private static final double PICTURE_SIZE = 45.0;
+    private static final double MAX_TEXT_WIDTH = 350.0;
+    private static final double MIN_BOX_WIDTH = 300.0;
+
+    private final Label dialog;
+    private final ImageView displayPicture;
+    private Boolean isUserLayout;
 
     /**
      * Creates a dialog box with the specified text, speaker image, and optional error styling.
      */
-    private DialogBox(String text, Image speakerImage, boolean isError) {
-        try {
-            loadFXMLLayout();
-            setupDialogContent(text, speakerImage);
-            applyStyles(isError);
-            setupImageStyling();
-        } catch (Exception e) {
-            System.err.println("Error creating DialogBox: " + e.getMessage());
-            createFallbackDialogBox(text, isError);
-        }
+    private DialogBox(String text, Image speakerImage, boolean isError, boolean isUser) {
+        dialog = createLabel();
+        displayPicture = createPicture();
+        getStyleClass().add(STYLE_CLASS);
+        setMinWidth(MIN_BOX_WIDTH);
+        show(text, speakerImage, isError, isUser);
     }
 
     /**
      * Creates a dialog box for user messages (image on right, text on left).
      */
     public static DialogBox getUserDialog(String text, Image userImage) {
-        return new DialogBox(text, userImage, false);
+        return new DialogBox(text, userImage, false, true);
     }
 
     /**
      * Creates a dialog box for Jung's responses (image on left, text on right).
      */
     public static DialogBox getJungDialog(String text, Image jungImage, boolean isError) {
-        DialogBox dialogBox = new DialogBox(text, jungImage, isError);
-        dialogBox.flip();
-        return dialogBox;
+        return new DialogBox(text, jungImage, isError, false);
     }
 
     /**
@@ -63,143 +61,76 @@ public class DialogBox extends HBox {
     }
 
     /**
-     * Loads the FXML layout with better error handling.
+     * Creates a blank dialog box to be filled in later with {@link #show}, as list cells do.
      */
-    private void loadFXMLLayout() {
-        try {
-            FXMLLoader fxmlLoader = new FXMLLoader(MainWindow.class.getResource("/view/DialogBox.fxml"));
-            fxmlLoader.setController(this);
-            fxmlLoader.setRoot(this);
-            fxmlLoader.load();
-        } catch (IOException e) {
-            System.err.println("Failed to load DialogBox FXML: " + e.getMessage());
-            throw new RuntimeException("Could not load FXML layout", e);
-        } catch (Exception e) {
-            System.err.println("Unexpected error loading FXML: " + e.getMessage());
-            throw new RuntimeException("Unexpected FXML loading error", e);
-        }
+    public static DialogBox createEmpty() {
+        return new DialogBox("", null, false, false);
     }
 
     /**
-     * Creates a fallback dialog box when FXML loading fails.
+     * Rebinds this dialog box to another message, so one box can be reused for many messages.
+     * Only properties that actually change are touched, so scrolling past similar messages is cheap.
+     *
+     * @param text Message text
+     * @param speakerImage Picture of the sender
+     * @param isError Whether to use error styling
+     * @param isUser Whether the user sent the message (picture on the right) or Jung did (picture on the left)
      */
-    private void createFallbackDialogBox(String text, boolean isError) {
-        // Create components programmatically as fallback
-        dialog = new Label(text);
-        dialog.setWrapText(true);
-        dialog.setMaxWidth(350);
-
-        displayPicture = new ImageView();
-        displayPicture.setFitWidth(45);
-        displayPicture.setFitHeight(45);
-        displayPicture.setPreserveRatio(true);
-
-        this.getChildren().addAll(dialog, displayPicture);
-        this.setSpacing(12);
-        this.setAlignment(Pos.CENTER_RIGHT);
-
-        System.out.println("Using fallback DialogBox layout");
-    }
-
-    /**
-     * Sets up the dialog content with null-safety checks.
-     */
-    private void setupDialogContent(String text, Image speakerImage) {
-        if (dialog != null) {
-            dialog.setText(text != null ? text : "");
-        }
-
-        if (displayPicture != null && speakerImage != null) {
+    public void show(String text, Image speakerImage, boolean isError, boolean isUser) {
+        dialog.setText(text != null ? text : "");
+        if (displayPicture.getImage() != speakerImage) {
             displayPicture.setImage(speakerImage);
         }
+        setError(isError);
+        arrangeFor(isUser);
     }
 
-    /**
-     * Applies safer CSS styles that won't conflict with JavaFX defaults.
-     */
-    private void applyStyles(boolean isError) {
-        try {
-            String baseStyle = """
-                -fx-background-color: white;
-                -fx-background-radius: 12px;
-                -fx-padding: 16px;
-                -fx-spacing: 12px;
-                -fx-alignment: center-left;
-                """;
-
-            String errorStyle = """
-                -fx-background-color: #fff5f5;
-                -fx-border-color: #ff6b6b;
-                -fx-border-width: 1px;
-                -fx-border-radius: 12px;
-                """;
-
-            String successStyle = """
-                -fx-background-color: #ffffff;
-                -fx-border-color: #e9ecef;
-                -fx-border-width: 1px;
-                -fx-border-radius: 12px;
-                """;
-
-            this.setStyle(baseStyle + (isError ? errorStyle : successStyle));
-
-            // Style the text label safely
-            if (dialog != null) {
-                String textStyle = """
-                    -fx-font-family: 'Segoe UI', system-ui, sans-serif;
-                    -fx-font-size: 14px;
-                    -fx-wrap-text: true;
-                    """;
-
-                if (isError) {
-                    textStyle += "-fx-text-fill: #d32f2f; -fx-font-weight: bold;";
-                } else {
-                    textStyle += "-fx-text-fill: #2c3e50;";
-                }
+    private static Label createLabel() {
+        Label label = new Label();
+        label.getStyleClass().add(TEXT_STYLE_CLASS);
+        label.setWrapText(true);
+        label.setMaxWidth(MAX_TEXT_WIDTH);
+        // Let wrapped text grow the label instead of being cut off with an ellipsis
+        label.setMinHeight(Region.USE_PREF_SIZE);
+        HBox.setHgrow(label, Priority.ALWAYS);
+        return label;
+    }
 
-                dialog.setStyle(textStyle);
-            }
+    private static ImageView createPicture() {
+        ImageView picture = new ImageView();
+        picture.getStyleClass().add(PICTURE_STYLE_CLASS);
+        picture.setFitWidth(PICTURE_SIZE);
+        picture.setFitHeight(PICTURE_SIZE);
+        picture.setPreserveRatio(true);
+        picture.setSmooth(true);
+        // A clip node belongs to exactly one node, so each box makes its circle once and keeps it
+        picture.setClip(new Circle(PICTURE_SIZE / 2, PICTURE_SIZE / 2, PICTURE_SIZE / 2));
+        return picture;
+    }
 
-        } catch (Exception e) {
-            System.out.println("Warning: Could not apply dialog styling: " + e.getMessage());
+    private void setError(boolean isError) {
+        boolean hasErrorClass = getStyleClass().contains(ERROR_STYLE_CLASS);
+        if (isError && !hasErrorClass) {
+            getStyleClass().add(ERROR_STYLE_CLASS);
+        } else if (!isError && hasErrorClass) {
+            getStyleClass().remove(ERROR_STYLE_CLASS);
         }
     }
 
     /**
-     * Sets up image styling with error handling.
+     * Puts the picture on the right for the user's messages and on the left for Jung's.
      */
-    private void setupImageStyling() {
-        if (displayPicture == null) {
+    private void arrangeFor(boolean isUser) {
+        if (isUserLayout != null && isUserLayout == isUser) {
             return;
         }
-
-        try {
-            double imageSize = 45.0;
-            displayPicture.setFitWidth(imageSize);
-            displayPicture.setFitHeight(imageSize);
-            displayPicture.setPreserveRatio(true);
-            displayPicture.setSmooth(true);
-
-            // Create circular clip safely
-            Circle clip = new Circle(imageSize / 2, imageSize / 2, imageSize / 2);
-            displayPicture.setClip(clip);
-
-        } catch (Exception e) {
-            System.out.println("Warning: Could not apply image styling: " + e.getMessage());
-        }
-    }
-
-    /**
-     * Flips the dialog box layout with error handling.
-     */
-    private void flip() {
-        try {
-            ObservableList<Node> tmp = FXCollections.observableArrayList(this.getChildren());
-            Collections.reverse(tmp);
-            getChildren().setAll(tmp);
+        isUserLayout = isUser;
+        if (isUser) {
+            getChildren().setAll(dialog, displayPicture);
+            setAlignment(Pos.CENTER_RIGHT);
+        } else {
+            getChildren().setAll(displayPicture, dialog);
             setAlignment(Pos.CENTER_LEFT);
-        } catch (Exception e) {
-            System.out.println("Warning: Could not flip dialog layout: " + e.getMessage());
         }
     }
-}
\ No newline at end of file
+}
@@ -4,6 +4,9 @@ import java.io.IOException;
 import java.util.ArrayList;
 import jung.exceptions.JungException;
 import jung.command.Command;
+import jung.command.Session;
+import jung.metrics.CommandExecutedEvent;
+import jung.metrics.CommandMetrics;
 import jung.parser.Parser;
 import jung.storage.Storage;
 import jung.storage.TaskList;
@@ -18,14 +21,32 @@ public class Jung {
     private static final String WELCOME_MESSAGE = "Wah, hello! I'm Jung.\n" +
             "Aiyo, I don't really want to help but... sian, what you want me to do for you today?\n" +
             "Just don't give me too much work can or not? 😤";
-    private static final String STORAGE_PATH = "data/jung.txt";
+    private static final String DEFAULT_STORAGE_PATH = "data/jung.txt";
     private static final String LOAD_FAILURE_MESSAGE = "Wah lau eh, cannot load your tasks leh. " +
             "Never mind, start fresh lor!";
 
+    private final String storagePath;
+    private final Session session = new Session();
     private TaskList taskList;
     private Storage storage;
     private boolean isInitialized = false;
 
+    /**
+     * Creates a Jung instance that keeps its tasks in the default data file.
+     */
+    public Jung() {
+        this(DEFAULT_STORAGE_PATH);
+    }
+
+    /**
+     * Creates a Jung instance that keeps its tasks in the given data file.
+     *
+     * @param storagePath Path of the task data file
+     */
+    public Jung(String storagePath) {
+        this.storagePath = storagePath;
+    }
+
     /**
      * Initializes the Jung application with storage and task list.
      *
@@ -37,6 +58,7 @@ public class Jung {
             return "";
         }
 
+        CommandMetrics.getInstance().registerMBean();
         setupStorage();
         String initializationMessage = setupTaskList();
         isInitialized = true;
@@ -45,7 +67,7 @@ public class Jung {
     }
 
     /**
-     * Processes a user command and returns the result.
+     * Processes a user command from this instance's own session and returns the result.
      * Automatically initializes if not already done.
      *
      * @param input User command string
@@ -54,10 +76,89 @@ public class Jung {
      * @throws IOException   If storage operations fail
      */
     public CommandResult processCommand(String input) throws JungException, IOException {
+        return processCommand(input, session);
+    }
+
+    /**
+     * Processes a user command from the given session and returns the result.
+     * Automatically initializes if not already done.
+     *
+     * @param input User command string
+     * @param userSession Session of the user who typed the command
+     * @return Result of command execution
+     * @throws JungException If command parsing or execution fails
+     * @throws IOException   If storage operations fail
+     */
+    public CommandResult processCommand(String input, Session userSession) throws JungException, IOException {
+        Command command;
+        try {
+            command = parseCommand(input);
+        } catch (JungException e) {
+            recordRejectedCommand(input);
+            throw e;
+        }
+        return executeCommand(command, input, userSession);
+    }
+
+    /**
+     * Parses a user command without executing it.
+     * Lets callers such as the command server decide where the command should run.
+     *
+     * @param input User command string
+     * @return Parsed command
+     * @throws JungException If the input is not a valid command
+     * @throws IOException   If initialization fails
+     */
+    public Command parseCommand(String input) throws JungException, IOException {
         ensureInitialized();
 
+        CommandMetrics metrics = CommandMetrics.getInstance();
+        if (!metrics.isEnabled()) {
+            return Parser.parse(input);
+        }
+        long parseStart = System.nanoTime();
         Command command = Parser.parse(input);
-        return command.execute(taskList, null, storage);
+        metrics.recordParse(System.nanoTime() - parseStart);
+        return command;
+    }
+
+    /**
+     * Executes a command parsed from the given input for this instance's own session.
+     *
+     * @param command Command parsed from {@code input}
+     * @param input User command string the command came from
+     * @return Result of command execution
+     * @throws JungException If the command cannot be executed
+     * @throws IOException   If storage operations fail
+     */
+    public CommandResult executeCommand(Command command, String input) throws JungException, IOException {
+        return executeCommand(command, input, session);
+    }
+
+    /**
+     * Executes a command parsed from the given input, recording metrics and events.
+     *
+     * @param command Command parsed from {@code input}
+     * @param input User command string the command came from
+     * @param userSession Session of the user who typed the command
+     * @return Result of command execution
+     * @throws JungException If the command cannot be executed
+     * @throws IOException   If storage operations fail
+     */
+    public CommandResult executeCommand(Command command, String input, Session userSession)
+            throws JungException, IOException {
+        ensureInitialized();
+
+        CommandExecutedEvent event = new CommandExecutedEvent();
+        event.begin();
+        boolean isSuccessful = false;
+        try {
+            CommandResult result = executeWithMetrics(command, input, userSession);
+            isSuccessful = true;
+            return result;
+        } finally {
+            commitCommandEvent(event, input, isSuccessful);
+        }
     }
 
     /**
@@ -87,6 +188,50 @@ public class Jung {
         return storage;
     }
 
+    /**
+     * Executes a command, recording execution time and allocation when metrics are enabled.
+     */
+    private CommandResult executeWithMetrics(Command command, String input, Session userSession)
+            throws JungException, IOException {
+        CommandMetrics metrics = CommandMetrics.getInstance();
+        if (!metrics.isEnabled()) {
+            return command.execute(taskList, null, storage, userSession);
+        }
+
+        String commandWord = Parser.extractCommandWord(input.trim());
+        long allocatedBefore = metrics.currentThreadAllocatedBytes();
+        long executeStart = System.nanoTime();
+        try {
+            return command.execute(taskList, null, storage, userSession);
+        } finally {
+            long executeNanos = System.nanoTime() - executeStart;
+            metrics.recordExecute(commandWord, executeNanos, metrics.currentThreadAllocatedBytes() - allocatedBefore);
+        }
+    }
+
+    /**
+     * Emits a failed command event for input that could not be parsed.
+     */
+    private void recordRejectedCommand(String input) {
+        CommandExecutedEvent event = new CommandExecutedEvent();
+        event.begin();
+        commitCommandEvent(event, input, false);
+    }
+
+    /**
+     * Emits the Flight Recorder event for a processed command, if a recording wants it.
+     */
+    private void commitCommandEvent(CommandExecutedEvent event, String input, boolean isSuccessful) {
+        event.end();
+        if (!event.shouldCommit()) {
+            return;
+        }
+        event.setCommandWord(input == null ? "" : Parser.extractCommandWord(input.trim()));
+        event.setTaskCount(taskList.size());
+        event.setSuccessful(isSuccessful);
+        event.commit();
+    }
+
     /**
      * Ensures the application is initialized before processing commands.
      */
@@ -100,7 +245,7 @@ public class Jung {
      * Sets up the storage system.
      */
     private void setupStorage() throws IOException {
-        storage = new Storage(STORAGE_PATH);
+        storage = new Storage(storagePath);
     }
 
     /**
@@ -1,6 +1,7 @@
 package jung.gui;
 
 import java.io.IOException;
+import java.net.URL;
 import javafx.application.Application;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Scene;
@@ -14,7 +15,10 @@ import javafx.stage.Stage;
  */
 public class JungGui extends Application {
 
+    private static final String STYLESHEET = "/css/jung-theme.css";
+
     private Jung jung = new Jung();
+    private MainWindow mainWindow;
 
     /**
      * Starts the JavaFX application with comprehensive error handling.
@@ -39,12 +43,12 @@ public class JungGui extends Application {
 
         Scene scene = new Scene(rootPane);
 
-        // Apply minimal, safe CSS
+        // Apply the shared theme stylesheet
         applySafeTheme(scene);
 
         // Inject Jung instance into controller
-        MainWindow controller = fxmlLoader.getController();
-        controller.setJung(jung);
+        mainWindow = fxmlLoader.getController();
+        mainWindow.setJung(jung);
 
         return scene;
     }
@@ -77,30 +81,21 @@ public class JungGui extends Application {
 
         // Proper close behavior
         stage.setOnCloseRequest(event -> {
+            mainWindow.cleanup();
             System.exit(0);
         });
     }
 
     /**
-     * Applies safe CSS that won't cause conflicts with JavaFX internals.
+     * Applies the shared stylesheet to the whole scene, so every node is styled by class.
      */
     private void applySafeTheme(Scene scene) {
-        try {
-            String safeCss = """
-                .root {
-                    -fx-base: #ffffff;
-                    -fx-background-color: #f8f9fa;
-                    -fx-font-family: 'Segoe UI', system-ui, sans-serif;
-                    -fx-font-size: 13px;
-                }
-                """;
-
-            scene.getRoot().setStyle(safeCss);
-
-        } catch (Exception e) {
-            System.out.println("Warning: Could not apply theme: " + e.getMessage());
-            // Continue without custom styling - JavaFX will use defaults
+        URL stylesheet = JungGui.class.getResource(STYLESHEET);
+        if (stylesheet == null) {
+            System.out.println("Warning: Could not find theme " + STYLESHEET + ", using default styling");
+            return;
         }
+        scene.getStylesheets().add(stylesheet.toExternalForm());
     }
 
     /**
@@ -112,9 +107,8 @@ public class JungGui extends Application {
 
         if (e instanceof IOException) {
             System.err.println("This looks like a file loading problem.");
-            System.err.println("Please check that all FXML files are in the correct location:");
+            System.err.println("Please check that the FXML file is in the correct location:");
             System.err.println("  - /view/MainWindow.fxml");
-            System.err.println("  - /view/DialogBox.fxml");
         }
 
         System.err.println("\nFull error details:");
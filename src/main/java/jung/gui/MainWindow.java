@@ -1,49 +1,60 @@
 package jung.gui;
 
 import java.io.IOException;
+import java.util.concurrent.CompletionException;
 
+import javafx.animation.PauseTransition;
 import javafx.application.Platform;
-import javafx.beans.value.ChangeListener;
 import javafx.fxml.FXML;
 import javafx.scene.control.Button;
-import javafx.scene.control.ScrollPane;
 import javafx.scene.control.TextField;
 import javafx.scene.image.Image;
 import javafx.scene.layout.AnchorPane;
-import javafx.scene.layout.VBox;
 import javafx.stage.Stage;
+import javafx.util.Duration;
 import jung.exceptions.JungException;
+import jung.reminder.ReminderScheduler;
+import jung.server.CommandEngine;
+import jung.task.Task;
 import jung.util.CommandResult;
 
 /**
  * Controller for the main GUI window.
  * Manages user interactions and displays conversation between user and Jung.
+ * Commands run on a {@link CommandEngine} writer thread, never on the JavaFX application thread,
+ * so the window stays responsive during saves; replies are shown in the order commands were typed.
+ * Reminders of deadlines and events coming up are shown in the conversation as they come due.
  */
 public class MainWindow extends AnchorPane {
     @FXML
-    private ScrollPane scrollPane;
-    @FXML
-    private VBox dialogContainer;
+    private ConversationView conversationView;
     @FXML
     private TextField userInput;
     @FXML
     private Button sendButton;
 
+    private static final String DEFAULT_PROMPT = "Type your command here... (e.g., todo buy groceries)";
+    private static final Duration FAREWELL_DELAY = Duration.millis(1500);
+    private static final String UNEXPECTED_ERROR_MESSAGE = "Alamak, something went wrong sia! Try again?";
+    private static final String REMINDER_HEADER = "Oi, don't say I never remind you ah! Coming up soon:";
+
     private Jung jung;
+    private CommandEngine engine;
+    private ReminderScheduler reminders;
+    private int pendingCommands;
+    private boolean isClosing;
     private Image userImage = new Image(this.getClass().getResourceAsStream("/images/user.jpg"));
     private Image jungImage = new Image(this.getClass().getResourceAsStream("/images/jung.jpg"));
-    private ChangeListener<Number> scrollListener;
 
     /**
-     * Initializes the GUI components and sets up auto-scrolling behavior.
+     * Initializes the GUI components.
      */
     @FXML
     public void initialize() {
         loadImages();
-        setupScrollPane();
+        conversationView.setImages(userImage, jungImage);
         setupInputField();
         setupSendButton();
-        applyStyles();
     }
 
     /**
@@ -81,33 +92,11 @@ public class MainWindow extends AnchorPane {
         return new Image("data:image/png;base64,iVBORw0KGgoAAAANSUhEUgAAAAEAAAABCAYAAAAfFcSJAAAADUlEQVR42mP8/5+hHgAHggJ/PchI7wAAAABJRU5ErkJggg==");
     }
 
-    /**
-     * Sets up the scroll pane with proper auto-scrolling that doesn't conflict with binding.
-     */
-    private void setupScrollPane() {
-        scrollPane.setFitToWidth(true);
-        scrollPane.setHbarPolicy(ScrollPane.ScrollBarPolicy.NEVER);
-        scrollPane.setVbarPolicy(ScrollPane.ScrollBarPolicy.AS_NEEDED);
-
-        // Remove the problematic binding and use a listener instead
-        scrollListener = (observable, oldValue, newValue) -> {
-            // Auto-scroll to bottom when content height changes
-            Platform.runLater(() -> {
-                scrollPane.setVvalue(1.0);
-            });
-        };
-
-        dialogContainer.heightProperty().addListener(scrollListener);
-    }
-
-    /**
-     * Sets up the input field with better UX features.
-     */
     /**
      * Sets up the input field with better UX features.
      */
     private void setupInputField() {
-        userInput.setPromptText("Type your command here... (e.g., todo buy groceries)");
+        userInput.setPromptText(DEFAULT_PROMPT);
 
         // Add focus listener to clear error styling when user starts typing
         userInput.textProperty().addListener((observable, oldValue, newValue) -> {
@@ -134,79 +123,6 @@ public class MainWindow extends AnchorPane {
         sendButton.getStyleClass().add("send-button");
     }
 
-    /**
-     * Applies custom CSS styles with better error handling.
-     */
-    private void applyStyles() {
-        try {
-            String css = """
-                .root {
-                    -fx-base: #ffffff;
-                    -fx-background-color: #f8f9fa;
-                    -fx-font-family: 'Segoe UI', system-ui, sans-serif;
-                    -fx-font-size: 13px;
-                }
-                
-                .text-field {
-                    -fx-background-color: white;
-                    -fx-border-color: #ced4da;
-                    -fx-border-width: 1.5px;
-                    -fx-border-radius: 10px;
-                    -fx-background-radius: 10px;
-                    -fx-padding: 12px 16px;
-                    -fx-font-size: 14px;
-                    -fx-prompt-text-fill: #6c757d;
-                    -fx-text-fill: #495057;
-                }
-                
-                .text-field:focused {
-                    -fx-border-color: #ed1c24;
-                    -fx-background-color: #ffffff;
-                }
-                
-                .text-field.error {
-                    -fx-border-color: #dc3545;
-                    -fx-background-color: #fff8f8;
-                }
-                
-                .send-button {
-                    -fx-background-color: #ed1c24;
-                    -fx-text-fill: white;
-                    -fx-border-radius: 10px;
-                    -fx-background-radius: 10px;
-                    -fx-padding: 12px 24px;
-                    -fx-font-size: 14px;
-                    -fx-font-weight: bold;
-                    -fx-cursor: hand;
-                }
-                
-                .send-button:hover {
-                    -fx-background-color: #c41e3a;
-                }
-                
-                .send-button:pressed {
-                    -fx-background-color: #a01729;
-                }
-                
-                .send-button:disabled {
-                    -fx-background-color: #6c757d;
-                    -fx-text-fill: rgba(255, 255, 255, 0.7);
-                }
-                
-                .dialog-container {
-                    -fx-spacing: 12px;
-                    -fx-padding: 20px;
-                    -fx-background-color: transparent;
-                }
-                """;
-
-            this.setStyle(css);
-            dialogContainer.getStyleClass().add("dialog-container");
-
-        } catch (Exception e) {
-            System.out.println("Warning: Could not apply custom styling: " + e.getMessage());
-        }
-    }
     /**
      * Injects the Jung chatbot instance and displays the welcome message.
      *
@@ -216,14 +132,41 @@ public class MainWindow extends AnchorPane {
     public void setJung(Jung jungInstance) throws IOException {
         this.jung = jungInstance;
         showInitializationMessages();
+        this.engine = new CommandEngine(jung);
+        startReminders();
+    }
+
+    /**
+     * Starts reminding the user of deadlines and events coming up, for as long as the window is open.
+     */
+    private void startReminders() {
+        reminders = new ReminderScheduler();
+        reminders.attach(jung.getTaskList());
+        reminders.start(this::showReminder);
+    }
+
+    /**
+     * Shows a reminder of a task coming up. Called on the reminder thread.
+     */
+    private void showReminder(Task task) {
+        ChatMessage reminder = ChatMessage.fromJung(REMINDER_HEADER + "\n  " + task, false);
+        Platform.runLater(() -> {
+            if (!isClosing) {
+                conversationView.addMessage(reminder);
+            }
+        });
     }
 
     /**
      * Handles user input when the send button is pressed or Enter is hit.
-     * Processes the command and updates the dialog display.
+     * Queues the command and returns at once; the reply is shown when the command finishes,
+     * and the user can keep typing commands in the meantime.
      */
     @FXML
     private void handleUserInput() {
+        if (isClosing) {
+            return;
+        }
         String userInputText = getUserInputText();
 
         if (userInputText.trim().isEmpty()) {
@@ -231,20 +174,14 @@ public class MainWindow extends AnchorPane {
             return;
         }
 
-        // Disable input while processing
-        setInputEnabled(false);
+        conversationView.addMessage(ChatMessage.fromUser(userInputText));
+        pendingCommands++;
+        updateQueueFeedback();
 
-        // Process command
-        CommandResult result = processUserCommand(userInputText);
-        displayConversation(userInputText, result);
-        handlePostCommandActions(result);
-
-        // Re-enable input
-        setInputEnabled(true);
+        engine.submitInOrder(userInputText).handle(this::deliverReply);
         userInput.requestFocus();
     }
 
-
     /**
      * Gets the current user input and clears the input field.
      */
@@ -255,45 +192,67 @@ public class MainWindow extends AnchorPane {
     }
 
     /**
-     * Processes the user command and returns the result.
+     * Renders the reply to a finished command and hands it to the JavaFX thread to show.
+     * Every command gets exactly one reply, even if rendering it fails, so the queue count stays right.
      */
-    private CommandResult processUserCommand(String input) {
+    private Void deliverReply(CommandResult result, Throwable error) {
+        ChatMessage reply;
+        boolean shouldExit = false;
         try {
-            return jung.processCommand(input);
-        } catch (JungException e) {
-            return new CommandResult("Aiyo! " + e.getMessage(), false, true);
-        } catch (IOException e) {
-            return new CommandResult("Wah lau, got problem saving your data leh! " + e.getMessage(), false, true);
-        } catch (Exception e) {
-            return new CommandResult("Alamak, something went wrong sia! Try again?", false, true);
+            CommandResult shown = toCommandResult(result, error);
+            // Render any task listing here, on the writer thread, rather than on the JavaFX thread
+            reply = ChatMessage.fromJung(shown.getMessage(), shown.isError());
+            shouldExit = shown.shouldExit();
+        } catch (RuntimeException e) {
+            reply = ChatMessage.fromJung(UNEXPECTED_ERROR_MESSAGE, true);
         }
+        ChatMessage finalReply = reply;
+        boolean isExiting = shouldExit;
+        Platform.runLater(() -> showReply(finalReply, isExiting));
+        return null;
     }
 
     /**
-     * Displays both user input and Jung's response in the dialog container.
+     * Turns the outcome of a queued command into the result to show, mapping failures to friendly messages.
      */
-    private void displayConversation(String userInput, CommandResult result) {
-        try {
-            DialogBox userDialog = DialogBox.getUserDialog(userInput, userImage);
-            DialogBox jungDialog = DialogBox.getJungDialog(result.getMessage(), jungImage, result.isError());
+    private CommandResult toCommandResult(CommandResult result, Throwable error) {
+        if (error == null) {
+            return result;
+        }
 
-            dialogContainer.getChildren().addAll(userDialog, jungDialog);
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause instanceof JungException) {
+            return new CommandResult("Aiyo! " + cause.getMessage(), false, true);
+        } else if (cause instanceof IOException) {
+            return new CommandResult("Wah lau, got problem saving your data leh! " + cause.getMessage(), false, true);
+        } else {
+            return new CommandResult(UNEXPECTED_ERROR_MESSAGE, false, true);
+        }
+    }
 
-            // Scroll to bottom after a brief delay to allow layout
-            Platform.runLater(() -> {
-                try {
-                    scrollPane.setVvalue(1.0);
-                } catch (Exception e) {
-                    // Ignore scroll errors - not critical
-                }
-            });
+    /**
+     * Shows Jung's reply to the oldest queued command. Runs on the JavaFX application thread.
+     */
+    private void showReply(ChatMessage reply, boolean shouldExit) {
+        pendingCommands--;
+        conversationView.addMessage(reply);
+        updateQueueFeedback();
+        handlePostCommandActions(shouldExit);
+    }
 
-        } catch (Exception e) {
-            System.err.println("Error displaying conversation: " + e.getMessage());
+    /**
+     * Tells the user how many commands are still waiting for a reply.
+     */
+    private void updateQueueFeedback() {
+        if (pendingCommands == 0) {
+            sendButton.setText("Send");
+            userInput.setPromptText(DEFAULT_PROMPT);
+        } else {
+            sendButton.setText("Send (" + pendingCommands + ")");
+            userInput.setPromptText("Jung still doing " + pendingCommands + " command(s), can keep typing...");
         }
     }
 
-
     /**
      * Shows visual feedback for empty input error.
      */
@@ -311,8 +270,9 @@ public class MainWindow extends AnchorPane {
      * Clears the error state from the input field.
      */
     private void clearInputErrorState() {
-        userInput.getStyleClass().remove("error");
-        userInput.setPromptText("Type your command here... (e.g., todo buy groceries)");
+        if (userInput.getStyleClass().remove("error")) {
+            updateQueueFeedback();
+        }
     }
 
     /**
@@ -321,27 +281,20 @@ public class MainWindow extends AnchorPane {
     private void setInputEnabled(boolean enabled) {
         userInput.setDisable(!enabled);
         sendButton.setDisable(!enabled);
-
-        if (enabled) {
-            sendButton.setText("Send");
-        } else {
-            sendButton.setText("...");
-        }
     }
 
     /**
      * Handles any post-command actions like application exit.
+     * The window closes after a pause that gives time to read the farewell message,
+     * without blocking the JavaFX application thread.
      */
-    private void handlePostCommandActions(CommandResult result) {
-        if (result.shouldExit()) {
-            Platform.runLater(() -> {
-                try {
-                    Thread.sleep(1500); // Give time to read farewell message
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                }
-                closeApplication();
-            });
+    private void handlePostCommandActions(boolean shouldExit) {
+        if (shouldExit && !isClosing) {
+            isClosing = true;
+            setInputEnabled(false);
+            PauseTransition farewellPause = new PauseTransition(FAREWELL_DELAY);
+            farewellPause.setOnFinished(event -> closeApplication());
+            farewellPause.play();
         }
     }
 
@@ -353,13 +306,11 @@ public class MainWindow extends AnchorPane {
         String welcomeMessage = jung.getWelcomeMessage();
 
         // Show welcome message
-        DialogBox welcomeDialog = DialogBox.getJungDialog(welcomeMessage, jungImage, false);
-        dialogContainer.getChildren().add(welcomeDialog);
+        conversationView.addMessage(ChatMessage.fromJung(welcomeMessage, false));
 
         // Show any initialization errors
         if (!initResult.isEmpty()) {
-            DialogBox errorDialog = DialogBox.getJungDialog(initResult, jungImage, true);
-            dialogContainer.getChildren().add(errorDialog);
+            conversationView.addMessage(ChatMessage.fromJung(initResult, true));
         }
 
         // Focus on input field
@@ -370,16 +321,23 @@ public class MainWindow extends AnchorPane {
      * Closes the application window.
      */
     private void closeApplication() {
+        cleanup();
         Stage stage = (Stage) userInput.getScene().getWindow();
         stage.close();
     }
 
     /**
-     * Cleanup method to prevent memory leaks.
+     * Cleanup method that stops reminders, lets queued commands finish and removes the on-disk chat history.
      */
     public void cleanup() {
-        if (scrollListener != null && dialogContainer != null) {
-            dialogContainer.heightProperty().removeListener(scrollListener);
+        if (reminders != null) {
+            reminders.close();
+        }
+        if (engine != null) {
+            engine.close();
+        }
+        if (conversationView != null) {
+            conversationView.close();
         }
     }
 }
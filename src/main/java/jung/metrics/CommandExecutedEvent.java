@@ -0,0 +1,39 @@
+package jung.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event emitted once per command processed by the engine.
+ */
+@Name("jung.CommandExecuted")
+@Label("Command Executed")
+@Category({"Jung", "Commands"})
+@Description("Parsing and execution of one user command")
+public class CommandExecutedEvent extends Event {
+
+    @Label("Command Word")
+    private String commandWord;
+
+    @Label("Task Count")
+    @Description("Number of tasks in the list after the command")
+    private int taskCount;
+
+    @Label("Succeeded")
+    private boolean isSuccessful;
+
+    public void setCommandWord(String commandWord) {
+        this.commandWord = commandWord;
+    }
+
+    public void setTaskCount(int taskCount) {
+        this.taskCount = taskCount;
+    }
+
+    public void setSuccessful(boolean isSuccessful) {
+        this.isSuccessful = isSuccessful;
+    }
+}
@@ -0,0 +1,211 @@
+package jung.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Records per-command latency, allocation and storage I/O metrics.
+ * Recording is off by default (enable with {@code -Djung.metrics=true}, the {@code stats on}
+ * command or JMX); while off, every recording call returns after a single volatile read.
+ */
+public class CommandMetrics implements CommandMetricsMXBean {
+
+    private static final CommandMetrics INSTANCE = new CommandMetrics();
+    private static final String MBEAN_NAME = "jung:type=CommandMetrics";
+    private static final double NANOS_PER_MICRO = 1_000.0;
+
+    private final Map<String, CommandStats> commandStats = new ConcurrentHashMap<>();
+    private final LatencyHistogram parseLatency = new LatencyHistogram();
+    private final LatencyHistogram saveLatency = new LatencyHistogram();
+    private final LatencyHistogram loadLatency = new LatencyHistogram();
+    private final AtomicLong bytesWritten = new AtomicLong();
+    private final AtomicLong bytesRead = new AtomicLong();
+    private final com.sun.management.ThreadMXBean threadBean = findAllocationTrackingBean();
+    private volatile boolean isEnabled = Boolean.getBoolean("jung.metrics");
+    private boolean isRegistered = false;
+
+    /**
+     * Gets the application-wide metrics recorder.
+     *
+     * @return Shared metrics instance
+     */
+    public static CommandMetrics getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Registers this recorder with the platform MBean server, once.
+     * Failures are reported and otherwise ignored, since metrics are optional.
+     */
+    public synchronized void registerMBean() {
+        if (isRegistered) {
+            return;
+        }
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(MBEAN_NAME);
+            if (!server.isRegistered(name)) {
+                server.registerMBean(this, name);
+            }
+            isRegistered = true;
+        } catch (JMException | SecurityException e) {
+            System.err.println("Warning: Could not register metrics MBean: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return isEnabled;
+    }
+
+    @Override
+    public void setEnabled(boolean enabled) {
+        this.isEnabled = enabled;
+    }
+
+    /**
+     * Gets the bytes allocated so far by the current thread, if the JVM supports tracking it.
+     *
+     * @return Allocated bytes, or 0 when recording is off or unsupported
+     */
+    public long currentThreadAllocatedBytes() {
+        if (!isEnabled || threadBean == null) {
+            return 0;
+        }
+        return threadBean.getCurrentThreadAllocatedBytes();
+    }
+
+    /**
+     * Records how long parsing one command took.
+     *
+     * @param nanos Parse duration in nanoseconds
+     */
+    public void recordParse(long nanos) {
+        if (isEnabled) {
+            parseLatency.record(nanos);
+        }
+    }
+
+    /**
+     * Records one command execution.
+     *
+     * @param commandWord Command word the user typed, such as {@code list}
+     * @param nanos Execution duration in nanoseconds
+     * @param allocatedBytes Bytes allocated by the executing thread during the command
+     */
+    public void recordExecute(String commandWord, long nanos, long allocatedBytes) {
+        if (isEnabled) {
+            CommandStats stats = commandStats.computeIfAbsent(commandWord, word -> new CommandStats());
+            stats.latency.record(nanos);
+            stats.allocatedBytes.addAndGet(Math.max(0, allocatedBytes));
+        }
+    }
+
+    /**
+     * Records one storage save.
+     *
+     * @param nanos Save duration in nanoseconds
+     * @param bytes Bytes written
+     */
+    public void recordSave(long nanos, long bytes) {
+        if (isEnabled) {
+            saveLatency.record(nanos);
+            bytesWritten.addAndGet(bytes);
+        }
+    }
+
+    /**
+     * Records one storage load.
+     *
+     * @param nanos Load duration in nanoseconds
+     * @param bytes Bytes read
+     */
+    public void recordLoad(long nanos, long bytes) {
+        if (isEnabled) {
+            loadLatency.record(nanos);
+            bytesRead.addAndGet(bytes);
+        }
+    }
+
+    @Override
+    public long getCommandCount() {
+        long total = 0;
+        for (CommandStats stats : commandStats.values()) {
+            total += stats.latency.getCount();
+        }
+        return total;
+    }
+
+    @Override
+    public long getSaveCount() {
+        return saveLatency.getCount();
+    }
+
+    @Override
+    public long getStorageBytesWritten() {
+        return bytesWritten.get();
+    }
+
+    @Override
+    public String getReport() {
+        StringBuilder report = new StringBuilder();
+        for (Map.Entry<String, CommandStats> entry : new TreeMap<>(commandStats).entrySet()) {
+            CommandStats stats = entry.getValue();
+            long count = stats.latency.getCount();
+            report.append(formatLatency(entry.getKey(), stats.latency))
+                    .append(String.format(", ~%d B alloc/cmd", count == 0 ? 0 : stats.allocatedBytes.get() / count))
+                    .append("\n");
+        }
+        report.append(formatLatency("parse", parseLatency)).append("\n");
+        report.append(formatLatency("save", saveLatency))
+                .append(String.format(", %d B written", bytesWritten.get())).append("\n");
+        report.append(formatLatency("load", loadLatency))
+                .append(String.format(", %d B read", bytesRead.get()));
+        return report.toString();
+    }
+
+    @Override
+    public void reset() {
+        commandStats.clear();
+        parseLatency.reset();
+        saveLatency.reset();
+        loadLatency.reset();
+        bytesWritten.set(0);
+        bytesRead.set(0);
+    }
+
+    private static String formatLatency(String name, LatencyHistogram histogram) {
+        return String.format("%s: %d calls, p50 %.1f us, p99 %.1f us, p999 %.1f us, max %.1f us",
+                name, histogram.getCount(),
+                histogram.getValueAtPercentile(0.50) / NANOS_PER_MICRO,
+                histogram.getValueAtPercentile(0.99) / NANOS_PER_MICRO,
+                histogram.getValueAtPercentile(0.999) / NANOS_PER_MICRO,
+                histogram.getMax() / NANOS_PER_MICRO);
+    }
+
+    private static com.sun.management.ThreadMXBean findAllocationTrackingBean() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean allocationBean = (com.sun.management.ThreadMXBean) bean;
+            if (allocationBean.isThreadAllocatedMemorySupported()) {
+                allocationBean.setThreadAllocatedMemoryEnabled(true);
+                return allocationBean;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Latency and allocation totals for one command word.
+     */
+    private static class CommandStats {
+        private final LatencyHistogram latency = new LatencyHistogram();
+        private final AtomicLong allocatedBytes = new AtomicLong();
+    }
+}
@@ -0,0 +1,54 @@
+package jung.metrics;
+
+/**
+ * JMX view of the command metrics, registered as {@code jung:type=CommandMetrics}.
+ */
+public interface CommandMetricsMXBean {
+
+    /**
+     * Checks whether metrics are being recorded.
+     *
+     * @return true if recording is on
+     */
+    boolean isEnabled();
+
+    /**
+     * Turns metric recording on or off.
+     *
+     * @param enabled true to start recording
+     */
+    void setEnabled(boolean enabled);
+
+    /**
+     * Gets the number of commands executed while recording.
+     *
+     * @return Executed command count
+     */
+    long getCommandCount();
+
+    /**
+     * Gets the number of storage saves while recording.
+     *
+     * @return Save count
+     */
+    long getSaveCount();
+
+    /**
+     * Gets the total bytes written to storage while recording.
+     *
+     * @return Bytes written
+     */
+    long getStorageBytesWritten();
+
+    /**
+     * Gets a human-readable report of all recorded metrics.
+     *
+     * @return Multi-line metrics report
+     */
+    String getReport();
+
+    /**
+     * Clears all recorded metrics.
+     */
+    void reset();
+}
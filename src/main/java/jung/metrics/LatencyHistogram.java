@@ -0,0 +1,121 @@
+package jung.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed-memory latency histogram with log-linear buckets, in the style of HdrHistogram.
+ * Values below 64 are counted exactly; larger values fall into 32 sub-buckets per power of two,
+ * which keeps reported percentiles within about 3% of the true value. Recording is lock-free.
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 6;
+    private static final int EXACT_LIMIT = 1 << SUB_BUCKET_BITS;
+    private static final int SUB_BUCKETS_PER_MAGNITUDE = EXACT_LIMIT / 2;
+    private static final int MAX_VALUE_BITS = 40;
+    private static final long MAX_TRACKABLE_VALUE = (1L << MAX_VALUE_BITS) - 1;
+    private static final int BUCKET_COUNT =
+            EXACT_LIMIT + (MAX_VALUE_BITS - SUB_BUCKET_BITS) * SUB_BUCKETS_PER_MAGNITUDE;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong totalCount = new AtomicLong();
+    private final AtomicLong totalValue = new AtomicLong();
+    private final AtomicLong maxValue = new AtomicLong();
+
+    /**
+     * Records one value. Negative values count as zero; values of about 18 minutes
+     * in nanoseconds or more are clamped to the largest trackable value.
+     *
+     * @param value Value to record, usually a duration in nanoseconds
+     */
+    public void record(long value) {
+        long clamped = Math.max(0, Math.min(value, MAX_TRACKABLE_VALUE));
+        counts.incrementAndGet(bucketIndex(clamped));
+        totalCount.incrementAndGet();
+        totalValue.addAndGet(clamped);
+        maxValue.accumulateAndGet(clamped, Math::max);
+    }
+
+    /**
+     * Gets the number of recorded values.
+     *
+     * @return Value count
+     */
+    public long getCount() {
+        return totalCount.get();
+    }
+
+    /**
+     * Gets the largest recorded value.
+     *
+     * @return Maximum value, or 0 if nothing was recorded
+     */
+    public long getMax() {
+        return maxValue.get();
+    }
+
+    /**
+     * Gets the mean of the recorded values.
+     *
+     * @return Mean value, or 0 if nothing was recorded
+     */
+    public double getMean() {
+        long count = totalCount.get();
+        return count == 0 ? 0 : (double) totalValue.get() / count;
+    }
+
+    /**
+     * Gets the value at a percentile, reported as the upper bound of its bucket.
+     *
+     * @param fraction Percentile as a fraction, such as 0.99 for p99
+     * @return Value at or below which the given fraction of values fall, or 0 if empty
+     */
+    public long getValueAtPercentile(double fraction) {
+        long count = totalCount.get();
+        if (count == 0) {
+            return 0;
+        }
+
+        long targetRank = Math.max(1, (long) Math.ceil(fraction * count));
+        long seen = 0;
+        for (int index = 0; index < BUCKET_COUNT; index++) {
+            seen += counts.get(index);
+            if (seen >= targetRank) {
+                return Math.min(bucketUpperBound(index), getMax());
+            }
+        }
+        return getMax();
+    }
+
+    /**
+     * Clears all recorded values.
+     */
+    public void reset() {
+        for (int index = 0; index < BUCKET_COUNT; index++) {
+            counts.set(index, 0);
+        }
+        totalCount.set(0);
+        totalValue.set(0);
+        maxValue.set(0);
+    }
+
+    private static int bucketIndex(long value) {
+        if (value < EXACT_LIMIT) {
+            return (int) value;
+        }
+        int magnitude = 64 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> magnitude);
+        return EXACT_LIMIT + (magnitude - 1) * SUB_BUCKETS_PER_MAGNITUDE + (subBucket - SUB_BUCKETS_PER_MAGNITUDE);
+    }
+
+    private static long bucketUpperBound(int index) {
+        if (index < EXACT_LIMIT) {
+            return index;
+        }
+        int offset = index - EXACT_LIMIT;
+        int magnitude = offset / SUB_BUCKETS_PER_MAGNITUDE + 1;
+        long subBucket = offset % SUB_BUCKETS_PER_MAGNITUDE + SUB_BUCKETS_PER_MAGNITUDE;
+        return ((subBucket + 1) << magnitude) - 1;
+    }
+}
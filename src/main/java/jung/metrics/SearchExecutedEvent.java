@@ -0,0 +1,38 @@
+package jung.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event emitted for every keyword search over the task list.
+ */
+@Name("jung.SearchExecuted")
+@Label("Search Executed")
+@Category({"Jung", "Commands"})
+@Description("Keyword search over task descriptions")
+public class SearchExecutedEvent extends Event {
+
+    @Label("Keyword Length")
+    private int keywordLength;
+
+    @Label("Matches")
+    private int matches;
+
+    @Label("Tasks Scanned")
+    private int scanned;
+
+    public void setKeywordLength(int keywordLength) {
+        this.keywordLength = keywordLength;
+    }
+
+    public void setMatches(int matches) {
+        this.matches = matches;
+    }
+
+    public void setScanned(int scanned) {
+        this.scanned = scanned;
+    }
+}
@@ -0,0 +1,31 @@
+package jung.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event emitted for every load of the task data file.
+ */
+@Name("jung.StorageLoad")
+@Label("Storage Load")
+@Category({"Jung", "Storage"})
+@Description("Read and parse of the task data file")
+public class StorageLoadEvent extends Event {
+
+    @Label("Lines Read")
+    private int lines;
+
+    @Label("Corrupted Lines")
+    private int corruptedCount;
+
+    public void setLines(int lines) {
+        this.lines = lines;
+    }
+
+    public void setCorruptedCount(int corruptedCount) {
+        this.corruptedCount = corruptedCount;
+    }
+}
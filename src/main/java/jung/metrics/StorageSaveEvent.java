@@ -0,0 +1,41 @@
+package jung.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event emitted for every full write of the task data file.
+ */
+@Name("jung.StorageSave")
+@Label("Storage Save")
+@Category({"Jung", "Storage"})
+@Description("Full rewrite of the task data file")
+public class StorageSaveEvent extends Event {
+
+    @Label("Bytes Written")
+    @DataAmount
+    private long bytes;
+
+    @Label("Lines Written")
+    private int lines;
+
+    @Label("Fsync")
+    @Description("Whether the write was forced to the storage device before returning")
+    private boolean isFsynced;
+
+    public void setBytes(long bytes) {
+        this.bytes = bytes;
+    }
+
+    public void setLines(int lines) {
+        this.lines = lines;
+    }
+
+    public void setFsynced(boolean isFsynced) {
+        this.isFsynced = isFsynced;
+    }
+}
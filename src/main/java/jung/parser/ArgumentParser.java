@@ -0,0 +1,21 @@
+package jung.parser;
+
+import jung.command.Command;
+import jung.exceptions.JungException;
+
+/**
+ * Builds a command from the arguments that follow its command word.
+ * Each command registers one of these with the {@link CommandRegistry}.
+ */
+@FunctionalInterface
+public interface ArgumentParser {
+
+    /**
+     * Parses the lexed input into a command.
+     *
+     * @param lexer Lexed user input, starting with the command word
+     * @return Command ready for execution
+     * @throws JungException If the arguments are missing or invalid
+     */
+    Command parse(CommandLexer lexer) throws JungException;
+}
@@ -0,0 +1,222 @@
+package jung.parser;
+
+/**
+ * Single-pass lexer for user commands.
+ * One sweep over the input trims it, collapses each run of whitespace into a single space,
+ * finds the end of the command word, records where the {@code /by}, {@code /from}, {@code /to}
+ * and {@code /every} keywords first appear, and spots the reserved {@code " | "} separator.
+ * No regular expressions are used, and when the input has no repeated or unusual whitespace
+ * the normalized text is the trimmed input itself, so no extra string is built.
+ */
+public final class CommandLexer {
+
+    private static final String BY_KEYWORD = "by";
+    private static final String FROM_KEYWORD = "from";
+    private static final String TO_KEYWORD = "to";
+    private static final String EVERY_KEYWORD = "every";
+
+    private final String trimmed;
+    private final String normalized;
+    private final int commandWordEnd;
+    private final int byIndex;
+    private final int fromIndex;
+    private final int toIndex;
+    private final int everyIndex;
+    private final boolean hasReservedSeparator;
+
+    private CommandLexer(String trimmed, String normalized, int commandWordEnd, int byIndex, int fromIndex,
+            int toIndex, int everyIndex, boolean hasReservedSeparator) {
+        this.trimmed = trimmed;
+        this.normalized = normalized;
+        this.commandWordEnd = commandWordEnd;
+        this.byIndex = byIndex;
+        this.fromIndex = fromIndex;
+        this.toIndex = toIndex;
+        this.everyIndex = everyIndex;
+        this.hasReservedSeparator = hasReservedSeparator;
+    }
+
+    /**
+     * Lexes a user command in a single pass.
+     *
+     * @param input Raw user input, not null
+     * @return Lexed command
+     */
+    public static CommandLexer lex(String input) {
+        int start = 0;
+        int end = input.length();
+        while (start < end && input.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && input.charAt(end - 1) <= ' ') {
+            end--;
+        }
+
+        StringBuilder collapsed = null;
+        int length = 0;
+        int commandWordEnd = -1;
+        int byIndex = -1;
+        int fromIndex = -1;
+        int toIndex = -1;
+        int everyIndex = -1;
+        boolean hasReservedSeparator = false;
+
+        for (int i = start; i < end; i++) {
+            char c = input.charAt(i);
+            if (isWhitespace(c)) {
+                int runEnd = i + 1;
+                while (runEnd < end && isWhitespace(input.charAt(runEnd))) {
+                    runEnd++;
+                }
+                if (commandWordEnd < 0) {
+                    commandWordEnd = length;
+                }
+                if (collapsed == null && (c != ' ' || runEnd - i > 1)) {
+                    // First run that is not already a single space: start building the normalized copy
+                    collapsed = new StringBuilder(end - start);
+                    collapsed.append(input, start, i);
+                }
+                if (collapsed != null) {
+                    collapsed.append(' ');
+                }
+                length++;
+                i = runEnd - 1;
+                continue;
+            }
+
+            if (c == '/') {
+                // Keywords hold no whitespace, so matching them in the raw input matches the normalized text
+                if (byIndex < 0 && input.startsWith(BY_KEYWORD, i + 1)) {
+                    byIndex = length;
+                }
+                if (fromIndex < 0 && input.startsWith(FROM_KEYWORD, i + 1)) {
+                    fromIndex = length;
+                }
+                if (toIndex < 0 && input.startsWith(TO_KEYWORD, i + 1)) {
+                    toIndex = length;
+                }
+                if (everyIndex < 0 && input.startsWith(EVERY_KEYWORD, i + 1)) {
+                    everyIndex = length;
+                }
+            } else if (c == '|' && i > 0 && i + 1 < input.length()
+                    && input.charAt(i - 1) == ' ' && input.charAt(i + 1) == ' ') {
+                hasReservedSeparator = true;
+            }
+            if (collapsed != null) {
+                collapsed.append(c);
+            }
+            length++;
+        }
+
+        String trimmed = input.substring(start, end);
+        String normalized = collapsed == null ? trimmed : collapsed.toString();
+        return new CommandLexer(trimmed, normalized, commandWordEnd < 0 ? length : commandWordEnd,
+                byIndex, fromIndex, toIndex, everyIndex, hasReservedSeparator);
+    }
+
+    /**
+     * Checks whether the input holds nothing but whitespace.
+     *
+     * @return True if there is no command at all
+     */
+    public boolean isEmpty() {
+        return trimmed.isEmpty();
+    }
+
+    /**
+     * Gets the command word, the first word of the input.
+     *
+     * @return Command word in lowercase
+     */
+    public String getCommandWord() {
+        return normalized.substring(0, commandWordEnd).toLowerCase();
+    }
+
+    /**
+     * Gets the length of the command word, which is also where its arguments start.
+     *
+     * @return Command word length
+     */
+    public int getCommandWordLength() {
+        return commandWordEnd;
+    }
+
+    /**
+     * Gets everything after the command word with its original spacing, trimmed.
+     * Used by commands such as {@code find} whose argument is taken exactly as typed.
+     *
+     * @return Raw argument, or an empty string if there is none
+     */
+    public String getRawArgument() {
+        return trimmed.substring(commandWordEnd).trim();
+    }
+
+    /**
+     * Gets everything after the command word with whitespace runs collapsed to single spaces.
+     *
+     * @return Normalized argument, or an empty string if there is none
+     */
+    public String getNormalizedArgument() {
+        return commandWordEnd < normalized.length() ? normalized.substring(commandWordEnd + 1) : "";
+    }
+
+    public String getTrimmed() {
+        return trimmed;
+    }
+
+    public String getNormalized() {
+        return normalized;
+    }
+
+    /**
+     * Gets where {@code /by} first appears in the normalized text.
+     *
+     * @return Index into {@link #getNormalized()}, or -1 if absent
+     */
+    public int getByIndex() {
+        return byIndex;
+    }
+
+    /**
+     * Gets where {@code /from} first appears in the normalized text.
+     *
+     * @return Index into {@link #getNormalized()}, or -1 if absent
+     */
+    public int getFromIndex() {
+        return fromIndex;
+    }
+
+    /**
+     * Gets where {@code /to} first appears in the normalized text.
+     *
+     * @return Index into {@link #getNormalized()}, or -1 if absent
+     */
+    public int getToIndex() {
+        return toIndex;
+    }
+
+    /**
+     * Gets where {@code /every} first appears in the normalized text.
+     *
+     * @return Index into {@link #getNormalized()}, or -1 if absent
+     */
+    public int getEveryIndex() {
+        return everyIndex;
+    }
+
+    /**
+     * Checks whether the raw input contains the reserved {@code " | "} separator used by the data file.
+     *
+     * @return True if the separator appears anywhere in the input
+     */
+    public boolean hasReservedSeparator() {
+        return hasReservedSeparator;
+    }
+
+    /**
+     * Checks for the whitespace characters that {@code \s} matches in a regular expression.
+     */
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+}
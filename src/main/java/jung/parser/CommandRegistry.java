@@ -0,0 +1,181 @@
+package jung.parser;
+
+import java.util.Set;
+import java.util.TreeSet;
+import jung.exceptions.JungException;
+import jung.util.ErrorMessages;
+
+/**
+ * Dispatch table from command words to their argument parsers, kept as a prefix trie over a-z.
+ * Every node remembers which command, if only one, can be reached through it, so full words,
+ * aliases and unambiguous prefixes (such as {@code dea} for {@code deadline}) all resolve with
+ * one step per character, however many commands are registered.
+ * Register commands at startup, before any input is parsed.
+ */
+public class CommandRegistry {
+
+    private static final int ALPHABET_SIZE = 26;
+
+    private final Node root = new Node();
+
+    /**
+     * Registers a command that can also be typed as any unambiguous prefix of its word or as an alias.
+     *
+     * @param commandWord Full command word, in lowercase letters
+     * @param parser Parser for the command's arguments
+     * @param aliases Extra words that resolve to exactly this command
+     * @throws IllegalArgumentException If a word is not lowercase letters or is already registered
+     */
+    public synchronized void register(String commandWord, ArgumentParser parser, String... aliases) {
+        Registration registration = new Registration(commandWord, parser, true);
+        Node node = root;
+        for (int i = 0; i < commandWord.length(); i++) {
+            node = node.childFor(commandWord, i);
+            node.addPrefixMatch(registration);
+        }
+        node.setExact(commandWord, registration);
+
+        for (String alias : aliases) {
+            registerExactWord(alias, registration);
+        }
+    }
+
+    /**
+     * Registers a command that only runs when its full word is typed, for commands too drastic
+     * to trigger by a prefix, such as {@code bye}.
+     *
+     * @param commandWord Full command word, in lowercase letters
+     * @param parser Parser for the command's arguments
+     * @throws IllegalArgumentException If the word is not lowercase letters or is already registered
+     */
+    public synchronized void registerExactOnly(String commandWord, ArgumentParser parser) {
+        registerExactWord(commandWord, new Registration(commandWord, parser, false));
+    }
+
+    /**
+     * Finds the parser for a typed command word, alias or unambiguous prefix.
+     *
+     * @param word Command word as typed, in lowercase
+     * @return Parser for the matching command
+     * @throws JungException If no command matches, or a prefix matches more than one command
+     */
+    public ArgumentParser resolve(String word) throws JungException {
+        Node node = find(word);
+        if (node == null) {
+            throw new JungException(ErrorMessages.UNKNOWN_COMMAND);
+        }
+        Registration registration = node.match();
+        if (registration != null) {
+            return registration.parser;
+        }
+        if (node.isAmbiguous) {
+            throw new JungException(String.format(ErrorMessages.AMBIGUOUS_COMMAND, word,
+                    String.join(" or ", collectCommandWords(node, new TreeSet<>()))));
+        }
+        throw new JungException(ErrorMessages.UNKNOWN_COMMAND);
+    }
+
+    /**
+     * Gets the full command word that a typed word, alias or prefix stands for.
+     *
+     * @param word Command word as typed, in lowercase
+     * @return Full command word, or null if the word matches no single command
+     */
+    public String findCommandWord(String word) {
+        Node node = find(word);
+        Registration registration = node == null ? null : node.match();
+        return registration == null ? null : registration.commandWord;
+    }
+
+    private void registerExactWord(String word, Registration registration) {
+        Node node = root;
+        for (int i = 0; i < word.length(); i++) {
+            node = node.childFor(word, i);
+        }
+        node.setExact(word, registration);
+    }
+
+    private Node find(String word) {
+        if (word.isEmpty()) {
+            return null;
+        }
+        Node node = root;
+        for (int i = 0; i < word.length() && node != null; i++) {
+            int slot = word.charAt(i) - 'a';
+            node = slot >= 0 && slot < ALPHABET_SIZE ? node.children[slot] : null;
+        }
+        return node;
+    }
+
+    private static Set<String> collectCommandWords(Node node, Set<String> commandWords) {
+        if (node.exact != null && node.exact.isPrefixMatchable) {
+            commandWords.add(node.exact.commandWord);
+        }
+        for (Node child : node.children) {
+            if (child != null) {
+                collectCommandWords(child, commandWords);
+            }
+        }
+        return commandWords;
+    }
+
+    /**
+     * A registered command.
+     */
+    private static class Registration {
+        private final String commandWord;
+        private final ArgumentParser parser;
+        private final boolean isPrefixMatchable;
+
+        Registration(String commandWord, ArgumentParser parser, boolean isPrefixMatchable) {
+            this.commandWord = commandWord;
+            this.parser = parser;
+            this.isPrefixMatchable = isPrefixMatchable;
+        }
+    }
+
+    /**
+     * One trie node, standing for the word or prefix spelled by the path to it.
+     */
+    private static class Node {
+        private final Node[] children = new Node[ALPHABET_SIZE];
+        private Registration exact;
+        private Registration onlyPrefixMatch;
+        private boolean isAmbiguous;
+
+        Node childFor(String word, int index) {
+            char c = word.charAt(index);
+            if (c < 'a' || c > 'z') {
+                throw new IllegalArgumentException("Command words must be lowercase letters: " + word);
+            }
+            int slot = c - 'a';
+            if (children[slot] == null) {
+                children[slot] = new Node();
+            }
+            return children[slot];
+        }
+
+        void setExact(String word, Registration registration) {
+            if (word.isEmpty() || exact != null) {
+                throw new IllegalArgumentException("Command word already registered or empty: '" + word + "'");
+            }
+            exact = registration;
+        }
+
+        void addPrefixMatch(Registration registration) {
+            if (isAmbiguous || onlyPrefixMatch == registration) {
+                return;
+            }
+            if (onlyPrefixMatch == null) {
+                onlyPrefixMatch = registration;
+            } else {
+                onlyPrefixMatch = null;
+                isAmbiguous = true;
+            }
+        }
+
+        Registration match() {
+            return exact != null ? exact : onlyPrefixMatch;
+        }
+    }
+}
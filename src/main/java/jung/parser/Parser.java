@@ -7,6 +7,9 @@ import jung.util.ErrorMessages;
 /**
  * Parser responsible for converting user input strings into executable Command objects.
  * Handles command validation, parameter extraction, and command instantiation.
+ * Input is lexed once by {@link CommandLexer}; no regular expressions run while parsing.
+ * Command words are dispatched through a {@link CommandRegistry}, so each command can also be
+ * typed as an unambiguous prefix or an alias such as {@code dl}, {@code ev} or {@code del}.
  */
 public class Parser {
 
@@ -21,17 +24,55 @@ public class Parser {
     private static final String CMD_DELETE = "delete";
     private static final String CMD_FIND = "find";
     private static final String CMD_UNDO = "undo";
-
-    // Command length constants
-    private static final int TODO_COMMAND_LENGTH = 4;
-    private static final int DEADLINE_COMMAND_LENGTH = 8;
-    private static final int EVENT_COMMAND_LENGTH = 5;
-    private static final int FIND_COMMAND_LENGTH = 4;
+    private static final String CMD_STATS = "stats";
+    private static final String CMD_IMPORT = "import";
+    private static final String CMD_EXPORT = "export";
+    private static final String CMD_DUE = "due";
+    private static final String CMD_CONFLICTS = "conflicts";
+    private static final String CMD_ARCHIVE = "archive";
+
+    // Command alias constants
+    private static final String ALIAS_DEADLINE = "dl";
+    private static final String ALIAS_EVENT = "ev";
+    private static final String ALIAS_DELETE = "del";
 
     // Keyword constants
     private static final String DEADLINE_KEYWORD = "/by";
     private static final String EVENT_FROM_KEYWORD = "/from";
     private static final String EVENT_TO_KEYWORD = "/to";
+    private static final String REPEAT_KEYWORD = "/every";
+    private static final String ARCHIVE_FIND_KEYWORD = "find";
+
+    private static final int MAX_INPUT_LENGTH = 500;
+
+    private static final CommandRegistry COMMANDS = createRegistry();
+
+    /**
+     * Registers every built-in command with its argument parser.
+     */
+    private static CommandRegistry createRegistry() {
+        CommandRegistry registry = new CommandRegistry();
+        registry.registerExactOnly(CMD_BYE, lexer -> new ExitCommand());
+        registry.register(CMD_LIST, Parser::createListCommand);
+        registry.register(CMD_TODO, Parser::createTodoCommand);
+        registry.register(CMD_DEADLINE, Parser::createDeadlineCommand, ALIAS_DEADLINE);
+        registry.register(CMD_EVENT, Parser::createEventCommand, ALIAS_EVENT);
+        registry.register(CMD_MARK, lexer -> createModifyCommand(ModifyTaskCommand.Action.MARK, lexer));
+        registry.register(CMD_UNMARK, lexer -> createModifyCommand(ModifyTaskCommand.Action.UNMARK, lexer));
+        registry.register(CMD_DELETE, lexer -> createModifyCommand(ModifyTaskCommand.Action.DELETE, lexer),
+                ALIAS_DELETE);
+        registry.register(CMD_FIND, Parser::createFindCommand);
+        registry.register(CMD_UNDO, lexer -> new UndoCommand());
+        registry.register(CMD_STATS, Parser::createStatsCommand);
+        registry.register(CMD_IMPORT, Parser::createImportCommand);
+        // Exact only: export overwrites files, and 'e' should keep meaning event
+        registry.registerExactOnly(CMD_EXPORT, Parser::createExportCommand);
+        registry.register(CMD_DUE, Parser::createDueCommand);
+        registry.register(CMD_CONFLICTS, Parser::createConflictsCommand);
+        // Exact only: archiving cannot be undone
+        registry.registerExactOnly(CMD_ARCHIVE, Parser::createArchiveCommand);
+        return registry;
+    }
 
     /**
      * Parses user input into an appropriate Command instance.
@@ -42,93 +83,103 @@ public class Parser {
      * @throws JungException If input format is invalid or command is unknown
      */
     public static Command parse(String input) throws JungException {
-        validateInput(input);
+        if (input == null) {
+            throw new JungException(ErrorMessages.EMPTY_INPUT);
+        }
 
-        String trimmedInput = input.trim();
-        String commandWord = extractCommandWord(trimmedInput);
+        CommandLexer lexer = CommandLexer.lex(input);
+        validateInput(input, lexer);
 
-        return createCommand(commandWord, trimmedInput);
+        return COMMANDS.resolve(lexer.getCommandWord()).parse(lexer);
     }
 
     /**
-     * Validates that user input is not null or empty.
+     * Adds a command to the parser, so new commands need no change to the parser itself.
+     * Call this at startup, before any input is parsed.
      *
-     * @param input User input to validate
+     * @param commandWord Full command word, in lowercase letters
+     * @param parser Parser for the command's arguments
+     * @param aliases Extra words that run the same command
+     * @throws IllegalArgumentException If a word is not lowercase letters or is already taken
+     */
+    public static void registerCommand(String commandWord, ArgumentParser parser, String... aliases) {
+        COMMANDS.register(commandWord, parser, aliases);
+    }
+
+    /**
+     * Validates that user input is not empty, too long or using the reserved separator.
+     *
+     * @param input Raw user input
+     * @param lexer The same input, lexed
      * @throws JungException If input is invalid
      */
-    private static void validateInput(String input) throws JungException {
-        if (input == null || input.trim().isEmpty()) {
+    private static void validateInput(String input, CommandLexer lexer) throws JungException {
+        if (lexer.isEmpty()) {
             throw new JungException(ErrorMessages.EMPTY_INPUT);
         }
 
-        if (input.length() > 500) {
+        if (input.length() > MAX_INPUT_LENGTH) {
             throw new JungException("Wah, your command too long liao! Keep it shorter can?");
         }
 
-        if (input.contains(" | ") && !input.trim().toLowerCase().startsWith("find")) {
+        if (lexer.hasReservedSeparator() && !CMD_FIND.equals(COMMANDS.findCommandWord(lexer.getCommandWord()))) {
             throw new JungException("Cannot use ' | ' in your command lah! It's reserved!");
         }
     }
 
     /**
      * Extracts the command word (first word) from user input.
+     * Aliases and prefixes are expanded to the full command word they stand for.
      *
      * @param input Trimmed user input
      * @return The command word in lowercase
      */
-    private static String extractCommandWord(String input) {
-        String normalized = input.trim().replaceAll("\\s+", " ");
-        int firstSpaceIndex = normalized.indexOf(" ");
-        if (firstSpaceIndex == -1) {
-            return normalized.toLowerCase();
-        }
-        return normalized.substring(0, firstSpaceIndex).toLowerCase();
-    }
-    /**
-     * Creates the appropriate Command object based on the command word.
-     *
-     * @param commandWord The parsed command word
-     * @param fullInput The complete user input
-     * @return Command object ready for execution
-     * @throws JungException If command is unknown or has invalid format
-     */
-    private static Command createCommand(String commandWord, String fullInput) throws JungException {
-        switch (commandWord) {
-        case CMD_BYE:
-            return new ExitCommand();
-        case CMD_LIST:
-            return new ListCommand();
-        case CMD_TODO:
-            return createTodoCommand(fullInput);
-        case CMD_DEADLINE:
-            return createDeadlineCommand(fullInput);
-        case CMD_EVENT:
-            return createEventCommand(fullInput);
-        case CMD_MARK:
-            return createModifyCommand(ModifyTaskCommand.Action.MARK, fullInput);
-        case CMD_UNMARK:
-            return createModifyCommand(ModifyTaskCommand.Action.UNMARK, fullInput);
-        case CMD_DELETE:
-            return createModifyCommand(ModifyTaskCommand.Action.DELETE, fullInput);
-        case CMD_FIND:
-            return createFindCommand(fullInput);
-        case CMD_UNDO:
-            return new UndoCommand();
-        default:
-            throw new JungException(ErrorMessages.UNKNOWN_COMMAND);
+    public static String extractCommandWord(String input) {
+        String commandWord = CommandLexer.lex(input).getCommandWord();
+        String fullCommandWord = COMMANDS.findCommandWord(commandWord);
+        return fullCommandWord != null ? fullCommandWord : commandWord;
+    }
+
+    /**
+     * Creates a list command for the first page, the next page, or a numbered page.
+     *
+     * @param lexer Lexed list command input
+     * @return ListCommand for the requested page
+     * @throws JungException If the argument is not 'next' or 'page' with a positive number
+     */
+    private static Command createListCommand(CommandLexer lexer) throws JungException {
+        String argument = lexer.getRawArgument().toLowerCase();
+
+        if (argument.isEmpty()) {
+            return new ListCommand(ListCommand.Action.FIRST, 1);
+        }
+        if (argument.equals("next")) {
+            return new ListCommand(ListCommand.Action.NEXT, 0);
+        }
+        if (!argument.startsWith("page")) {
+            throw new JungException(ErrorMessages.INVALID_LIST_ARGUMENT);
+        }
+
+        try {
+            int pageNumber = Integer.parseInt(argument.substring("page".length()).trim());
+            if (pageNumber < 1) {
+                throw new JungException(ErrorMessages.INVALID_PAGE_NUMBER);
+            }
+            return new ListCommand(ListCommand.Action.PAGE, pageNumber);
+        } catch (NumberFormatException e) {
+            throw new JungException(ErrorMessages.INVALID_LIST_ARGUMENT);
         }
     }
 
     /**
      * Creates a todo command by extracting the task description.
      *
-     * @param input Full todo command input
+     * @param lexer Lexed todo command input
      * @return AddTodoCommand with the task description
      * @throws JungException If description is empty
      */
-    private static Command createTodoCommand(String input) throws JungException {
-        String normalized = input.trim().replaceAll("\\s+", " ");
-        String taskDescription = normalized.substring(TODO_COMMAND_LENGTH).trim();
+    private static Command createTodoCommand(CommandLexer lexer) throws JungException {
+        String taskDescription = lexer.getNormalizedArgument();
 
         if (taskDescription.isEmpty()) {
             throw new JungException(ErrorMessages.EMPTY_TODO_DESCRIPTION);
@@ -140,22 +191,24 @@ public class Parser {
     }
 
     /**
-     * Creates a deadline command by parsing description and deadline time.
+     * Creates a deadline command by parsing description, deadline time and an optional trailing repeat.
      *
-     * @param input Full deadline command input
-     * @return AddDeadlineCommand with description and deadline
+     * @param lexer Lexed deadline command input
+     * @return AddDeadlineCommand with description, deadline and repeat
      * @throws JungException If format is invalid or fields are missing
      */
-    private static Command createDeadlineCommand(String input) throws JungException {
-        String normalized = input.trim().replaceAll("\\s+", " ");
-        int deadlineKeywordIndex = normalized.indexOf(DEADLINE_KEYWORD);
+    private static Command createDeadlineCommand(CommandLexer lexer) throws JungException {
+        String normalized = lexer.getNormalized();
+        int deadlineKeywordIndex = lexer.getByIndex();
 
         if (deadlineKeywordIndex == -1) {
             throw new JungException(ErrorMessages.MISSING_DEADLINE_DATE);
         }
 
-        String taskDescription = normalized.substring(DEADLINE_COMMAND_LENGTH, deadlineKeywordIndex).trim();
-        String deadlineTime = normalized.substring(deadlineKeywordIndex + DEADLINE_KEYWORD.length()).trim();
+        int repeatIndex = findRepeatIndex(lexer, deadlineKeywordIndex);
+        String taskDescription = normalized.substring(lexer.getCommandWordLength(), deadlineKeywordIndex).trim();
+        String deadlineTime = normalized.substring(deadlineKeywordIndex + DEADLINE_KEYWORD.length(), repeatIndex)
+                .trim();
 
         if (taskDescription.isEmpty() || deadlineTime.isEmpty()) {
             throw new JungException(ErrorMessages.EMPTY_DEADLINE_FIELDS);
@@ -165,20 +218,20 @@ public class Parser {
             throw new JungException("Your task description too long lah! Keep it shorter!");
         }
 
-        return new AddDeadlineCommand(taskDescription, deadlineTime);
+        return new AddDeadlineCommand(taskDescription, deadlineTime, extractRepeat(lexer, repeatIndex));
     }
 
     /**
-     * Creates an event command by parsing description, start time, and end time.
+     * Creates an event command by parsing description, start time, end time and an optional trailing repeat.
      *
-     * @param input Full event command input
-     * @return AddEventCommand with description and time range
+     * @param lexer Lexed event command input
+     * @return AddEventCommand with description, time range and repeat
      * @throws JungException If format is invalid or fields are missing
      */
-    private static Command createEventCommand(String input) throws JungException {
-        String normalized = input.trim().replaceAll("\\s+", " ");
-        int fromKeywordIndex = normalized.indexOf(EVENT_FROM_KEYWORD);
-        int toKeywordIndex = normalized.indexOf(EVENT_TO_KEYWORD);
+    private static Command createEventCommand(CommandLexer lexer) throws JungException {
+        String normalized = lexer.getNormalized();
+        int fromKeywordIndex = lexer.getFromIndex();
+        int toKeywordIndex = lexer.getToIndex();
 
         boolean missingFromKeyword = fromKeywordIndex == -1;
         boolean missingToKeyword = toKeywordIndex == -1;
@@ -188,9 +241,10 @@ public class Parser {
             throw new JungException(ErrorMessages.MISSING_EVENT_DATES);
         }
 
-        String taskDescription = normalized.substring(EVENT_COMMAND_LENGTH, fromKeywordIndex).trim();
+        int repeatIndex = findRepeatIndex(lexer, toKeywordIndex);
+        String taskDescription = normalized.substring(lexer.getCommandWordLength(), fromKeywordIndex).trim();
         String startTime = normalized.substring(fromKeywordIndex + EVENT_FROM_KEYWORD.length(), toKeywordIndex).trim();
-        String endTime = normalized.substring(toKeywordIndex + EVENT_TO_KEYWORD.length()).trim();
+        String endTime = normalized.substring(toKeywordIndex + EVENT_TO_KEYWORD.length(), repeatIndex).trim();
 
 
         if (taskDescription.isEmpty() || startTime.isEmpty() || endTime.isEmpty()) {
@@ -201,22 +255,60 @@ public class Parser {
             throw new JungException("Your task description too long lah! Keep it shorter!");
         }
 
-        return new AddEventCommand(taskDescription, startTime, endTime);
+        return new AddEventCommand(taskDescription, startTime, endTime, extractRepeat(lexer, repeatIndex));
+    }
+
+    /**
+     * Finds where the time fields end: at {@code /every}, which must come after the last time keyword,
+     * or else at the end of the input.
+     *
+     * @param lexer Lexed command input
+     * @param lastKeywordIndex Index of the last time keyword, such as {@code /by} or {@code /to}
+     * @return Index of {@code /every}, or the length of the input if there is no repeat
+     * @throws JungException If {@code /every} comes before the times
+     */
+    private static int findRepeatIndex(CommandLexer lexer, int lastKeywordIndex) throws JungException {
+        int repeatIndex = lexer.getEveryIndex();
+        if (repeatIndex == -1) {
+            return lexer.getNormalized().length();
+        }
+        if (repeatIndex < lastKeywordIndex) {
+            throw new JungException(ErrorMessages.MISPLACED_REPEAT);
+        }
+        return repeatIndex;
+    }
+
+    /**
+     * Gets the repeat typed after {@code /every}, such as {@code 2 weeks}.
+     *
+     * @return Repeat text, or null if the task does not repeat
+     * @throws JungException If {@code /every} is not followed by a repeat
+     */
+    private static String extractRepeat(CommandLexer lexer, int repeatIndex) throws JungException {
+        String normalized = lexer.getNormalized();
+        if (repeatIndex == normalized.length()) {
+            return null;
+        }
+        String repeat = normalized.substring(repeatIndex + REPEAT_KEYWORD.length()).trim();
+        if (repeat.isEmpty()) {
+            throw new JungException(String.format(ErrorMessages.INVALID_REPEAT, "nothing"));
+        }
+        return repeat;
     }
 
     /**
      * Creates a task modification command (mark/unmark/delete) with task number.
      *
      * @param action The modification action to perform
-     * @param input Full command input
+     * @param lexer Lexed command input
      * @return ModifyTaskCommand with action and task index
      * @throws JungException If task number is missing or invalid
      */
-    private static Command createModifyCommand(ModifyTaskCommand.Action action, String input)
+    private static Command createModifyCommand(ModifyTaskCommand.Action action, CommandLexer lexer)
             throws JungException {
 
         String actionName = action.name().toLowerCase();
-        String taskNumberString = input.substring(actionName.length()).trim();
+        String taskNumberString = lexer.getRawArgument();
 
         if (taskNumberString.isEmpty()) {
             throw new JungException(actionName + ErrorMessages.MISSING_TASK_NUMBER);
@@ -234,12 +326,12 @@ public class Parser {
     /**
      * Creates a find command by extracting the search keyword.
      *
-     * @param input Full find command input
+     * @param lexer Lexed find command input
      * @return FindCommand with the search keyword
      * @throws JungException If keyword is missing
      */
-    private static Command createFindCommand(String input) throws JungException {
-        String searchKeyword = input.substring(FIND_COMMAND_LENGTH).trim();
+    private static Command createFindCommand(CommandLexer lexer) throws JungException {
+        String searchKeyword = lexer.getRawArgument();
 
         if (searchKeyword.isEmpty()) {
             throw new JungException(ErrorMessages.MISSING_FIND_KEYWORD);
@@ -247,4 +339,143 @@ public class Parser {
 
         return new FindCommand(searchKeyword);
     }
-}
\ No newline at end of file
+
+    /**
+     * Creates an import command for the file named in the argument.
+     *
+     * @param lexer Lexed import command input
+     * @return ImportCommand for the file
+     * @throws JungException If no file is given
+     */
+    private static Command createImportCommand(CommandLexer lexer) throws JungException {
+        String filePath = extractFilePath(lexer);
+
+        if (filePath.isEmpty()) {
+            throw new JungException(ErrorMessages.MISSING_IMPORT_FILE);
+        }
+
+        return new ImportCommand(filePath);
+    }
+
+    /**
+     * Creates an export command for the file named in the argument.
+     *
+     * @param lexer Lexed export command input
+     * @return ExportCommand for the file
+     * @throws JungException If no file is given
+     */
+    private static Command createExportCommand(CommandLexer lexer) throws JungException {
+        String filePath = extractFilePath(lexer);
+
+        if (filePath.isEmpty()) {
+            throw new JungException(ErrorMessages.MISSING_EXPORT_FILE);
+        }
+
+        return new ExportCommand(filePath);
+    }
+
+    /**
+     * Gets a file path argument as typed, without the quotes around a path that has spaces.
+     */
+    private static String extractFilePath(CommandLexer lexer) {
+        String argument = lexer.getRawArgument();
+        boolean isQuoted = argument.length() >= 2 && argument.startsWith("\"") && argument.endsWith("\"");
+        return isQuoted ? argument.substring(1, argument.length() - 1).trim() : argument;
+    }
+
+    /**
+     * Creates a due command for the number of days given, or the coming week if none is.
+     *
+     * @param lexer Lexed due command input
+     * @return DueCommand for the requested window
+     * @throws JungException If the argument is not a number of days in range
+     */
+    private static Command createDueCommand(CommandLexer lexer) throws JungException {
+        String argument = lexer.getRawArgument();
+
+        if (argument.isEmpty()) {
+            return new DueCommand(DueCommand.DEFAULT_DAYS);
+        }
+
+        try {
+            int days = Integer.parseInt(argument);
+            if (days < 1 || days > DueCommand.MAX_DAYS) {
+                throw new JungException(ErrorMessages.INVALID_DUE_DAYS);
+            }
+            return new DueCommand(days);
+        } catch (NumberFormatException e) {
+            throw new JungException(ErrorMessages.INVALID_DUE_DAYS);
+        }
+    }
+
+    /**
+     * Creates a stats command from its optional argument (on, off or reset).
+     *
+     * @param lexer Lexed stats command input
+     * @return StatsCommand for the requested operation
+     * @throws JungException If the argument is not recognised
+     */
+    private static Command createStatsCommand(CommandLexer lexer) throws JungException {
+        String argument = lexer.getRawArgument().toLowerCase();
+
+        switch (argument) {
+        case "":
+            return new StatsCommand(StatsCommand.Action.SHOW);
+        case "on":
+            return new StatsCommand(StatsCommand.Action.ENABLE);
+        case "off":
+            return new StatsCommand(StatsCommand.Action.DISABLE);
+        case "reset":
+            return new StatsCommand(StatsCommand.Action.RESET);
+        default:
+            throw new JungException(ErrorMessages.INVALID_STATS_ARGUMENT);
+        }
+    }
+
+    /**
+     * Creates an archive command that moves done tasks away, or searches the archived ones.
+     *
+     * @param lexer Lexed archive command input
+     * @return ArchiveCommand for the requested operation
+     * @throws JungException If the argument is not 'find' with a keyword
+     */
+    private static Command createArchiveCommand(CommandLexer lexer) throws JungException {
+        String argument = lexer.getNormalizedArgument();
+
+        if (argument.isEmpty()) {
+            return new ArchiveCommand(ArchiveCommand.Action.MOVE_DONE, "");
+        }
+
+        int keywordStart = argument.indexOf(' ') + 1;
+        String firstWord = keywordStart == 0 ? argument : argument.substring(0, keywordStart - 1);
+        if (!ARCHIVE_FIND_KEYWORD.equalsIgnoreCase(firstWord)) {
+            throw new JungException(ErrorMessages.INVALID_ARCHIVE_ARGUMENT);
+        }
+        if (keywordStart == 0) {
+            throw new JungException(ErrorMessages.MISSING_FIND_KEYWORD);
+        }
+        return new ArchiveCommand(ArchiveCommand.Action.FIND, argument.substring(keywordStart));
+    }
+
+    /**
+     * Creates a conflicts command from its optional argument (on or off).
+     *
+     * @param lexer Lexed conflicts command input
+     * @return ConflictsCommand for the requested operation
+     * @throws JungException If the argument is not recognised
+     */
+    private static Command createConflictsCommand(CommandLexer lexer) throws JungException {
+        String argument = lexer.getRawArgument().toLowerCase();
+
+        switch (argument) {
+        case "":
+            return new ConflictsCommand(ConflictsCommand.Action.SHOW);
+        case "on":
+            return new ConflictsCommand(ConflictsCommand.Action.ENABLE);
+        case "off":
+            return new ConflictsCommand(ConflictsCommand.Action.DISABLE);
+        default:
+            throw new JungException(ErrorMessages.INVALID_CONFLICTS_ARGUMENT);
+        }
+    }
+}
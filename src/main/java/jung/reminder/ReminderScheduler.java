@@ -0,0 +1,302 @@
+package jung.reminder;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import jung.storage.TaskList;
+import jung.storage.TaskListListener;
+import jung.task.Deadline;
+import jung.task.Event;
+import jung.task.Recurrence;
+import jung.task.Task;
+
+/**
+ * Reminds the user shortly before a pending deadline is due or an event starts.
+ *
+ * <p>Each pending deadline or event has one reminder, for its next occurrence, waiting in a delay queue
+ * ordered by when it is due. A background thread sleeps until the earliest one is due, so nothing runs
+ * between reminders and the task list is never rescanned. The scheduler listens to its task list and
+ * changes only the reminders of the tasks added or removed, so adding, deleting, marking or undoing costs
+ * O(log n). A reminder whose task has gone is not taken out of the queue but skipped when it comes due,
+ * and the queue is rebuilt once such reminders outnumber the live ones. After a repeating task's reminder
+ * fires, the reminder for its next occurrence is queued.
+ */
+public class ReminderScheduler implements TaskListListener, AutoCloseable {
+
+    /** How long before a deadline or event start the reminder fires when no lead time is given. */
+    public static final Duration DEFAULT_LEAD = Duration.ofMinutes(15);
+
+    private static final int MIN_STALE_BEFORE_REBUILD = 64;
+
+    private final Clock clock;
+    private final Duration lead;
+    private final DelayQueue<Reminder> queue = new DelayQueue<>();
+    private final Map<Task, Reminder> pending = new IdentityHashMap<>();
+    private int staleCount;
+    private TaskList taskList;
+    private Thread thread;
+
+    /**
+     * Creates a scheduler that reminds 15 minutes ahead by the system clock.
+     */
+    public ReminderScheduler() {
+        this(Clock.systemDefaultZone(), DEFAULT_LEAD);
+    }
+
+    /**
+     * Creates a scheduler reading the time from a clock.
+     *
+     * @param clock Clock giving the current time, in the zone task times are in
+     * @param lead How long before a deadline or event start to remind
+     */
+    public ReminderScheduler(Clock clock, Duration lead) {
+        this.clock = clock;
+        this.lead = lead;
+    }
+
+    /**
+     * Starts keeping reminders for a task list, beginning with the tasks already in it.
+     *
+     * @param tasks Task list to follow
+     */
+    public void attach(TaskList tasks) {
+        synchronized (this) {
+            this.taskList = tasks;
+        }
+        // Outside this scheduler's lock: the list calls back into it while holding its own lock
+        tasks.setListener(this);
+    }
+
+    /**
+     * Starts a background thread that hands each reminder to a callback when it comes due.
+     * The callback runs on that thread.
+     *
+     * @param onDue Callback given the task as it stands at the occurrence being reminded of
+     */
+    public synchronized void start(Consumer<Task> onDue) {
+        if (thread != null) {
+            return;
+        }
+        thread = new Thread(() -> {
+            try {
+                while (!Thread.currentThread().isInterrupted()) {
+                    Task due = fire(queue.take());
+                    if (due != null) {
+                        onDue.accept(due);
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, "jung-reminders");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Takes every reminder that is due now without waiting, for callers that run no background thread.
+     *
+     * @return Tasks as they stand at the occurrences being reminded of, earliest first
+     */
+    public List<Task> pollDue() {
+        List<Task> dueTasks = new ArrayList<>();
+        Reminder reminder;
+        while ((reminder = queue.poll()) != null) {
+            Task due = fire(reminder);
+            if (due != null) {
+                dueTasks.add(due);
+            }
+        }
+        return dueTasks;
+    }
+
+    /**
+     * Gets the number of tasks with a reminder waiting.
+     *
+     * @return Pending reminder count
+     */
+    public synchronized int size() {
+        return pending.size();
+    }
+
+    /**
+     * Queues a reminder for the next occurrence of a pending deadline or event that is still to come.
+     *
+     * @param task Task added to the list
+     */
+    @Override
+    public synchronized void taskAdded(Task task) {
+        if (task.isDone()) {
+            return;
+        }
+        LocalDateTime first = timeOf(task);
+        if (first == null) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now(clock);
+        Recurrence recurrence = task.getRecurrence();
+        LocalDateTime next = first;
+        if (recurrence != null) {
+            Iterator<LocalDateTime> occurrences = recurrence.occurrencesFrom(first, now);
+            next = occurrences.hasNext() ? occurrences.next() : null;
+        }
+        schedule(task, first, next, now);
+    }
+
+    /**
+     * Drops the reminder of a task, if it has one.
+     *
+     * @param task Task removed from the list
+     */
+    @Override
+    public synchronized void taskRemoved(Task task) {
+        if (pending.remove(task) != null) {
+            staleCount++;
+            rebuildIfMostlyStale();
+        }
+    }
+
+    /**
+     * Stops following the task list and stops the background thread.
+     */
+    @Override
+    public void close() {
+        TaskList tasks;
+        Thread reminderThread;
+        synchronized (this) {
+            tasks = taskList;
+            reminderThread = thread;
+            taskList = null;
+            thread = null;
+        }
+        if (tasks != null) {
+            tasks.setListener(null);
+        }
+        if (reminderThread != null) {
+            reminderThread.interrupt();
+        }
+    }
+
+    /**
+     * Handles a reminder taken from the queue: queues the task's next occurrence if it repeats.
+     *
+     * @return The task at the occurrence reminded of, or null if the reminder is stale or too late
+     */
+    private synchronized Task fire(Reminder reminder) {
+        if (pending.get(reminder.task) != reminder) {
+            // A rebuild may have already dropped it from the count
+            staleCount = Math.max(0, staleCount - 1);
+            return null;
+        }
+        pending.remove(reminder.task);
+        LocalDateTime now = LocalDateTime.now(clock);
+        Recurrence recurrence = reminder.task.getRecurrence();
+        if (recurrence != null) {
+            // Skip occurrences missed while the reminder was late, such as while the computer slept
+            LocalDateTime after = reminder.occurrence.plusNanos(1);
+            Iterator<LocalDateTime> occurrences = recurrence.occurrencesFrom(reminder.first,
+                    after.isAfter(now) ? after : now);
+            if (occurrences.hasNext()) {
+                schedule(reminder.task, reminder.first, occurrences.next(), now);
+            }
+        }
+        // Too late to be of use once the occurrence itself has passed
+        return reminder.occurrence.isBefore(now) ? null : toOccurrence(reminder.task, reminder.occurrence);
+    }
+
+    /**
+     * Queues a reminder for one occurrence. One whose reminder time has passed fires at once,
+     * while one that has already happened is not queued.
+     */
+    private void schedule(Task task, LocalDateTime first, LocalDateTime occurrence, LocalDateTime now) {
+        if (occurrence == null || occurrence.isBefore(now)) {
+            return;
+        }
+        long dueMillis = occurrence.minus(lead).atZone(clock.getZone()).toInstant().toEpochMilli();
+        Reminder reminder = new Reminder(task, first, occurrence, dueMillis);
+        if (pending.put(task, reminder) != null) {
+            staleCount++;
+        }
+        queue.add(reminder);
+        rebuildIfMostlyStale();
+    }
+
+    /**
+     * Rebuilds the queue from the live reminders once stale ones outnumber them, so deleted tasks
+     * far in the future do not pile up.
+     */
+    private void rebuildIfMostlyStale() {
+        if (staleCount < MIN_STALE_BEFORE_REBUILD || staleCount <= pending.size()) {
+            return;
+        }
+        queue.clear();
+        queue.addAll(pending.values());
+        staleCount = 0;
+    }
+
+    /**
+     * Gets the time a task is reminded of: a deadline's due time or an event's start.
+     *
+     * @return Time of the first occurrence, or null for tasks without one
+     */
+    private static LocalDateTime timeOf(Task task) {
+        if (task instanceof Deadline) {
+            return ((Deadline) task).getDeadlineTime();
+        } else if (task instanceof Event) {
+            return ((Event) task).getStartTime();
+        }
+        return null;
+    }
+
+    /**
+     * Gets a repeating task as it stands at one occurrence; other tasks are returned as they are.
+     */
+    private static Task toOccurrence(Task task, LocalDateTime occurrence) {
+        Recurrence recurrence = task.getRecurrence();
+        if (recurrence == null) {
+            return task;
+        }
+        if (task instanceof Deadline) {
+            return new Deadline(task.getDescription(), occurrence, recurrence);
+        }
+        Event event = (Event) task;
+        return new Event(task.getDescription(), occurrence,
+                occurrence.plus(Duration.between(event.getStartTime(), event.getEndTime())), recurrence);
+    }
+
+    /**
+     * One task occurrence waiting to be reminded of, due at a fixed wall-clock time.
+     */
+    private final class Reminder implements Delayed {
+        private final Task task;
+        private final LocalDateTime first;
+        private final LocalDateTime occurrence;
+        private final long dueMillis;
+
+        Reminder(Task task, LocalDateTime first, LocalDateTime occurrence, long dueMillis) {
+            this.task = task;
+            this.first = first;
+            this.occurrence = occurrence;
+            this.dueMillis = dueMillis;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(dueMillis - clock.millis(), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(dueMillis, ((Reminder) other).dueMillis);
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package jung.server;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import jung.command.Session;
+import jung.util.CommandResult;
+import jung.util.TaskListing;
+
+/**
+ * Serves one client of the {@link CommandServer} line protocol.
+ * Each request line is submitted as soon as it is read, so a client may pipeline many commands
+ * without waiting; responses are written strictly in request order by a second thread, and the
+ * output is only flushed once no further responses are ready. Each connection has its own
+ * {@link Session}, so clients page through {@code list} independently.
+ */
+class ClientConnection implements Runnable {
+
+    private static final int MAX_PIPELINED_REQUESTS = 1024;
+    private static final CompletableFuture<CommandResult> END_OF_REQUESTS = new CompletableFuture<>();
+
+    private final SocketChannel channel;
+    private final CommandEngine engine;
+    private final Executor responderExecutor;
+    private final Session session = new Session();
+    private final BlockingQueue<CompletableFuture<CommandResult>> pending =
+            new LinkedBlockingQueue<>(MAX_PIPELINED_REQUESTS);
+
+    ClientConnection(SocketChannel channel, CommandEngine engine, Executor responderExecutor) {
+        this.channel = channel;
+        this.engine = engine;
+        this.responderExecutor = responderExecutor;
+    }
+
+    @Override
+    public void run() {
+        responderExecutor.execute(this::writeResponses);
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(new ChannelInput(channel), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                CompletableFuture<CommandResult> result = engine.submit(line, session);
+                pending.put(result);
+                if (result.isDone() && isExitResult(result)) {
+                    break;
+                }
+            }
+        } catch (IOException e) {
+            // Client went away, or the responder closed the channel after answering bye
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            pending.offer(END_OF_REQUESTS);
+        }
+    }
+
+    /**
+     * Writes responses in request order until the reader signals the end of requests.
+     * After answering {@code bye}, or once the client stops accepting output, the channel is closed
+     * and any remaining results are drained without being written.
+     */
+    private void writeResponses() {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(new ChannelOutput(channel), StandardCharsets.UTF_8));
+        boolean isWritable = true;
+        try {
+            CompletableFuture<CommandResult> result;
+            while ((result = pending.take()) != END_OF_REQUESTS) {
+                if (!isWritable) {
+                    continue;
+                }
+                try {
+                    writeResponse(writer, result);
+                    if (isExitResult(result)) {
+                        writer.flush();
+                        isWritable = false;
+                        closeChannel();
+                    } else if (pending.isEmpty()) {
+                        writer.flush();
+                    }
+                } catch (IOException e) {
+                    isWritable = false;
+                    closeChannel();
+                }
+            }
+            if (isWritable) {
+                writer.flush();
+            }
+        } catch (IOException e) {
+            // Client closed its end before the final flush
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            closeChannel();
+        }
+    }
+
+    /**
+     * Writes a result as {@code OK n} or {@code ERR n} followed by n message lines.
+     * Task listings are streamed line by line instead of being rendered to one string first.
+     */
+    private static void writeResponse(Writer writer, CompletableFuture<CommandResult> result) throws IOException {
+        CommandResult commandResult;
+        try {
+            commandResult = result.join();
+        } catch (CompletionException e) {
+            writer.write(formatResponse("ERR", e.getCause().getMessage()));
+            return;
+        }
+
+        TaskListing listing = commandResult.getListing();
+        if (listing == null) {
+            writer.write(formatResponse(commandResult.isError() ? "ERR" : "OK", commandResult.getMessage()));
+            return;
+        }
+        writer.write("OK " + listing.getLineCount() + "\n");
+        for (Iterator<String> lines = listing.lines(); lines.hasNext();) {
+            writer.write(lines.next());
+            writer.write('\n');
+        }
+    }
+
+    private static String formatResponse(String status, String message) {
+        if (message == null || message.isEmpty()) {
+            return status + " 0\n";
+        }
+        String body = message.endsWith("\n") ? message.substring(0, message.length() - 1) : message;
+        String[] lines = body.split("\r?\n", -1);
+        StringBuilder response = new StringBuilder(message.length() + 16);
+        response.append(status).append(' ').append(lines.length).append('\n');
+        for (String line : lines) {
+            response.append(line).append('\n');
+        }
+        return response.toString();
+    }
+
+    private static boolean isExitResult(CompletableFuture<CommandResult> result) {
+        return !result.isCompletedExceptionally() && result.join().shouldExit();
+    }
+
+    private void closeChannel() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            // Nothing more to do for a connection that is already broken
+        }
+    }
+
+    /**
+     * Input stream over a blocking socket channel. Unlike {@code Channels.newInputStream}, it does not
+     * hold the channel's blocking lock while reading, so the responder can write at the same time.
+     */
+    private static class ChannelInput extends InputStream {
+        private final SocketChannel channel;
+
+        ChannelInput(SocketChannel channel) {
+            this.channel = channel;
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] single = new byte[1];
+            int count = read(single, 0, 1);
+            return count == -1 ? -1 : single[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) throws IOException {
+            if (length == 0) {
+                return 0;
+            }
+            return channel.read(ByteBuffer.wrap(bytes, offset, length));
+        }
+    }
+
+    /**
+     * Output stream over a blocking socket channel that writes every byte before returning.
+     */
+    private static class ChannelOutput extends OutputStream {
+        private final SocketChannel channel;
+
+        ChannelOutput(SocketChannel channel) {
+            this.channel = channel;
+        }
+
+        @Override
+        public void write(int value) throws IOException {
+            write(new byte[] {(byte) value}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes, offset, length);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+    }
+}
@@ -0,0 +1,231 @@
+package jung.server;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import jung.command.Command;
+import jung.command.Session;
+import jung.exceptions.JungException;
+import jung.gui.Jung;
+import jung.storage.TaskList;
+import jung.storage.TaskSnapshot;
+import jung.util.CommandResult;
+
+/**
+ * Thread-safe front end to a {@link Jung} instance for callers on many threads.
+ * Read-only commands run immediately on the calling thread against the task list snapshot,
+ * while mutating commands are queued onto a single writer thread so they apply one at a time
+ * in submission order, keeping undo history consistent. A read submitted while commands are
+ * still queued waits for them, so pipelined clients always read their own writes, and reads that
+ * wait run in the order they were submitted.
+ */
+public class CommandEngine implements AutoCloseable {
+
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 5;
+
+    private final Jung jung;
+    private final ExecutorService writer;
+    // The last command still to finish; guarded by this
+    private CompletableFuture<?> tail = CompletableFuture.completedFuture(null);
+
+    /**
+     * Creates an engine for the given application instance, initializing it if needed.
+     *
+     * @param jung Application instance whose task list the engine serves
+     * @throws IOException If the application cannot be initialized
+     */
+    public CommandEngine(Jung jung) throws IOException {
+        this.jung = jung;
+        this.writer = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "jung-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        jung.initialize();
+    }
+
+    /**
+     * Submits a user command for execution in the application instance's own session.
+     * The returned future completes exceptionally with a {@link JungException} or {@link IOException}
+     * when the command is invalid or cannot be executed.
+     *
+     * @param input User command string
+     * @return Future result; already completed for invalid commands and for reads with no writes queued
+     */
+    public CompletableFuture<CommandResult> submit(String input) {
+        return submit(input, null);
+    }
+
+    /**
+     * Submits a user command for execution on behalf of one client.
+     * The returned future completes exceptionally with a {@link JungException} or {@link IOException}
+     * when the command is invalid or cannot be executed.
+     *
+     * @param input User command string
+     * @param session Session of the client, such as one server connection, or null for the instance's own
+     * @return Future result; already completed for invalid commands and for reads with no writes queued
+     */
+    public CompletableFuture<CommandResult> submit(String input, Session session) {
+        Command command;
+        try {
+            command = jung.parseCommand(input);
+        } catch (JungException | IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        CompletableFuture<CommandResult> result = new CompletableFuture<>();
+        if (command.isMutating()) {
+            enqueueOnWriter(() -> runCommand(command, input, session, result), result);
+            return result;
+        }
+
+        runAfterQueued(() -> runCommand(command, input, session, result));
+        return result;
+    }
+
+    /**
+     * Submits a user command to run on the writer thread after everything submitted before it,
+     * reads included. Parsing happens there too, so results and errors complete strictly in
+     * submission order and the calling thread does no work at all; this suits the GUI, whose
+     * thread must stay free and whose replies must appear in the order commands were typed.
+     *
+     * @param input User command string
+     * @return Future result, completing exceptionally if the command is invalid or fails
+     */
+    public CompletableFuture<CommandResult> submitInOrder(String input) {
+        CompletableFuture<CommandResult> result = new CompletableFuture<>();
+        enqueueOnWriter(() -> {
+            try {
+                result.complete(jung.processCommand(input));
+            } catch (JungException | IOException | RuntimeException e) {
+                result.completeExceptionally(e);
+            }
+        }, result);
+        return result;
+    }
+
+    /**
+     * Submits a mutating command and captures the task list just before and just after it runs.
+     * Both snapshots are taken on the writer thread, so no other mutation can fall between them;
+     * callers can use them to report exactly which task was added, changed or removed.
+     * The command runs in a fresh session, as it would for a stateless HTTP request.
+     *
+     * @param input User command string for a command that changes the task list
+     * @return Future outcome, completing exceptionally if the command is invalid, read-only or fails
+     */
+    public CompletableFuture<MutationOutcome> submitMutation(String input) {
+        Command command;
+        try {
+            command = jung.parseCommand(input);
+        } catch (JungException | IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        return submitMutation(command, input);
+    }
+
+    /**
+     * Submits an already built mutating command, such as one the HTTP API makes straight from
+     * form fields so that no field is ever read as command syntax. Runs as {@link #submitMutation(String)} does.
+     *
+     * @param command Command that changes the task list
+     * @param input Text the command stands for, such as its command word, used only for metrics
+     * @return Future outcome, completing exceptionally if the command is read-only or fails
+     */
+    public CompletableFuture<MutationOutcome> submitMutation(Command command, String input) {
+        if (!command.isMutating()) {
+            return CompletableFuture.failedFuture(new IllegalArgumentException("Not a mutating command: " + input));
+        }
+
+        CompletableFuture<MutationOutcome> outcome = new CompletableFuture<>();
+        enqueueOnWriter(() -> {
+            TaskList taskList = jung.getTaskList();
+            TaskSnapshot before = taskList.snapshot();
+            try {
+                CommandResult result = jung.executeCommand(command, input, new Session());
+                outcome.complete(new MutationOutcome(result, before, taskList.snapshot()));
+            } catch (JungException | IOException | RuntimeException e) {
+                outcome.completeExceptionally(e);
+            }
+        }, outcome);
+        return outcome;
+    }
+
+    /**
+     * Executes a user command and waits for its result.
+     *
+     * @param input User command string
+     * @return Result of command execution
+     * @throws JungException If the command is invalid or cannot be executed
+     * @throws IOException If storage operations fail
+     */
+    public CommandResult execute(String input) throws JungException, IOException {
+        try {
+            return submit(input).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for command: " + input, e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof JungException) {
+                throw (JungException) cause;
+            }
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            throw new IOException("Command failed: " + cause.getMessage(), cause);
+        }
+    }
+
+    /**
+     * Stops accepting mutations and waits briefly for queued ones to finish.
+     */
+    @Override
+    public void close() {
+        writer.shutdown();
+        try {
+            writer.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private synchronized void enqueueOnWriter(Runnable task, CompletableFuture<?> result) {
+        try {
+            writer.execute(task);
+            tail = result;
+        } catch (RuntimeException e) {
+            result.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * Runs a read at once if nothing is queued, or else after the last command submitted before it.
+     * A waiting read becomes the new tail, so the next read waits for it in turn: callbacks on one
+     * future run newest first, and chaining keeps a pipelined {@code list} ahead of {@code list next}.
+     */
+    private void runAfterQueued(Runnable read) {
+        synchronized (this) {
+            if (!tail.isDone()) {
+                tail = tail.handle((ignored, error) -> {
+                    read.run();
+                    return null;
+                });
+                return;
+            }
+        }
+        read.run();
+    }
+
+    private void runCommand(Command command, String input, Session session, CompletableFuture<CommandResult> result) {
+        try {
+            result.complete(session == null
+                    ? jung.executeCommand(command, input)
+                    : jung.executeCommand(command, input, session));
+        } catch (JungException | IOException | RuntimeException e) {
+            result.completeExceptionally(e);
+        }
+    }
+}
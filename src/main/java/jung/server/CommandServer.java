@@ -0,0 +1,127 @@
+package jung.server;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.AsynchronousCloseException;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import jung.gui.Jung;
+
+/**
+ * Headless daemon that serves the command engine to local tools over a line protocol,
+ * either on a loopback TCP port or a Unix domain socket.
+ *
+ * <p>Each request is one command line, exactly as typed in the GUI. Each response is a status line,
+ * {@code OK n} or {@code ERR n}, followed by the n lines of the reply message. Requests may be
+ * pipelined; responses always come back in request order. {@code bye} ends the connection.
+ */
+public class CommandServer implements AutoCloseable {
+
+    private final ServerSocketChannel serverChannel;
+    private final CommandEngine engine;
+    private final Path socketFile;
+    private final ExecutorService connectionExecutor;
+    private final AtomicInteger connectionCount = new AtomicInteger();
+
+    private CommandServer(ServerSocketChannel serverChannel, CommandEngine engine, Path socketFile) {
+        this.serverChannel = serverChannel;
+        this.engine = engine;
+        this.socketFile = socketFile;
+        // One platform thread per connection half; swap in a virtual-thread executor on JDK 21+
+        this.connectionExecutor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "jung-client-" + connectionCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Opens a server on a loopback TCP port.
+     *
+     * @param jung Application instance to serve
+     * @param port Port to listen on, or 0 to pick a free one
+     * @return Server ready to {@link #serve()}
+     * @throws IOException If the port cannot be bound or the application cannot start
+     */
+    public static CommandServer openTcp(Jung jung, int port) throws IOException {
+        ServerSocketChannel channel = ServerSocketChannel.open();
+        try {
+            channel.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), port));
+            return new CommandServer(channel, new CommandEngine(jung), null);
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Opens a server on a Unix domain socket, replacing a stale socket file left by an earlier run.
+     *
+     * @param jung Application instance to serve
+     * @param socketFile Path of the socket file to create
+     * @return Server ready to {@link #serve()}
+     * @throws IOException If the socket cannot be bound or the application cannot start
+     */
+    public static CommandServer openUnix(Jung jung, Path socketFile) throws IOException {
+        Files.deleteIfExists(socketFile);
+        ServerSocketChannel channel = ServerSocketChannel.open(StandardProtocolFamily.UNIX);
+        try {
+            channel.bind(UnixDomainSocketAddress.of(socketFile));
+            return new CommandServer(channel, new CommandEngine(jung), socketFile);
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Gets the address clients should connect to.
+     *
+     * @return Bound TCP or Unix domain socket address
+     * @throws IOException If the server has been closed
+     */
+    public SocketAddress getAddress() throws IOException {
+        return serverChannel.getLocalAddress();
+    }
+
+    /**
+     * Accepts and serves clients until the server is closed.
+     *
+     * @throws IOException If accepting a connection fails for a reason other than closing the server
+     */
+    public void serve() throws IOException {
+        while (serverChannel.isOpen()) {
+            SocketChannel client;
+            try {
+                client = serverChannel.accept();
+            } catch (AsynchronousCloseException e) {
+                return;
+            }
+            connectionExecutor.execute(new ClientConnection(client, engine, connectionExecutor));
+        }
+    }
+
+    /**
+     * Stops accepting clients, lets queued mutations finish and removes the socket file.
+     *
+     * @throws IOException If the socket file cannot be removed
+     */
+    @Override
+    public void close() throws IOException {
+        serverChannel.close();
+        connectionExecutor.shutdownNow();
+        engine.close();
+        if (socketFile != null) {
+            Files.deleteIfExists(socketFile);
+        }
+    }
+}
@@ -0,0 +1,333 @@
+package jung.server;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import jung.command.AddDeadlineCommand;
+import jung.command.AddEventCommand;
+import jung.command.AddTodoCommand;
+import jung.command.Command;
+import jung.exceptions.JungException;
+import jung.gui.Jung;
+import jung.storage.TaskList;
+import jung.storage.TaskSnapshot;
+import jung.task.Task;
+import jung.util.ErrorMessages;
+import jung.util.Json;
+import jung.util.TaskListing;
+
+/**
+ * Embedded HTTP server exposing the task list as a small JSON API on the loopback interface.
+ *
+ * <p>Endpoints:
+ * <ul>
+ *     <li>{@code GET /tasks[?q=KEYWORD]} lists all tasks, or those whose description contains the keyword</li>
+ *     <li>{@code POST /tasks} adds a task from form fields {@code type}, {@code description},
+ *         and {@code by} or {@code from}/{@code to} in {@code d/M/yyyy HHmm}</li>
+ *     <li>{@code POST /tasks/N/mark}, {@code POST /tasks/N/unmark} and {@code DELETE /tasks/N}</li>
+ *     <li>{@code POST /undo}</li>
+ * </ul>
+ *
+ * <p>Reads are answered straight from a task list snapshot without taking any lock, so concurrent
+ * GETs never wait for writers. Writes go through the {@link CommandEngine}'s single writer thread.
+ */
+public class HttpApiServer implements AutoCloseable {
+
+    private static final String TASKS_PATH = "/tasks";
+    private static final String UNDO_PATH = "/undo";
+    private static final String JSON_CONTENT_TYPE = "application/json; charset=utf-8";
+    private static final int STATUS_OK = 200;
+    private static final int STATUS_CREATED = 201;
+    private static final int STATUS_BAD_REQUEST = 400;
+    private static final int STATUS_NOT_FOUND = 404;
+    private static final int STATUS_METHOD_NOT_ALLOWED = 405;
+    private static final int STATUS_SERVER_ERROR = 500;
+    private static final int MAX_DESCRIPTION_LENGTH = 200;
+    private static final String RESERVED_SEPARATOR = " | ";
+
+    private final HttpServer server;
+    private final Jung jung;
+    private final CommandEngine engine;
+    private final ExecutorService requestExecutor;
+    private final AtomicInteger threadCount = new AtomicInteger();
+
+    private HttpApiServer(HttpServer server, Jung jung, CommandEngine engine) {
+        this.server = server;
+        this.jung = jung;
+        this.engine = engine;
+        // Platform threads on the Java 17 toolchain; use a virtual-thread executor on JDK 21+
+        this.requestExecutor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "jung-http-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.createContext("/", this::handle);
+        server.setExecutor(requestExecutor);
+    }
+
+    /**
+     * Opens an HTTP API server on a loopback port. Call {@link #start()} to begin serving.
+     *
+     * @param jung Application instance to serve
+     * @param port Port to listen on, or 0 to pick a free one
+     * @return Server ready to start
+     * @throws IOException If the port cannot be bound or the application cannot start
+     */
+    public static HttpApiServer open(Jung jung, int port) throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        try {
+            return new HttpApiServer(server, jung, new CommandEngine(jung));
+        } catch (IOException e) {
+            server.stop(0);
+            throw e;
+        }
+    }
+
+    /**
+     * Gets the address the server is bound to.
+     *
+     * @return Bound loopback address and port
+     */
+    public InetSocketAddress getAddress() {
+        return server.getAddress();
+    }
+
+    /**
+     * Starts serving requests in the background.
+     */
+    public void start() {
+        server.start();
+    }
+
+    /**
+     * Stops serving and lets queued mutations finish.
+     */
+    @Override
+    public void close() {
+        server.stop(0);
+        requestExecutor.shutdownNow();
+        engine.close();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            route(exchange);
+        } catch (JungException | IllegalArgumentException e) {
+            send(exchange, STATUS_BAD_REQUEST, Json.error(e.getMessage()));
+        } catch (IOException e) {
+            send(exchange, STATUS_SERVER_ERROR, Json.error(e.getMessage()));
+        } catch (RuntimeException e) {
+            // Without a reply the client would only see the connection close
+            send(exchange, STATUS_SERVER_ERROR, Json.error("Unexpected error: " + e));
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void route(HttpExchange exchange) throws JungException, IOException {
+        String method = exchange.getRequestMethod();
+        String path = exchange.getRequestURI().getPath();
+
+        if (path.equals(TASKS_PATH)) {
+            if (method.equals("GET")) {
+                listTasks(exchange);
+            } else if (method.equals("POST")) {
+                addTask(exchange);
+            } else {
+                send(exchange, STATUS_METHOD_NOT_ALLOWED, Json.error("Use GET or POST on " + TASKS_PATH));
+            }
+            return;
+        }
+
+        if (path.equals(UNDO_PATH) && method.equals("POST")) {
+            MutationOutcome outcome = mutate("undo");
+            send(exchange, STATUS_OK, "{\"version\":" + outcome.getAfter().getVersion()
+                    + ",\"count\":" + outcome.getAfter().size() + "}");
+            return;
+        }
+
+        String[] parts = path.startsWith(TASKS_PATH + "/")
+                ? path.substring(TASKS_PATH.length() + 1).split("/")
+                : new String[0];
+        if (parts.length == 1 && method.equals("DELETE")) {
+            int number = parseTaskNumber(parts[0]);
+            MutationOutcome outcome = mutate("delete " + number);
+            sendTask(exchange, STATUS_OK, outcome.getAfter(), number, outcome.getBefore().getTasks().get(number - 1));
+        } else if (parts.length == 2 && method.equals("POST")
+                && (parts[1].equals("mark") || parts[1].equals("unmark"))) {
+            int number = parseTaskNumber(parts[0]);
+            MutationOutcome outcome = mutate(parts[1] + " " + number);
+            sendTask(exchange, STATUS_OK, outcome.getAfter(), number, outcome.getAfter().getTasks().get(number - 1));
+        } else {
+            send(exchange, STATUS_NOT_FOUND, Json.error("No such endpoint: " + method + " " + path));
+        }
+    }
+
+    /**
+     * Lists all tasks, or only those matching {@code q}, from a lock-free snapshot.
+     */
+    private void listTasks(HttpExchange exchange) throws IOException {
+        String keyword = parseForm(exchange.getRequestURI().getRawQuery()).get("q");
+        TaskSnapshot snapshot = jung.getTaskList().snapshot();
+        List<Task> tasks = snapshot.getTasks();
+        TaskListing listing = keyword == null
+                ? new TaskListing("", tasks)
+                : new TaskListing("", tasks, TaskList.findTaskIndices(tasks, keyword));
+
+        StringBuilder json = new StringBuilder(64 + listing.size() * 96);
+        json.append("{\"version\":").append(snapshot.getVersion()).append(",\"tasks\":[");
+        for (int row = 0; row < listing.size(); row++) {
+            if (row > 0) {
+                json.append(',');
+            }
+            Json.appendTask(json, listing.getTaskNumber(row), listing.getTask(row));
+        }
+        json.append("],\"count\":").append(listing.size()).append('}');
+        send(exchange, STATUS_OK, json.toString());
+    }
+
+    /**
+     * Adds a task built straight from the form fields rather than from a typed command line,
+     * so a description may contain {@code /by} or {@code /every} and no field can add options of its own.
+     */
+    private void addTask(HttpExchange exchange) throws JungException, IOException {
+        Map<String, String> form = readForm(exchange);
+        String type = form.getOrDefault("type", "todo");
+
+        Command command;
+        switch (type) {
+        case "todo":
+            command = new AddTodoCommand(readDescription(form, ErrorMessages.EMPTY_TODO_DESCRIPTION));
+            break;
+        case "deadline":
+            command = new AddDeadlineCommand(readDescription(form, ErrorMessages.EMPTY_DEADLINE_FIELDS),
+                    readField(form, "by", ErrorMessages.EMPTY_DEADLINE_FIELDS));
+            break;
+        case "event":
+            command = new AddEventCommand(readDescription(form, ErrorMessages.EMPTY_EVENT_FIELDS),
+                    readField(form, "from", ErrorMessages.EMPTY_EVENT_FIELDS),
+                    readField(form, "to", ErrorMessages.EMPTY_EVENT_FIELDS));
+            break;
+        default:
+            throw new JungException(ErrorMessages.INVALID_TASK_TYPE);
+        }
+
+        TaskSnapshot after = await(engine.submitMutation(command, type), type).getAfter();
+        sendTask(exchange, STATUS_CREATED, after, after.size(), after.getTasks().get(after.size() - 1));
+    }
+
+    /**
+     * Runs a mutating command on the engine's writer thread and waits for it.
+     */
+    private MutationOutcome mutate(String command) throws JungException, IOException {
+        return await(engine.submitMutation(command), command);
+    }
+
+    /**
+     * Waits for a submitted mutation, unwrapping the reason it failed.
+     */
+    private static MutationOutcome await(CompletableFuture<MutationOutcome> outcome, String command)
+            throws JungException, IOException {
+        try {
+            return outcome.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for command: " + command, e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof JungException) {
+                throw (JungException) cause;
+            }
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            throw new IOException("Command failed: " + cause.getMessage(), cause);
+        }
+    }
+
+    private static String readDescription(Map<String, String> form, String emptyMessage) throws JungException {
+        String description = readField(form, "description", emptyMessage);
+        if (description.length() > MAX_DESCRIPTION_LENGTH) {
+            throw new JungException("Your task description too long lah! Keep it under 200 characters!");
+        }
+        return description;
+    }
+
+    /**
+     * Reads a required form field that will be saved as typed, refusing text that would break the data file.
+     */
+    private static String readField(Map<String, String> form, String name, String emptyMessage)
+            throws JungException {
+        String value = form.getOrDefault(name, "").trim();
+        if (value.isEmpty()) {
+            throw new JungException(emptyMessage);
+        }
+        if (value.contains(RESERVED_SEPARATOR) || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0) {
+            throw new JungException(String.format(ErrorMessages.INVALID_FIELD_TEXT, name));
+        }
+        return value;
+    }
+
+    private static int parseTaskNumber(String text) throws JungException {
+        try {
+            return Integer.parseInt(text);
+        } catch (NumberFormatException e) {
+            throw new JungException(ErrorMessages.INVALID_TASK_NUMBER);
+        }
+    }
+
+    private static void sendTask(HttpExchange exchange, int status, TaskSnapshot version, int number, Task task)
+            throws IOException {
+        StringBuilder json = new StringBuilder(128);
+        json.append("{\"version\":").append(version.getVersion()).append(",\"task\":");
+        Json.appendTask(json, number, task).append('}');
+        send(exchange, status, json.toString());
+    }
+
+    private static void send(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", JSON_CONTENT_TYPE);
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static Map<String, String> readForm(HttpExchange exchange) throws IOException {
+        try (InputStream in = exchange.getRequestBody()) {
+            return parseForm(new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    /**
+     * Parses {@code application/x-www-form-urlencoded} text, also used for query strings.
+     */
+    private static Map<String, String> parseForm(String encoded) {
+        Map<String, String> fields = new HashMap<>();
+        if (encoded == null || encoded.isEmpty()) {
+            return fields;
+        }
+        for (String pair : encoded.split("&")) {
+            int separator = pair.indexOf('=');
+            String name = separator < 0 ? pair : pair.substring(0, separator);
+            String value = separator < 0 ? "" : pair.substring(separator + 1);
+            fields.put(URLDecoder.decode(name, StandardCharsets.UTF_8),
+                    URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return fields;
+    }
+}
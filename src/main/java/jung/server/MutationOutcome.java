@@ -0,0 +1,39 @@
+package jung.server;
+
+import jung.storage.TaskSnapshot;
+import jung.util.CommandResult;
+
+/**
+ * Result of a mutating command together with the task list versions on either side of it.
+ */
+public class MutationOutcome {
+
+    private final CommandResult result;
+    private final TaskSnapshot before;
+    private final TaskSnapshot after;
+
+    /**
+     * Creates an outcome for a command that has finished executing.
+     *
+     * @param result Result returned by the command
+     * @param before Task list as it was just before the command ran
+     * @param after Task list as the command left it
+     */
+    public MutationOutcome(CommandResult result, TaskSnapshot before, TaskSnapshot after) {
+        this.result = result;
+        this.before = before;
+        this.after = after;
+    }
+
+    public CommandResult getResult() {
+        return result;
+    }
+
+    public TaskSnapshot getBefore() {
+        return before;
+    }
+
+    public TaskSnapshot getAfter() {
+        return after;
+    }
+}
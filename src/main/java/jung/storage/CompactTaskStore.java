@@ -0,0 +1,231 @@
+package jung.storage;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import jung.task.Deadline;
+import jung.task.Event;
+import jung.task.Recurrence;
+import jung.task.Task;
+import jung.task.ToDo;
+import jung.util.TaskType;
+
+/**
+ * Memory-compact task store for very large, mostly read-only task lists such as archives.
+ * Instead of one object graph per task, tasks are kept as parallel primitive columns:
+ * a type byte, a done bit, epoch-minute time columns and a UTF-8 description arena.
+ * The few recurring tasks keep their repeat rule in a sparse side map rather than another column.
+ * {@link Task} objects are only created on demand when a task is read.
+ *
+ * <p>This class is not thread-safe; publish it to other threads only after it is fully built.
+ *
+ * @see OffHeapTaskStore
+ */
+public class CompactTaskStore implements TaskStore {
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int INITIAL_ARENA_CAPACITY = 256;
+    private static final long NO_TIME = Long.MIN_VALUE;
+    private static final int SECONDS_PER_MINUTE = 60;
+
+    // Approximate HotSpot sizes with compressed oops, used by estimateHeapBytes()
+    private static final int OBJECT_HEADER_BYTES = 16;
+    private static final int ARRAY_HEADER_BYTES = 16;
+
+    private byte[] types;
+    private long[] doneBits;
+    private long[] startMinutes;
+    private long[] endMinutes;
+    private int[] descriptionOffsets;
+    private int[] descriptionLengths;
+    private byte[] descriptionArena;
+    private int arenaSize;
+    private int size;
+    private final Map<Integer, Recurrence> recurrences = new HashMap<>();
+
+    /**
+     * Creates an empty compact store.
+     */
+    public CompactTaskStore() {
+        this(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Creates an empty compact store sized for the expected number of tasks.
+     *
+     * @param expectedTasks Number of tasks to reserve room for
+     */
+    public CompactTaskStore(int expectedTasks) {
+        int capacity = Math.max(INITIAL_CAPACITY, expectedTasks);
+        types = new byte[capacity];
+        doneBits = new long[wordsFor(capacity)];
+        startMinutes = new long[capacity];
+        endMinutes = new long[capacity];
+        descriptionOffsets = new int[capacity];
+        descriptionLengths = new int[capacity];
+        descriptionArena = new byte[INITIAL_ARENA_CAPACITY];
+    }
+
+    /**
+     * Builds a compact store holding copies of the given tasks.
+     *
+     * @param tasks Tasks to store
+     * @return New compact store with the same tasks in the same order
+     */
+    public static CompactTaskStore of(List<Task> tasks) {
+        CompactTaskStore store = new CompactTaskStore(tasks.size());
+        for (Task task : tasks) {
+            store.add(task);
+        }
+        return store;
+    }
+
+    @Override
+    public void add(Task task) {
+        ensureCapacity(size + 1);
+        int index = size;
+
+        types[index] = (byte) task.getTaskSymbol();
+        startMinutes[index] = NO_TIME;
+        endMinutes[index] = NO_TIME;
+        if (task instanceof Deadline) {
+            startMinutes[index] = toEpochMinutes(((Deadline) task).getDeadlineTime());
+        } else if (task instanceof Event) {
+            startMinutes[index] = toEpochMinutes(((Event) task).getStartTime());
+            endMinutes[index] = toEpochMinutes(((Event) task).getEndTime());
+        }
+        appendDescription(index, task.getDescription());
+        Recurrence recurrence = task.getRecurrence();
+        if (recurrence != null) {
+            recurrences.put(index, recurrence);
+        }
+
+        size++;
+        setDone(index, task.isDone());
+    }
+
+    @Override
+    public Task get(int index) {
+        checkIndex(index);
+        return createTask(types[index], getDescription(index), startMinutes[index], endMinutes[index],
+                recurrences.get(index), isDone(index));
+    }
+
+    @Override
+    public String getDescription(int index) {
+        checkIndex(index);
+        return new String(descriptionArena, descriptionOffsets[index], descriptionLengths[index],
+                StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public boolean isDone(int index) {
+        checkIndex(index);
+        return (doneBits[index >>> 6] & (1L << index)) != 0;
+    }
+
+    @Override
+    public void setDone(int index, boolean isDone) {
+        checkIndex(index);
+        if (isDone) {
+            doneBits[index >>> 6] |= 1L << index;
+        } else {
+            doneBits[index >>> 6] &= ~(1L << index);
+        }
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Estimates the heap retained by this store, including spare capacity.
+     *
+     * @return Approximate retained size in bytes
+     */
+    public long estimateHeapBytes() {
+        return OBJECT_HEADER_BYTES + 7L * ARRAY_HEADER_BYTES
+                + types.length
+                + 8L * doneBits.length
+                + 8L * startMinutes.length
+                + 8L * endMinutes.length
+                + 4L * descriptionOffsets.length
+                + 4L * descriptionLengths.length
+                + descriptionArena.length;
+    }
+
+    private void appendDescription(int index, String description) {
+        byte[] encoded = description.getBytes(StandardCharsets.UTF_8);
+        if (arenaSize + encoded.length > descriptionArena.length) {
+            int newLength = Math.max(arenaSize + encoded.length, descriptionArena.length * 2);
+            descriptionArena = Arrays.copyOf(descriptionArena, newLength);
+        }
+        System.arraycopy(encoded, 0, descriptionArena, arenaSize, encoded.length);
+        descriptionOffsets[index] = arenaSize;
+        descriptionLengths[index] = encoded.length;
+        arenaSize += encoded.length;
+    }
+
+    private void ensureCapacity(int required) {
+        if (required <= types.length) {
+            return;
+        }
+        int capacity = Math.max(required, types.length + (types.length >> 1));
+        types = Arrays.copyOf(types, capacity);
+        doneBits = Arrays.copyOf(doneBits, wordsFor(capacity));
+        startMinutes = Arrays.copyOf(startMinutes, capacity);
+        endMinutes = Arrays.copyOf(endMinutes, capacity);
+        descriptionOffsets = Arrays.copyOf(descriptionOffsets, capacity);
+        descriptionLengths = Arrays.copyOf(descriptionLengths, capacity);
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    private static int wordsFor(int capacity) {
+        return (capacity + 63) >>> 6;
+    }
+
+    /**
+     * Rebuilds a task from its packed column values.
+     */
+    static Task createTask(byte type, String description, long startMinutes, long endMinutes,
+            Recurrence recurrence, boolean isDone) {
+        Task task;
+        switch (TaskType.fromSymbol((char) type)) {
+        case TODO:
+            task = new ToDo(description);
+            break;
+        case DEADLINE:
+            task = new Deadline(description, fromEpochMinutes(startMinutes), recurrence);
+            break;
+        case EVENT:
+            task = new Event(description, fromEpochMinutes(startMinutes), fromEpochMinutes(endMinutes),
+                    recurrence);
+            break;
+        default:
+            throw new IllegalStateException("Unknown task type: " + (char) type);
+        }
+
+        if (isDone) {
+            task.markAsDone();
+        }
+        return task;
+    }
+
+    static long toEpochMinutes(LocalDateTime dateTime) {
+        return Math.floorDiv(dateTime.toEpochSecond(ZoneOffset.UTC), SECONDS_PER_MINUTE);
+    }
+
+    static LocalDateTime fromEpochMinutes(long epochMinutes) {
+        return LocalDateTime.ofEpochSecond(epochMinutes * SECONDS_PER_MINUTE, 0, ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,101 @@
+package jung.storage;
+
+import java.lang.ref.WeakReference;
+import java.util.WeakHashMap;
+
+/**
+ * Deduplicates task descriptions so recurring chores share one String instance.
+ * Entries are weakly held: once no task refers to a description any more, the
+ * garbage collector drops it from the pool, so the pool never outgrows the live tasks.
+ */
+public class DescriptionPool {
+
+    private static final DescriptionPool SHARED = new DescriptionPool();
+
+    // Approximate HotSpot size of a String plus its backing array header, with compressed oops
+    private static final int STRING_OVERHEAD_BYTES = 40;
+    private static final char MAX_LATIN1_CHAR = 'ÿ';
+
+    private final WeakHashMap<String, WeakReference<String>> pool = new WeakHashMap<>();
+    private long lookupCount = 0;
+    private long hitCount = 0;
+    private long bytesSaved = 0;
+
+    /**
+     * Gets the pool shared by storage loading and task creation.
+     *
+     * @return Application-wide description pool
+     */
+    public static DescriptionPool getShared() {
+        return SHARED;
+    }
+
+    /**
+     * Returns the canonical instance of a description, adding it to the pool if it is new.
+     *
+     * @param description Description to deduplicate
+     * @return Pooled String equal to the description
+     */
+    public synchronized String intern(String description) {
+        lookupCount++;
+        WeakReference<String> reference = pool.get(description);
+        String pooled = reference == null ? null : reference.get();
+
+        if (pooled != null) {
+            hitCount++;
+            bytesSaved += estimateStringBytes(description);
+            return pooled;
+        }
+
+        pool.put(description, new WeakReference<>(description));
+        return description;
+    }
+
+    /**
+     * Gets the number of distinct descriptions currently pooled.
+     *
+     * @return Live pool size
+     */
+    public synchronized int size() {
+        return pool.size();
+    }
+
+    /**
+     * Gets the fraction of lookups that were served by an existing description.
+     *
+     * @return Dedupe ratio between 0 and 1
+     */
+    public synchronized double getDedupeRatio() {
+        return lookupCount == 0 ? 0 : (double) hitCount / lookupCount;
+    }
+
+    /**
+     * Gets the approximate heap saved by returning pooled descriptions instead of duplicates.
+     *
+     * @return Estimated bytes saved
+     */
+    public synchronized long getBytesSaved() {
+        return bytesSaved;
+    }
+
+    /**
+     * Formats the pool statistics for display.
+     *
+     * @return One-line summary of lookups, dedupe ratio and bytes saved
+     */
+    public synchronized String formatStats() {
+        return String.format("descriptions: %d pooled, %d lookups, %.1f%% deduped, ~%d bytes saved",
+                pool.size(), lookupCount, getDedupeRatio() * 100, bytesSaved);
+    }
+
+    private static long estimateStringBytes(String text) {
+        int bytesPerChar = 1;
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) > MAX_LATIN1_CHAR) {
+                bytesPerChar = 2;
+                break;
+            }
+        }
+        return STRING_OVERHEAD_BYTES + (long) text.length() * bytesPerChar;
+    }
+}
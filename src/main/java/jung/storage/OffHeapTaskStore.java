@@ -0,0 +1,187 @@
+package jung.storage;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import jung.task.Deadline;
+import jung.task.Event;
+import jung.task.Recurrence;
+import jung.task.Task;
+
+/**
+ * Task store that keeps every column outside the Java heap, for archives with millions of tasks.
+ * Fixed-size task records and the UTF-8 description arena live in direct byte buffers,
+ * so heap usage stays flat however many tasks are stored; only the tasks being read
+ * are materialized as short-lived {@link Task} objects.
+ *
+ * <p>Record layout: type (1 byte), done (1 byte), padding, start and end epoch minutes
+ * (8 bytes each), description offset and length (4 bytes each). Repeat rules of recurring tasks,
+ * which are rare, stay on the heap in a sparse map.
+ * This class is not thread-safe; publish it to other threads only after it is fully built.
+ */
+public class OffHeapTaskStore implements TaskStore {
+
+    private static final int RECORD_BYTES = 32;
+    private static final int TYPE_OFFSET = 0;
+    private static final int DONE_OFFSET = 1;
+    private static final int START_OFFSET = 8;
+    private static final int END_OFFSET = 16;
+    private static final int DESCRIPTION_OFFSET = 24;
+    private static final int DESCRIPTION_LENGTH_OFFSET = 28;
+
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int INITIAL_ARENA_CAPACITY = 64 * 1024;
+    private static final long NO_TIME = Long.MIN_VALUE;
+    // Largest direct buffer every JVM can allocate
+    static final int MAX_BUFFER_BYTES = Integer.MAX_VALUE - 8;
+
+    private ByteBuffer records;
+    private ByteBuffer descriptionArena;
+    private int size;
+    private final Map<Integer, Recurrence> recurrences = new HashMap<>();
+
+    /**
+     * Creates an empty off-heap store.
+     */
+    public OffHeapTaskStore() {
+        this(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Creates an empty off-heap store sized for the expected number of tasks.
+     *
+     * @param expectedTasks Number of tasks to reserve room for
+     */
+    public OffHeapTaskStore(int expectedTasks) {
+        records = allocate((long) Math.max(INITIAL_CAPACITY, expectedTasks) * RECORD_BYTES);
+        descriptionArena = allocate(INITIAL_ARENA_CAPACITY);
+    }
+
+    @Override
+    public void add(Task task) {
+        byte[] description = task.getDescription().getBytes(StandardCharsets.UTF_8);
+        ensureRecordCapacity(size + 1);
+        ensureArenaCapacity(description.length);
+
+        long startMinutes = NO_TIME;
+        long endMinutes = NO_TIME;
+        if (task instanceof Deadline) {
+            startMinutes = CompactTaskStore.toEpochMinutes(((Deadline) task).getDeadlineTime());
+        } else if (task instanceof Event) {
+            startMinutes = CompactTaskStore.toEpochMinutes(((Event) task).getStartTime());
+            endMinutes = CompactTaskStore.toEpochMinutes(((Event) task).getEndTime());
+        }
+
+        int descriptionOffset = descriptionArena.position();
+        descriptionArena.put(description);
+
+        int base = size * RECORD_BYTES;
+        records.put(base + TYPE_OFFSET, (byte) task.getTaskSymbol());
+        records.put(base + DONE_OFFSET, (byte) (task.isDone() ? 1 : 0));
+        records.putLong(base + START_OFFSET, startMinutes);
+        records.putLong(base + END_OFFSET, endMinutes);
+        records.putInt(base + DESCRIPTION_OFFSET, descriptionOffset);
+        records.putInt(base + DESCRIPTION_LENGTH_OFFSET, description.length);
+        Recurrence recurrence = task.getRecurrence();
+        if (recurrence != null) {
+            recurrences.put(size, recurrence);
+        }
+        size++;
+    }
+
+    @Override
+    public Task get(int index) {
+        int base = recordBase(index);
+        return CompactTaskStore.createTask(records.get(base + TYPE_OFFSET), getDescription(index),
+                records.getLong(base + START_OFFSET), records.getLong(base + END_OFFSET), recurrences.get(index),
+                isDone(index));
+    }
+
+    @Override
+    public String getDescription(int index) {
+        int base = recordBase(index);
+        int offset = records.getInt(base + DESCRIPTION_OFFSET);
+        int length = records.getInt(base + DESCRIPTION_LENGTH_OFFSET);
+
+        byte[] encoded = new byte[length];
+        descriptionArena.get(offset, encoded);
+        return new String(encoded, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public boolean isDone(int index) {
+        return records.get(recordBase(index) + DONE_OFFSET) != 0;
+    }
+
+    @Override
+    public void setDone(int index, boolean isDone) {
+        records.put(recordBase(index) + DONE_OFFSET, (byte) (isDone ? 1 : 0));
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets the native memory reserved by this store, including spare capacity.
+     *
+     * @return Off-heap capacity in bytes
+     */
+    public long getOffHeapBytes() {
+        return (long) records.capacity() + descriptionArena.capacity();
+    }
+
+    private int recordBase(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return index * RECORD_BYTES;
+    }
+
+    private void ensureRecordCapacity(int requiredTasks) {
+        long requiredBytes = (long) requiredTasks * RECORD_BYTES;
+        if (requiredBytes <= records.capacity()) {
+            return;
+        }
+        records = grow(records, requiredBytes, size * RECORD_BYTES);
+    }
+
+    private void ensureArenaCapacity(int additionalBytes) {
+        long requiredBytes = (long) descriptionArena.position() + additionalBytes;
+        if (requiredBytes <= descriptionArena.capacity()) {
+            return;
+        }
+        int usedBytes = descriptionArena.position();
+        descriptionArena = grow(descriptionArena, requiredBytes, usedBytes);
+        descriptionArena.position(usedBytes);
+    }
+
+    /**
+     * Moves the used part of a buffer into a larger direct buffer, at least doubling it
+     * unless that would pass the largest buffer size.
+     * The old buffer's native memory is released once it is garbage collected.
+     *
+     * @throws IllegalStateException If the required size does not fit in one buffer
+     */
+    static ByteBuffer grow(ByteBuffer buffer, long requiredBytes, int usedBytes) {
+        long newCapacity = Math.max(requiredBytes, Math.min((long) buffer.capacity() * 2, MAX_BUFFER_BYTES));
+        ByteBuffer grown = allocate(newCapacity);
+        grown.put(buffer.duplicate().position(0).limit(usedBytes));
+        return grown;
+    }
+
+    /**
+     * Allocates a direct buffer, refusing sizes one buffer cannot hold rather than letting them overflow.
+     *
+     * @throws IllegalStateException If the size does not fit in one buffer
+     */
+    private static ByteBuffer allocate(long bytes) {
+        if (bytes > MAX_BUFFER_BYTES) {
+            throw new IllegalStateException("Off-heap task store is full: needs " + bytes
+                    + " bytes in one buffer, but a buffer holds at most " + MAX_BUFFER_BYTES);
+        }
+        return ByteBuffer.allocateDirect((int) bytes);
+    }
+}
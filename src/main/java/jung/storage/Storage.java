@@ -1,15 +1,20 @@
 package jung.storage;
 
 import java.nio.file.*;
+import java.io.BufferedReader;
 import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import jung.metrics.CommandMetrics;
+import jung.metrics.StorageLoadEvent;
+import jung.metrics.StorageSaveEvent;
 import jung.task.Deadline;
 import jung.task.Event;
+import jung.task.Recurrence;
 import jung.task.Task;
 import jung.task.ToDo;
-import jung.util.DateFormats;
+import jung.util.DateTimeParser;
 import jung.util.TaskType;
 import java.nio.file.StandardOpenOption;
 
@@ -17,13 +22,16 @@ import java.nio.file.StandardOpenOption;
  * Handles persistent storage of tasks to and from the file system.
  * Provides serialization of tasks to file format and deserialization back to Task objects.
  *
- * File format: TaskType | CompletionFlag | Description | [DateTime fields]
+ * File format: TaskType | CompletionFlag | Description | [DateTime fields] | [Repeat rule]
  * Example: T | 1 | Buy groceries
+ * Example: D | 0 | Pay rent | 1/11/2026 0900 | FREQ=MONTHLY
  */
 public class Storage {
 
     private static final String FILE_DELIMITER = " \\| ";
     private static final String DONE_FLAG = "1";
+    private static final String TEMPORARY_FILE_SUFFIX = ".tmp";
+    private static final String ARCHIVE_FILE_SUFFIX = "-archive";
 
     // File parsing constants - indices for each field in the delimited format
     private static final int MINIMUM_REQUIRED_PARTS = 3;
@@ -33,9 +41,15 @@ public class Storage {
     private static final int DEADLINE_TIME_INDEX = 3;
     private static final int EVENT_START_TIME_INDEX = 3;
     private static final int EVENT_END_TIME_INDEX = 4;
+    private static final int DEADLINE_RECURRENCE_INDEX = 4;
+    private static final int EVENT_RECURRENCE_INDEX = 5;
 
     private final Path filePath;
     private int corruptedEntriesCount = 0;
+    private TaskSnapshot lastSavedSnapshot;
+    private boolean isDeferringWrites;
+    private TaskSnapshot pendingSnapshot;
+    private TaskArchive archive;
 
     /**
      * Creates a storage handler for the specified file path.
@@ -61,8 +75,72 @@ public class Storage {
             return new ArrayList<>(); // Fresh start for new users
         }
 
+        StorageLoadEvent event = new StorageLoadEvent();
+        event.begin();
+        long startTime = System.nanoTime();
         List<String> fileLines = readAllLinesFromFile();
-        return parseTasksFromLines(fileLines);
+        ArrayList<Task> tasks = parseTasksFromLines(fileLines);
+        recordLoadMetrics(startTime);
+        commitLoadEvent(event, fileLines.size());
+        return tasks;
+    }
+
+    /**
+     * Loads all tasks from the storage file into a compact columnar store.
+     *
+     * @return Compact store holding the successfully loaded tasks
+     * @throws IOException If file reading fails completely
+     */
+    public CompactTaskStore loadCompact() throws IOException {
+        return loadInto(new CompactTaskStore());
+    }
+
+    /**
+     * Loads all tasks from the storage file into an off-heap store.
+     *
+     * @return Off-heap store holding the successfully loaded tasks
+     * @throws IOException If file reading fails completely
+     */
+    public OffHeapTaskStore loadOffHeap() throws IOException {
+        return loadInto(new OffHeapTaskStore());
+    }
+
+    /**
+     * Streams all tasks from the storage file into the given store.
+     * Lines are read one at a time, so only the packed form is retained in memory.
+     *
+     * @param store Store to append loaded tasks to
+     * @return The same store, for chaining
+     * @throws IOException If file reading fails completely
+     */
+    public <T extends TaskStore> T loadInto(T store) throws IOException {
+        if (!Files.exists(filePath)) {
+            return store;
+        }
+
+        StorageLoadEvent event = new StorageLoadEvent();
+        event.begin();
+        long startTime = System.nanoTime();
+        corruptedEntriesCount = 0;
+        int lineNumber = 0;
+        try (BufferedReader reader = Files.newBufferedReader(filePath)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                // Not interned: the store packs the description and the task is dropped at once
+                Task task = parseTaskFromLine(line, lineNumber, false);
+                if (task != null) {
+                    store.add(task);
+                }
+            }
+        } catch (IOException e) {
+            throw new IOException("Cannot read data file - check file accessibility: " + e.getMessage());
+        }
+
+        reportCorruptedEntriesIfAny();
+        recordLoadMetrics(startTime);
+        commitLoadEvent(event, lineNumber);
+        return store;
     }
 
     /**
@@ -72,13 +150,135 @@ public class Storage {
      * @param tasks List of tasks to persist to storage
      * @throws IOException If file writing fails
      */
-    public void save(ArrayList<Task> tasks) throws IOException {
+    public void save(List<Task> tasks) throws IOException {
         List<String> taskFileLines = convertTasksToFileLines(tasks);
-        writeLinesToFile(taskFileLines);
+        synchronized (this) {
+            writeLinesToFile(taskFileLines);
+        }
     }
 
+    /**
+     * Appends tasks to the end of the storage file without rewriting the tasks already in it.
+     *
+     * @param tasks Tasks to add to the file
+     * @throws IOException If file writing fails
+     */
+    public void append(List<Task> tasks) throws IOException {
+        List<String> taskFileLines = convertTasksToFileLines(tasks);
+        synchronized (this) {
+            try {
+                Files.write(filePath, taskFileLines,
+                        StandardOpenOption.CREATE,
+                        StandardOpenOption.WRITE,
+                        StandardOpenOption.APPEND);
+            } catch (IOException e) {
+                throw new IOException("Cannot save tasks - check write permissions: " + e.getMessage());
+            }
+        }
+    }
 
+    /**
+     * Gets the archive of tasks moved out of this file, kept in a file beside it,
+     * such as {@code data/jung-archive.txt} for {@code data/jung.txt}.
+     * The archive file is created the first time this is called.
+     *
+     * @return Archive belonging to this storage file
+     * @throws IOException If the archive file cannot be created
+     */
+    public synchronized TaskArchive getArchive() throws IOException {
+        if (archive == null) {
+            archive = new TaskArchive(new Storage(getArchivePath().toString()));
+        }
+        return archive;
+    }
 
+    /**
+     * Saves a pinned version of a task list.
+     * The snapshot is serialized without holding any task list lock, and a save is skipped
+     * when a newer version of the same list has already been written, so concurrent saves
+     * can finish in any order without an older version overwriting a newer one.
+     *
+     * @param snapshot Pinned version of the task list to persist
+     * @throws IOException If file writing fails
+     */
+    public void save(TaskSnapshot snapshot) throws IOException {
+        synchronized (this) {
+            if (isDeferringWrites) {
+                if (!snapshot.isNotNewerThan(pendingSnapshot)) {
+                    pendingSnapshot = snapshot;
+                }
+                return;
+            }
+        }
+        writeSnapshot(snapshot);
+    }
+
+    /**
+     * Saves a pinned version of a task list at once, even while writes are deferred, for changes
+     * that must reach the disk together with a write to another file, such as archiving.
+     * A deferred save that is not newer is dropped, as this one supersedes it.
+     *
+     * @param snapshot Pinned version of the task list to persist
+     * @throws IOException If file writing fails
+     */
+    public void saveNow(TaskSnapshot snapshot) throws IOException {
+        synchronized (this) {
+            if (pendingSnapshot != null && pendingSnapshot.isNotNewerThan(snapshot)) {
+                pendingSnapshot = null;
+            }
+        }
+        writeSnapshot(snapshot);
+    }
+
+    /**
+     * Holds back snapshot saves until {@link #flush()}, for bulk work such as batch scripts.
+     * While deferring, each save only remembers its snapshot, so a run of commands costs one write
+     * at the end instead of one full rewrite of the data file per command.
+     */
+    public synchronized void deferWrites() {
+        isDeferringWrites = true;
+    }
+
+    /**
+     * Writes the newest snapshot saved while deferring, if any, and goes back to writing on every save.
+     *
+     * @throws IOException If file writing fails
+     */
+    public void flush() throws IOException {
+        TaskSnapshot snapshot;
+        synchronized (this) {
+            isDeferringWrites = false;
+            snapshot = pendingSnapshot;
+            pendingSnapshot = null;
+        }
+        if (snapshot != null) {
+            save(snapshot);
+        }
+    }
+
+    private Path getArchivePath() {
+        String fileName = filePath.getFileName().toString();
+        int extensionStart = fileName.lastIndexOf('.');
+        if (extensionStart <= 0) {
+            return filePath.resolveSibling(fileName + ARCHIVE_FILE_SUFFIX);
+        }
+        return filePath.resolveSibling(fileName.substring(0, extensionStart) + ARCHIVE_FILE_SUFFIX
+                + fileName.substring(extensionStart));
+    }
+
+    /**
+     * Writes a snapshot unless a newer version of the same list has already been written.
+     */
+    private void writeSnapshot(TaskSnapshot snapshot) throws IOException {
+        List<String> taskFileLines = convertTasksToFileLines(snapshot.getTasks());
+        synchronized (this) {
+            if (snapshot.isNotNewerThan(lastSavedSnapshot)) {
+                return;
+            }
+            writeLinesToFile(taskFileLines);
+            lastSavedSnapshot = snapshot;
+        }
+    }
 
     /**
      * Ensures the storage file and its parent directories exist.
@@ -123,7 +323,7 @@ public class Storage {
 
         for (int lineNumber = 0; lineNumber < fileLines.size(); lineNumber++) {
             String line = fileLines.get(lineNumber);
-            Task task = parseTaskFromLine(line, lineNumber + 1);
+            Task task = parseTaskFromLine(line, lineNumber + 1, true);
 
             if (task != null) {
                 tasks.add(task);
@@ -144,8 +344,9 @@ public class Storage {
     /**
      * Parses a single line from the storage file into a Task object.
      * Returns null if the line is corrupted, empty, or cannot be parsed.
+     * Descriptions are interned only for tasks that will be kept as objects, such as in the live task list.
      */
-    private Task parseTaskFromLine(String line, int lineNumber) {
+    private Task parseTaskFromLine(String line, int lineNumber, boolean isInterning) {
         if (isEmptyLine(line)) {
             return null; // Skip empty lines silently
         }
@@ -153,7 +354,7 @@ public class Storage {
         try {
             String[] lineParts = line.split(FILE_DELIMITER);
             validateLineParts(lineParts);
-            return createTaskFromParsedParts(lineParts);
+            return createTaskFromParsedParts(lineParts, isInterning);
         } catch (Exception e) {
             handleCorruptedLine(lineNumber, e.getMessage());
             return null;
@@ -189,10 +390,13 @@ public class Storage {
      * Creates a Task object from validated file parts.
      * Applies completion status after task creation.
      */
-    private Task createTaskFromParsedParts(String[] parts) throws Exception {
+    private Task createTaskFromParsedParts(String[] parts, boolean isInterning) throws Exception {
         TaskType taskType = TaskType.fromSymbol(parts[TASK_TYPE_INDEX].charAt(0));
         boolean isCompleted = DONE_FLAG.equals(parts[COMPLETION_FLAG_INDEX]);
         String description = parts[DESCRIPTION_INDEX].trim();
+        if (isInterning) {
+            description = DescriptionPool.getShared().intern(description);
+        }
 
         Task task = createTaskByType(taskType, description, parts);
 
@@ -214,11 +418,12 @@ public class Storage {
 
         case DEADLINE:
             LocalDateTime deadlineTime = parseDeadlineTime(parts);
-            return new Deadline(description, deadlineTime);
+            return new Deadline(description, deadlineTime, parseRecurrence(parts, DEADLINE_RECURRENCE_INDEX));
 
         case EVENT:
             LocalDateTime[] eventTimes = parseEventTimes(parts);
-            return new Event(description, eventTimes[0], eventTimes[1]);
+            return new Event(description, eventTimes[0], eventTimes[1],
+                    parseRecurrence(parts, EVENT_RECURRENCE_INDEX));
 
         default:
             throw new IllegalArgumentException("Unknown task type: " + taskType);
@@ -227,16 +432,25 @@ public class Storage {
 
     private LocalDateTime parseDeadlineTime(String[] parts) throws Exception {
         validateDeadlinePartsCount(parts);
-        return LocalDateTime.parse(parts[DEADLINE_TIME_INDEX], DateFormats.INPUT_FORMAT);
+        return DateTimeParser.getShared().parse(parts[DEADLINE_TIME_INDEX]);
     }
 
     private LocalDateTime[] parseEventTimes(String[] parts) throws Exception {
         validateEventPartsCount(parts);
-        LocalDateTime startTime = LocalDateTime.parse(parts[EVENT_START_TIME_INDEX], DateFormats.INPUT_FORMAT);
-        LocalDateTime endTime = LocalDateTime.parse(parts[EVENT_END_TIME_INDEX], DateFormats.INPUT_FORMAT);
+        LocalDateTime startTime = DateTimeParser.getShared().parse(parts[EVENT_START_TIME_INDEX]);
+        LocalDateTime endTime = DateTimeParser.getShared().parse(parts[EVENT_END_TIME_INDEX]);
         return new LocalDateTime[]{startTime, endTime};
     }
 
+    /**
+     * Parses the optional repeat rule that follows a recurring task's times.
+     *
+     * @return Recurrence, or null if the task does not repeat
+     */
+    private Recurrence parseRecurrence(String[] parts, int index) {
+        return parts.length > index ? Recurrence.parseRule(parts[index]) : null;
+    }
+
     private void validateDeadlinePartsCount(String[] parts) throws IllegalArgumentException {
         if (parts.length <= DEADLINE_TIME_INDEX) {
             throw new IllegalArgumentException("Missing deadline time");
@@ -249,6 +463,22 @@ public class Storage {
         }
     }
 
+    private void recordLoadMetrics(long startTime) throws IOException {
+        CommandMetrics metrics = CommandMetrics.getInstance();
+        if (metrics.isEnabled()) {
+            metrics.recordLoad(System.nanoTime() - startTime, Files.size(filePath));
+        }
+    }
+
+    private void commitLoadEvent(StorageLoadEvent event, int lineCount) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.setLines(lineCount);
+            event.setCorruptedCount(corruptedEntriesCount);
+            event.commit();
+        }
+    }
+
     private void handleCorruptedLine(int lineNumber, String errorReason) {
         System.err.println("Warning: Line " + lineNumber + " is corrupted (" + errorReason + "), skipping...");
         corruptedEntriesCount++;
@@ -258,7 +488,7 @@ public class Storage {
      * Converts all tasks to their file string representation.
      * Filters out any tasks that cannot be properly serialized.
      */
-    private List<String> convertTasksToFileLines(ArrayList<Task> tasks) {
+    private List<String> convertTasksToFileLines(List<Task> tasks) {
         List<String> fileLines = new ArrayList<>();
 
         for (Task task : tasks) {
@@ -282,16 +512,43 @@ public class Storage {
 
     /**
      * Writes all lines to the file atomically, replacing existing content.
-     * Uses atomic write operations to prevent data corruption during save.
+     * Lines go to a temporary file first and are then moved over the data file,
+     * so readers never see a half-written file.
      */
     private void writeLinesToFile(List<String> lines) throws IOException {
+        StorageSaveEvent event = new StorageSaveEvent();
+        event.begin();
+        long startTime = System.nanoTime();
+        Path temporaryPath = filePath.resolveSibling(filePath.getFileName() + TEMPORARY_FILE_SUFFIX);
         try {
-            Files.write(filePath, lines,
+            Files.write(temporaryPath, lines,
                     StandardOpenOption.CREATE,
                     StandardOpenOption.WRITE,
                     StandardOpenOption.TRUNCATE_EXISTING);
+            moveIntoPlace(temporaryPath);
         } catch (IOException e) {
             throw new IOException("Cannot save tasks - check write permissions: " + e.getMessage());
         }
+
+        CommandMetrics metrics = CommandMetrics.getInstance();
+        if (metrics.isEnabled()) {
+            metrics.recordSave(System.nanoTime() - startTime, Files.size(filePath));
+        }
+
+        event.end();
+        if (event.shouldCommit()) {
+            event.setBytes(Files.size(filePath));
+            event.setLines(lines.size());
+            event.setFsynced(false);
+            event.commit();
+        }
+    }
+
+    private void moveIntoPlace(Path temporaryPath) throws IOException {
+        try {
+            Files.move(temporaryPath, filePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temporaryPath, filePath, StandardCopyOption.REPLACE_EXISTING);
+        }
     }
 }
\ No newline at end of file
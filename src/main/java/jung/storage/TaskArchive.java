@@ -0,0 +1,124 @@
+package jung.storage;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import jung.task.Task;
+
+/**
+ * Done tasks moved out of the task list into a file of their own, so the list being worked on,
+ * and every save of it, stays small however much has been finished over the years.
+ * The archive only grows: tasks are appended to the end of its file and never rewritten, so an
+ * archived task keeps its number for good.
+ *
+ * <p>The file is read the first time the archive is searched or counted, into a {@link CompactTaskStore}
+ * rather than one object graph per task, and only the tasks shown are created as {@link Task} objects.
+ * Starting Jung with {@code -Djung.archive.store=offheap} keeps it in an {@link OffHeapTaskStore} instead,
+ * so even an archive of millions of tasks leaves the Java heap alone.
+ * Every method is thread-safe.
+ */
+public class TaskArchive {
+
+    /** System property naming where a loaded archive is kept: {@code heap}, the default, or {@code offheap}. */
+    public static final String STORE_PROPERTY = "jung.archive.store";
+
+    private static final String OFF_HEAP_STORE = "offheap";
+    private static final int INITIAL_MATCH_CAPACITY = 16;
+
+    private final Storage storage;
+    private final boolean isOffHeap;
+    private TaskStore store;
+
+    /**
+     * Creates an archive kept in the given storage file, loaded where {@value #STORE_PROPERTY} says.
+     *
+     * @param storage Storage for the archive's own file
+     */
+    public TaskArchive(Storage storage) {
+        this(storage, OFF_HEAP_STORE.equalsIgnoreCase(System.getProperty(STORE_PROPERTY)));
+    }
+
+    /**
+     * Creates an archive kept in the given storage file.
+     *
+     * @param storage Storage for the archive's own file
+     * @param isOffHeap Whether to load the archive outside the Java heap
+     */
+    public TaskArchive(Storage storage, boolean isOffHeap) {
+        this.storage = storage;
+        this.isOffHeap = isOffHeap;
+    }
+
+    /**
+     * Appends tasks to the end of the archive.
+     *
+     * @param tasks Tasks to archive, in order
+     * @throws IOException If the archive file cannot be written
+     */
+    public synchronized void addAll(List<Task> tasks) throws IOException {
+        if (tasks.isEmpty()) {
+            return;
+        }
+        storage.append(tasks);
+        if (store != null) {
+            for (Task task : tasks) {
+                store.add(task);
+            }
+        }
+    }
+
+    /**
+     * Gets the number of archived tasks.
+     *
+     * @return Archived task count
+     * @throws IOException If the archive file cannot be read
+     */
+    public synchronized int size() throws IOException {
+        return loadedStore().size();
+    }
+
+    /**
+     * Finds the archived tasks whose descriptions contain the keyword, without creating any task objects.
+     *
+     * @param keyword Text to search for (case-insensitive)
+     * @return 0-based positions of matching tasks, oldest first
+     * @throws IOException If the archive file cannot be read
+     */
+    public synchronized int[] findTaskIndices(String keyword) throws IOException {
+        TaskStore tasks = loadedStore();
+        String lowercaseKeyword = keyword.toLowerCase();
+        int[] matchIndices = new int[Math.min(tasks.size(), INITIAL_MATCH_CAPACITY)];
+        int matchCount = 0;
+
+        for (int i = 0; i < tasks.size(); i++) {
+            if (tasks.getDescription(i).toLowerCase().contains(lowercaseKeyword)) {
+                if (matchCount == matchIndices.length) {
+                    matchIndices = Arrays.copyOf(matchIndices, Math.max(1, matchCount * 2));
+                }
+                matchIndices[matchCount++] = i;
+            }
+        }
+        return matchCount == matchIndices.length ? matchIndices : Arrays.copyOf(matchIndices, matchCount);
+    }
+
+    /**
+     * Creates a task object for one archived task.
+     *
+     * @param index 0-based position in the archive
+     * @return The archived task
+     * @throws IOException If the archive file cannot be read
+     */
+    public synchronized Task get(int index) throws IOException {
+        return loadedStore().get(index);
+    }
+
+    /**
+     * Reads the archive file into its store the first time it is needed.
+     */
+    private TaskStore loadedStore() throws IOException {
+        if (store == null) {
+            store = isOffHeap ? storage.loadOffHeap() : storage.loadCompact();
+        }
+        return store;
+    }
+}
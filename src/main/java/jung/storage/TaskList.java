@@ -1,20 +1,34 @@
 package jung.storage;
 
 import java.io.IOException;
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
 import jung.exceptions.JungException;
+import jung.metrics.SearchExecutedEvent;
 import jung.task.Task;
 import jung.util.ErrorMessages;
 
 /**
  * Manages the collection of tasks and provides operations for task manipulation.
  * Includes undo functionality to reverse the most recent operation.
+ *
+ * <p>Readers never lock: every read works on an immutable snapshot published through a
+ * volatile field. Mutations are serialized by a single write lock and publish a new snapshot,
+ * copying the backing array except for appends, which reuse spare capacity beyond the end of
+ * every existing snapshot. Tasks themselves are replaced rather than mutated on mark/unmark.
  */
 public class TaskList {
 
-    private final ArrayList<Task> tasks;
+    private static final int MINIMUM_CAPACITY = 16;
+
+    private final Object writeLock = new Object();
     private final Storage storage;
-    private UndoableAction lastAction;
+    private volatile Snapshot current;
+    private volatile UndoableAction lastAction;
+    private TaskListListener listener;
 
     /**
      * Creates a TaskList with existing tasks and storage backend.
@@ -22,19 +36,42 @@ public class TaskList {
      * @param loadedTasks Previously saved tasks to initialize with
      * @param storage Storage system for automatic persistence
      */
-    public TaskList(ArrayList<Task> loadedTasks, Storage storage) {
-        this.tasks = loadedTasks;
+    public TaskList(List<Task> loadedTasks, Storage storage) {
+        Task[] elements = loadedTasks.toArray(new Task[0]);
+        this.current = new Snapshot(elements, elements.length, 0);
         this.storage = storage;
         this.lastAction = null;
     }
 
     /**
-     * Gets all tasks in the list.
+     * Gets all tasks in the list as an immutable snapshot.
+     * Later changes to this task list are not visible through the returned view.
+     *
+     * @return Read-only view of the current tasks
+     */
+    public List<Task> getTasks() {
+        return current.view();
+    }
+
+    /**
+     * Pins the current version of the task list for a consistent read.
+     * The snapshot stays valid however the list changes afterwards; older versions
+     * are reclaimed by the garbage collector once no reader holds them.
      *
-     * @return Complete list of tasks
+     * @return The current version and its tasks
      */
-    public ArrayList<Task> getTasks() {
-        return tasks;
+    public TaskSnapshot snapshot() {
+        Snapshot snapshot = current;
+        return new TaskSnapshot(this, snapshot.version, snapshot.view());
+    }
+
+    /**
+     * Gets the version number of the current task list contents.
+     *
+     * @return Version that increases by one with every mutation
+     */
+    public long getVersion() {
+        return current.version;
     }
 
     /**
@@ -43,7 +80,7 @@ public class TaskList {
      * @return Total task count
      */
     public int size() {
-        return tasks.size();
+        return current.size;
     }
 
     /**
@@ -55,12 +92,57 @@ public class TaskList {
      * @throws IOException If storage save fails
      */
     public Task addTask(Task task) throws IOException {
-        tasks.add(task);
-        recordUndoableAction(UndoableAction.ActionType.ADD_TASK, task, "added task: " + task);
-        saveToStorage();
+        TaskSnapshot written;
+        synchronized (writeLock) {
+            append(task);
+            recordUndoableAction(UndoableAction.ActionType.ADD_TASK, task, "added task: " + task);
+            written = snapshot();
+        }
+        saveToStorage(written);
         return task;
     }
 
+    /**
+     * Appends every task from a source and saves once, after the last one.
+     * The new tasks are published together, so readers see either none or all of them, and a
+     * single undo removes them all. If the source fails part-way, nothing is added.
+     *
+     * @param source Source of the tasks to append, read until it returns null
+     * @return Number of tasks added
+     * @throws IOException If the source fails or the storage save fails
+     */
+    public int addAll(TaskSource source) throws IOException {
+        int addedCount;
+        TaskSnapshot written;
+        synchronized (writeLock) {
+            Snapshot snapshot = current;
+            Task[] elements = snapshot.elements;
+            int size = snapshot.size;
+            Task task;
+            while ((task = source.next()) != null) {
+                if (size == elements.length) {
+                    elements = Arrays.copyOf(elements, grow(size));
+                }
+                // Beyond every published snapshot's size, so invisible until published below
+                elements[size++] = task;
+            }
+
+            addedCount = size - snapshot.size;
+            if (addedCount == 0) {
+                return 0;
+            }
+            publish(elements, size);
+            for (int i = snapshot.size; i < size; i++) {
+                notifyAdded(elements[i]);
+            }
+            recordUndoableAction(UndoableAction.ActionType.ADD_TASKS, null, snapshot.size,
+                    "added " + addedCount + " tasks");
+            written = snapshot();
+        }
+        saveToStorage(written);
+        return addedCount;
+    }
+
     /**
      * Removes a task at the specified index.
      * Creates an undo point for this operation.
@@ -71,10 +153,16 @@ public class TaskList {
      * @throws IOException If storage save fails
      */
     public Task deleteTask(int index) throws JungException, IOException {
-        validateTaskIndex(index);
-        Task removedTask = tasks.remove(index);
-        recordUndoableAction(UndoableAction.ActionType.DELETE_TASK, removedTask, index, "removed task: " + removedTask);
-        saveToStorage();
+        Task removedTask;
+        TaskSnapshot written;
+        synchronized (writeLock) {
+            validateTaskIndex(index);
+            removedTask = removeAt(index);
+            recordUndoableAction(UndoableAction.ActionType.DELETE_TASK, removedTask, index,
+                    "removed task: " + removedTask);
+            written = snapshot();
+        }
+        saveToStorage(written);
         return removedTask;
     }
 
@@ -88,11 +176,15 @@ public class TaskList {
      * @throws IOException If storage save fails
      */
     public Task markTask(int index) throws JungException, IOException {
-        validateTaskIndex(index);
-        Task task = tasks.get(index);
-        task.markAsDone();
-        recordUndoableAction(UndoableAction.ActionType.MARK_TASK, task, index, "marked as done: " + task);
-        saveToStorage();
+        Task task;
+        TaskSnapshot written;
+        synchronized (writeLock) {
+            validateTaskIndex(index);
+            task = replaceDoneStatus(index, true);
+            recordUndoableAction(UndoableAction.ActionType.MARK_TASK, task, index, "marked as done: " + task);
+            written = snapshot();
+        }
+        saveToStorage(written);
         return task;
     }
 
@@ -106,14 +198,66 @@ public class TaskList {
      * @throws IOException If storage save fails
      */
     public Task unmarkTask(int index) throws JungException, IOException {
-        validateTaskIndex(index);
-        Task task = tasks.get(index);
-        task.markAsNotDone();
-        recordUndoableAction(UndoableAction.ActionType.UNMARK_TASK, task, index, "marked as not done: " + task);
-        saveToStorage();
+        Task task;
+        TaskSnapshot written;
+        synchronized (writeLock) {
+            validateTaskIndex(index);
+            task = replaceDoneStatus(index, false);
+            recordUndoableAction(UndoableAction.ActionType.UNMARK_TASK, task, index, "marked as not done: " + task);
+            written = snapshot();
+        }
+        saveToStorage(written);
         return task;
     }
 
+    /**
+     * Moves every done task to an archive and saves the tasks left.
+     * The tasks reach the archive's file before they leave this list, so a failed archive write
+     * loses nothing. The tasks left are then saved at once, even while writes are deferred, so the
+     * two files disagree only between those two writes: if the save fails or Jung stops in between,
+     * the done tasks stay in both files, and archiving again after a restart archives them a second time.
+     * Moving cannot be undone, so the undo point is cleared as well.
+     *
+     * @param archive Archive to append the done tasks to
+     * @return Number of tasks moved
+     * @throws IOException If the archive or storage save fails
+     */
+    public int moveDoneTasksTo(TaskArchive archive) throws IOException {
+        List<Task> doneTasks = new ArrayList<>();
+        TaskSnapshot written;
+        synchronized (writeLock) {
+            Snapshot snapshot = current;
+            for (int i = 0; i < snapshot.size; i++) {
+                if (snapshot.elements[i].isDone()) {
+                    doneTasks.add(snapshot.elements[i]);
+                }
+            }
+            if (doneTasks.isEmpty()) {
+                return 0;
+            }
+            archive.addAll(doneTasks);
+
+            int remainingCount = snapshot.size - doneTasks.size();
+            Task[] elements = new Task[grow(remainingCount)];
+            int size = 0;
+            for (int i = 0; i < snapshot.size; i++) {
+                if (!snapshot.elements[i].isDone()) {
+                    elements[size++] = snapshot.elements[i];
+                }
+            }
+            publish(elements, size);
+            for (Task task : doneTasks) {
+                notifyRemoved(task);
+            }
+            lastAction = null;
+            written = snapshot();
+        }
+        if (storage != null) {
+            storage.saveNow(written);
+        }
+        return doneTasks.size();
+    }
+
     /**
      * Searches for tasks containing the specified keyword in their descriptions.
      *
@@ -121,16 +265,67 @@ public class TaskList {
      * @return List of matching tasks
      */
     public ArrayList<Task> findTasksByKeyword(String keyword) {
-        ArrayList<Task> matchingTasks = new ArrayList<>();
+        List<Task> tasks = getTasks();
+        int[] matchIndices = findTaskIndices(tasks, keyword);
+
+        ArrayList<Task> matchingTasks = new ArrayList<>(matchIndices.length);
+        for (int index : matchIndices) {
+            matchingTasks.add(tasks.get(index));
+        }
+        return matchingTasks;
+    }
+
+    /**
+     * Finds the positions of tasks whose descriptions contain the keyword.
+     * Takes the list to search so callers can search a snapshot and then read matches from that same snapshot.
+     *
+     * @param tasks Tasks to search, usually from {@link #getTasks()}
+     * @param keyword Text to search for (case-insensitive)
+     * @return 0-based indices of matching tasks, in list order
+     */
+    public static int[] findTaskIndices(List<Task> tasks, String keyword) {
+        SearchExecutedEvent event = new SearchExecutedEvent();
+        event.begin();
         String lowercaseKeyword = keyword.toLowerCase();
+        int[] matchIndices = new int[Math.min(tasks.size(), MINIMUM_CAPACITY)];
+        int matchCount = 0;
 
-        for (Task task : tasks) {
-            if (taskDescriptionContains(task, lowercaseKeyword)) {
-                matchingTasks.add(task);
+        for (int i = 0; i < tasks.size(); i++) {
+            if (taskDescriptionContains(tasks.get(i), lowercaseKeyword)) {
+                if (matchCount == matchIndices.length) {
+                    matchIndices = Arrays.copyOf(matchIndices, Math.max(1, matchCount * 2));
+                }
+                matchIndices[matchCount++] = i;
             }
         }
 
-        return matchingTasks;
+        event.end();
+        if (event.shouldCommit()) {
+            event.setKeywordLength(keyword.length());
+            event.setMatches(matchCount);
+            event.setScanned(tasks.size());
+            event.commit();
+        }
+        return matchCount == matchIndices.length ? matchIndices : Arrays.copyOf(matchIndices, matchCount);
+    }
+
+    /**
+     * Sets the listener told about every task added to or removed from this list, undo included.
+     * The listener is first told about each task already in the list, while the list is locked,
+     * so it misses no change and sees none twice.
+     *
+     * @param listener Listener to tell, or null to stop telling one
+     */
+    public void setListener(TaskListListener listener) {
+        synchronized (writeLock) {
+            this.listener = listener;
+            if (listener != null) {
+                Snapshot snapshot = current;
+                for (int i = 0; i < snapshot.size; i++) {
+                    listener.taskAdded(snapshot.elements[i]);
+                }
+            }
+        }
     }
 
     /**
@@ -156,10 +351,30 @@ public class TaskList {
      * Used internally by undo operations.
      */
     void removeLastTask() throws JungException {
-        if (tasks.isEmpty()) {
-            throw new JungException(ErrorMessages.NO_TASKS_TO_REMOVE);
+        synchronized (writeLock) {
+            if (current.size == 0) {
+                throw new JungException(ErrorMessages.NO_TASKS_TO_REMOVE);
+            }
+            removeAt(current.size - 1);
+        }
+    }
+
+    /**
+     * Removes every task from the specified index onwards without creating an undo action.
+     * Used internally by undo operations.
+     */
+    void removeTasksFrom(int index) {
+        synchronized (writeLock) {
+            Snapshot snapshot = current;
+            if (index < snapshot.size) {
+                Task[] elements = new Task[grow(index)];
+                System.arraycopy(snapshot.elements, 0, elements, 0, index);
+                publish(elements, index);
+                for (int i = index; i < snapshot.size; i++) {
+                    notifyRemoved(snapshot.elements[i]);
+                }
+            }
         }
-        tasks.remove(tasks.size() - 1);
     }
 
     /**
@@ -167,10 +382,12 @@ public class TaskList {
      * Used internally by undo operations.
      */
     void insertTaskAt(Task task, int index) {
-        if (index >= tasks.size()) {
-            tasks.add(task);
-        } else {
-            tasks.add(index, task);
+        synchronized (writeLock) {
+            if (index >= current.size) {
+                append(task);
+            } else {
+                insertAt(task, index);
+            }
         }
     }
 
@@ -179,8 +396,10 @@ public class TaskList {
      * Used internally by undo operations.
      */
     void markTaskSilently(int index) throws JungException {
-        validateTaskIndex(index);
-        tasks.get(index).markAsDone();
+        synchronized (writeLock) {
+            validateTaskIndex(index);
+            replaceDoneStatus(index, true);
+        }
     }
 
     /**
@@ -188,8 +407,91 @@ public class TaskList {
      * Used internally by undo operations.
      */
     void unmarkTaskSilently(int index) throws JungException {
-        validateTaskIndex(index);
-        tasks.get(index).markAsNotDone();
+        synchronized (writeLock) {
+            validateTaskIndex(index);
+            replaceDoneStatus(index, false);
+        }
+    }
+
+    // ============= SNAPSHOT MUTATION HELPERS (caller holds writeLock) =============
+
+    /**
+     * Appends a task, reusing the backing array when it still has room.
+     * Safe because no published snapshot reads past its own size.
+     */
+    private void append(Task task) {
+        Snapshot snapshot = current;
+        Task[] elements = snapshot.elements;
+        if (snapshot.size == elements.length) {
+            elements = Arrays.copyOf(elements, grow(snapshot.size));
+        }
+        elements[snapshot.size] = task;
+        publish(elements, snapshot.size + 1);
+        notifyAdded(task);
+    }
+
+    /**
+     * Removes the task at the index into a fresh backing array.
+     */
+    private Task removeAt(int index) {
+        Snapshot snapshot = current;
+        Task removedTask = snapshot.elements[index];
+        Task[] elements = new Task[grow(snapshot.size - 1)];
+        System.arraycopy(snapshot.elements, 0, elements, 0, index);
+        System.arraycopy(snapshot.elements, index + 1, elements, index, snapshot.size - index - 1);
+        publish(elements, snapshot.size - 1);
+        notifyRemoved(removedTask);
+        return removedTask;
+    }
+
+    /**
+     * Inserts a task at the index into a fresh backing array.
+     */
+    private void insertAt(Task task, int index) {
+        Snapshot snapshot = current;
+        Task[] elements = new Task[grow(snapshot.size + 1)];
+        System.arraycopy(snapshot.elements, 0, elements, 0, index);
+        elements[index] = task;
+        System.arraycopy(snapshot.elements, index, elements, index + 1, snapshot.size - index);
+        publish(elements, snapshot.size + 1);
+        notifyAdded(task);
+    }
+
+    /**
+     * Replaces the task at the index with a copy carrying the new completion status.
+     */
+    private Task replaceDoneStatus(int index, boolean isDone) {
+        Snapshot snapshot = current;
+        Task updatedTask = snapshot.elements[index].withDone(isDone);
+        Task[] elements = Arrays.copyOf(snapshot.elements, snapshot.elements.length);
+        elements[index] = updatedTask;
+        publish(elements, snapshot.size);
+        notifyRemoved(snapshot.elements[index]);
+        notifyAdded(updatedTask);
+        return updatedTask;
+    }
+
+    /**
+     * Publishes a new snapshot under the next version number.
+     */
+    private void publish(Task[] elements, int size) {
+        current = new Snapshot(elements, size, current.version + 1);
+    }
+
+    private void notifyAdded(Task task) {
+        if (listener != null) {
+            listener.taskAdded(task);
+        }
+    }
+
+    private void notifyRemoved(Task task) {
+        if (listener != null) {
+            listener.taskRemoved(task);
+        }
+    }
+
+    private static int grow(int size) {
+        return Math.max(MINIMUM_CAPACITY, size + (size >> 1));
     }
 
     // ============= PRIVATE HELPER METHODS =============
@@ -209,11 +511,11 @@ public class TaskList {
     }
 
     /**
-     * Saves the current task list to persistent storage.
+     * Saves a pinned version of the task list to persistent storage.
      */
-    private void saveToStorage() throws IOException {
+    private void saveToStorage(TaskSnapshot snapshot) throws IOException {
         if (storage != null) {
-            storage.save(tasks);
+            storage.save(snapshot);
         }
     }
 
@@ -221,7 +523,7 @@ public class TaskList {
      * Validates that a task index is within valid bounds.
      */
     private void validateTaskIndex(int index) throws JungException {
-        if (index < 0 || index >= tasks.size()) {
+        if (index < 0 || index >= current.size) {
             throw new JungException(ErrorMessages.INVALID_TASK_INDEX);
         }
     }
@@ -229,7 +531,53 @@ public class TaskList {
     /**
      * Checks if a task's description contains the given keyword.
      */
-    private boolean taskDescriptionContains(Task task, String keyword) {
+    private static boolean taskDescriptionContains(Task task, String keyword) {
         return task.getDescription().toLowerCase().contains(keyword);
     }
-}
\ No newline at end of file
+
+    /**
+     * Immutable view of the task array at one point in time.
+     * The array may be shared with newer snapshots, but only beyond this snapshot's size.
+     */
+    private static final class Snapshot {
+        private final Task[] elements;
+        private final int size;
+        private final long version;
+
+        Snapshot(Task[] elements, int size, long version) {
+            this.elements = elements;
+            this.size = size;
+            this.version = version;
+        }
+
+        List<Task> view() {
+            return new SnapshotView(elements, size);
+        }
+    }
+
+    /**
+     * Read-only list over a snapshot's elements; creating one never copies.
+     */
+    private static final class SnapshotView extends AbstractList<Task> implements RandomAccess {
+        private final Task[] elements;
+        private final int size;
+
+        SnapshotView(Task[] elements, int size) {
+            this.elements = elements;
+            this.size = size;
+        }
+
+        @Override
+        public Task get(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+            }
+            return elements[index];
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package jung.storage;
+
+import jung.task.Task;
+
+/**
+ * Hears about tasks entering and leaving a {@link TaskList}, such as to keep an index of it up to date
+ * without rescanning the list. Marking or unmarking a task replaces it, so it is reported as the old
+ * task removed and the new one added.
+ *
+ * <p>Calls are made on the thread changing the list while it holds the list's write lock, in the order
+ * the changes are made, so listeners must return quickly and must not change the list themselves.
+ */
+public interface TaskListListener {
+
+    /**
+     * Called when a task joins the list.
+     *
+     * @param task Task added
+     */
+    void taskAdded(Task task);
+
+    /**
+     * Called when a task leaves the list.
+     *
+     * @param task Task removed
+     */
+    void taskRemoved(Task task);
+}
@@ -0,0 +1,66 @@
+package jung.storage;
+
+import java.util.List;
+import jung.task.Task;
+
+/**
+ * A pinned, immutable version of a {@link TaskList}.
+ * Holding a snapshot keeps that version readable while the list keeps changing,
+ * which lets saves and exports serialize a consistent state without blocking writers.
+ */
+public class TaskSnapshot {
+
+    private final TaskList source;
+    private final long version;
+    private final List<Task> tasks;
+
+    /**
+     * Creates a snapshot of the given tasks at a version.
+     *
+     * @param source Task list the snapshot was taken from
+     * @param version Version number of the task list when pinned
+     * @param tasks Read-only tasks belonging to that version
+     */
+    TaskSnapshot(TaskList source, long version, List<Task> tasks) {
+        this.source = source;
+        this.version = version;
+        this.tasks = tasks;
+    }
+
+    /**
+     * Checks whether this snapshot is an older version of the same list as another snapshot.
+     *
+     * @param other Snapshot to compare against, may be null
+     * @return true if both come from the same task list and this version is not newer
+     */
+    boolean isNotNewerThan(TaskSnapshot other) {
+        return other != null && other.source == source && version <= other.version;
+    }
+
+    /**
+     * Gets the version number this snapshot was pinned at.
+     *
+     * @return Task list version
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Gets the tasks in this version.
+     *
+     * @return Read-only list of tasks
+     */
+    public List<Task> getTasks() {
+        return tasks;
+    }
+
+    /**
+     * Gets the number of tasks in this version.
+     *
+     * @return Task count
+     */
+    public int size() {
+        return tasks.size();
+    }
+}
@@ -0,0 +1,19 @@
+package jung.storage;
+
+import java.io.IOException;
+import jung.task.Task;
+
+/**
+ * Supplies tasks one at a time, such as records streamed from an import file.
+ */
+@FunctionalInterface
+public interface TaskSource {
+
+    /**
+     * Gets the next task.
+     *
+     * @return Next task, or null when there are no more
+     * @throws IOException If reading the underlying data fails
+     */
+    Task next() throws IOException;
+}
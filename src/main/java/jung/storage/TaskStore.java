@@ -0,0 +1,91 @@
+package jung.storage;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+import jung.task.Task;
+
+/**
+ * Append-only task storage that keeps tasks in a packed form and creates
+ * {@link Task} objects on demand. Implementations trade per-task objects for
+ * primitive columns, either on the Java heap or outside it.
+ */
+public interface TaskStore {
+
+    /**
+     * Appends a task to the store. Times are kept to minute precision.
+     *
+     * @param task Task to store
+     */
+    void add(Task task);
+
+    /**
+     * Creates a task object for the entry at the given index.
+     *
+     * @param index Zero-based task index
+     * @return New task with the stored details and completion status
+     */
+    Task get(int index);
+
+    /**
+     * Decodes the description of the task at the given index.
+     *
+     * @param index Zero-based task index
+     * @return Task description
+     */
+    String getDescription(int index);
+
+    /**
+     * Checks whether the task at the given index is done, without creating a task object.
+     *
+     * @param index Zero-based task index
+     * @return true if the task is done
+     */
+    boolean isDone(int index);
+
+    /**
+     * Sets the completion status of the task at the given index.
+     *
+     * @param index Zero-based task index
+     * @param isDone New completion status
+     */
+    void setDone(int index, boolean isDone);
+
+    /**
+     * Gets the number of stored tasks.
+     *
+     * @return Task count
+     */
+    int size();
+
+    /**
+     * Gets a read-only list view whose elements are created on demand.
+     * Suitable for anything that consumes a task list, such as {@link Storage#save(List)}.
+     *
+     * @return Read-only view of the stored tasks
+     */
+    default List<Task> asList() {
+        return new TaskStoreView(this);
+    }
+
+    /**
+     * Read-only list that materializes tasks from a store on each access.
+     */
+    final class TaskStoreView extends AbstractList<Task> implements RandomAccess {
+        private final TaskStore store;
+
+        private TaskStoreView(TaskStore store) {
+            this.store = store;
+        }
+
+        @Override
+        public Task get(int index) {
+            return store.get(index);
+        }
+
+        @Override
+        public int size() {
+            return store.size();
+        }
+    }
+}
@@ -16,6 +16,7 @@ public class UndoableAction {
      */
     public enum ActionType {
         ADD_TASK,
+        ADD_TASKS,
         DELETE_TASK,
         MARK_TASK,
         UNMARK_TASK
@@ -42,7 +43,8 @@ public class UndoableAction {
      *
      * @param actionType Type of operation performed
      * @param task Task that was affected
-     * @param originalIndex Original position of the task (for delete operations)
+     * @param originalIndex Original position of the task (for delete operations), or of the first of
+     *                      several added tasks
      * @param actionDescription Human-readable description of what was done
      */
     public UndoableAction(ActionType actionType, Task task, int originalIndex, String actionDescription) {
@@ -65,6 +67,9 @@ public class UndoableAction {
         case ADD_TASK:
             taskList.removeLastTask();
             return "Undone: " + actionDescription;
+        case ADD_TASKS:
+            taskList.removeTasksFrom(originalIndex);
+            return "Undone: " + actionDescription;
         case DELETE_TASK:
             taskList.insertTaskAt(task, originalIndex);
             return "Undone: " + actionDescription;
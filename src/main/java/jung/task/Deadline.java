@@ -11,6 +11,7 @@ import jung.util.TaskType;
 public class Deadline extends Task {
 
     private final LocalDateTime deadlineTime;
+    private final Recurrence recurrence;
 
     /**
      * Creates a new deadline task with description and due date/time.
@@ -19,8 +20,20 @@ public class Deadline extends Task {
      * @param deadlineTime When the task must be completed by
      */
     public Deadline(String description, LocalDateTime deadlineTime) {
+        this(description, deadlineTime, null);
+    }
+
+    /**
+     * Creates a new deadline task that may repeat.
+     *
+     * @param description What needs to be accomplished
+     * @param deadlineTime When the first occurrence must be completed by
+     * @param recurrence How the deadline repeats, or null if it happens once
+     */
+    public Deadline(String description, LocalDateTime deadlineTime, Recurrence recurrence) {
         super(description, TaskType.DEADLINE.getSymbol());
         this.deadlineTime = deadlineTime;
+        this.recurrence = recurrence;
     }
 
     /**
@@ -32,6 +45,16 @@ public class Deadline extends Task {
         return deadlineTime;
     }
 
+    @Override
+    public Recurrence getRecurrence() {
+        return recurrence;
+    }
+
+    @Override
+    protected Task copy() {
+        return new Deadline(getDescription(), deadlineTime, recurrence);
+    }
+
     /**
      * Returns a user-friendly string showing the task and its deadline.
      *
@@ -40,12 +63,13 @@ public class Deadline extends Task {
     @Override
     public String toString() {
         String formattedDeadline = deadlineTime.format(DateFormats.OUTPUT_FORMAT);
-        return super.toString() + " (by: " + formattedDeadline + ")";
+        String repeat = recurrence == null ? "" : ", " + recurrence;
+        return super.toString() + " (by: " + formattedDeadline + repeat + ")";
     }
 
     /**
      * Converts this deadline task to file storage format.
-     * Format: "D | [1|0] | description | deadline_date_time"
+     * Format: "D | [1|0] | description | deadline_date_time", then " | rule" for a recurring deadline
      *
      * @return String representation for file storage
      */
@@ -53,6 +77,7 @@ public class Deadline extends Task {
     public String toFileString() {
         String completionFlag = isDone() ? "1" : "0";
         String formattedDeadline = deadlineTime.format(DateFormats.INPUT_FORMAT);
-        return String.format("D | %s | %s | %s", completionFlag, getDescription(), formattedDeadline);
+        String line = "D | " + completionFlag + " | " + getDescription() + " | " + formattedDeadline;
+        return recurrence == null ? line : line + " | " + recurrence.toRule();
     }
 }
\ No newline at end of file
@@ -12,6 +12,7 @@ public class Event extends Task {
 
     private final LocalDateTime startTime;
     private final LocalDateTime endTime;
+    private final Recurrence recurrence;
 
     /**
      * Creates a new event task with description and time period.
@@ -21,9 +22,22 @@ public class Event extends Task {
      * @param endTime When the event concludes
      */
     public Event(String description, LocalDateTime startTime, LocalDateTime endTime) {
+        this(description, startTime, endTime, null);
+    }
+
+    /**
+     * Creates a new event task that may repeat. Every occurrence lasts as long as the first one.
+     *
+     * @param description What the event is about
+     * @param startTime When the first occurrence begins
+     * @param endTime When the first occurrence concludes
+     * @param recurrence How the event repeats, or null if it happens once
+     */
+    public Event(String description, LocalDateTime startTime, LocalDateTime endTime, Recurrence recurrence) {
         super(description, TaskType.EVENT.getSymbol());
         this.startTime = startTime;
         this.endTime = endTime;
+        this.recurrence = recurrence;
     }
 
     /**
@@ -44,6 +58,16 @@ public class Event extends Task {
         return endTime;
     }
 
+    @Override
+    public Recurrence getRecurrence() {
+        return recurrence;
+    }
+
+    @Override
+    protected Task copy() {
+        return new Event(getDescription(), startTime, endTime, recurrence);
+    }
+
     /**
      * Returns a user-friendly string showing the event and its time period.
      *
@@ -53,12 +77,13 @@ public class Event extends Task {
     public String toString() {
         String formattedStart = startTime.format(DateFormats.OUTPUT_FORMAT);
         String formattedEnd = endTime.format(DateFormats.OUTPUT_FORMAT);
-        return super.toString() + " (from: " + formattedStart + " to: " + formattedEnd + ")";
+        String repeat = recurrence == null ? "" : ", " + recurrence;
+        return super.toString() + " (from: " + formattedStart + " to: " + formattedEnd + repeat + ")";
     }
 
     /**
      * Converts this event task to file storage format.
-     * Format: "E | [1|0] | description | start_date_time | end_date_time"
+     * Format: "E | [1|0] | description | start_date_time | end_date_time", then " | rule" for a recurring event
      *
      * @return String representation for file storage
      */
@@ -67,6 +92,8 @@ public class Event extends Task {
         String completionFlag = isDone() ? "1" : "0";
         String formattedStart = startTime.format(DateFormats.INPUT_FORMAT);
         String formattedEnd = endTime.format(DateFormats.INPUT_FORMAT);
-        return String.format("E | %s | %s | %s | %s", completionFlag, getDescription(), formattedStart, formattedEnd);
+        String line = "E | " + completionFlag + " | " + getDescription() + " | " + formattedStart
+                + " | " + formattedEnd;
+        return recurrence == null ? line : line + " | " + recurrence.toRule();
     }
 }
\ No newline at end of file
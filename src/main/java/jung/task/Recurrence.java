@@ -0,0 +1,491 @@
+package jung.task;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * How a recurring deadline or event repeats: daily, weekly (optionally on chosen weekdays), monthly or yearly,
+ * every so many periods, optionally ending after a number of occurrences or on a date.
+ * A series is stored once, as its first occurrence plus this rule, in the subset of the iCalendar
+ * {@code RRULE} syntax written by {@link #toRule()}.
+ *
+ * <p>Occurrences are never materialized. Occurrence {@code i} is computed directly from the first one,
+ * so {@link #occurrencesFrom} jumps straight to the query window and a series costs only the occurrences
+ * actually read, however long it runs. Monthly and yearly dates that fall on a day the month lacks,
+ * such as the 31st or 29 February, move to the last day of that month. A weekly series on chosen weekdays
+ * falls on those weekdays from the first occurrence's date on, so that date only counts if it is one of them.
+ */
+public final class Recurrence {
+
+    /**
+     * Period a recurrence repeats over.
+     */
+    public enum Frequency {
+        DAILY,
+        WEEKLY,
+        MONTHLY,
+        YEARLY
+    }
+
+    private static final DateTimeFormatter UNTIL_INPUT_FORMAT = DateTimeFormatter.ofPattern("d/M/yyyy");
+    private static final DateTimeFormatter UNTIL_OUTPUT_FORMAT = DateTimeFormatter.ofPattern("d MMM yyyy");
+    private static final int MAX_INTERVAL = 999;
+    private static final int MAX_COUNT = 99_999;
+
+    private final Frequency frequency;
+    private final int interval;
+    private final Set<DayOfWeek> weekdays;
+    private final int count;
+    private final LocalDate until;
+
+    /**
+     * Creates a recurrence rule.
+     *
+     * @param frequency Period the series repeats over
+     * @param interval Number of periods between repeats, at least 1
+     * @param weekdays Days of the week a weekly series falls on, or empty for the first occurrence's weekday
+     * @param count Number of occurrences in the series, or 0 for no limit
+     * @param until Last date an occurrence may fall on, or null for no end date
+     * @throws IllegalArgumentException If the interval or count is out of range, or weekdays are given
+     *         for a series that is not weekly
+     */
+    public Recurrence(Frequency frequency, int interval, Set<DayOfWeek> weekdays, int count, LocalDate until) {
+        if (interval < 1 || interval > MAX_INTERVAL) {
+            throw new IllegalArgumentException("interval must be between 1 and " + MAX_INTERVAL);
+        }
+        if (count < 0 || count > MAX_COUNT) {
+            throw new IllegalArgumentException("count must be at most " + MAX_COUNT);
+        }
+        if (!weekdays.isEmpty() && frequency != Frequency.WEEKLY) {
+            throw new IllegalArgumentException("weekdays only work with a weekly repeat");
+        }
+        this.frequency = frequency;
+        this.interval = interval;
+        this.weekdays = weekdays.isEmpty() ? EnumSet.noneOf(DayOfWeek.class) : EnumSet.copyOf(weekdays);
+        this.count = count;
+        this.until = until;
+    }
+
+    /**
+     * Parses a repeat typed after {@code /every}, such as {@code day}, {@code 2 weeks}, {@code weekday},
+     * {@code mon,wed,fri}, {@code month until 31/12/2026} or {@code week 10 times}.
+     * An iCalendar rule such as {@code FREQ=WEEKLY;BYDAY=MO,WE} is accepted too.
+     *
+     * @param text Repeat typed by the user
+     * @return Parsed recurrence
+     * @throws IllegalArgumentException If the text is not a repeat this class understands
+     */
+    public static Recurrence parse(String text) {
+        String trimmed = text.trim();
+        String upper = trimmed.toUpperCase(Locale.ROOT);
+        if (upper.startsWith("RRULE:")) {
+            return parseRule(trimmed.substring("RRULE:".length()));
+        }
+        if (upper.startsWith("FREQ=")) {
+            return parseRule(trimmed);
+        }
+
+        String[] tokens = trimmed.toLowerCase(Locale.ROOT).split("\\s+");
+        int end = tokens.length;
+        int count = 0;
+        LocalDate until = null;
+        if (end >= 2 && tokens[end - 1].equals("times")) {
+            count = parsePositive(tokens[end - 2], "number of times");
+            end -= 2;
+        }
+        if (end >= 2 && tokens[end - 2].equals("until")) {
+            try {
+                until = LocalDate.parse(tokens[end - 1], UNTIL_INPUT_FORMAT);
+            } catch (DateTimeParseException e) {
+                throw new IllegalArgumentException("until date must be d/M/yyyy");
+            }
+            end -= 2;
+        }
+        if (end == 0 || end > 2) {
+            throw new IllegalArgumentException("cannot understand '" + trimmed + "'");
+        }
+
+        int interval = end == 2 ? parsePositive(tokens[0], "interval") : 1;
+        String unit = tokens[end - 1];
+        Set<DayOfWeek> weekdays = EnumSet.noneOf(DayOfWeek.class);
+        Frequency frequency = parseUnit(unit, end == 2);
+        if (frequency == null) {
+            frequency = Frequency.WEEKLY;
+            weekdays = unit.equals("weekday") || unit.equals("weekdays")
+                    ? EnumSet.range(DayOfWeek.MONDAY, DayOfWeek.FRIDAY)
+                    : parseWeekdays(unit.split(","), false);
+        }
+        return new Recurrence(frequency, interval, weekdays, count, until);
+    }
+
+    /**
+     * Parses an iCalendar rule such as {@code FREQ=MONTHLY;INTERVAL=2;COUNT=6}. Only the
+     * {@code FREQ}, {@code INTERVAL}, {@code BYDAY} (plain weekdays), {@code COUNT}, {@code UNTIL}
+     * and {@code WKST} parts are supported.
+     *
+     * @param rule Rule text, without the {@code RRULE:} prefix
+     * @return Parsed recurrence
+     * @throws IllegalArgumentException If the rule is malformed or uses an unsupported part
+     */
+    public static Recurrence parseRule(String rule) {
+        Frequency frequency = null;
+        int interval = 1;
+        Set<DayOfWeek> weekdays = EnumSet.noneOf(DayOfWeek.class);
+        int count = 0;
+        LocalDate until = null;
+
+        for (String part : rule.trim().split(";")) {
+            int equals = part.indexOf('=');
+            if (equals <= 0) {
+                throw new IllegalArgumentException("malformed rule part '" + part + "'");
+            }
+            String name = part.substring(0, equals).trim().toUpperCase(Locale.ROOT);
+            String value = part.substring(equals + 1).trim().toUpperCase(Locale.ROOT);
+            switch (name) {
+            case "FREQ":
+                try {
+                    frequency = Frequency.valueOf(value);
+                } catch (IllegalArgumentException e) {
+                    throw new IllegalArgumentException("unsupported frequency " + value);
+                }
+                break;
+            case "INTERVAL":
+                interval = parsePositive(value, "interval");
+                break;
+            case "BYDAY":
+                weekdays = parseWeekdays(value.split(","), true);
+                break;
+            case "COUNT":
+                count = parsePositive(value, "count");
+                break;
+            case "UNTIL":
+                until = parseRuleDate(value);
+                break;
+            case "WKST":
+                break;
+            default:
+                throw new IllegalArgumentException("unsupported rule part " + name);
+            }
+        }
+
+        if (frequency == null) {
+            throw new IllegalArgumentException("rule has no FREQ");
+        }
+        return new Recurrence(frequency, interval, weekdays, count, until);
+    }
+
+    public Frequency getFrequency() {
+        return frequency;
+    }
+
+    public int getInterval() {
+        return interval;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public LocalDate getUntil() {
+        return until;
+    }
+
+    /**
+     * Writes this recurrence as an iCalendar rule, as kept in the data file and exported to calendars.
+     *
+     * @return Rule such as {@code FREQ=WEEKLY;INTERVAL=2;BYDAY=MO,WE;UNTIL=20261231}
+     */
+    public String toRule() {
+        StringBuilder rule = new StringBuilder("FREQ=").append(frequency.name());
+        if (interval > 1) {
+            rule.append(";INTERVAL=").append(interval);
+        }
+        if (!weekdays.isEmpty()) {
+            rule.append(";BYDAY=");
+            for (DayOfWeek day : weekdays) {
+                rule.append(day.name(), 0, 2).append(',');
+            }
+            rule.setLength(rule.length() - 1);
+        }
+        if (count > 0) {
+            rule.append(";COUNT=").append(count);
+        }
+        if (until != null) {
+            rule.append(";UNTIL=").append(until.format(DateTimeFormatter.BASIC_ISO_DATE));
+        }
+        return rule.toString();
+    }
+
+    /**
+     * Gets the occurrences of a series in order, starting from the first one at or after a given time.
+     * The iterator computes each occurrence as it is read and ends only when the series does,
+     * so callers reading a window stop once they pass its end.
+     *
+     * @param first First occurrence of the series
+     * @param from Earliest occurrence wanted
+     * @return Lazy iterator over occurrence times
+     */
+    public Iterator<LocalDateTime> occurrencesFrom(LocalDateTime first, LocalDateTime from) {
+        return new OccurrenceIterator(first, from);
+    }
+
+    /**
+     * Describes this recurrence for display, such as {@code every 2 weeks on Mon, Wed until 31 Dec 2026}.
+     *
+     * @return Human-readable repeat
+     */
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder("every ");
+        String unit = frequency == Frequency.DAILY ? "day" : frequency.name().toLowerCase(Locale.ROOT)
+                .replace("ly", "");
+        if (interval > 1) {
+            text.append(interval).append(' ').append(unit).append('s');
+        } else {
+            text.append(unit);
+        }
+        if (!weekdays.isEmpty()) {
+            text.append(" on ");
+            for (DayOfWeek day : weekdays) {
+                String name = day.name();
+                text.append(name.charAt(0)).append(name.substring(1, 3).toLowerCase(Locale.ROOT)).append(", ");
+            }
+            text.setLength(text.length() - 2);
+        }
+        if (count > 0) {
+            text.append(", ").append(count).append(count == 1 ? " time" : " times");
+        }
+        if (until != null) {
+            text.append(" until ").append(until.format(UNTIL_OUTPUT_FORMAT));
+        }
+        return text.toString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof Recurrence)) {
+            return false;
+        }
+        Recurrence that = (Recurrence) other;
+        return frequency == that.frequency && interval == that.interval && count == that.count
+                && weekdays.equals(that.weekdays) && Objects.equals(until, that.until);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(frequency, interval, weekdays, count, until);
+    }
+
+    /**
+     * Parses a unit such as {@code day}, {@code weeks} or {@code monthly}.
+     *
+     * @return Frequency of the unit, or null if the text is not a unit
+     */
+    private static Frequency parseUnit(String unit, boolean hasInterval) {
+        switch (unit) {
+        case "day":
+        case "days":
+            return Frequency.DAILY;
+        case "week":
+        case "weeks":
+            return Frequency.WEEKLY;
+        case "month":
+        case "months":
+            return Frequency.MONTHLY;
+        case "year":
+        case "years":
+            return Frequency.YEARLY;
+        case "daily":
+            return hasInterval ? null : Frequency.DAILY;
+        case "weekly":
+            return hasInterval ? null : Frequency.WEEKLY;
+        case "monthly":
+            return hasInterval ? null : Frequency.MONTHLY;
+        case "yearly":
+            return hasInterval ? null : Frequency.YEARLY;
+        default:
+            return null;
+        }
+    }
+
+    /**
+     * Parses weekday names such as {@code mon} and {@code friday}, or the two-letter {@code MO} codes of a rule.
+     */
+    private static Set<DayOfWeek> parseWeekdays(String[] names, boolean isRule) {
+        Set<DayOfWeek> weekdays = EnumSet.noneOf(DayOfWeek.class);
+        for (String name : names) {
+            String lower = name.trim().toLowerCase(Locale.ROOT);
+            DayOfWeek match = null;
+            for (DayOfWeek day : DayOfWeek.values()) {
+                String dayName = day.name().toLowerCase(Locale.ROOT);
+                boolean isMatch = isRule ? lower.equals(dayName.substring(0, 2))
+                        : lower.length() >= 3 && dayName.startsWith(lower);
+                if (isMatch) {
+                    match = day;
+                    break;
+                }
+            }
+            if (match == null) {
+                throw new IllegalArgumentException("unknown weekday '" + name.trim() + "'");
+            }
+            weekdays.add(match);
+        }
+        return weekdays;
+    }
+
+    /**
+     * Parses an {@code UNTIL} value, which may be a date or a date-time; only the date is kept.
+     */
+    private static LocalDate parseRuleDate(String value) {
+        int dateLength = 8;
+        try {
+            return LocalDate.parse(value.substring(0, Math.min(dateLength, value.length())),
+                    DateTimeFormatter.BASIC_ISO_DATE);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("invalid UNTIL date " + value);
+        }
+    }
+
+    private static int parsePositive(String text, String what) {
+        try {
+            int value = Integer.parseInt(text);
+            if (value >= 1) {
+                return value;
+            }
+        } catch (NumberFormatException e) {
+            // Fall through to the error below
+        }
+        throw new IllegalArgumentException(what + " must be a positive number");
+    }
+
+    /**
+     * Walks a series from the first occurrence at or after a given time. Occurrences are numbered from 0,
+     * the first occurrence of the series; occurrence {@code i} is computed from the first in constant time,
+     * which lets the iterator start at an estimated number instead of stepping through the earlier ones.
+     */
+    private final class OccurrenceIterator implements Iterator<LocalDateTime> {
+        private final LocalDateTime first;
+        private final int[] dayOffsets;
+        private final int skippedSlots;
+        private final LocalDate firstWeekStart;
+        private long index;
+        private LocalDateTime next;
+
+        OccurrenceIterator(LocalDateTime first, LocalDateTime from) {
+            this.first = first;
+            this.firstWeekStart = first.toLocalDate().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            Set<DayOfWeek> days = weekdays.isEmpty() ? EnumSet.of(first.getDayOfWeek()) : weekdays;
+            this.dayOffsets = new int[days.size()];
+            int skipped = 0;
+            int position = 0;
+            for (DayOfWeek day : days) {
+                dayOffsets[position++] = day.ordinal();
+                if (day.compareTo(first.getDayOfWeek()) < 0) {
+                    skipped++;
+                }
+            }
+            this.skippedSlots = skipped;
+            this.index = from.isAfter(first) ? findFirstIndexAtOrAfter(from) : 0;
+            this.next = occurrence(index);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public LocalDateTime next() {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            LocalDateTime current = next;
+            next = occurrence(++index);
+            return current;
+        }
+
+        /**
+         * Estimates the number of the first occurrence at or after a time from the periods elapsed,
+         * then corrects the estimate by the one or two steps that month lengths or weekday slots may need.
+         */
+        private long findFirstIndexAtOrAfter(LocalDateTime from) {
+            long estimate;
+            switch (frequency) {
+            case DAILY:
+                estimate = ChronoUnit.DAYS.between(first, from) / interval;
+                break;
+            case WEEKLY:
+                long weeks = ChronoUnit.DAYS.between(firstWeekStart, from.toLocalDate()) / (7L * interval);
+                estimate = weeks * dayOffsets.length - skippedSlots;
+                break;
+            case MONTHLY:
+                estimate = ChronoUnit.MONTHS.between(first, from) / interval;
+                break;
+            case YEARLY:
+                estimate = ChronoUnit.YEARS.between(first, from) / interval;
+                break;
+            default:
+                throw new IllegalStateException("Unknown frequency: " + frequency);
+            }
+
+            long candidate = Math.max(0, estimate);
+            while (candidate > 0 && !timeOf(candidate - 1).isBefore(from)) {
+                candidate--;
+            }
+            while (timeOf(candidate).isBefore(from)) {
+                candidate++;
+            }
+            return candidate;
+        }
+
+        /**
+         * Gets an occurrence if the series still has it.
+         *
+         * @return Occurrence time, or null once the count or end date is passed
+         */
+        private LocalDateTime occurrence(long number) {
+            if (count > 0 && number >= count) {
+                return null;
+            }
+            LocalDateTime time = timeOf(number);
+            if (until != null && time.toLocalDate().isAfter(until)) {
+                return null;
+            }
+            return time;
+        }
+
+        private LocalDateTime timeOf(long number) {
+            switch (frequency) {
+            case DAILY:
+                return first.plusDays(number * interval);
+            case WEEKLY:
+                long slot = number + skippedSlots;
+                long week = slot / dayOffsets.length;
+                LocalDate date = firstWeekStart.plusWeeks(week * interval)
+                        .plusDays(dayOffsets[(int) (slot % dayOffsets.length)]);
+                return date.atTime(first.toLocalTime());
+            case MONTHLY:
+                // Always counted from the first occurrence, so clamping to a short month never drifts later dates
+                return first.plusMonths(number * interval);
+            case YEARLY:
+                return first.plusYears(number * interval);
+            default:
+                throw new IllegalStateException("Unknown frequency: " + frequency);
+            }
+        }
+    }
+}
@@ -76,6 +76,35 @@ public abstract class Task {
         return taskSymbol;
     }
 
+    /**
+     * Gets how this task repeats. Only deadlines and events can repeat.
+     *
+     * @return Recurrence rule, or null if the task happens once
+     */
+    public Recurrence getRecurrence() {
+        return null;
+    }
+
+    /**
+     * Returns a copy of this task with the given completion status.
+     * The original task is left untouched, so snapshots that still refer to it stay consistent.
+     *
+     * @param isDone Completion status of the copy
+     * @return A new task with the same details and the requested status
+     */
+    public Task withDone(boolean isDone) {
+        Task copy = copy();
+        copy.isDone = isDone;
+        return copy;
+    }
+
+    /**
+     * Creates a new, not-yet-completed task with the same details as this one.
+     *
+     * @return Fresh copy of this task
+     */
+    protected abstract Task copy();
+
     /**
      * Converts this task to a string format suitable for file storage.
      * Each task type implements its own storage format.
@@ -92,6 +121,6 @@ public abstract class Task {
      */
     @Override
     public String toString() {
-        return String.format("[%c][%s] %s", taskSymbol, getStatusIcon(), description);
+        return "[" + taskSymbol + "][" + getStatusIcon() + "] " + description;
     }
 }
\ No newline at end of file
@@ -17,6 +17,11 @@ public class ToDo extends Task {
         super(description, TaskType.TODO.getSymbol());
     }
 
+    @Override
+    protected Task copy() {
+        return new ToDo(getDescription());
+    }
+
     /**
      * Converts this todo task to file storage format.
      * Format: "T | [1|0] | description"
@@ -26,6 +31,6 @@ public class ToDo extends Task {
     @Override
     public String toFileString() {
         String completionFlag = isDone() ? "1" : "0";
-        return String.format("T | %s | %s", completionFlag, getDescription());
+        return "T | " + completionFlag + " | " + getDescription();
     }
 }
\ No newline at end of file
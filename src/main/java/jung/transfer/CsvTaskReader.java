@@ -0,0 +1,166 @@
+package jung.transfer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import jung.task.Task;
+
+/**
+ * Reads tasks from CSV in the RFC 4180 style: comma-separated fields, optionally quoted, with
+ * {@code ""} for a quote inside a quoted field and line breaks allowed inside quotes.
+ *
+ * <p>The first row names the columns, in any order and case. {@code description} (or {@code title},
+ * {@code summary}) is required; {@code type}, {@code done}, {@code by} (or {@code due}),
+ * {@code from} (or {@code start}), {@code to} (or {@code end}) and {@code repeat} (or {@code rrule},
+ * an iCalendar rule such as {@code FREQ=WEEKLY}) are optional, and other columns are ignored.
+ * Without a {@code type} column, the type follows from which times a row has.
+ */
+public class CsvTaskReader extends TaskRecordReader {
+
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+    private static final int MAX_RECORD_LENGTH = 1 << 16;
+
+    private final List<String> fields = new ArrayList<>();
+    private final StringBuilder field = new StringBuilder();
+    private boolean hasReadHeader;
+    private int typeColumn = -1;
+    private int descriptionColumn = -1;
+    private int doneColumn = -1;
+    private int byColumn = -1;
+    private int fromColumn = -1;
+    private int toColumn = -1;
+    private int repeatColumn = -1;
+
+    /**
+     * Creates a reader over CSV input.
+     *
+     * @param input Input positioned at the header row
+     */
+    public CsvTaskReader(BufferedReader input) {
+        super(input);
+    }
+
+    @Override
+    protected Task readRecord() throws IOException {
+        if (!hasReadHeader) {
+            readHeader();
+        }
+        if (!readRow()) {
+            return null;
+        }
+        return createTask(parseType(getField(typeColumn)), getField(descriptionColumn),
+                parseDone(getField(doneColumn)), parseDateTime(getField(byColumn)),
+                parseDateTime(getField(fromColumn)), parseDateTime(getField(toColumn)),
+                parseRecurrence(getField(repeatColumn)));
+    }
+
+    private void readHeader() throws IOException {
+        hasReadHeader = true;
+        if (!readRow()) {
+            return;
+        }
+        for (int column = 0; column < fields.size(); column++) {
+            String name = fields.get(column).trim().toLowerCase(Locale.ROOT);
+            if (column == 0 && !name.isEmpty() && name.charAt(0) == BYTE_ORDER_MARK) {
+                name = name.substring(1);
+            }
+            switch (name) {
+            case "type":
+                typeColumn = column;
+                break;
+            case "description":
+            case "title":
+            case "summary":
+                descriptionColumn = column;
+                break;
+            case "done":
+            case "completed":
+                doneColumn = column;
+                break;
+            case "by":
+            case "due":
+                byColumn = column;
+                break;
+            case "from":
+            case "start":
+                fromColumn = column;
+                break;
+            case "to":
+            case "end":
+                toColumn = column;
+                break;
+            case "repeat":
+            case "rrule":
+                repeatColumn = column;
+                break;
+            default:
+                break;
+            }
+        }
+        if (descriptionColumn < 0) {
+            throw new TransferException("the CSV header row has no 'description' column");
+        }
+    }
+
+    /**
+     * Reads the fields of the next non-blank row, which may span several lines inside quotes.
+     *
+     * @return False at the end of the file
+     */
+    private boolean readRow() throws IOException {
+        String line;
+        do {
+            line = readLine();
+            if (line == null) {
+                return false;
+            }
+        } while (line.isBlank());
+        markRecordStart(getLineNumber());
+
+        fields.clear();
+        field.setLength(0);
+        boolean isQuoted = false;
+        while (true) {
+            for (int i = 0; i < line.length(); i++) {
+                char c = line.charAt(i);
+                if (isQuoted) {
+                    if (c != QUOTE) {
+                        field.append(c);
+                    } else if (i + 1 < line.length() && line.charAt(i + 1) == QUOTE) {
+                        field.append(QUOTE);
+                        i++;
+                    } else {
+                        isQuoted = false;
+                    }
+                } else if (c == SEPARATOR) {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else if (c == QUOTE && field.length() == 0) {
+                    isQuoted = true;
+                } else {
+                    field.append(c);
+                }
+            }
+            if (!isQuoted) {
+                break;
+            }
+
+            line = readLine();
+            if (line == null || field.length() > MAX_RECORD_LENGTH) {
+                // Give up on a runaway quote rather than reading the rest of the file into one field
+                throw new IllegalArgumentException("quoted field never closed");
+            }
+            field.append('\n');
+        }
+        fields.add(field.toString());
+        return true;
+    }
+
+    private String getField(int column) {
+        return column >= 0 && column < fields.size() ? fields.get(column) : "";
+    }
+}
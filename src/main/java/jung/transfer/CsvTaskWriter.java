@@ -0,0 +1,84 @@
+package jung.transfer;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.util.Locale;
+import jung.task.Deadline;
+import jung.task.Event;
+import jung.task.Recurrence;
+import jung.task.Task;
+import jung.util.TaskType;
+
+/**
+ * Writes tasks as CSV with the columns {@code type,done,description,by,from,to,repeat}, which
+ * {@link CsvTaskReader} reads back. Times are ISO-8601 local date-times, such as {@code 2024-03-15T14:00}.
+ */
+public class CsvTaskWriter extends TaskRecordWriter {
+
+    private static final String HEADER = "type,done,description,by,from,to,repeat";
+
+    private final StringBuilder row = new StringBuilder();
+
+    /**
+     * Creates a writer producing CSV.
+     *
+     * @param output Output positioned at the start of the file
+     */
+    public CsvTaskWriter(BufferedWriter output) {
+        super(output);
+    }
+
+    @Override
+    protected void writeHeader() throws IOException {
+        getOutput().write(HEADER);
+        getOutput().newLine();
+    }
+
+    @Override
+    protected void writeRecord(Task task) throws IOException {
+        row.setLength(0);
+        row.append(TaskType.fromSymbol(task.getTaskSymbol()).name().toLowerCase(Locale.ROOT))
+                .append(',').append(task.isDone()).append(',');
+        appendField(task.getDescription());
+        row.append(',');
+        if (task instanceof Deadline) {
+            row.append(((Deadline) task).getDeadlineTime()).append(",,");
+        } else if (task instanceof Event) {
+            Event event = (Event) task;
+            row.append(',').append(event.getStartTime()).append(',').append(event.getEndTime());
+        } else {
+            row.append(",,");
+        }
+        row.append(',');
+        Recurrence recurrence = task.getRecurrence();
+        if (recurrence != null) {
+            appendField(recurrence.toRule());
+        }
+        getOutput().append(row);
+        getOutput().newLine();
+    }
+
+    /**
+     * Appends a field, quoted if it holds a comma, a quote, a line break or surrounding spaces.
+     */
+    private void appendField(String value) {
+        boolean needsQuotes = !value.isEmpty() && (value.charAt(0) == ' ' || value.charAt(value.length() - 1) == ' ');
+        for (int i = 0; i < value.length() && !needsQuotes; i++) {
+            char c = value.charAt(i);
+            needsQuotes = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!needsQuotes) {
+            row.append(value);
+            return;
+        }
+        row.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                row.append('"');
+            }
+            row.append(c);
+        }
+        row.append('"');
+    }
+}
@@ -0,0 +1,347 @@
+package jung.transfer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.Locale;
+import jung.task.Task;
+import jung.util.TaskType;
+
+/**
+ * Reads tasks from an iCalendar ({@code .ics}) file: each {@code VEVENT} becomes an {@link jung.task.Event},
+ * each {@code VTODO} with a {@code DUE} time a {@link jung.task.Deadline}, and any other {@code VTODO}
+ * a {@link jung.task.ToDo}. Other components, and components nested inside these (such as alarms),
+ * are ignored.
+ *
+ * <p>Folded lines are unfolded as they are read, and only the properties of the component being read
+ * are kept, so calendars of any size stream through in constant memory. Times in UTC or with a known
+ * {@code TZID} are converted to the reader's time zone; floating times are taken as they are.
+ * An all-day event runs from the start of its first day to the end of its last. A repeating component
+ * keeps its {@code RRULE} if it only uses the parts {@link jung.task.Recurrence} supports, and is
+ * skipped with a warning otherwise.
+ */
+public class IcsTaskReader extends TaskRecordReader {
+
+    private static final DateTimeFormatter DATE_TIME_FORMAT = DateTimeFormatter.ofPattern("uuuuMMdd'T'HHmmss");
+    private static final String VEVENT = "VEVENT";
+    private static final String VTODO = "VTODO";
+    private static final int DATE_LENGTH = 8;
+    private static final int END_OF_DAY_HOUR = 23;
+    private static final int END_OF_DAY_MINUTE = 59;
+
+    private final ZoneId zone;
+    private String pendingLine;
+    private int pendingLineNumber;
+    private int currentLineNumber;
+
+    private String component;
+    private int nestedDepth;
+    private String summary;
+    private TimeProperty start;
+    private TimeProperty end;
+    private TimeProperty due;
+    private String duration;
+    private String rule;
+    private boolean isDone;
+    private boolean isCancelled;
+
+    /**
+     * Creates a reader that converts zoned times to the system time zone.
+     *
+     * @param input Input positioned at the start of the calendar
+     */
+    public IcsTaskReader(BufferedReader input) {
+        this(input, ZoneId.systemDefault());
+    }
+
+    /**
+     * Creates a reader that converts zoned times to the given time zone.
+     *
+     * @param input Input positioned at the start of the calendar
+     * @param zone Time zone that imported tasks are in
+     */
+    public IcsTaskReader(BufferedReader input, ZoneId zone) {
+        super(input);
+        this.zone = zone;
+    }
+
+    @Override
+    protected Task readRecord() throws IOException {
+        String line;
+        while ((line = readUnfoldedLine()) != null) {
+            int valueStart = findValueStart(line);
+            if (valueStart < 0) {
+                continue;
+            }
+            String nameAndParameters = line.substring(0, valueStart);
+            String value = line.substring(valueStart + 1);
+            int parametersStart = nameAndParameters.indexOf(';');
+            String name = (parametersStart < 0 ? nameAndParameters : nameAndParameters.substring(0, parametersStart))
+                    .toUpperCase(Locale.ROOT);
+            String parameters = parametersStart < 0 ? "" : nameAndParameters.substring(parametersStart + 1);
+
+            if (name.equals("BEGIN")) {
+                beginComponent(value.trim().toUpperCase(Locale.ROOT));
+            } else if (name.equals("END") && component != null) {
+                if (nestedDepth > 0) {
+                    nestedDepth--;
+                } else {
+                    String finished = component;
+                    component = null;
+                    return buildTask(finished);
+                }
+            } else if (component != null && nestedDepth == 0) {
+                readProperty(name, parameters, value);
+            }
+        }
+
+        if (component != null) {
+            String unfinished = component;
+            component = null;
+            throw new IllegalArgumentException("calendar ends inside a " + unfinished);
+        }
+        return null;
+    }
+
+    private void beginComponent(String name) {
+        if (component != null) {
+            nestedDepth++;
+            return;
+        }
+        if (!name.equals(VEVENT) && !name.equals(VTODO)) {
+            return;
+        }
+        markRecordStart(currentLineNumber);
+        component = name;
+        nestedDepth = 0;
+        summary = null;
+        start = null;
+        end = null;
+        due = null;
+        duration = null;
+        rule = null;
+        isDone = false;
+        isCancelled = false;
+    }
+
+    private void readProperty(String name, String parameters, String value) {
+        switch (name) {
+        case "SUMMARY":
+            summary = unescapeText(value);
+            break;
+        case "DTSTART":
+            start = new TimeProperty(value, parameters);
+            break;
+        case "DTEND":
+            end = new TimeProperty(value, parameters);
+            break;
+        case "DUE":
+            due = new TimeProperty(value, parameters);
+            break;
+        case "DURATION":
+            duration = value.trim();
+            break;
+        case "RRULE":
+            rule = value.trim();
+            break;
+        case "STATUS":
+            String status = value.trim().toUpperCase(Locale.ROOT);
+            isDone |= status.equals("COMPLETED");
+            isCancelled = status.equals("CANCELLED");
+            break;
+        case "COMPLETED":
+            isDone = true;
+            break;
+        case "X-JUNG-DONE":
+            isDone = value.trim().equalsIgnoreCase("TRUE");
+            break;
+        default:
+            break;
+        }
+    }
+
+    /**
+     * Builds the task for a component whose properties have all been read.
+     */
+    private Task buildTask(String finished) {
+        if (isCancelled) {
+            throw new IllegalArgumentException("cancelled " + finished);
+        }
+
+        if (finished.equals(VTODO)) {
+            LocalDateTime dueTime = due != null ? toEndOfDayIfDate(due)
+                    : start != null && duration != null ? start.toLocal(zone).plus(parseDuration(duration)) : null;
+            return createTask(dueTime != null ? TaskType.DEADLINE : TaskType.TODO, summary, isDone, dueTime,
+                    null, null, parseRecurrence(rule));
+        }
+
+        if (start == null) {
+            throw new IllegalArgumentException("event without DTSTART");
+        }
+        LocalDateTime startTime = start.toLocal(zone);
+        LocalDateTime endTime;
+        if (end != null) {
+            // An all-day end date is exclusive: the event is over by the end of the day before
+            endTime = end.isDate ? end.toLocal(zone).minusMinutes(1) : end.toLocal(zone);
+        } else if (duration != null) {
+            endTime = startTime.plus(parseDuration(duration));
+        } else {
+            endTime = toEndOfDayIfDate(start);
+        }
+        return createTask(TaskType.EVENT, summary, isDone, null, startTime, endTime, parseRecurrence(rule));
+    }
+
+    private LocalDateTime toEndOfDayIfDate(TimeProperty property) {
+        LocalDateTime time = property.toLocal(zone);
+        return property.isDate ? time.withHour(END_OF_DAY_HOUR).withMinute(END_OF_DAY_MINUTE) : time;
+    }
+
+    /**
+     * Parses an iCalendar duration such as {@code PT1H30M}, {@code P2D} or {@code P1W}.
+     */
+    private static Duration parseDuration(String text) {
+        if (text.endsWith("W")) {
+            int weeksStart = text.startsWith("-") ? 2 : 1;
+            long weeks = Long.parseLong(text.substring(weeksStart, text.length() - 1));
+            return Duration.ofDays(weeksStart == 2 ? -7 * weeks : 7 * weeks);
+        }
+        return Duration.parse(text);
+    }
+
+    /**
+     * Reads the next logical line, joining the continuation lines that start with a space or tab.
+     */
+    private String readUnfoldedLine() throws IOException {
+        String line;
+        if (pendingLine != null) {
+            line = pendingLine;
+            currentLineNumber = pendingLineNumber;
+            pendingLine = null;
+        } else {
+            line = readLine();
+            currentLineNumber = getLineNumber();
+        }
+        if (line == null) {
+            return null;
+        }
+
+        StringBuilder unfolded = null;
+        String next;
+        while ((next = readLine()) != null && isContinuation(next)) {
+            if (unfolded == null) {
+                unfolded = new StringBuilder(line);
+            }
+            unfolded.append(next, 1, next.length());
+        }
+        pendingLine = next;
+        pendingLineNumber = getLineNumber();
+        return unfolded == null ? line : unfolded.toString();
+    }
+
+    private static boolean isContinuation(String line) {
+        return !line.isEmpty() && (line.charAt(0) == ' ' || line.charAt(0) == '\t');
+    }
+
+    /**
+     * Finds the colon between a property's name and parameters and its value, skipping quoted parameters.
+     *
+     * @return Index of the colon, or -1 if there is none
+     */
+    private static int findValueStart(String line) {
+        boolean isQuoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c == '"') {
+                isQuoted = !isQuoted;
+            } else if (c == ':' && !isQuoted) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Gets a parameter value, such as the {@code Europe/Berlin} of {@code TZID=Europe/Berlin}.
+     *
+     * @return Value without quotes, or null if the parameter is absent
+     */
+    private static String findParameter(String parameters, String name) {
+        for (String parameter : parameters.split(";")) {
+            int equals = parameter.indexOf('=');
+            if (equals > 0 && parameter.substring(0, equals).trim().equalsIgnoreCase(name)) {
+                String value = parameter.substring(equals + 1).trim();
+                return value.length() >= 2 && value.startsWith("\"") && value.endsWith("\"")
+                        ? value.substring(1, value.length() - 1) : value;
+            }
+        }
+        return null;
+    }
+
+    private static String unescapeText(String value) {
+        if (value.indexOf('\\') < 0) {
+            return value;
+        }
+        StringBuilder text = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\\' && i + 1 < value.length()) {
+                char escaped = value.charAt(++i);
+                text.append(escaped == 'n' || escaped == 'N' ? '\n' : escaped);
+            } else {
+                text.append(c);
+            }
+        }
+        return text.toString();
+    }
+
+    /**
+     * A date or date-time property such as {@code DTSTART;TZID=Europe/Berlin:20250301T090000}.
+     */
+    private static class TimeProperty {
+        private final String value;
+        private final String timeZoneId;
+        private final boolean isDate;
+
+        TimeProperty(String value, String parameters) {
+            this.value = value.trim();
+            this.timeZoneId = findParameter(parameters, "TZID");
+            this.isDate = "DATE".equalsIgnoreCase(findParameter(parameters, "VALUE"))
+                    || this.value.length() == DATE_LENGTH;
+        }
+
+        /**
+         * Gets the time in the given zone; a date alone gives the start of that day.
+         */
+        LocalDateTime toLocal(ZoneId zone) {
+            if (isDate) {
+                return LocalDate.parse(value, DateTimeFormatter.BASIC_ISO_DATE).atStartOfDay();
+            }
+            boolean isUtc = value.endsWith("Z");
+            LocalDateTime time = LocalDateTime.parse(isUtc ? value.substring(0, value.length() - 1) : value,
+                    DATE_TIME_FORMAT).truncatedTo(ChronoUnit.MINUTES);
+            ZoneId source = isUtc ? ZoneOffset.UTC : findZone(timeZoneId);
+            return source == null ? time : time.atZone(source).withZoneSameInstant(zone).toLocalDateTime();
+        }
+
+        /**
+         * Looks up a TZID, treating names Java does not know as floating time.
+         */
+        private static ZoneId findZone(String timeZoneId) {
+            if (timeZoneId == null) {
+                return null;
+            }
+            try {
+                return ZoneId.of(timeZoneId);
+            } catch (DateTimeException e) {
+                return null;
+            }
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package jung.transfer;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.UUID;
+import jung.task.Deadline;
+import jung.task.Event;
+import jung.task.Task;
+
+/**
+ * Writes tasks as an iCalendar ({@code .ics}) file that calendar apps and {@link IcsTaskReader} can read:
+ * events become {@code VEVENT}s, deadlines {@code VTODO}s with a {@code DUE} time and todos plain
+ * {@code VTODO}s, with an {@code RRULE} for those that repeat. Times are written as floating local times,
+ * so they mean the same wall-clock time wherever the file is opened. Lines end in CRLF and are folded
+ * at 75 octets, as RFC 5545 requires.
+ */
+public class IcsTaskWriter extends TaskRecordWriter {
+
+    private static final DateTimeFormatter DATE_TIME_FORMAT = DateTimeFormatter.ofPattern("uuuuMMdd'T'HHmmss");
+    private static final String LINE_END = "\r\n";
+    private static final String FOLD = "\r\n ";
+    private static final int MAX_LINE_OCTETS = 75;
+
+    private final String timestamp;
+    private final StringBuilder line = new StringBuilder();
+    private int recordNumber;
+
+    /**
+     * Creates a writer that stamps the file with the current time.
+     *
+     * @param output Output positioned at the start of the file
+     */
+    public IcsTaskWriter(BufferedWriter output) {
+        this(output, Clock.systemUTC());
+    }
+
+    /**
+     * Creates a writer that stamps the file with the time of the given clock.
+     *
+     * @param output Output positioned at the start of the file
+     * @param clock Clock giving the export time
+     */
+    public IcsTaskWriter(BufferedWriter output, Clock clock) {
+        super(output);
+        this.timestamp = LocalDateTime.now(clock.withZone(ZoneOffset.UTC)).format(DATE_TIME_FORMAT) + "Z";
+    }
+
+    @Override
+    protected void writeHeader() throws IOException {
+        writeLine("BEGIN:VCALENDAR");
+        writeLine("VERSION:2.0");
+        writeLine("PRODID:-//Jung//Jung Task Manager//EN");
+    }
+
+    @Override
+    protected void writeRecord(Task task) throws IOException {
+        recordNumber++;
+        String component = task instanceof Event ? "VEVENT" : "VTODO";
+        writeLine("BEGIN:" + component);
+        // Same task in the same position gives the same UID, so calendars update rather than duplicate on re-import
+        String identity = recordNumber + task.toFileString();
+        writeLine("UID:" + UUID.nameUUIDFromBytes(identity.getBytes(StandardCharsets.UTF_8)) + "@jung");
+        writeLine("DTSTAMP:" + timestamp);
+        line.setLength(0);
+        line.append("SUMMARY:");
+        appendEscapedText(task.getDescription());
+        writeLine(line);
+
+        if (task instanceof Event) {
+            Event event = (Event) task;
+            writeLine("DTSTART:" + event.getStartTime().format(DATE_TIME_FORMAT));
+            writeLine("DTEND:" + event.getEndTime().format(DATE_TIME_FORMAT));
+            writeRecurrence(task);
+            if (task.isDone()) {
+                // Events have no completed status in iCalendar, so keep it in an extension property
+                writeLine("X-JUNG-DONE:TRUE");
+            }
+        } else {
+            if (task instanceof Deadline) {
+                String due = ((Deadline) task).getDeadlineTime().format(DATE_TIME_FORMAT);
+                if (task.getRecurrence() != null) {
+                    // A repeating VTODO needs a DTSTART for its rule to count from
+                    writeLine("DTSTART:" + due);
+                }
+                writeLine("DUE:" + due);
+                writeRecurrence(task);
+            }
+            writeLine(task.isDone() ? "STATUS:COMPLETED" : "STATUS:NEEDS-ACTION");
+        }
+        writeLine("END:" + component);
+    }
+
+    @Override
+    protected void writeFooter() throws IOException {
+        writeLine("END:VCALENDAR");
+    }
+
+    private void writeRecurrence(Task task) throws IOException {
+        if (task.getRecurrence() != null) {
+            writeLine("RRULE:" + task.getRecurrence().toRule());
+        }
+    }
+
+    private void appendEscapedText(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+            case '\\':
+            case ';':
+            case ',':
+                line.append('\\').append(c);
+                break;
+            case '\n':
+                line.append("\\n");
+                break;
+            default:
+                line.append(c);
+                break;
+            }
+        }
+    }
+
+    /**
+     * Writes a content line, folding it so no physical line is longer than 75 octets of UTF-8.
+     * Surrogate pairs are never split across a fold.
+     */
+    private void writeLine(CharSequence content) throws IOException {
+        BufferedWriter output = getOutput();
+        int segmentStart = 0;
+        int octets = 0;
+        for (int i = 0; i < content.length(); i++) {
+            char c = content.charAt(i);
+            int size = c < 0x80 ? 1 : c < 0x800 ? 2 : Character.isHighSurrogate(c) ? 4
+                    : Character.isLowSurrogate(c) ? 0 : 3;
+            if (octets + size > MAX_LINE_OCTETS) {
+                output.append(content, segmentStart, i).write(FOLD);
+                segmentStart = i;
+                octets = 1;
+            }
+            octets += size;
+        }
+        output.append(content, segmentStart, content.length()).write(LINE_END);
+    }
+}
@@ -0,0 +1,42 @@
+package jung.transfer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.Map;
+import jung.task.Task;
+import jung.util.Json;
+
+/**
+ * Reads tasks from JSON Lines: one JSON object per line, shaped like the tasks of the HTTP API,
+ * such as {@code {"type":"deadline","description":"submit report","done":false,"by":"2024-03-15T14:00"}}.
+ * Only {@code description} is required; other members are ignored.
+ */
+public class JsonLinesTaskReader extends TaskRecordReader {
+
+    /**
+     * Creates a reader over JSON Lines input.
+     *
+     * @param input Input positioned at the first line
+     */
+    public JsonLinesTaskReader(BufferedReader input) {
+        super(input);
+    }
+
+    @Override
+    protected Task readRecord() throws IOException {
+        String line;
+        do {
+            line = readLine();
+            if (line == null) {
+                return null;
+            }
+        } while (line.isBlank());
+        markRecordStart(getLineNumber());
+
+        Map<String, String> members = Json.parseObject(line);
+        return createTask(parseType(members.get("type")), members.get("description"),
+                parseDone(members.get("done")), parseDateTime(members.get("by")),
+                parseDateTime(members.get("from")), parseDateTime(members.get("to")),
+                parseRecurrence(members.get("repeat")));
+    }
+}
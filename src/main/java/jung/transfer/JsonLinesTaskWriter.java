@@ -0,0 +1,30 @@
+package jung.transfer;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import jung.task.Task;
+import jung.util.Json;
+
+/**
+ * Writes tasks as JSON Lines, one object per line in the same shape as the HTTP API's tasks.
+ */
+public class JsonLinesTaskWriter extends TaskRecordWriter {
+
+    private final StringBuilder line = new StringBuilder();
+
+    /**
+     * Creates a writer producing JSON Lines.
+     *
+     * @param output Output positioned at the start of the file
+     */
+    public JsonLinesTaskWriter(BufferedWriter output) {
+        super(output);
+    }
+
+    @Override
+    protected void writeRecord(Task task) throws IOException {
+        line.setLength(0);
+        getOutput().append(Json.appendTask(line, task));
+        getOutput().newLine();
+    }
+}
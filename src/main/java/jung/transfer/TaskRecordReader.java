@@ -0,0 +1,287 @@
+package jung.transfer;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Locale;
+import jung.storage.DescriptionPool;
+import jung.storage.TaskSource;
+import jung.task.Deadline;
+import jung.task.Event;
+import jung.task.Recurrence;
+import jung.task.Task;
+import jung.task.ToDo;
+import jung.util.DateTimeParser;
+import jung.util.TaskType;
+
+/**
+ * Streams tasks out of an import file, one record at a time.
+ * Only the record being read is held in memory, so files of any size can be imported.
+ * Records that cannot become tasks are skipped with a warning, like corrupted lines in the data file;
+ * only failing to read the file at all stops the import.
+ */
+public abstract class TaskRecordReader implements TaskSource, Closeable {
+
+    private static final String RESERVED_SEPARATOR = " | ";
+    private static final int MAX_REPORTED_SKIPS = 20;
+    private static final int END_OF_DAY_HOUR = 23;
+    private static final int END_OF_DAY_MINUTE = 59;
+
+    private final BufferedReader input;
+    private int lineNumber;
+    private int recordLineNumber;
+    private int skippedCount;
+
+    /**
+     * Creates a reader over the given input.
+     *
+     * @param input Input positioned at the start of the file
+     */
+    protected TaskRecordReader(BufferedReader input) {
+        this.input = input;
+    }
+
+    /**
+     * Reads the next task, skipping records that cannot become tasks.
+     *
+     * @return Next task, or null at the end of the file
+     * @throws TransferException If the file cannot be read or is not in the expected format at all
+     */
+    @Override
+    public Task next() throws TransferException {
+        while (true) {
+            try {
+                return readRecord();
+            } catch (IllegalArgumentException | DateTimeException e) {
+                reportSkipped(e.getMessage());
+            } catch (TransferException e) {
+                throw e;
+            } catch (IOException e) {
+                throw new TransferException("read failed at line " + lineNumber + ": " + e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * Gets how many records were skipped because they could not become tasks.
+     *
+     * @return Number of skipped records
+     */
+    public int getSkippedCount() {
+        return skippedCount;
+    }
+
+    @Override
+    public void close() throws IOException {
+        input.close();
+    }
+
+    /**
+     * Reads one record and turns it into a task.
+     *
+     * @return Task for the next record, or null at the end of the file
+     * @throws IllegalArgumentException If the record cannot become a task; it has been consumed and is skipped
+     * @throws DateTimeException If a date-time in the record is invalid; the record is skipped
+     * @throws IOException If the file cannot be read
+     */
+    protected abstract Task readRecord() throws IOException;
+
+    /**
+     * Reads the next line of the file, counting lines for warnings.
+     *
+     * @return Next line, or null at the end of the file
+     * @throws IOException If the file cannot be read
+     */
+    protected String readLine() throws IOException {
+        String line = input.readLine();
+        if (line != null) {
+            lineNumber++;
+        }
+        return line;
+    }
+
+    /**
+     * Gets the number of the line read last.
+     *
+     * @return 1-based line number, or 0 before the first line
+     */
+    protected int getLineNumber() {
+        return lineNumber;
+    }
+
+    /**
+     * Notes the line a record starts on, for warnings about that record.
+     *
+     * @param startLineNumber 1-based number of the record's first line
+     */
+    protected void markRecordStart(int startLineNumber) {
+        recordLineNumber = startLineNumber;
+    }
+
+    /**
+     * Builds a task from the fields of a record.
+     * Descriptions are trimmed with line breaks and whitespace runs collapsed, because the data file
+     * keeps one task per line.
+     *
+     * @param type Task type, or null to infer it from which times are present
+     * @param description Task description
+     * @param isDone Whether the task is completed
+     * @param by Due time of a deadline, or null
+     * @param from Start of an event, or null
+     * @param to End of an event, or null
+     * @param recurrence How a deadline or event repeats, or null; ignored for a todo
+     * @return New task
+     * @throws IllegalArgumentException If the fields do not make a valid task
+     */
+    protected static Task createTask(TaskType type, String description, boolean isDone, LocalDateTime by,
+            LocalDateTime from, LocalDateTime to, Recurrence recurrence) {
+        String cleanDescription = description == null ? "" : collapseWhitespace(description.trim());
+        if (cleanDescription.isEmpty()) {
+            throw new IllegalArgumentException("empty description");
+        }
+        if (cleanDescription.contains(RESERVED_SEPARATOR)) {
+            throw new IllegalArgumentException("description contains the reserved '" + RESERVED_SEPARATOR + "'");
+        }
+        cleanDescription = DescriptionPool.getShared().intern(cleanDescription);
+
+        TaskType taskType = type != null ? type : by != null ? TaskType.DEADLINE
+                : from != null || to != null ? TaskType.EVENT : TaskType.TODO;
+        Task task;
+        switch (taskType) {
+        case DEADLINE:
+            if (by == null) {
+                throw new IllegalArgumentException("deadline without a due time");
+            }
+            task = new Deadline(cleanDescription, by, recurrence);
+            break;
+        case EVENT:
+            if (from == null || to == null) {
+                throw new IllegalArgumentException("event without both a start and an end");
+            }
+            if (from.isAfter(to)) {
+                throw new IllegalArgumentException("event ends before it starts");
+            }
+            task = new Event(cleanDescription, from, to, recurrence);
+            break;
+        default:
+            task = new ToDo(cleanDescription);
+            break;
+        }
+        if (isDone) {
+            task.markAsDone();
+        }
+        return task;
+    }
+
+    /**
+     * Parses a repeat rule in iCalendar {@code RRULE} form, such as {@code FREQ=WEEKLY;BYDAY=MO}.
+     *
+     * @return Recurrence, or null if the text is empty
+     * @throws IllegalArgumentException If the rule is malformed or uses an unsupported part
+     */
+    protected static Recurrence parseRecurrence(String text) {
+        return text == null || text.isBlank() ? null : Recurrence.parseRule(text);
+    }
+
+    /**
+     * Parses a task type name such as {@code todo}, {@code Deadline} or {@code EVENT}.
+     *
+     * @return Task type, or null if the text is empty
+     * @throws IllegalArgumentException If the text names no task type
+     */
+    protected static TaskType parseType(String text) {
+        if (text == null || text.isBlank()) {
+            return null;
+        }
+        try {
+            return TaskType.valueOf(text.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("unknown task type '" + text.trim() + "'");
+        }
+    }
+
+    /**
+     * Parses a completion flag such as {@code true}, {@code 1}, {@code yes}, {@code x} or {@code done}.
+     *
+     * @return Whether the flag means completed; empty text means not completed
+     * @throws IllegalArgumentException If the text is not a recognised flag
+     */
+    protected static boolean parseDone(String text) {
+        if (text == null) {
+            return false;
+        }
+        switch (text.trim().toLowerCase(Locale.ROOT)) {
+        case "true":
+        case "1":
+        case "yes":
+        case "y":
+        case "x":
+        case "done":
+        case "completed":
+            return true;
+        case "":
+        case "false":
+        case "0":
+        case "no":
+        case "n":
+            return false;
+        default:
+            throw new IllegalArgumentException("unknown done flag '" + text.trim() + "'");
+        }
+    }
+
+    /**
+     * Parses a date-time written as ISO-8601 ({@code 2025-04-30T23:59}), as an ISO date alone (the end
+     * of that day), or in Jung's own d/M/yyyy HHmm format. Seconds are dropped.
+     *
+     * @return Date-time, or null if the text is empty
+     * @throws DateTimeException If the text is not a date-time in any of those formats
+     */
+    protected static LocalDateTime parseDateTime(String text) {
+        if (text == null || text.isBlank()) {
+            return null;
+        }
+        String trimmed = text.trim();
+        if (trimmed.indexOf('/') >= 0) {
+            return DateTimeParser.getShared().parse(trimmed);
+        }
+        if (trimmed.indexOf('T') < 0) {
+            return LocalDate.parse(trimmed).atTime(END_OF_DAY_HOUR, END_OF_DAY_MINUTE);
+        }
+        return LocalDateTime.parse(trimmed).truncatedTo(ChronoUnit.MINUTES);
+    }
+
+    /**
+     * Replaces each run of whitespace, line breaks included, with a single space.
+     */
+    private static String collapseWhitespace(String text) {
+        StringBuilder collapsed = null;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            boolean isWhitespace = Character.isWhitespace(c);
+            boolean followsWhitespace = i > 0 && Character.isWhitespace(text.charAt(i - 1));
+            if (collapsed == null && isWhitespace && (c != ' ' || followsWhitespace)) {
+                collapsed = new StringBuilder(text.length());
+                collapsed.append(text, 0, followsWhitespace ? i - 1 : i).append(' ');
+                continue;
+            }
+            if (collapsed != null && !(isWhitespace && followsWhitespace)) {
+                collapsed.append(isWhitespace ? ' ' : c);
+            }
+        }
+        return collapsed == null ? text : collapsed.toString();
+    }
+
+    private void reportSkipped(String reason) {
+        skippedCount++;
+        if (skippedCount <= MAX_REPORTED_SKIPS) {
+            System.err.println("Warning: Record at line " + recordLineNumber + " skipped (" + reason + ")");
+        } else if (skippedCount == MAX_REPORTED_SKIPS + 1) {
+            System.err.println("Warning: More records skipped; only counting them from now on");
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package jung.transfer;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.List;
+import jung.task.Task;
+
+/**
+ * Streams tasks into an export file, one record at a time.
+ * Subclasses write a single record and, where the format needs them, a header and a footer.
+ */
+public abstract class TaskRecordWriter implements Closeable {
+
+    private final BufferedWriter output;
+
+    /**
+     * Creates a writer over the given output.
+     *
+     * @param output Output positioned at the start of the file
+     */
+    protected TaskRecordWriter(BufferedWriter output) {
+        this.output = output;
+    }
+
+    /**
+     * Writes every task, with the format's header and footer, and flushes the output.
+     *
+     * @param tasks Tasks to export, in list order
+     * @throws IOException If writing fails
+     */
+    public final void writeAll(List<Task> tasks) throws IOException {
+        writeHeader();
+        for (Task task : tasks) {
+            writeRecord(task);
+        }
+        writeFooter();
+        output.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        output.close();
+    }
+
+    /**
+     * Writes anything that comes before the first record.
+     *
+     * @throws IOException If writing fails
+     */
+    protected void writeHeader() throws IOException {
+        // Most formats have no header
+    }
+
+    /**
+     * Writes one task.
+     *
+     * @param task Task to write
+     * @throws IOException If writing fails
+     */
+    protected abstract void writeRecord(Task task) throws IOException;
+
+    /**
+     * Writes anything that comes after the last record.
+     *
+     * @throws IOException If writing fails
+     */
+    protected void writeFooter() throws IOException {
+        // Most formats have no footer
+    }
+
+    /**
+     * Gets the output for subclasses to write to.
+     *
+     * @return Buffered output of the export file
+     */
+    protected BufferedWriter getOutput() {
+        return output;
+    }
+}
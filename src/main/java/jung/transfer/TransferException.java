@@ -0,0 +1,28 @@
+package jung.transfer;
+
+import java.io.IOException;
+
+/**
+ * Signals that an import file could not be read, as opposed to a failure saving the imported tasks.
+ */
+public class TransferException extends IOException {
+
+    /**
+     * Creates an exception describing what was wrong with the file.
+     *
+     * @param message Description of the problem
+     */
+    public TransferException(String message) {
+        super(message);
+    }
+
+    /**
+     * Creates an exception for a read failure with its underlying cause.
+     *
+     * @param message Description of the problem
+     * @param cause The underlying read failure
+     */
+    public TransferException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
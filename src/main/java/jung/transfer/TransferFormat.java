@@ -0,0 +1,78 @@
+package jung.transfer;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.util.Locale;
+import jung.exceptions.JungException;
+import jung.util.ErrorMessages;
+
+/**
+ * File formats that tasks can be imported from and exported to, chosen by file extension.
+ */
+public enum TransferFormat {
+    CSV,
+    JSON_LINES,
+    ICALENDAR;
+
+    /**
+     * Picks the format for a file from its extension: {@code .csv}, {@code .jsonl} (or {@code .ndjson})
+     * or {@code .ics}.
+     *
+     * @param fileName Name or path of the file
+     * @return Format of the file
+     * @throws JungException If the extension is not one of the supported ones
+     */
+    public static TransferFormat fromFileName(String fileName) throws JungException {
+        int dot = fileName.lastIndexOf('.');
+        String extension = dot < 0 ? "" : fileName.substring(dot + 1).toLowerCase(Locale.ROOT);
+        switch (extension) {
+        case "csv":
+            return CSV;
+        case "jsonl":
+        case "ndjson":
+            return JSON_LINES;
+        case "ics":
+            return ICALENDAR;
+        default:
+            throw new JungException(String.format(ErrorMessages.UNSUPPORTED_FILE_FORMAT, fileName));
+        }
+    }
+
+    /**
+     * Creates a reader that streams tasks out of input in this format.
+     *
+     * @param input Input positioned at the start of the file
+     * @return Reader for this format
+     */
+    public TaskRecordReader openReader(BufferedReader input) {
+        switch (this) {
+        case CSV:
+            return new CsvTaskReader(input);
+        case JSON_LINES:
+            return new JsonLinesTaskReader(input);
+        case ICALENDAR:
+            return new IcsTaskReader(input);
+        default:
+            throw new IllegalStateException("Unknown transfer format: " + this);
+        }
+    }
+
+    /**
+     * Creates a writer that streams tasks into output in this format.
+     *
+     * @param output Output positioned at the start of the file
+     * @return Writer for this format
+     */
+    public TaskRecordWriter openWriter(BufferedWriter output) {
+        switch (this) {
+        case CSV:
+            return new CsvTaskWriter(output);
+        case JSON_LINES:
+            return new JsonLinesTaskWriter(output);
+        case ICALENDAR:
+            return new IcsTaskWriter(output);
+        default:
+            throw new IllegalStateException("Unknown transfer format: " + this);
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package jung.util;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+import jung.task.Deadline;
+import jung.task.Event;
+import jung.task.Recurrence;
+import jung.task.Task;
+
+/**
+ * The deadlines and events that fall in a time window, in time order, with recurring tasks expanded
+ * into their occurrences. A deadline falls in the window if it is due inside it; an event if any part
+ * of it overlaps the window.
+ *
+ * <p>Each task contributes a lazy cursor over its occurrences in the window, and the cursors are merged
+ * through a priority queue. Only the rows kept are ever built, so a series that repeats forever costs
+ * the occurrences shown, and building an agenda of at most r rows from n tasks takes O(n log r).
+ */
+public class Agenda {
+
+    private static final Comparator<Cursor> BY_TIME_THEN_NUMBER = Comparator
+            .comparing((Cursor cursor) -> cursor.start)
+            .thenComparingInt(cursor -> cursor.taskNumber);
+
+    private final List<Task> rows;
+    private final int[] taskNumbers;
+    private final boolean isTruncated;
+
+    private Agenda(List<Task> rows, int[] taskNumbers, boolean isTruncated) {
+        this.rows = rows;
+        this.taskNumbers = taskNumbers;
+        this.isTruncated = isTruncated;
+    }
+
+    /**
+     * Collects the pending deadlines and events in a window. Done tasks and todos are left out.
+     *
+     * @param tasks Full task list
+     * @param from Start of the window, inclusive
+     * @param to End of the window, exclusive
+     * @param limit Most rows to keep, at least 1
+     * @return Agenda of at most {@code limit} rows, earliest first
+     */
+    public static Agenda collect(List<Task> tasks, LocalDateTime from, LocalDateTime to, int limit) {
+        // Every row comes from a task whose first occurrence is among the limit earliest, so only those
+        // cursors are kept, in a max-heap that evicts the latest; the rest never reach the merge
+        PriorityQueue<Cursor> earliest = new PriorityQueue<>(limit + 1, BY_TIME_THEN_NUMBER.reversed());
+        boolean hasEvicted = false;
+        for (int i = 0; i < tasks.size(); i++) {
+            Task task = tasks.get(i);
+            if (task.isDone()) {
+                continue;
+            }
+            Cursor cursor = Cursor.open(task, i + 1, from, to);
+            if (cursor == null) {
+                continue;
+            }
+            earliest.add(cursor);
+            if (earliest.size() > limit) {
+                earliest.poll();
+                hasEvicted = true;
+            }
+        }
+
+        PriorityQueue<Cursor> queue = new PriorityQueue<>(limit + 1, BY_TIME_THEN_NUMBER);
+        queue.addAll(earliest);
+        List<Task> rows = new ArrayList<>(limit);
+        int[] taskNumbers = new int[limit];
+        while (!queue.isEmpty() && rows.size() < limit) {
+            Cursor cursor = queue.poll();
+            taskNumbers[rows.size()] = cursor.taskNumber;
+            rows.add(cursor.toOccurrence());
+            if (cursor.advance(to)) {
+                queue.add(cursor);
+            }
+        }
+        return new Agenda(Collections.unmodifiableList(rows), Arrays.copyOf(taskNumbers, rows.size()),
+                hasEvicted || !queue.isEmpty());
+    }
+
+    /**
+     * Gets the rows of the agenda: one deadline or event per occurrence, at that occurrence's time.
+     *
+     * @return Rows, earliest first
+     */
+    public List<Task> getRows() {
+        return rows;
+    }
+
+    /**
+     * Gets the 1-based list number of the task behind each row.
+     *
+     * @return Task numbers, one per row
+     */
+    public int[] getTaskNumbers() {
+        return taskNumbers.clone();
+    }
+
+    /**
+     * Checks whether more occurrences fell in the window than the limit allowed.
+     *
+     * @return True if rows were left out
+     */
+    public boolean isTruncated() {
+        return isTruncated;
+    }
+
+    /**
+     * Position in one task's occurrences that fall in the window.
+     */
+    private static final class Cursor {
+        private final Task task;
+        private final int taskNumber;
+        private final Duration length;
+        private final Iterator<LocalDateTime> starts;
+        private LocalDateTime start;
+
+        private Cursor(Task task, int taskNumber, Duration length, Iterator<LocalDateTime> starts,
+                LocalDateTime start) {
+            this.task = task;
+            this.taskNumber = taskNumber;
+            this.length = length;
+            this.starts = starts;
+            this.start = start;
+        }
+
+        /**
+         * Opens a cursor at a task's first occurrence in the window.
+         *
+         * @return Cursor, or null if the task has no occurrence in the window
+         */
+        static Cursor open(Task task, int taskNumber, LocalDateTime from, LocalDateTime to) {
+            LocalDateTime first;
+            Duration length;
+            if (task instanceof Deadline) {
+                first = ((Deadline) task).getDeadlineTime();
+                length = Duration.ZERO;
+            } else if (task instanceof Event) {
+                Event event = (Event) task;
+                first = event.getStartTime();
+                length = Duration.between(event.getStartTime(), event.getEndTime());
+            } else {
+                return null;
+            }
+
+            // An occurrence is in the window if it ends after the window starts (or, for a deadline, is due
+            // at or after it), so the earliest start of interest is one occurrence length before the window
+            LocalDateTime earliestStart = length.isZero() ? from : from.minus(length).plusNanos(1);
+            Recurrence recurrence = task.getRecurrence();
+            Iterator<LocalDateTime> starts = recurrence == null
+                    ? Collections.singletonList(first).iterator()
+                    : recurrence.occurrencesFrom(first, earliestStart);
+            Cursor cursor = new Cursor(task, taskNumber, length, starts, null);
+            while (cursor.advance(to)) {
+                if (!cursor.start.isBefore(earliestStart)) {
+                    return cursor;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Moves to the next occurrence.
+         *
+         * @return True if there is one and it starts before the window ends
+         */
+        boolean advance(LocalDateTime to) {
+            if (!starts.hasNext()) {
+                return false;
+            }
+            start = starts.next();
+            return start.isBefore(to);
+        }
+
+        /**
+         * Builds the row for the current occurrence: the task as it stands at that occurrence's time.
+         */
+        Task toOccurrence() {
+            if (task instanceof Deadline) {
+                return new Deadline(task.getDescription(), start, task.getRecurrence());
+            }
+            return new Event(task.getDescription(), start, start.plus(length), task.getRecurrence());
+        }
+    }
+}
@@ -3,18 +3,32 @@ package jung.util;
 /**
  * Represents the result of executing a command, including the response message
  * and any special flags for application flow control.
+ * Results that show tasks carry a {@link TaskListing} and only render their message when asked.
  */
 public class CommandResult {
-    private final String message;
+    private final TaskListing listing;
     private final boolean shouldExit;
     private final boolean isError;
+    private String message;
 
     public CommandResult(String message, boolean shouldExit, boolean isError) {
         this.message = message;
+        this.listing = null;
         this.shouldExit = shouldExit;
         this.isError = isError;
     }
 
+    /**
+     * Creates a result that shows tasks; its message is rendered from the listing on first use.
+     *
+     * @param listing Tasks to show
+     */
+    public CommandResult(TaskListing listing) {
+        this.listing = listing;
+        this.shouldExit = false;
+        this.isError = false;
+    }
+
     public CommandResult(String message, boolean shouldExit) {
         this(message, shouldExit, false);
     }
@@ -24,9 +38,21 @@ public class CommandResult {
     }
 
     public String getMessage() {
+        if (message == null && listing != null) {
+            message = listing.render();
+        }
         return message;
     }
 
+    /**
+     * Gets the structured tasks behind this result, if it shows any.
+     *
+     * @return Task listing, or null for plain message results
+     */
+    public TaskListing getListing() {
+        return listing;
+    }
+
     public boolean shouldExit() {
         return shouldExit;
     }
@@ -0,0 +1,154 @@
+package jung.util;
+
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.time.Year;
+import java.time.format.DateTimeParseException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Parses date-times typed in the {@code d/M/yyyy HHmm} input format.
+ * Well-formed input is read digit by digit without going through {@link DateFormats#INPUT_FORMAT};
+ * anything unusual (odd widths, out-of-range or end-of-month values) falls back to that formatter,
+ * so results and errors are always exactly what the formatter gives. Recently parsed strings are
+ * kept in a small LRU cache, because task files and bulk imports repeat the same dates a lot.
+ */
+public class DateTimeParser {
+
+    private static final DateTimeParser SHARED = new DateTimeParser(256);
+
+    // "yyyy HHmm" after the second slash
+    private static final int YEAR_AND_TIME_LENGTH = 9;
+
+    private final Map<String, LocalDateTime> cache;
+
+    /**
+     * Creates a parser that remembers up to the given number of recently parsed strings.
+     *
+     * @param cacheCapacity Maximum number of cached strings
+     */
+    public DateTimeParser(int cacheCapacity) {
+        this.cache = new LinkedHashMap<>(cacheCapacity * 4 / 3 + 1, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, LocalDateTime> eldest) {
+                return size() > cacheCapacity;
+            }
+        };
+    }
+
+    /**
+     * Gets the parser shared by commands and storage loading.
+     *
+     * @return Application-wide date-time parser
+     */
+    public static DateTimeParser getShared() {
+        return SHARED;
+    }
+
+    /**
+     * Parses a date-time, using the cache when the same string was parsed recently.
+     *
+     * @param text Date-time in d/M/yyyy HHmm format
+     * @return Parsed date-time
+     * @throws DateTimeParseException If the text is not a valid date-time in the input format
+     */
+    public LocalDateTime parse(String text) {
+        synchronized (this) {
+            LocalDateTime cached = cache.get(text);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        LocalDateTime parsed = parseWithoutCache(text);
+        synchronized (this) {
+            cache.put(text, parsed);
+        }
+        return parsed;
+    }
+
+    /**
+     * Parses a date-time without consulting or filling any cache.
+     *
+     * @param text Date-time in d/M/yyyy HHmm format
+     * @return Parsed date-time, equal to what {@link DateFormats#INPUT_FORMAT} gives
+     * @throws DateTimeParseException If the text is not a valid date-time in the input format
+     */
+    public static LocalDateTime parseWithoutCache(String text) {
+        LocalDateTime parsed = parseFast(text);
+        return parsed != null ? parsed : LocalDateTime.parse(text, DateFormats.INPUT_FORMAT);
+    }
+
+    /**
+     * Reads the common shape of the input format directly.
+     *
+     * @return Parsed date-time, or null if the text needs the full formatter
+     */
+    private static LocalDateTime parseFast(String text) {
+        int length = text.length();
+
+        int day = readOneOrTwoDigits(text, 0);
+        int position = day < 10 ? 1 : 2;
+        if (day < 0 || position >= length || text.charAt(position) != '/') {
+            return null;
+        }
+        position++;
+
+        int month = readOneOrTwoDigits(text, position);
+        position += month < 10 ? 1 : 2;
+        if (month < 0 || position >= length || text.charAt(position) != '/') {
+            return null;
+        }
+        position++;
+
+        if (length - position != YEAR_AND_TIME_LENGTH || text.charAt(position + 4) != ' ') {
+            return null;
+        }
+        int year = readDigits(text, position, 4);
+        int hour = readDigits(text, position + 5, 2);
+        int minute = readDigits(text, position + 7, 2);
+
+        boolean isInRange = year >= 1 && month >= 1 && month <= 12 && day >= 1
+                && hour >= 0 && hour <= 23 && minute >= 0 && minute <= 59;
+        if (!isInRange || day > Month.of(month).length(Year.isLeap(year))) {
+            // Let the formatter reject these, or resolve end-of-month days the way it always has
+            return null;
+        }
+        return LocalDateTime.of(year, month, day, hour, minute);
+    }
+
+    /**
+     * Reads a one- or two-digit number without a leading zero, so its width follows from its value.
+     *
+     * @return The number, or -1 if there is no digit or it starts with zero, which is left to the formatter
+     */
+    private static int readOneOrTwoDigits(String text, int position) {
+        int first = digitAt(text, position);
+        if (first <= 0) {
+            return -1;
+        }
+        int second = digitAt(text, position + 1);
+        return second < 0 ? first : first * 10 + second;
+    }
+
+    private static int readDigits(String text, int position, int count) {
+        int value = 0;
+        for (int i = position; i < position + count; i++) {
+            int digit = digitAt(text, i);
+            if (digit < 0) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    private static int digitAt(String text, int position) {
+        if (position >= text.length()) {
+            return -1;
+        }
+        char c = text.charAt(position);
+        return c >= '0' && c <= '9' ? c - '0' : -1;
+    }
+}
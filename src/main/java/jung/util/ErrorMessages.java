@@ -8,7 +8,8 @@ public class ErrorMessages {
     public static final String EMPTY_TODO_DESCRIPTION = "Aiyo, your todo description missing leh! " +
             "Try: todo [what you want to do]";
     public static final String INVALID_DATE_FORMAT = "Wah lau, your date format wrong lah! " +
-            "Please use d/M/yyyy HHmm (like 15/3/2024 1430). Don't anyhow type!";
+            "Please use d/M/yyyy HHmm (like 15/3/2024 1430), or say 'tomorrow 5pm', 'next mon' or 'in 3 days'. " +
+            "Don't anyhow type!";
     public static final String MISSING_DEADLINE_DATE = "Eh your deadline missing the '/by' part! " +
             "Format should be: deadline [what to do] /by [when]";
     public static final String EMPTY_DEADLINE_FIELDS = "Alamak, your deadline description or date empty leh! " +
@@ -30,6 +31,36 @@ public class ErrorMessages {
     public static final String NO_TASKS_TO_REMOVE = "Eh no tasks to remove lah! Your list empty already.";
     public static final String UNKNOWN_ACTION = "Alamak, don't know this action: ";
     public static final String UNKNOWN_UNDO_ACTION = "Wah, cannot undo this kind of action leh!";
+    public static final String INVALID_STATS_ARGUMENT = "Stats only know 'on', 'off' or 'reset' lah! " +
+            "Or just type 'stats' to see the numbers.";
+    public static final String INVALID_LIST_ARGUMENT = "List only know 'next' or 'page [number]' lah! " +
+            "Or just type 'list' to start from the top.";
+    public static final String INVALID_PAGE_NUMBER = "That page doesn't exist lah! " +
+            "Your list only got so many pages.";
+    public static final String AMBIGUOUS_COMMAND = "Eh, '%s' can mean %s leh! " +
+            "Type a bit more of the command can?";
+    public static final String INVALID_TASK_TYPE = "Task type must be todo, deadline or event lah! " +
+            "Don't anyhow make up new kind.";
+    public static final String MISSING_IMPORT_FILE = "Import from where? Give me a file lah, " +
+            "like: import tasks.csv";
+    public static final String MISSING_EXPORT_FILE = "Export to where? Give me a file lah, " +
+            "like: export tasks.ics";
+    public static final String UNSUPPORTED_FILE_FORMAT = "Eh, I only know .csv, .jsonl and .ics files lah! " +
+            "Cannot do anything with '%s'.";
+    public static final String FILE_NOT_FOUND = "Cannot find '%s' leh! Check the path again.";
+    public static final String IMPORT_FAILED = "Alamak, cannot import '%s': %s. Nothing was added, don't worry.";
+    public static final String EXPORT_FAILED = "Alamak, cannot export to '%s': %s";
+    public static final String INVALID_REPEAT = "Don't understand this repeat leh: %s. " +
+            "Try /every day, /every 2 weeks, /every mon,wed or /every month until 31/12/2026.";
+    public static final String MISPLACED_REPEAT = "Put /every at the back lah, after the times! " +
+            "Like: deadline pay rent /by 1/11/2026 0900 /every month";
+    public static final String INVALID_CONFLICTS_ARGUMENT = "Conflicts only know 'on' or 'off' lah! " +
+            "Or just type 'conflicts' to see which events clash.";
+    public static final String INVALID_DUE_DAYS = "Due only takes a number of days lah, like 'due 14'! " +
+            "Or just type 'due' for the coming week.";
+    public static final String INVALID_FIELD_TEXT = "Eh, the '%s' field cannot have ' | ' or line breaks inside lah!";
+    public static final String INVALID_ARCHIVE_ARGUMENT = "Archive only know 'find [keyword]' lah! " +
+            "Or just type 'archive' to clear your done tasks away.";
 
 
     private ErrorMessages() {
@@ -0,0 +1,309 @@
+package jung.util;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+import jung.task.Event;
+import jung.task.Recurrence;
+import jung.task.Task;
+
+/**
+ * Finds pending events whose times overlap. Two events clash if one starts before the other ends;
+ * an event that ends exactly when another starts does not clash with it.
+ *
+ * <p>Events are turned into intervals, one per occurrence for a recurring event, sorted by start time
+ * and swept once in that order. The sweep keeps the intervals still running in a heap ordered by end
+ * time: each new interval first drops those that ended by its start, and then clashes with every one
+ * left. Finding k clashes among n intervals takes O(n log n + k), rather than comparing every pair;
+ * the one exception is an event that lasts longer than it takes to repeat, whose overlapping
+ * occurrences are also visited, though never reported.
+ *
+ * <p>Checking one event against the rest only expands the others within the time that event spans,
+ * and looks up the occurrences each of them overlaps by binary search, so no unrelated pair is visited.
+ */
+public class EventConflicts {
+
+    private static final int SECONDS_PER_MINUTE = 60;
+    private static final Comparator<Interval> BY_START = Comparator
+            .comparingLong((Interval interval) -> interval.startMinute)
+            .thenComparingLong(interval -> interval.endMinute)
+            .thenComparingInt(interval -> interval.taskNumber);
+    private static final Comparator<Interval> BY_END = Comparator.comparingLong(interval -> interval.endMinute);
+    private static final Comparator<Conflict> BY_LATER_START = Comparator
+            .comparing((Conflict conflict) -> conflict.second.getStartTime())
+            .thenComparing(conflict -> conflict.first.getStartTime())
+            .thenComparingInt(conflict -> conflict.firstNumber)
+            .thenComparingInt(conflict -> conflict.secondNumber);
+
+    private final List<Conflict> conflicts;
+    private final long totalCount;
+
+    private EventConflicts(List<Conflict> conflicts, long totalCount) {
+        this.conflicts = conflicts;
+        this.totalCount = totalCount;
+    }
+
+    /**
+     * Finds every clash between pending events that have not ended yet. One-off events are checked
+     * however far ahead they are; recurring events are expanded into their occurrences up to a horizon.
+     *
+     * @param tasks Full task list
+     * @param now Current time; events that ended by then are left out
+     * @param horizon Time after which occurrences of recurring events are no longer checked
+     * @param limit Most clashes to keep; all of them are still counted
+     * @return Clashes, ordered by the start of the later event
+     */
+    public static EventConflicts findAll(List<Task> tasks, LocalDateTime now, LocalDateTime horizon, int limit) {
+        List<Interval> intervals = new ArrayList<>();
+        for (int i = 0; i < tasks.size(); i++) {
+            addIntervals(intervals, tasks.get(i), i + 1, now, null, horizon);
+        }
+        return sweep(intervals, limit);
+    }
+
+    /**
+     * Finds the clashes between one event and the other pending events, such as after the event is added.
+     * Only events that overlap the time the given event spans are swept.
+     *
+     * @param tasks Full task list
+     * @param index 0-based position of the event to check
+     * @param now Current time; events that ended by then are left out
+     * @param horizon Time after which occurrences of recurring events are no longer checked
+     * @param limit Most clashes to keep; all of them are still counted
+     * @return Clashes that involve the given event
+     */
+    public static EventConflicts findWith(List<Task> tasks, int index, LocalDateTime now, LocalDateTime horizon,
+            int limit) {
+        List<Interval> own = new ArrayList<>();
+        addIntervals(own, tasks.get(index), index + 1, now, null, horizon);
+        if (own.isEmpty()) {
+            return new EventConflicts(Collections.emptyList(), 0);
+        }
+        // Occurrences of one event all last as long, so in start order their ends are in order too
+        int ownCount = own.size();
+        long[] ownStarts = new long[ownCount];
+        long[] ownEnds = new long[ownCount];
+        for (int i = 0; i < ownCount; i++) {
+            ownStarts[i] = own.get(i).startMinute;
+            ownEnds[i] = own.get(i).endMinute;
+        }
+        LocalDateTime spanStart = own.get(0).start.isAfter(now) ? own.get(0).start : now;
+        LocalDateTime spanEnd = own.get(ownCount - 1).end;
+
+        List<Interval> candidates = new ArrayList<>();
+        for (int i = 0; i < tasks.size(); i++) {
+            if (i != index) {
+                addIntervals(candidates, tasks.get(i), i + 1, spanStart, spanEnd, horizon);
+            }
+        }
+
+        // Keep the clashes that come first, in a max-heap that evicts the latest once over the limit
+        PriorityQueue<Conflict> kept = new PriorityQueue<>(BY_LATER_START.reversed());
+        long totalCount = 0;
+        for (Interval candidate : candidates) {
+            int from = firstEndingAfter(ownEnds, candidate.startMinute);
+            int to = firstStartingAtOrAfter(ownStarts, candidate.endMinute);
+            for (int i = from; i < to; i++) {
+                Interval mine = own.get(i);
+                totalCount++;
+                kept.add(BY_START.compare(mine, candidate) <= 0
+                        ? new Conflict(mine, candidate) : new Conflict(candidate, mine));
+                if (kept.size() > limit) {
+                    kept.poll();
+                }
+            }
+        }
+        List<Conflict> conflicts = new ArrayList<>(kept);
+        conflicts.sort(BY_LATER_START);
+        return new EventConflicts(Collections.unmodifiableList(conflicts), totalCount);
+    }
+
+    /**
+     * Gets the clashes kept, at most the limit asked for.
+     *
+     * @return Clashes, ordered by the start of the later event
+     */
+    public List<Conflict> getConflicts() {
+        return conflicts;
+    }
+
+    /**
+     * Gets the number of clashes found, including those beyond the limit.
+     *
+     * @return Total clash count
+     */
+    public long getTotalCount() {
+        return totalCount;
+    }
+
+    /**
+     * Adds the intervals of a pending event that end after {@code from} and start before {@code until}:
+     * the event itself, or each such occurrence of a recurring event that also starts before the horizon.
+     *
+     * @param until Time by which intervals must start, or null for no limit besides the horizon
+     */
+    private static void addIntervals(List<Interval> intervals, Task task, int taskNumber, LocalDateTime from,
+            LocalDateTime until, LocalDateTime horizon) {
+        if (!(task instanceof Event) || task.isDone()) {
+            return;
+        }
+        Event event = (Event) task;
+        Recurrence recurrence = event.getRecurrence();
+        if (recurrence == null) {
+            if (event.getEndTime().isAfter(from) && (until == null || event.getStartTime().isBefore(until))) {
+                intervals.add(new Interval(taskNumber, event, event.getStartTime(), event.getEndTime()));
+            }
+            return;
+        }
+
+        LocalDateTime stop = until == null || horizon.isBefore(until) ? horizon : until;
+        Duration length = Duration.between(event.getStartTime(), event.getEndTime());
+        Iterator<LocalDateTime> starts = recurrence.occurrencesFrom(event.getStartTime(),
+                from.minus(length).plusNanos(1));
+        while (starts.hasNext()) {
+            LocalDateTime start = starts.next();
+            if (!start.isBefore(stop)) {
+                break;
+            }
+            intervals.add(new Interval(taskNumber, event, start, start.plus(length)));
+        }
+    }
+
+    /**
+     * Finds the first interval, in an ascending array of end minutes, that ends after the given minute.
+     */
+    private static int firstEndingAfter(long[] ends, long minute) {
+        int low = 0;
+        int high = ends.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (ends[middle] <= minute) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Finds the first interval, in an ascending array of start minutes, that starts at or after the given minute.
+     */
+    private static int firstStartingAtOrAfter(long[] starts, long minute) {
+        int low = 0;
+        int high = starts.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (starts[middle] < minute) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Sweeps the intervals in start order, pairing each with the intervals still running when it starts.
+     * Occurrences of the same series never clash with each other.
+     */
+    private static EventConflicts sweep(List<Interval> intervals, int limit) {
+        Interval[] sorted = intervals.toArray(new Interval[0]);
+        Arrays.sort(sorted, BY_START);
+
+        PriorityQueue<Interval> running = new PriorityQueue<>(BY_END);
+        List<Conflict> conflicts = new ArrayList<>(Math.min(limit, sorted.length));
+        long totalCount = 0;
+        for (Interval interval : sorted) {
+            while (!running.isEmpty() && running.peek().endMinute <= interval.startMinute) {
+                running.poll();
+            }
+            for (Interval other : running) {
+                if (other.taskNumber == interval.taskNumber) {
+                    continue;
+                }
+                totalCount++;
+                if (conflicts.size() < limit) {
+                    conflicts.add(new Conflict(other, interval));
+                }
+            }
+            running.add(interval);
+        }
+        // Running intervals come out of the heap in no particular order, so order each later event's clashes
+        conflicts.sort(BY_LATER_START);
+        return new EventConflicts(Collections.unmodifiableList(conflicts), totalCount);
+    }
+
+    private static long toEpochMinutes(LocalDateTime time) {
+        return Math.floorDiv(time.toEpochSecond(ZoneOffset.UTC), SECONDS_PER_MINUTE);
+    }
+
+    /**
+     * Two event occurrences that overlap, the earlier-starting one first.
+     */
+    public static final class Conflict {
+        private final int firstNumber;
+        private final Event first;
+        private final int secondNumber;
+        private final Event second;
+
+        private Conflict(Interval first, Interval second) {
+            this.firstNumber = first.taskNumber;
+            this.first = first.toEvent();
+            this.secondNumber = second.taskNumber;
+            this.second = second.toEvent();
+        }
+
+        public int getFirstNumber() {
+            return firstNumber;
+        }
+
+        public Event getFirst() {
+            return first;
+        }
+
+        public int getSecondNumber() {
+            return secondNumber;
+        }
+
+        public Event getSecond() {
+            return second;
+        }
+    }
+
+    /**
+     * The time one event occurrence takes, in epoch minutes for cheap comparisons during the sweep.
+     */
+    private static final class Interval {
+        private final int taskNumber;
+        private final Event source;
+        private final LocalDateTime start;
+        private final LocalDateTime end;
+        private final long startMinute;
+        private final long endMinute;
+
+        Interval(int taskNumber, Event source, LocalDateTime start, LocalDateTime end) {
+            this.taskNumber = taskNumber;
+            this.source = source;
+            this.start = start;
+            this.end = end;
+            this.startMinute = toEpochMinutes(start);
+            this.endMinute = toEpochMinutes(end);
+        }
+
+        /**
+         * Gets the event as it stands at this occurrence.
+         */
+        Event toEvent() {
+            return source.getRecurrence() == null ? source
+                    : new Event(source.getDescription(), start, end, source.getRecurrence());
+        }
+    }
+}
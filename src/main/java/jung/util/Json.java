@@ -0,0 +1,305 @@
+package jung.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import jung.task.Deadline;
+import jung.task.Event;
+import jung.task.Recurrence;
+import jung.task.Task;
+
+/**
+ * Minimal JSON support for the HTTP API's response bodies and for JSON Lines import and export.
+ * Tasks are written as flat objects; reading only goes as far as flat objects, skipping nested values.
+ */
+public final class Json {
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private Json() {
+        // Utility class - prevent instantiation
+    }
+
+    /**
+     * Appends a string as a quoted, escaped JSON string literal.
+     *
+     * @param json Builder to append to
+     * @param value String to append, or null for a JSON null
+     * @return The same builder, for chaining
+     */
+    public static StringBuilder appendString(StringBuilder json, String value) {
+        if (value == null) {
+            return json.append("null");
+        }
+        json.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+            case '"':
+                json.append("\\\"");
+                break;
+            case '\\':
+                json.append("\\\\");
+                break;
+            case '\n':
+                json.append("\\n");
+                break;
+            case '\r':
+                json.append("\\r");
+                break;
+            case '\t':
+                json.append("\\t");
+                break;
+            default:
+                if (c < 0x20) {
+                    json.append("\\u00").append(HEX_DIGITS[c >> 4]).append(HEX_DIGITS[c & 0xF]);
+                } else {
+                    json.append(c);
+                }
+                break;
+            }
+        }
+        return json.append('"');
+    }
+
+    /**
+     * Appends a task as a JSON object with its 1-based list number.
+     * Times are ISO-8601 local date-times, such as {@code 2024-03-15T14:00}.
+     *
+     * @param json Builder to append to
+     * @param number 1-based list number of the task
+     * @param task Task to append
+     * @return The same builder, for chaining
+     */
+    public static StringBuilder appendTask(StringBuilder json, int number, Task task) {
+        json.append("{\"number\":").append(number).append(',');
+        return appendTaskFields(json, task).append('}');
+    }
+
+    /**
+     * Appends a task as a JSON object without a list number, as written by JSON Lines export.
+     *
+     * @param json Builder to append to
+     * @param task Task to append
+     * @return The same builder, for chaining
+     */
+    public static StringBuilder appendTask(StringBuilder json, Task task) {
+        json.append('{');
+        return appendTaskFields(json, task).append('}');
+    }
+
+    /**
+     * Builds an error body such as {@code {"error":"..."}}.
+     *
+     * @param message Error message
+     * @return JSON error object
+     */
+    public static String error(String message) {
+        return appendString(new StringBuilder("{\"error\":"), message).append('}').toString();
+    }
+
+    /**
+     * Reads the members of a JSON object whose values are strings, numbers, booleans or null.
+     * Nested objects and arrays are skipped, so records from other tools can carry extra data.
+     *
+     * @param text One JSON object
+     * @return Member values by name, in order; strings unescaped, other scalars as written, nulls left out
+     * @throws IllegalArgumentException If the text is not a single well-formed JSON object
+     */
+    public static Map<String, String> parseObject(String text) {
+        Reader reader = new Reader(text);
+        Map<String, String> members = new LinkedHashMap<>();
+        reader.expect('{');
+        if (!reader.consume('}')) {
+            do {
+                String name = reader.readString();
+                reader.expect(':');
+                String value = reader.readValue();
+                if (value != null) {
+                    members.put(name, value);
+                }
+            } while (reader.consume(','));
+            reader.expect('}');
+        }
+        reader.expectEnd();
+        return members;
+    }
+
+    private static StringBuilder appendTaskFields(StringBuilder json, Task task) {
+        TaskType type = TaskType.fromSymbol(task.getTaskSymbol());
+        json.append("\"type\":\"").append(type.name().toLowerCase()).append('"')
+                .append(",\"description\":");
+        appendString(json, task.getDescription());
+        json.append(",\"done\":").append(task.isDone());
+
+        if (task instanceof Deadline) {
+            json.append(",\"by\":\"").append(((Deadline) task).getDeadlineTime()).append('"');
+        } else if (task instanceof Event) {
+            Event event = (Event) task;
+            json.append(",\"from\":\"").append(event.getStartTime()).append('"')
+                    .append(",\"to\":\"").append(event.getEndTime()).append('"');
+        }
+        Recurrence recurrence = task.getRecurrence();
+        if (recurrence != null) {
+            json.append(",\"repeat\":\"").append(recurrence.toRule()).append('"');
+        }
+        return json;
+    }
+
+    /**
+     * Cursor over the text of one JSON value.
+     */
+    private static class Reader {
+        private final String text;
+        private int position;
+
+        Reader(String text) {
+            this.text = text;
+        }
+
+        boolean consume(char expected) {
+            skipWhitespace();
+            if (position < text.length() && text.charAt(position) == expected) {
+                position++;
+                return true;
+            }
+            return false;
+        }
+
+        void expect(char expected) {
+            if (!consume(expected)) {
+                throw error("expected '" + expected + "'");
+            }
+        }
+
+        void expectEnd() {
+            skipWhitespace();
+            if (position != text.length()) {
+                throw error("unexpected text after the object");
+            }
+        }
+
+        /**
+         * Reads a scalar value, or skips a nested object or array.
+         *
+         * @return Unescaped string, literal text of another scalar, or null for null and nested values
+         */
+        String readValue() {
+            skipWhitespace();
+            if (position >= text.length()) {
+                throw error("missing value");
+            }
+            char c = text.charAt(position);
+            switch (c) {
+            case '"':
+                return readString();
+            case '{':
+            case '[':
+                skipNested();
+                return null;
+            default:
+                int start = position;
+                while (position < text.length() && isLiteralChar(text.charAt(position))) {
+                    position++;
+                }
+                String literal = text.substring(start, position);
+                if (literal.isEmpty()) {
+                    throw error("unexpected '" + c + "'");
+                }
+                return literal.equals("null") ? null : literal;
+            }
+        }
+
+        String readString() {
+            expect('"');
+            StringBuilder value = new StringBuilder();
+            while (position < text.length()) {
+                char c = text.charAt(position++);
+                if (c == '"') {
+                    return value.toString();
+                }
+                if (c != '\\') {
+                    value.append(c);
+                    continue;
+                }
+                if (position >= text.length()) {
+                    break;
+                }
+                char escaped = text.charAt(position++);
+                switch (escaped) {
+                case 'n':
+                    value.append('\n');
+                    break;
+                case 'r':
+                    value.append('\r');
+                    break;
+                case 't':
+                    value.append('\t');
+                    break;
+                case 'b':
+                    value.append('\b');
+                    break;
+                case 'f':
+                    value.append('\f');
+                    break;
+                case 'u':
+                    value.append(readUnicodeEscape());
+                    break;
+                default:
+                    value.append(escaped);
+                    break;
+                }
+            }
+            throw error("unterminated string");
+        }
+
+        private char readUnicodeEscape() {
+            if (position + 4 > text.length()) {
+                throw error("incomplete \\u escape");
+            }
+            try {
+                char c = (char) Integer.parseInt(text.substring(position, position + 4), 16);
+                position += 4;
+                return c;
+            } catch (NumberFormatException e) {
+                throw error("invalid \\u escape");
+            }
+        }
+
+        /**
+         * Skips a nested object or array, including any strings inside it.
+         */
+        private void skipNested() {
+            int depth = 0;
+            do {
+                if (position >= text.length()) {
+                    throw error("unterminated object or array");
+                }
+                char c = text.charAt(position);
+                if (c == '"') {
+                    readString();
+                    continue;
+                }
+                if (c == '{' || c == '[') {
+                    depth++;
+                } else if (c == '}' || c == ']') {
+                    depth--;
+                }
+                position++;
+            } while (depth > 0);
+        }
+
+        private void skipWhitespace() {
+            while (position < text.length() && Character.isWhitespace(text.charAt(position))) {
+                position++;
+            }
+        }
+
+        private static boolean isLiteralChar(char c) {
+            return Character.isLetterOrDigit(c) || c == '-' || c == '+' || c == '.';
+        }
+
+        private IllegalArgumentException error(String problem) {
+            return new IllegalArgumentException("Invalid JSON at column " + (position + 1) + ": " + problem);
+        }
+    }
+}
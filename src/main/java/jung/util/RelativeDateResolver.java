@@ -0,0 +1,308 @@
+package jung.util;
+
+import java.time.Clock;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.temporal.TemporalAdjusters;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Resolves relative date-times such as {@code tomorrow 5pm}, {@code next mon}, {@code in 3 days}
+ * or {@code eod} against today's date.
+ *
+ * <p>Supported forms are an optional day followed by an optional time, in any case:
+ * <ul>
+ *   <li>Day: {@code today}, {@code tomorrow} ({@code tmr}), a weekday such as {@code fri} or
+ *   {@code next fri} (the first one after today), or {@code in N days} / {@code in N weeks}.</li>
+ *   <li>Time: {@code 5pm}, {@code 5:30pm}, {@code 17:30}, {@code 1730}, {@code noon} or {@code eod}
+ *   (23:59). Without a time, the end of the day is used.</li>
+ * </ul>
+ *
+ * <p>Each expression is compiled once into a small day-and-time rule, kept in an LRU cache.
+ * Resolved results are memoized until midnight; the clock is only consulted again to notice
+ * that the day has changed, so scripts repeating the same expression do no calendar work per line.
+ */
+public class RelativeDateResolver {
+
+    private static final RelativeDateResolver SHARED = new RelativeDateResolver(Clock.systemDefaultZone());
+
+    private static final int CACHE_CAPACITY = 256;
+    private static final int MAX_DAYS_AHEAD = 3660;
+    private static final int END_OF_DAY_MINUTE = 23 * 60 + 59;
+    private static final int NOON_MINUTE = 12 * 60;
+    private static final Rule NOT_RELATIVE = new Rule(0, null, 0);
+    private static final Map<String, DayOfWeek> WEEKDAYS = createWeekdays();
+
+    private final Clock clock;
+    private final Map<String, Rule> compiled = createLruMap();
+    private final Map<String, LocalDateTime> resolvedToday = new HashMap<>();
+    private LocalDate today;
+    private long nextMidnightMillis = Long.MIN_VALUE;
+
+    /**
+     * Creates a resolver that reads today's date from the given clock.
+     *
+     * @param clock Clock giving the current date and time zone
+     */
+    public RelativeDateResolver(Clock clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Gets the resolver shared by task commands, using the system clock.
+     *
+     * @return Application-wide resolver
+     */
+    public static RelativeDateResolver getShared() {
+        return SHARED;
+    }
+
+    /**
+     * Resolves a relative date-time expression.
+     *
+     * @param text Expression typed by the user
+     * @return Date-time it stands for today, or null if the text is not a relative expression
+     */
+    public synchronized LocalDateTime resolve(String text) {
+        refreshToday();
+        LocalDateTime resolved = resolvedToday.get(text);
+        if (resolved != null) {
+            return resolved;
+        }
+
+        Rule rule = compiled.get(text);
+        if (rule == null) {
+            rule = compile(text);
+            compiled.put(text, rule);
+        }
+        if (rule == NOT_RELATIVE) {
+            return null;
+        }
+
+        resolved = rule.resolve(today);
+        if (resolvedToday.size() >= CACHE_CAPACITY) {
+            resolvedToday.clear();
+        }
+        resolvedToday.put(text, resolved);
+        return resolved;
+    }
+
+    /**
+     * Moves to a new day, dropping memoized results, once the clock passes midnight.
+     */
+    private void refreshToday() {
+        long now = clock.millis();
+        if (now < nextMidnightMillis && today != null) {
+            return;
+        }
+        ZoneId zone = clock.getZone();
+        today = LocalDate.ofInstant(clock.instant(), zone);
+        nextMidnightMillis = today.plusDays(1).atStartOfDay(zone).toInstant().toEpochMilli();
+        resolvedToday.clear();
+    }
+
+    /**
+     * Compiles an expression into a rule.
+     *
+     * @return Rule for the expression, or {@link #NOT_RELATIVE} if it does not follow the grammar
+     */
+    private static Rule compile(String text) {
+        // Runs once per distinct expression; the result is cached
+        String[] tokens = text.trim().toLowerCase(Locale.ROOT).split("\\s+");
+        int position = 0;
+        int dayOffset = 0;
+        DayOfWeek weekday = null;
+        boolean hasDay = true;
+
+        String first = tokens[0];
+        switch (first) {
+        case "today":
+        case "tdy":
+            position = 1;
+            break;
+        case "tomorrow":
+        case "tmr":
+        case "tmrw":
+            dayOffset = 1;
+            position = 1;
+            break;
+        case "next":
+        case "this":
+            weekday = tokens.length > 1 ? WEEKDAYS.get(tokens[1]) : null;
+            if (weekday == null) {
+                return NOT_RELATIVE;
+            }
+            position = 2;
+            break;
+        case "in":
+            dayOffset = tokens.length > 2 ? parseDayCount(tokens[1], tokens[2]) : -1;
+            if (dayOffset < 0) {
+                return NOT_RELATIVE;
+            }
+            position = 3;
+            break;
+        default:
+            weekday = WEEKDAYS.get(first);
+            position = weekday == null ? 0 : 1;
+            hasDay = weekday != null;
+            break;
+        }
+
+        if (position == tokens.length) {
+            return hasDay ? new Rule(dayOffset, weekday, END_OF_DAY_MINUTE) : NOT_RELATIVE;
+        }
+        String time = tokens[position];
+        boolean hasSeparateMeridiem = position + 2 == tokens.length
+                && (tokens[position + 1].equals("am") || tokens[position + 1].equals("pm"));
+        if (hasSeparateMeridiem) {
+            time += tokens[position + 1];
+        } else if (position + 1 != tokens.length) {
+            return NOT_RELATIVE;
+        }
+
+        int minuteOfDay = parseTime(time);
+        return minuteOfDay < 0 ? NOT_RELATIVE : new Rule(dayOffset, weekday, minuteOfDay);
+    }
+
+    /**
+     * Parses the {@code N days} or {@code N weeks} of an {@code in} expression.
+     *
+     * @return Number of days, or -1 if invalid
+     */
+    private static int parseDayCount(String number, String unit) {
+        int count = parseNumber(number, 0, number.length());
+        if (count < 0) {
+            return -1;
+        }
+        int days;
+        switch (unit) {
+        case "day":
+        case "days":
+            days = count;
+            break;
+        case "week":
+        case "weeks":
+            days = count * 7;
+            break;
+        default:
+            return -1;
+        }
+        return days <= MAX_DAYS_AHEAD ? days : -1;
+    }
+
+    /**
+     * Parses a time of day such as 5pm, 5:30pm, 17:30, 1730, noon or eod.
+     *
+     * @return Minutes since midnight, or -1 if invalid
+     */
+    private static int parseTime(String time) {
+        switch (time) {
+        case "eod":
+            return END_OF_DAY_MINUTE;
+        case "noon":
+            return NOON_MINUTE;
+        default:
+            break;
+        }
+
+        int end = time.length();
+        boolean isPm = time.endsWith("pm");
+        boolean isTwelveHour = isPm || time.endsWith("am");
+        if (isTwelveHour) {
+            end -= 2;
+        }
+
+        int colon = time.indexOf(':');
+        int hour;
+        int minute;
+        if (colon >= 0) {
+            hour = parseNumber(time, 0, colon);
+            minute = end - colon == 3 ? parseNumber(time, colon + 1, end) : -1;
+        } else if (end == 4 && !isTwelveHour) {
+            hour = parseNumber(time, 0, 2);
+            minute = parseNumber(time, 2, 4);
+        } else {
+            hour = end <= 2 && isTwelveHour ? parseNumber(time, 0, end) : -1;
+            minute = 0;
+        }
+
+        if (isTwelveHour) {
+            if (hour < 1 || hour > 12) {
+                return -1;
+            }
+            hour = hour % 12 + (isPm ? 12 : 0);
+        }
+        if (hour < 0 || hour > 23 || minute < 0 || minute > 59) {
+            return -1;
+        }
+        return hour * 60 + minute;
+    }
+
+    /**
+     * Parses the digits between two positions.
+     *
+     * @return The number, or -1 if the range is empty, too long or not all digits
+     */
+    private static int parseNumber(String text, int start, int end) {
+        if (start >= end || end - start > 4) {
+            return -1;
+        }
+        int value = 0;
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    private static Map<String, DayOfWeek> createWeekdays() {
+        Map<String, DayOfWeek> weekdays = new HashMap<>();
+        for (DayOfWeek day : DayOfWeek.values()) {
+            String name = day.name().toLowerCase(Locale.ROOT);
+            weekdays.put(name, day);
+            weekdays.put(name.substring(0, 3), day);
+        }
+        weekdays.put("tues", DayOfWeek.TUESDAY);
+        weekdays.put("thur", DayOfWeek.THURSDAY);
+        weekdays.put("thurs", DayOfWeek.THURSDAY);
+        return weekdays;
+    }
+
+    private static <V> Map<String, V> createLruMap() {
+        return new LinkedHashMap<>(CACHE_CAPACITY * 4 / 3 + 1, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, V> eldest) {
+                return size() > CACHE_CAPACITY;
+            }
+        };
+    }
+
+    /**
+     * Compiled expression: a day, either an offset from today or the next given weekday, and a time.
+     */
+    private static class Rule {
+        private final int dayOffset;
+        private final DayOfWeek weekday;
+        private final int minuteOfDay;
+
+        Rule(int dayOffset, DayOfWeek weekday, int minuteOfDay) {
+            this.dayOffset = dayOffset;
+            this.weekday = weekday;
+            this.minuteOfDay = minuteOfDay;
+        }
+
+        LocalDateTime resolve(LocalDate today) {
+            LocalDate date = weekday != null ? today.with(TemporalAdjusters.next(weekday)) : today.plusDays(dayOffset);
+            return LocalDateTime.of(date, LocalTime.of(minuteOfDay / 60, minuteOfDay % 60));
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package jung.util;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import jung.task.Task;
+
+/**
+ * Structured payload of a command that shows tasks, such as {@code list} or {@code find}.
+ * Holds the tasks themselves rather than their text, so consumers that want data (the HTTP API,
+ * the GUI, tests) can read rows directly and only text consumers pay for {@link #render()}.
+ * Text consumers that stream can pull one line at a time from {@link #lines()} instead.
+ */
+public class TaskListing {
+
+    private final String header;
+    private final List<Task> tasks;
+    private final int[] indices;
+    private final int numberOffset;
+    private final int[] taskNumbers;
+    private final String footer;
+
+    /**
+     * Creates a listing of every task in a list.
+     *
+     * @param header Line shown above the tasks
+     * @param tasks Tasks to show, in order; the list must not change afterwards
+     */
+    public TaskListing(String header, List<Task> tasks) {
+        this(header, tasks, null);
+    }
+
+    /**
+     * Creates a listing of selected tasks from a list.
+     *
+     * @param header Line shown above the tasks
+     * @param tasks Full task list the indices refer to; the list must not change afterwards
+     * @param indices 0-based positions of the tasks to show, or null to show all of them
+     */
+    public TaskListing(String header, List<Task> tasks, int[] indices) {
+        this(header, tasks, indices, 0, null, null);
+    }
+
+    private TaskListing(String header, List<Task> tasks, int[] indices, int numberOffset, int[] taskNumbers,
+            String footer) {
+        this.header = header;
+        this.tasks = tasks;
+        this.indices = indices;
+        this.numberOffset = numberOffset;
+        this.taskNumbers = taskNumbers;
+        this.footer = footer;
+    }
+
+    /**
+     * Creates a listing of one page of a task list, numbered by position in the full list.
+     * The page is a view of the list, so no tasks are copied.
+     *
+     * @param header Line shown above the tasks
+     * @param tasks Full task list; the list must not change afterwards
+     * @param from 0-based index of the first task on the page
+     * @param to 0-based index just past the last task on the page
+     * @param footer Line shown below the tasks, or null for none
+     * @return Listing of tasks {@code from} to {@code to - 1}
+     */
+    public static TaskListing page(String header, List<Task> tasks, int from, int to, String footer) {
+        return new TaskListing(header, tasks.subList(from, to), null, from, null, footer);
+    }
+
+    /**
+     * Creates a listing of rows that stand for tasks in the full list without being those tasks,
+     * such as the occurrences of a recurring task. Each row is shown with the number of its task.
+     *
+     * @param header Line shown above the rows
+     * @param rows Tasks to show, in order; the list must not change afterwards
+     * @param taskNumbers 1-based number in the full list of the task behind each row
+     * @param footer Line shown below the rows, or null for none
+     * @return Listing of the rows
+     */
+    public static TaskListing numbered(String header, List<Task> rows, int[] taskNumbers, String footer) {
+        return new TaskListing(header, rows, null, 0, taskNumbers, footer);
+    }
+
+    public String getHeader() {
+        return header;
+    }
+
+    public String getFooter() {
+        return footer;
+    }
+
+    /**
+     * Gets the number of rows in this listing.
+     *
+     * @return Row count
+     */
+    public int size() {
+        return indices == null ? tasks.size() : indices.length;
+    }
+
+    /**
+     * Gets the task shown in a row.
+     *
+     * @param row 0-based row
+     * @return Task in that row
+     */
+    public Task getTask(int row) {
+        return tasks.get(indexOf(row));
+    }
+
+    /**
+     * Gets the 1-based number of a row's task in the full task list, as used by {@code mark} or {@code delete}.
+     *
+     * @param row 0-based row
+     * @return Task number in the full list
+     */
+    public int getTaskNumber(int row) {
+        if (taskNumbers != null) {
+            return taskNumbers[row];
+        }
+        return indices == null ? numberOffset + row + 1 : indices[row] + 1;
+    }
+
+    /**
+     * Gets the number of text lines {@link #lines()} produces.
+     *
+     * @return Header, row and footer line count
+     */
+    public int getLineCount() {
+        return 1 + size() + (footer == null ? 0 : 1);
+    }
+
+    /**
+     * Renders the listing lazily, one line per call: the header, one numbered line per row, then the footer.
+     * Only the current line is ever held in memory.
+     *
+     * @return Iterator over the text lines, without line terminators
+     */
+    public Iterator<String> lines() {
+        return new Iterator<>() {
+            private int line = 0;
+
+            @Override
+            public boolean hasNext() {
+                return line < getLineCount();
+            }
+
+            @Override
+            public String next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                int current = line++;
+                if (current == 0) {
+                    return header;
+                }
+                int row = current - 1;
+                if (row < size()) {
+                    int number = taskNumbers != null ? taskNumbers[row] : numberOffset + row + 1;
+                    return number + ". " + getTask(row);
+                }
+                return footer;
+            }
+        };
+    }
+
+    /**
+     * Renders the whole listing as text, each line followed by a newline.
+     *
+     * @return Text form of the listing
+     */
+    public String render() {
+        StringBuilder text = new StringBuilder(header.length() + 1 + size() * 48);
+        for (Iterator<String> lines = lines(); lines.hasNext();) {
+            text.append(lines.next()).append('\n');
+        }
+        return text.toString();
+    }
+
+    private int indexOf(int row) {
+        return indices == null ? row : indices[row];
+    }
+}
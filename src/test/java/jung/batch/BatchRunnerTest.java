@@ -0,0 +1,93 @@
+package jung.batch;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+import jung.gui.Jung;
+
+public class BatchRunnerTest {
+
+    private Path tempDir;
+    private Path dataFile;
+    private ByteArrayOutputStream logBytes;
+    private BatchRunner runner;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        tempDir = Files.createTempDirectory("jung-batch");
+        dataFile = tempDir.resolve("jung.txt");
+        logBytes = new ByteArrayOutputStream();
+        PrintStream log = new PrintStream(logBytes, true, StandardCharsets.UTF_8);
+        runner = new BatchRunner(new Jung(dataFile.toString()), log);
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(tempDir)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Test
+    public void run_validScript_savesAllTasksOnce() throws IOException {
+        BatchSummary summary = runner.run(script("todo read book", "deadline return book /by 1/12/2025 1800",
+                "mark 1"));
+
+        assertEquals(3, summary.getCommandCount());
+        assertEquals(0, summary.getErrorCount());
+        List<String> lines = Files.readAllLines(dataFile);
+        assertEquals(2, lines.size());
+        assertTrue(lines.get(0).startsWith("T | 1 | read book"));
+    }
+
+    @Test
+    public void run_failingCommands_reportsLineNumbersAndKeepsGoing() throws IOException {
+        BatchSummary summary = runner.run(script("todo first", "blah", "", "mark 9", "todo second"));
+
+        assertEquals(4, summary.getCommandCount());
+        assertEquals(2, summary.getErrorCount());
+        assertEquals(2, summary.getErrorCounts().size());
+        String log = logBytes.toString(StandardCharsets.UTF_8);
+        assertTrue(log.contains("Line 2: "));
+        assertTrue(log.contains("Line 4: "));
+        assertEquals(2, Files.readAllLines(dataFile).size());
+    }
+
+    @Test
+    public void run_commentsAndBye_skipsCommentsAndStopsAtBye() throws IOException {
+        BatchSummary summary = runner.run(script("# setup", "todo kept", "bye", "todo ignored"));
+
+        assertEquals(2, summary.getCommandCount());
+        assertEquals(List.of("T | 0 | kept"), Files.readAllLines(dataFile));
+    }
+
+    @Test
+    public void run_manyAdds_streamsProgress() throws IOException {
+        String[] commands = new String[20_000];
+        for (int i = 0; i < commands.length; i++) {
+            commands[i] = "todo task " + i;
+        }
+
+        BatchSummary summary = runner.run(script(commands));
+
+        assertEquals(20_000, summary.getCommandCount());
+        assertEquals(20_000, Files.readAllLines(dataFile).size());
+        assertTrue(logBytes.toString(StandardCharsets.UTF_8).contains("20000 commands done"));
+    }
+
+    private static BufferedReader script(String... lines) {
+        return new BufferedReader(new StringReader(String.join("\n", lines)));
+    }
+}
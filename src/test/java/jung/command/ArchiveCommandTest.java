@@ -0,0 +1,70 @@
+package jung.command;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.stream.Stream;
+import jung.storage.Storage;
+import jung.storage.TaskList;
+import jung.task.ToDo;
+import jung.util.CommandResult;
+import jung.util.TaskListing;
+
+public class ArchiveCommandTest {
+
+    private Path tempDir;
+    private Storage storage;
+    private TaskList taskList;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        tempDir = Files.createTempDirectory("jung-archive-command");
+        storage = new Storage(tempDir.resolve("jung.txt").toString());
+        taskList = new TaskList(new ArrayList<>(), storage);
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(tempDir)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Test
+    public void execute_findManyMatches_showsFirstOnesNumberedByArchivePlace() throws IOException {
+        for (int i = 1; i <= 60; i++) {
+            taskList.addTask(new ToDo((i % 2 == 0 ? "read chapter " : "gym day ") + i).withDone(true));
+        }
+        taskList.addTask(new ToDo("still pending"));
+        new ArchiveCommand(ArchiveCommand.Action.MOVE_DONE, "").execute(taskList, null, storage);
+
+        CommandResult result = new ArchiveCommand(ArchiveCommand.Action.FIND, "GYM").execute(taskList, null, storage);
+
+        TaskListing listing = result.getListing();
+        assertEquals(30, listing.size());
+        assertEquals(1, listing.getTaskNumber(0));
+        assertEquals(59, listing.getTaskNumber(29));
+        assertEquals("gym day 59", listing.getTask(29).getDescription());
+        assertEquals(1, taskList.size());
+    }
+
+    @Test
+    public void execute_findPastLimit_countsTheRestInFooter() throws IOException {
+        for (int i = 0; i < ArchiveCommand.MAX_SHOWN + 5; i++) {
+            taskList.addTask(new ToDo("errand " + i).withDone(true));
+        }
+        new ArchiveCommand(ArchiveCommand.Action.MOVE_DONE, "").execute(taskList, null, storage);
+
+        CommandResult result = new ArchiveCommand(ArchiveCommand.Action.FIND, "errand")
+                .execute(taskList, null, storage);
+
+        assertEquals(ArchiveCommand.MAX_SHOWN, result.getListing().size());
+        assertTrue(result.getListing().getFooter().contains("5 more"));
+    }
+}
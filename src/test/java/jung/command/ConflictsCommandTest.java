@@ -0,0 +1,65 @@
+package jung.command;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.io.IOException;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import jung.exceptions.JungException;
+import jung.storage.TaskList;
+import jung.task.Event;
+
+public class ConflictsCommandTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 3, 2, 8, 0);
+    private static final Clock CLOCK = Clock.fixed(NOW.toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+
+    private TaskList taskList;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        taskList = new TaskList(new ArrayList<>(), null);
+        taskList.addTask(new Event("lunch", NOW.plusHours(4), NOW.plusHours(5)));
+    }
+
+    @Test
+    public void execute_conflictsOnInOneSession_warnsOnlyThatSession() throws JungException, IOException {
+        Session warned = new Session();
+        Session quiet = new Session();
+        new ConflictsCommand(ConflictsCommand.Action.ENABLE, CLOCK).execute(taskList, null, null, warned);
+
+        String warnedReply = addCall().execute(taskList, null, null, warned).getMessage();
+        String quietReply = addCall().execute(taskList, null, null, quiet).getMessage();
+
+        assertTrue(warnedReply.contains("clashes with:\n1. [E][ ] lunch"));
+        assertFalse(quietReply.contains("clashes"));
+    }
+
+    @Test
+    public void execute_conflictsOff_stopsWarnings() throws JungException, IOException {
+        Session session = new Session();
+        new ConflictsCommand(ConflictsCommand.Action.ENABLE, CLOCK).execute(taskList, null, null, session);
+        new ConflictsCommand(ConflictsCommand.Action.DISABLE, CLOCK).execute(taskList, null, null, session);
+
+        assertFalse(addCall().execute(taskList, null, null, session).getMessage().contains("clashes"));
+    }
+
+    @Test
+    public void execute_eventsAlreadyOverByClock_notReported() throws JungException, IOException {
+        Session session = new Session();
+        session.setConflictCheckEnabled(true);
+        Clock evening = Clock.fixed(NOW.plusHours(12).toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+
+        String reply = new AddEventCommand("call", "2/3/2026 1230", "2/3/2026 1330", null, evening)
+                .execute(taskList, null, null, session).getMessage();
+
+        assertFalse(reply.contains("clashes"));
+    }
+
+    private static AddEventCommand addCall() {
+        return new AddEventCommand("call", "2/3/2026 1230", "2/3/2026 1330", null, CLOCK);
+    }
+}
@@ -0,0 +1,73 @@
+package jung.command;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import jung.storage.TaskList;
+import jung.task.Deadline;
+import jung.task.Event;
+import jung.task.Recurrence;
+import jung.task.Task;
+import jung.task.ToDo;
+import jung.util.TaskListing;
+
+public class DueCommandTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 3, 2, 12, 0);
+    private static final Clock CLOCK = Clock.fixed(NOW.toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+
+    @Test
+    public void execute_mixedTasks_listsOccurrencesInWindowByTime() {
+        List<Task> tasks = new ArrayList<>();
+        tasks.add(new ToDo("buy milk"));
+        tasks.add(new Deadline("report", NOW.plusDays(2)));
+        tasks.add(new Deadline("old report", NOW.minusDays(1)));
+        tasks.add(new Deadline("far report", NOW.plusDays(30)));
+        tasks.add(new Deadline("take out trash", LocalDateTime.of(2025, 1, 1, 8, 0), Recurrence.parse("day")));
+        tasks.add(new Event("standup", NOW.minusMinutes(30), NOW.plusMinutes(30)));
+        tasks.add(new Deadline("done report", NOW.plusDays(1)).withDone(true));
+
+        TaskListing listing = due(tasks, 3);
+
+        // Trash on 3, 4 and 5 Mar; report on 4 Mar noon; standup already running
+        assertEquals(5, listing.size());
+        assertEquals("standup", listing.getTask(0).getDescription());
+        assertEquals(6, listing.getTaskNumber(0));
+        assertEquals(LocalDateTime.of(2026, 3, 3, 8, 0), ((Deadline) listing.getTask(1)).getDeadlineTime());
+        assertEquals(5, listing.getTaskNumber(1));
+        assertEquals("report", listing.getTask(3).getDescription());
+        assertEquals(2, listing.getTaskNumber(3));
+        assertTrue(listing.render().contains("\n5. [D][ ] take out trash"));
+    }
+
+    @Test
+    public void execute_endlessSeries_capsRowsAndAddsFooter() {
+        List<Task> tasks = new ArrayList<>();
+        tasks.add(new Event("gym", LocalDateTime.of(2020, 1, 1, 7, 0), LocalDateTime.of(2020, 1, 1, 8, 0),
+                Recurrence.parse("day")));
+
+        TaskListing listing = due(tasks, DueCommand.MAX_DAYS);
+
+        assertEquals(DueCommand.MAX_ROWS, listing.size());
+        assertNotNull(listing.getFooter());
+        Event first = (Event) listing.getTask(0);
+        assertEquals(LocalDateTime.of(2026, 3, 3, 7, 0), first.getStartTime());
+        assertEquals(LocalDateTime.of(2026, 3, 3, 8, 0), first.getEndTime());
+    }
+
+    @Test
+    public void execute_nothingDue_returnsMessage() {
+        List<Task> tasks = new ArrayList<>();
+        tasks.add(new Deadline("yearly review", LocalDateTime.of(2025, 6, 1, 9, 0), Recurrence.parse("year")));
+
+        assertNull(new DueCommand(7, CLOCK).execute(new TaskList(tasks, null), null, null).getListing());
+    }
+
+    private static TaskListing due(List<Task> tasks, int days) {
+        return new DueCommand(days, CLOCK).execute(new TaskList(tasks, null), null, null).getListing();
+    }
+}
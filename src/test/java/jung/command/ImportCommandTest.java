@@ -0,0 +1,96 @@
+package jung.command;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+import jung.exceptions.JungException;
+import jung.storage.Storage;
+import jung.storage.TaskList;
+import jung.task.Deadline;
+import jung.task.Event;
+import jung.task.Recurrence;
+import jung.task.Task;
+import jung.task.ToDo;
+
+public class ImportCommandTest {
+
+    private Path tempDir;
+    private Storage storage;
+    private TaskList taskList;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        tempDir = Files.createTempDirectory("jung-import");
+        storage = new Storage(tempDir.resolve("jung.txt").toString());
+        taskList = new TaskList(new ArrayList<>(), storage);
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(tempDir)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Test
+    public void exportThenImport_everyFormat_restoresSameTasks() throws JungException, IOException {
+        taskList.addTask(new ToDo("buy milk, eggs"));
+        taskList.addTask(new Deadline("submit \"final\" report", LocalDateTime.of(2025, 3, 15, 14, 0)));
+        taskList.addTask(new Event("team lunch", LocalDateTime.of(2025, 3, 16, 12, 0),
+                LocalDateTime.of(2025, 3, 16, 13, 30)));
+        taskList.addTask(new Deadline("pay rent", LocalDateTime.of(2025, 1, 31, 9, 0), Recurrence.parse("month")));
+        taskList.addTask(new Event("gym", LocalDateTime.of(2025, 3, 17, 7, 0), LocalDateTime.of(2025, 3, 17, 8, 0),
+                Recurrence.parse("2 mon,thu until 30/6/2025")));
+        taskList.markTask(1);
+        List<Task> original = taskList.getTasks();
+
+        for (String fileName : new String[] {"tasks.csv", "tasks.jsonl", "tasks.ics"}) {
+            String path = tempDir.resolve(fileName).toString();
+            new ExportCommand(path).execute(taskList, null, storage);
+
+            TaskList imported = new TaskList(new ArrayList<>(), null);
+            new ImportCommand(path).execute(imported, null, null);
+
+            assertEquals(original.size(), imported.size(), fileName);
+            for (int i = 0; i < original.size(); i++) {
+                assertEquals(original.get(i).toFileString(), imported.getTasks().get(i).toFileString(), fileName);
+            }
+        }
+
+        List<Task> reloaded = new Storage(tempDir.resolve("jung.txt").toString()).load();
+        assertEquals(original.get(4).toFileString(), reloaded.get(4).toFileString());
+        assertEquals(original.get(4).getRecurrence(), reloaded.get(4).getRecurrence());
+    }
+
+    @Test
+    public void execute_importedTasks_savedOnceAndUndoneTogether() throws JungException, IOException {
+        Path file = tempDir.resolve("tasks.jsonl");
+        Files.writeString(file, "{\"description\":\"one\"}\n{\"description\":\"two\",\"tags\":[\"x\"]}\n"
+                + "not json\n{\"type\":\"deadline\",\"description\":\"three\",\"by\":\"2025-05-01T09:00\"}\n");
+
+        String message = new ImportCommand(file.toString()).execute(taskList, null, storage).getMessage();
+
+        assertTrue(message.contains("imported 3 tasks"));
+        assertTrue(message.contains("1 of the records"));
+        assertEquals(3, Files.readAllLines(tempDir.resolve("jung.txt")).size());
+        new UndoCommand().execute(taskList, null, storage);
+        assertEquals(0, taskList.size());
+    }
+
+    @Test
+    public void execute_missingOrUnknownFile_throwsJungException() {
+        assertThrows(JungException.class,
+                () -> new ImportCommand(tempDir.resolve("nope.csv").toString()).execute(taskList, null, storage));
+        assertThrows(JungException.class,
+                () -> new ImportCommand(tempDir.resolve("tasks.xlsx").toString()).execute(taskList, null, storage));
+    }
+}
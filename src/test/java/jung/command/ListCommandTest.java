@@ -0,0 +1,75 @@
+package jung.command;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.List;
+import jung.exceptions.JungException;
+import jung.storage.TaskList;
+import jung.task.Task;
+import jung.task.ToDo;
+import jung.util.CommandResult;
+import jung.util.TaskListing;
+
+public class ListCommandTest {
+
+    private TaskList taskList;
+    private Session session;
+
+    @BeforeEach
+    public void setUp() {
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 1; i <= ListCommand.PAGE_SIZE * 2 + 5; i++) {
+            tasks.add(new ToDo("task " + i));
+        }
+        taskList = new TaskList(tasks, null);
+        session = new Session();
+    }
+
+    @Test
+    public void execute_firstThenNext_pagesThroughList() throws JungException {
+        TaskListing first = list(ListCommand.Action.FIRST, 1).getListing();
+        assertEquals(ListCommand.PAGE_SIZE, first.size());
+        assertEquals(1, first.getTaskNumber(0));
+
+        TaskListing second = list(ListCommand.Action.NEXT, 0).getListing();
+        assertEquals(ListCommand.PAGE_SIZE + 1, second.getTaskNumber(0));
+        assertEquals("task " + (ListCommand.PAGE_SIZE + 1), second.getTask(0).getDescription());
+
+        TaskListing third = list(ListCommand.Action.NEXT, 0).getListing();
+        assertEquals(5, third.size());
+        assertNull(list(ListCommand.Action.NEXT, 0).getListing());
+    }
+
+    @Test
+    public void execute_separateSessions_pageIndependently() throws JungException {
+        list(ListCommand.Action.FIRST, 1);
+        Session otherSession = new Session();
+        new ListCommand(ListCommand.Action.PAGE, 3).execute(taskList, null, null, otherSession);
+
+        TaskListing next = list(ListCommand.Action.NEXT, 0).getListing();
+
+        assertEquals(ListCommand.PAGE_SIZE + 1, next.getTaskNumber(0));
+        assertEquals(3, otherSession.getListPage());
+    }
+
+    @Test
+    public void execute_pageNumber_rendersTaskNumbersAndFooter() throws JungException {
+        CommandResult result = list(ListCommand.Action.PAGE, 3);
+        String[] lines = result.getMessage().split("\n");
+
+        assertEquals(1 + 5 + 1, lines.length);
+        assertEquals(ListCommand.PAGE_SIZE * 2 + 1 + ". [T][ ] task " + (ListCommand.PAGE_SIZE * 2 + 1), lines[1]);
+        assertTrue(lines[6].contains("Page 3 of 3"));
+    }
+
+    @Test
+    public void execute_pageBeyondEnd_throwsJungException() {
+        assertThrows(JungException.class, () -> list(ListCommand.Action.PAGE, 4));
+    }
+
+    private CommandResult list(ListCommand.Action action, int page) throws JungException {
+        return new ListCommand(action, page).execute(taskList, null, null, session);
+    }
+}
@@ -0,0 +1,45 @@
+package jung.gui;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.io.IOException;
+
+public class ChatTranscriptTest {
+
+    private ChatTranscript transcript;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        transcript = ChatTranscript.createTemporary(4);
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        transcript.close();
+    }
+
+    @Test
+    public void add_beyondMemoryCapacity_spillsButKeepsEveryMessage() throws IOException {
+        for (int i = 0; i < 25; i++) {
+            transcript.add(i % 2 == 0
+                    ? ChatMessage.fromUser("list " + i)
+                    : ChatMessage.fromJung("reply\n" + i, i == 3));
+        }
+
+        assertEquals(25, transcript.size());
+        assertTrue(transcript.getInMemoryCount() < 8);
+        assertEquals("list 0", transcript.get(0).getText());
+        assertTrue(transcript.get(0).isFromUser());
+        assertEquals("reply\n3", transcript.get(3).getText());
+        assertTrue(transcript.get(3).isError());
+        assertEquals("list 24", transcript.get(24).getText());
+    }
+
+    @Test
+    public void get_outOfRange_throwsIndexOutOfBoundsException() throws IOException {
+        transcript.add(ChatMessage.fromUser("hello"));
+        assertThrows(IndexOutOfBoundsException.class, () -> transcript.get(1));
+    }
+}
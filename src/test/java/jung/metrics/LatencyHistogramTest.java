@@ -0,0 +1,40 @@
+package jung.metrics;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void getValueAtPercentile_uniformValues_withinThreePercent() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long value = 1; value <= 100_000; value++) {
+            histogram.record(value);
+        }
+
+        assertEquals(100_000, histogram.getCount());
+        assertEquals(50_000, histogram.getValueAtPercentile(0.50), 50_000 * 0.03);
+        assertEquals(99_000, histogram.getValueAtPercentile(0.99), 99_000 * 0.03);
+        assertEquals(100_000, histogram.getMax());
+    }
+
+    @Test
+    public void getValueAtPercentile_smallValues_exact() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(3);
+        histogram.record(7);
+
+        assertEquals(3, histogram.getValueAtPercentile(0.5));
+        assertEquals(7, histogram.getValueAtPercentile(1.0));
+    }
+
+    @Test
+    public void reset_afterRecording_isEmpty() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(1_000_000);
+        histogram.reset();
+
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getValueAtPercentile(0.99));
+    }
+}
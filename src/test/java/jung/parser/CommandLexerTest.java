@@ -0,0 +1,65 @@
+package jung.parser;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+import java.util.Random;
+
+public class CommandLexerTest {
+
+    @Test
+    public void lex_deadlineWithMessySpacing_findsWordArgumentAndKeyword() {
+        CommandLexer lexer = CommandLexer.lex("  Deadline \t submit   report /by  15/3/2024 1400 ");
+
+        assertEquals("deadline", lexer.getCommandWord());
+        assertEquals("deadline submit report /by 15/3/2024 1400", lexer.getNormalized().toLowerCase());
+        assertEquals("submit report /by 15/3/2024 1400", lexer.getNormalizedArgument());
+        assertEquals("submit   report /by  15/3/2024 1400", lexer.getRawArgument());
+        assertEquals(lexer.getNormalized().indexOf("/by"), lexer.getByIndex());
+        assertEquals(-1, lexer.getFromIndex());
+        assertFalse(lexer.hasReservedSeparator());
+    }
+
+    @Test
+    public void lex_singleSpacedInput_reusesTrimmedInput() {
+        String input = "event meet /from 1/1/2024 1000 /to 1/1/2024 1200";
+        CommandLexer lexer = CommandLexer.lex(input);
+
+        assertSame(input, lexer.getNormalized());
+        assertEquals(input.indexOf("/from"), lexer.getFromIndex());
+        assertEquals(input.indexOf("/to"), lexer.getToIndex());
+    }
+
+    @Test
+    public void lex_commandWordOnly_hasEmptyArguments() {
+        CommandLexer lexer = CommandLexer.lex("LIST");
+
+        assertEquals("list", lexer.getCommandWord());
+        assertEquals("", lexer.getRawArgument());
+        assertEquals("", lexer.getNormalizedArgument());
+        assertTrue(CommandLexer.lex(" \t ").isEmpty());
+    }
+
+    @Test
+    public void lex_randomInputs_matchesRegexNormalization() {
+        Random random = new Random(42);
+        String alphabet = "ab/ytofrm| \t\n";
+        for (int i = 0; i < 5000; i++) {
+            StringBuilder input = new StringBuilder();
+            int length = random.nextInt(20);
+            for (int j = 0; j < length; j++) {
+                input.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            String text = input.toString();
+            String normalized = text.trim().replaceAll("\\s+", " ");
+            int firstSpace = normalized.indexOf(' ');
+
+            CommandLexer lexer = CommandLexer.lex(text);
+            assertEquals(normalized, lexer.getNormalized(), text);
+            assertEquals(firstSpace < 0 ? normalized : normalized.substring(0, firstSpace), lexer.getCommandWord());
+            assertEquals(normalized.indexOf("/by"), lexer.getByIndex(), text);
+            assertEquals(normalized.indexOf("/from"), lexer.getFromIndex(), text);
+            assertEquals(normalized.indexOf("/to"), lexer.getToIndex(), text);
+            assertEquals(text.contains(" | "), lexer.hasReservedSeparator(), text);
+        }
+    }
+}
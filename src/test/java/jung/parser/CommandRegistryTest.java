@@ -0,0 +1,55 @@
+package jung.parser;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import jung.command.ExitCommand;
+import jung.command.UndoCommand;
+import jung.exceptions.JungException;
+
+public class CommandRegistryTest {
+
+    private final ArgumentParser deadlineParser = lexer -> new UndoCommand();
+    private final ArgumentParser deleteParser = lexer -> new UndoCommand();
+    private final ArgumentParser byeParser = lexer -> new ExitCommand();
+    private CommandRegistry registry;
+
+    @BeforeEach
+    public void setUp() {
+        registry = new CommandRegistry();
+        registry.register("deadline", deadlineParser, "dl");
+        registry.register("delete", deleteParser, "del");
+        registry.registerExactOnly("bye", byeParser);
+    }
+
+    @Test
+    public void resolve_fullWordAliasAndUniquePrefix_findsCommand() throws JungException {
+        assertSame(deadlineParser, registry.resolve("deadline"));
+        assertSame(deadlineParser, registry.resolve("dl"));
+        assertSame(deadlineParser, registry.resolve("dea"));
+        assertSame(deleteParser, registry.resolve("del"));
+        assertSame(deleteParser, registry.resolve("dele"));
+        assertEquals("deadline", registry.findCommandWord("dead"));
+    }
+
+    @Test
+    public void resolve_sharedPrefix_throwsAmbiguousError() {
+        JungException exception = assertThrows(JungException.class, () -> registry.resolve("de"));
+        assertTrue(exception.getMessage().contains("deadline or delete"));
+        assertNull(registry.findCommandWord("d"));
+    }
+
+    @Test
+    public void resolve_exactOnlyCommand_ignoresPrefixes() throws JungException {
+        assertSame(byeParser, registry.resolve("bye"));
+        assertThrows(JungException.class, () -> registry.resolve("by"));
+        assertThrows(JungException.class, () -> registry.resolve("byebye"));
+        assertThrows(JungException.class, () -> registry.resolve("dl2"));
+    }
+
+    @Test
+    public void register_duplicateOrInvalidWord_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> registry.registerExactOnly("dl", byeParser));
+        assertThrows(IllegalArgumentException.class, () -> registry.register("Todo", byeParser));
+    }
+}
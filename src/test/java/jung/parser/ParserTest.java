@@ -112,4 +112,73 @@ public class ParserTest {
         Command result = Parser.parse("find book");
         assertTrue(result instanceof FindCommand);
     }
+
+    @Test
+    public void parse_statsCommands_returnsStatsCommand() throws JungException {
+        assertTrue(Parser.parse("stats") instanceof StatsCommand);
+        assertTrue(Parser.parse("stats on") instanceof StatsCommand);
+        assertThrows(JungException.class, () -> Parser.parse("stats sideways"));
+    }
+
+    @Test
+    public void parse_listPagingCommands_returnsListCommand() throws JungException {
+        assertTrue(Parser.parse("list") instanceof ListCommand);
+        assertTrue(Parser.parse("list next") instanceof ListCommand);
+        assertTrue(Parser.parse("list page 3") instanceof ListCommand);
+        assertThrows(JungException.class, () -> Parser.parse("list page 0"));
+        assertThrows(JungException.class, () -> Parser.parse("list sideways"));
+    }
+
+    @Test
+    public void parse_aliasesAndPrefixes_returnsMatchingCommand() throws JungException {
+        assertTrue(Parser.parse("dl submit report /by 15/3/2024 1400") instanceof AddDeadlineCommand);
+        assertTrue(Parser.parse("ev meeting /from 15/3/2024 1400 /to 15/3/2024 1600") instanceof AddEventCommand);
+        assertTrue(Parser.parse("del 2") instanceof ModifyTaskCommand);
+        assertTrue(Parser.parse("dead submit report /by 15/3/2024 1400") instanceof AddDeadlineCommand);
+        assertThrows(JungException.class, () -> Parser.parse("un 1"));
+        assertThrows(JungException.class, () -> Parser.parse("de 2"));
+        assertThrows(JungException.class, () -> Parser.parse("by"));
+        assertEquals("deadline", Parser.extractCommandWord("dl report /by today"));
+    }
+
+    @Test
+    public void parse_importAndExport_returnsTransferCommands() throws JungException {
+        assertTrue(Parser.parse("import tasks.csv") instanceof ImportCommand);
+        assertTrue(Parser.parse("imp \"my tasks.ics\"") instanceof ImportCommand);
+        assertTrue(Parser.parse("export tasks.jsonl") instanceof ExportCommand);
+        assertThrows(JungException.class, () -> Parser.parse("import"));
+        assertThrows(JungException.class, () -> Parser.parse("exp tasks.csv"));
+        assertTrue(Parser.parse("e meeting /from 15/3/2024 1400 /to 15/3/2024 1600") instanceof AddEventCommand);
+    }
+
+    @Test
+    public void parse_repeatsAndDue_returnsCommands() throws JungException {
+        assertTrue(Parser.parse("deadline rent /by 1/4/2026 0900 /every month") instanceof AddDeadlineCommand);
+        assertTrue(Parser.parse("event gym /from 2/3/2026 0700 /to 2/3/2026 0800 /every mon,wed")
+                instanceof AddEventCommand);
+        assertThrows(JungException.class, () -> Parser.parse("deadline rent /every month /by 1/4/2026 0900"));
+        assertThrows(JungException.class, () -> Parser.parse("deadline rent /by 1/4/2026 0900 /every"));
+        assertTrue(Parser.parse("due") instanceof DueCommand);
+        assertTrue(Parser.parse("due 14") instanceof DueCommand);
+        assertThrows(JungException.class, () -> Parser.parse("due soon"));
+        assertThrows(JungException.class, () -> Parser.parse("due 0"));
+    }
+
+    @Test
+    public void parse_conflictsCommands_returnsConflictsCommand() throws JungException {
+        assertTrue(Parser.parse("conflicts") instanceof ConflictsCommand);
+        assertTrue(Parser.parse("conflicts on") instanceof ConflictsCommand);
+        assertTrue(Parser.parse("conf off") instanceof ConflictsCommand);
+        assertThrows(JungException.class, () -> Parser.parse("conflicts maybe"));
+    }
+
+    @Test
+    public void parse_archiveCommands_returnsArchiveCommand() throws JungException {
+        assertTrue(Parser.parse("archive") instanceof ArchiveCommand);
+        assertFalse(Parser.parse("archive find book club").isMutating());
+        assertTrue(Parser.parse("archive").isMutating());
+        assertThrows(JungException.class, () -> Parser.parse("archive find"));
+        assertThrows(JungException.class, () -> Parser.parse("archive everything"));
+        assertThrows(JungException.class, () -> Parser.parse("arch"));
+    }
 }
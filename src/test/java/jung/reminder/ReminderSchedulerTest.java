@@ -0,0 +1,170 @@
+package jung.reminder;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import jung.exceptions.JungException;
+import jung.storage.TaskList;
+import jung.task.Deadline;
+import jung.task.Event;
+import jung.task.Recurrence;
+import jung.task.Task;
+import jung.task.ToDo;
+
+public class ReminderSchedulerTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 3, 2, 12, 0);
+    private static final Duration LEAD = Duration.ofMinutes(15);
+
+    private MutableClock clock;
+    private ReminderScheduler scheduler;
+
+    @BeforeEach
+    public void setUp() {
+        clock = new MutableClock(NOW);
+        scheduler = new ReminderScheduler(clock, LEAD);
+    }
+
+    @Test
+    public void attach_existingTasks_remindsUpcomingPendingOnes() {
+        List<Task> tasks = new ArrayList<>();
+        tasks.add(new ToDo("buy milk"));
+        tasks.add(new Deadline("report", NOW.plusHours(2)));
+        tasks.add(new Deadline("old report", NOW.minusHours(1)));
+        tasks.add(new Deadline("done report", NOW.plusHours(1)).withDone(true));
+        tasks.add(new Event("meeting", NOW.plusHours(1), NOW.plusHours(2)));
+        scheduler.attach(new TaskList(tasks, null));
+
+        assertEquals(2, scheduler.size());
+        assertTrue(scheduler.pollDue().isEmpty());
+
+        clock.set(NOW.plusMinutes(45));
+        List<Task> due = scheduler.pollDue();
+        assertEquals(1, due.size());
+        assertEquals("meeting", due.get(0).getDescription());
+
+        clock.set(NOW.plusMinutes(105));
+        due = scheduler.pollDue();
+        assertEquals(1, due.size());
+        assertEquals("report", due.get(0).getDescription());
+        assertEquals(0, scheduler.size());
+    }
+
+    @Test
+    public void attach_withinLeadTime_remindsAtOnce() {
+        scheduler.attach(new TaskList(List.of(new Deadline("soon", NOW.plusMinutes(5))), null));
+
+        assertEquals(1, scheduler.pollDue().size());
+    }
+
+    @Test
+    public void taskListChanges_addDeleteMarkUndo_rescheduleOnlyThoseTasks() throws IOException, JungException {
+        TaskList taskList = new TaskList(new ArrayList<>(), null);
+        scheduler.attach(taskList);
+
+        taskList.addTask(new Deadline("report", NOW.plusHours(1)));
+        taskList.addTask(new Deadline("essay", NOW.plusHours(1)));
+        assertEquals(2, scheduler.size());
+
+        taskList.markTask(0);
+        taskList.deleteTask(1);
+        assertEquals(0, scheduler.size());
+
+        taskList.getLastAction().executeUndo(taskList);
+        assertEquals(1, scheduler.size());
+
+        clock.set(NOW.plusHours(1));
+        List<Task> due = scheduler.pollDue();
+        assertEquals(1, due.size());
+        assertEquals("essay", due.get(0).getDescription());
+    }
+
+    @Test
+    public void pollDue_repeatingDeadline_remindsEachOccurrenceInTurn() {
+        Deadline rent = new Deadline("pay rent", LocalDateTime.of(2026, 1, 1, 9, 0), Recurrence.parse("month"));
+        scheduler.attach(new TaskList(List.of(rent), null));
+
+        clock.set(LocalDateTime.of(2026, 4, 1, 8, 50));
+        List<Task> due = scheduler.pollDue();
+        assertEquals(1, due.size());
+        assertEquals(LocalDateTime.of(2026, 4, 1, 9, 0), ((Deadline) due.get(0)).getDeadlineTime());
+        assertEquals(1, scheduler.size());
+
+        // Asleep for two months: the missed occurrences are skipped, not reminded of in a burst
+        clock.set(LocalDateTime.of(2026, 6, 15, 12, 0));
+        assertTrue(scheduler.pollDue().isEmpty());
+        clock.set(LocalDateTime.of(2026, 7, 1, 8, 45));
+        due = scheduler.pollDue();
+        assertEquals(1, due.size());
+        assertEquals(LocalDateTime.of(2026, 7, 1, 9, 0), ((Deadline) due.get(0)).getDeadlineTime());
+    }
+
+    @Test
+    public void close_afterwards_ignoresTaskListChanges() throws IOException {
+        TaskList taskList = new TaskList(new ArrayList<>(), null);
+        scheduler.attach(taskList);
+        scheduler.close();
+
+        taskList.addTask(new Deadline("report", NOW.plusHours(1)));
+
+        assertEquals(0, scheduler.size());
+    }
+
+    @Test
+    public void taskRemoved_manyFarAhead_queueRebuiltAndStillReminds() throws IOException, JungException {
+        TaskList taskList = new TaskList(new ArrayList<>(), null);
+        scheduler.attach(taskList);
+        for (int i = 0; i < 500; i++) {
+            taskList.addTask(new Deadline("far " + i, NOW.plusDays(100 + i)));
+        }
+        taskList.addTask(new Deadline("near", NOW.plusHours(1)));
+        for (int i = 0; i < 500; i++) {
+            taskList.deleteTask(0);
+        }
+
+        assertEquals(1, scheduler.size());
+        clock.set(NOW.plusMinutes(50));
+        List<Task> due = scheduler.pollDue();
+        assertEquals(1, due.size());
+        assertEquals("near", due.get(0).getDescription());
+    }
+
+    /**
+     * Clock whose time the test sets.
+     */
+    private static class MutableClock extends Clock {
+        private Instant instant;
+
+        MutableClock(LocalDateTime time) {
+            set(time);
+        }
+
+        void set(LocalDateTime time) {
+            instant = time.toInstant(ZoneOffset.UTC);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package jung.server;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+import jung.exceptions.JungException;
+import jung.gui.Jung;
+import jung.util.CommandResult;
+
+public class CommandServerTest {
+
+    private Path tempDir;
+    private Jung jung;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        tempDir = Files.createTempDirectory("jung-server");
+        jung = new Jung(tempDir.resolve("jung.txt").toString());
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(tempDir)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Test
+    public void submit_writesThenRead_readSeesAllWrites() throws Exception {
+        try (CommandEngine engine = new CommandEngine(jung)) {
+            CompletableFuture<CommandResult> first = engine.submit("todo first");
+            CompletableFuture<CommandResult> second = engine.submit("todo second");
+            second.get();
+
+            assertTrue(first.isDone());
+            assertEquals(2, jung.getTaskList().size());
+            assertTrue(engine.execute("list").getMessage().contains("second"));
+        }
+    }
+
+    @Test
+    public void submit_invalidCommand_completesExceptionally() throws IOException {
+        try (CommandEngine engine = new CommandEngine(jung)) {
+            CompletableFuture<CommandResult> result = engine.submit("blah");
+            assertTrue(result.isCompletedExceptionally());
+            assertThrows(JungException.class, () -> engine.execute("blah"));
+        }
+    }
+
+    @Test
+    public void submitInOrder_mixedCommands_completeInSubmissionOrder() throws Exception {
+        try (CommandEngine engine = new CommandEngine(jung)) {
+            CompletableFuture<CommandResult> add = engine.submitInOrder("todo first");
+            CompletableFuture<CommandResult> invalid = engine.submitInOrder("blah");
+            CompletableFuture<CommandResult> list = engine.submitInOrder("list");
+
+            assertTrue(list.get().getMessage().contains("first"));
+            assertTrue(add.isDone());
+            assertTrue(invalid.isCompletedExceptionally());
+        }
+    }
+
+    @Test
+    public void serve_pipelinedRequests_responsesInOrder() throws Exception {
+        try (CommandServer server = CommandServer.openTcp(jung, 0)) {
+            Thread serveThread = new Thread(() -> {
+                try {
+                    server.serve();
+                } catch (IOException e) {
+                    // Test fails on the client side instead
+                }
+            });
+            serveThread.setDaemon(true);
+            serveThread.start();
+
+            InetSocketAddress address = (InetSocketAddress) server.getAddress();
+            try (Socket socket = new Socket(address.getAddress(), address.getPort())) {
+                OutputStream out = socket.getOutputStream();
+                out.write("todo read book\nmark 1\nblah\nbye\n".getBytes(StandardCharsets.UTF_8));
+                out.flush();
+
+                BufferedReader in = new BufferedReader(
+                        new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+                assertTrue(skipBody(in, in.readLine(), "OK").contains("read book"));
+                assertTrue(skipBody(in, in.readLine(), "OK").contains("[X] read book"));
+                skipBody(in, in.readLine(), "ERR");
+                skipBody(in, in.readLine(), "OK");
+                assertNull(in.readLine());
+            }
+        }
+    }
+
+    @Test
+    public void serve_pipelinedReadsBehindWrites_readsRunInOrder() throws Exception {
+        try (CommandServer server = CommandServer.openTcp(jung, 0)) {
+            Thread serveThread = new Thread(() -> {
+                try {
+                    server.serve();
+                } catch (IOException e) {
+                    // Test fails on the client side instead
+                }
+            });
+            serveThread.setDaemon(true);
+            serveThread.start();
+
+            StringBuilder request = new StringBuilder();
+            for (int i = 1; i <= 60; i++) {
+                request.append("todo task ").append(i).append('\n');
+            }
+            request.append("list\nlist next\nbye\n");
+
+            InetSocketAddress address = (InetSocketAddress) server.getAddress();
+            try (Socket socket = new Socket(address.getAddress(), address.getPort())) {
+                OutputStream out = socket.getOutputStream();
+                out.write(request.toString().getBytes(StandardCharsets.UTF_8));
+                out.flush();
+
+                BufferedReader in = new BufferedReader(
+                        new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+                for (int i = 0; i < 60; i++) {
+                    skipBody(in, in.readLine(), "OK");
+                }
+                assertTrue(skipBody(in, in.readLine(), "OK").contains("1. [T][ ] task 1\n"));
+                String secondPage = skipBody(in, in.readLine(), "OK");
+                assertTrue(secondPage.contains("51. [T][ ] task 51"));
+                assertFalse(secondPage.contains("1. [T][ ] task 1\n"));
+            }
+        }
+    }
+
+    /**
+     * Checks a status line and returns the response body that follows it.
+     */
+    private static String skipBody(BufferedReader in, String statusLine, String expectedStatus) throws IOException {
+        String[] parts = statusLine.split(" ");
+        assertEquals(expectedStatus, parts[0]);
+        StringBuilder body = new StringBuilder();
+        for (int i = Integer.parseInt(parts[1]); i > 0; i--) {
+            body.append(in.readLine()).append('\n');
+        }
+        return body.toString();
+    }
+}
@@ -0,0 +1,120 @@
+package jung.server;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+import jung.gui.Jung;
+
+public class HttpApiServerTest {
+
+    private Path tempDir;
+    private HttpApiServer server;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        tempDir = Files.createTempDirectory("jung-http");
+        server = HttpApiServer.open(new Jung(tempDir.resolve("jung.txt").toString()), 0);
+        server.start();
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        server.close();
+        try (Stream<Path> files = Files.walk(tempDir)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Test
+    public void postTask_deadline_returnsCreatedTaskAsJson() throws IOException {
+        Response response = request("POST", "/tasks",
+                "type=deadline&description=submit+%22report%22&by=15/3/2024+1400");
+
+        assertEquals(201, response.status);
+        assertEquals("{\"version\":1,\"task\":{\"number\":1,\"type\":\"deadline\","
+                + "\"description\":\"submit \\\"report\\\"\",\"done\":false,\"by\":\"2024-03-15T14:00\"}}",
+                response.body);
+    }
+
+    @Test
+    public void postTask_descriptionWithCommandKeywords_keepsDescriptionAsGiven() throws IOException {
+        Response response = request("POST", "/tasks",
+                "type=deadline&description=pay+/by+cheque+/every+month&by=1/2/2030+1200");
+
+        assertEquals(201, response.status);
+        assertEquals("{\"version\":1,\"task\":{\"number\":1,\"type\":\"deadline\","
+                + "\"description\":\"pay /by cheque /every month\",\"done\":false,\"by\":\"2030-02-01T12:00\"}}",
+                response.body);
+    }
+
+    @Test
+    public void postTask_optionSmuggledIntoTimeField_returnsBadRequestAndAddsNothing() throws IOException {
+        Response response = request("POST", "/tasks",
+                "type=deadline&description=report&by=2/2/2030+1200+/every+week");
+        Response separator = request("POST", "/tasks", "description=a+|+b");
+
+        assertEquals(400, response.status);
+        assertEquals(400, separator.status);
+        assertEquals("{\"version\":0,\"tasks\":[],\"count\":0}", request("GET", "/tasks", null).body);
+    }
+
+    @Test
+    public void getTasks_withKeyword_returnsMatchesWithListNumbers() throws IOException {
+        request("POST", "/tasks", "description=buy+milk");
+        request("POST", "/tasks", "description=read+book");
+        request("POST", "/tasks/2/mark", "");
+
+        Response response = request("GET", "/tasks?q=BOOK", null);
+
+        assertEquals(200, response.status);
+        assertEquals("{\"version\":3,\"tasks\":[{\"number\":2,\"type\":\"todo\",\"description\":\"read book\","
+                + "\"done\":true}],\"count\":1}", response.body);
+    }
+
+    @Test
+    public void deleteTask_invalidNumber_returnsBadRequest() throws IOException {
+        Response response = request("DELETE", "/tasks/3", null);
+
+        assertEquals(400, response.status);
+        assertTrue(response.body.startsWith("{\"error\":"));
+    }
+
+    private Response request(String method, String path, String form) throws IOException {
+        URL url = new URL("http://localhost:" + server.getAddress().getPort() + path);
+        HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+        connection.setRequestMethod(method);
+        if (form != null) {
+            connection.setDoOutput(true);
+            connection.setRequestProperty("Content-Type", "application/x-www-form-urlencoded");
+            try (OutputStream out = connection.getOutputStream()) {
+                out.write(form.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+
+        int status = connection.getResponseCode();
+        try (InputStream in = status < 400 ? connection.getInputStream() : connection.getErrorStream()) {
+            return new Response(status, new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    private static class Response {
+        private final int status;
+        private final String body;
+
+        Response(int status, String body) {
+            this.status = status;
+            this.body = body;
+        }
+    }
+}
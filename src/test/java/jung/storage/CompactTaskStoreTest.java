@@ -0,0 +1,83 @@
+package jung.storage;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import jung.task.Deadline;
+import jung.task.Event;
+import jung.task.Recurrence;
+import jung.task.Task;
+import jung.task.ToDo;
+
+public class CompactTaskStoreTest {
+
+    @Test
+    public void get_mixedTaskTypes_matchesOriginalTasks() {
+        List<Task> tasks = new ArrayList<>();
+        tasks.add(new ToDo("water plants 🌱"));
+        tasks.add(new Deadline("submit report", LocalDateTime.of(2024, 3, 15, 14, 30)).withDone(true));
+        tasks.add(new Event("team lunch", LocalDateTime.of(1969, 12, 31, 12, 0),
+                LocalDateTime.of(1969, 12, 31, 13, 0)));
+        tasks.add(new Deadline("pay rent", LocalDateTime.of(2026, 1, 31, 9, 0), Recurrence.parse("month")));
+
+        CompactTaskStore store = CompactTaskStore.of(tasks);
+
+        assertEquals(4, store.size());
+        for (int i = 0; i < tasks.size(); i++) {
+            assertEquals(tasks.get(i).toFileString(), store.get(i).toFileString());
+        }
+    }
+
+    @Test
+    public void setDone_toggleStatus_updatesOnlyThatTask() {
+        CompactTaskStore store = new CompactTaskStore();
+        for (int i = 0; i < 100; i++) {
+            store.add(new ToDo("task " + i));
+        }
+
+        store.setDone(70, true);
+
+        assertTrue(store.isDone(70));
+        assertFalse(store.isDone(69));
+        assertTrue(store.get(70).isDone());
+        store.setDone(70, false);
+        assertFalse(store.asList().get(70).isDone());
+    }
+
+    @Test
+    public void get_invalidIndex_throwsIndexOutOfBoundsException() {
+        CompactTaskStore store = new CompactTaskStore();
+        store.add(new ToDo("only"));
+        assertThrows(IndexOutOfBoundsException.class, () -> store.get(1));
+    }
+
+    @Test
+    public void get_offHeapStoreGrowsPastInitialCapacity_matchesOriginalTasks() {
+        OffHeapTaskStore store = new OffHeapTaskStore(1);
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            Task task = new Event("standup #" + i, LocalDateTime.of(2024, 1, 1, 9, 0).plusDays(i),
+                    LocalDateTime.of(2024, 1, 1, 9, 15).plusDays(i));
+            tasks.add(task);
+            store.add(task);
+        }
+        store.setDone(4999, true);
+
+        assertEquals(5000, store.size());
+        assertEquals(tasks.get(1234).toFileString(), store.get(1234).toFileString());
+        assertEquals("standup #4999", store.getDescription(4999));
+        assertTrue(store.asList().get(4999).isDone());
+    }
+
+    @Test
+    public void grow_pastLargestOffHeapBuffer_throwsIllegalStateException() {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(16);
+
+        assertThrows(IllegalStateException.class,
+                () -> OffHeapTaskStore.grow(buffer, OffHeapTaskStore.MAX_BUFFER_BYTES + 1L, 0));
+        assertThrows(IllegalStateException.class, () -> new OffHeapTaskStore(Integer.MAX_VALUE / 16));
+    }
+}
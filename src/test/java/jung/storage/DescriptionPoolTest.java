@@ -0,0 +1,30 @@
+package jung.storage;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+
+public class DescriptionPoolTest {
+
+    @Test
+    public void intern_equalDescriptions_returnsSameInstance() {
+        DescriptionPool pool = new DescriptionPool();
+        String first = pool.intern(new String("water plants"));
+        String second = pool.intern(new String("water plants"));
+
+        assertSame(first, second);
+        assertEquals(1, pool.size());
+    }
+
+    @Test
+    public void intern_repeatedDescriptions_reportsDedupeStats() {
+        DescriptionPool pool = new DescriptionPool();
+        String kept = pool.intern(new String("standup"));
+        pool.intern(new String("standup"));
+        pool.intern(new String("standup"));
+        pool.intern(new String("retro"));
+
+        assertEquals(0.5, pool.getDedupeRatio(), 1e-9);
+        assertTrue(pool.getBytesSaved() > 0);
+        assertEquals("standup", kept);
+    }
+}
@@ -0,0 +1,146 @@
+package jung.storage;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+import jung.exceptions.JungException;
+import jung.task.Deadline;
+import jung.task.Task;
+import jung.task.ToDo;
+
+public class TaskArchiveTest {
+
+    private Path tempDir;
+    private Storage storage;
+    private TaskList taskList;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        tempDir = Files.createTempDirectory("jung-archive");
+        storage = new Storage(tempDir.resolve("jung.txt").toString());
+        taskList = new TaskList(new ArrayList<>(), storage);
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(tempDir)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Test
+    public void moveDoneTasksTo_mixedTasks_movesOnlyDoneOnesAndSavesBothFiles() throws JungException, IOException {
+        taskList.addTask(new ToDo("buy milk"));
+        taskList.addTask(new ToDo("read book"));
+        taskList.addTask(new Deadline("book club essay", LocalDateTime.of(2026, 3, 1, 9, 0)));
+        taskList.markTask(1);
+        taskList.markTask(2);
+
+        int movedCount = taskList.moveDoneTasksTo(storage.getArchive());
+
+        assertEquals(2, movedCount);
+        assertEquals(1, taskList.size());
+        assertEquals("buy milk", taskList.getTasks().get(0).getDescription());
+        assertNull(taskList.getLastAction());
+        assertEquals(1, storage.load().size());
+        assertTrue(Files.exists(tempDir.resolve("jung-archive.txt")));
+
+        TaskArchive reloaded = new Storage(tempDir.resolve("jung.txt").toString()).getArchive();
+        assertEquals(2, reloaded.size());
+        assertArrayEquals(new int[] {0, 1}, reloaded.findTaskIndices("BOOK"));
+        Task essay = reloaded.get(1);
+        assertTrue(essay.isDone());
+        assertEquals(LocalDateTime.of(2026, 3, 1, 9, 0), ((Deadline) essay).getDeadlineTime());
+    }
+
+    @Test
+    public void addAll_afterArchiveLoaded_appendsToFileAndLoadedStore() throws IOException {
+        TaskArchive archive = storage.getArchive();
+        archive.addAll(List.of(new ToDo("old task").withDone(true)));
+        assertEquals(1, archive.size());
+
+        archive.addAll(List.of(new ToDo("newer task").withDone(true), new ToDo("newest task").withDone(true)));
+
+        assertEquals(3, archive.size());
+        assertArrayEquals(new int[] {1, 2}, archive.findTaskIndices("new"));
+        assertEquals(3, new Storage(tempDir.resolve("jung-archive.txt").toString()).load().size());
+    }
+
+    @Test
+    public void findTaskIndices_offHeapArchive_findsSameTasksAsOnHeap() throws IOException {
+        Storage archiveStorage = new Storage(tempDir.resolve("jung-archive.txt").toString());
+        new TaskArchive(archiveStorage).addAll(List.of(new ToDo("pay bills").withDone(true),
+                new Deadline("pay rent", LocalDateTime.of(2026, 2, 1, 9, 0)).withDone(true),
+                new ToDo("water plants").withDone(true)));
+
+        TaskArchive offHeap = new TaskArchive(archiveStorage, true);
+
+        assertEquals(3, offHeap.size());
+        assertArrayEquals(new int[] {0, 1}, offHeap.findTaskIndices("pay"));
+        assertEquals(LocalDateTime.of(2026, 2, 1, 9, 0), ((Deadline) offHeap.get(1)).getDeadlineTime());
+    }
+
+    @Test
+    public void size_repeatedDescriptions_loadsWithoutInterning() throws IOException {
+        Path archivePath = tempDir.resolve("jung-archive.txt");
+        Files.write(archivePath, List.of("T | 1 | standup", "T | 1 | standup", "T | 1 | standup"));
+        List<Task> loaded = new Storage(archivePath.toString()).load();
+        long bytesSaved = DescriptionPool.getShared().getBytesSaved();
+
+        assertEquals(3, storage.getArchive().size());
+
+        assertEquals(bytesSaved, DescriptionPool.getShared().getBytesSaved());
+        assertSame(loaded.get(0).getDescription(), loaded.get(2).getDescription());
+    }
+
+    @Test
+    public void moveDoneTasksTo_whileDeferringWrites_savesTasksLeftAtOnce() throws JungException, IOException {
+        taskList.addTask(new ToDo("buy milk"));
+        taskList.addTask(new ToDo("read book"));
+        taskList.markTask(1);
+        storage.deferWrites();
+
+        taskList.moveDoneTasksTo(storage.getArchive());
+
+        List<Task> saved = new Storage(tempDir.resolve("jung.txt").toString()).load();
+        assertEquals(1, saved.size());
+        assertEquals("buy milk", saved.get(0).getDescription());
+        storage.flush();
+        assertEquals(1, storage.load().size());
+    }
+
+    @Test
+    public void moveDoneTasksTo_saveFailsAfterArchiving_leavesDoneTasksInBothFiles()
+            throws JungException, IOException {
+        taskList.addTask(new ToDo("buy milk"));
+        taskList.addTask(new ToDo("read book"));
+        taskList.markTask(1);
+        // A directory where the save writes its temporary file makes the save fail
+        Files.createDirectory(tempDir.resolve("jung.txt.tmp"));
+
+        assertThrows(IOException.class, () -> taskList.moveDoneTasksTo(storage.getArchive()));
+
+        assertEquals(1, storage.getArchive().size());
+        assertEquals(2, storage.load().size());
+    }
+
+    @Test
+    public void moveDoneTasksTo_nothingDone_leavesListAndUndoAlone() throws IOException {
+        taskList.addTask(new ToDo("buy milk"));
+
+        assertEquals(0, taskList.moveDoneTasksTo(storage.getArchive()));
+
+        assertEquals(1, taskList.size());
+        assertNotNull(taskList.getLastAction());
+        assertEquals(0, storage.getArchive().size());
+    }
+}
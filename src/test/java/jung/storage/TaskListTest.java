@@ -5,6 +5,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.List;
 import jung.exceptions.JungException;
 import jung.task.Task;
 import jung.task.ToDo;
@@ -133,4 +134,104 @@ public class TaskListTest {
         taskList.deleteTask(0);
         assertEquals(1, taskList.size());
     }
+
+    @Test
+    public void getTasks_modifyView_throwsUnsupportedOperationException() throws IOException {
+        taskList.addTask(new ToDo("read only"));
+        assertThrows(UnsupportedOperationException.class, () -> taskList.getTasks().add(new ToDo("sneaky")));
+    }
+
+    @Test
+    public void getTasks_laterMutations_snapshotUnchanged() throws IOException, JungException {
+        taskList.addTask(new ToDo("first"));
+        taskList.addTask(new ToDo("second"));
+        List<Task> snapshot = taskList.getTasks();
+
+        taskList.markTask(0);
+        taskList.addTask(new ToDo("third"));
+        taskList.deleteTask(1);
+
+        assertEquals(2, snapshot.size());
+        assertFalse(snapshot.get(0).isDone());
+        assertEquals("second", snapshot.get(1).getDescription());
+        assertTrue(taskList.getTasks().get(0).isDone());
+        assertEquals("third", taskList.getTasks().get(1).getDescription());
+    }
+
+    @Test
+    public void snapshot_afterMutations_keepsPinnedVersion() throws IOException, JungException {
+        taskList.addTask(new ToDo("pinned"));
+        TaskSnapshot pinned = taskList.snapshot();
+
+        taskList.addTask(new ToDo("newer"));
+        taskList.markTask(0);
+
+        assertEquals(1, pinned.size());
+        assertFalse(pinned.getTasks().get(0).isDone());
+        assertEquals(pinned.getVersion() + 2, taskList.getVersion());
+    }
+
+    @Test
+    public void findTaskIndices_mixedCase_returnsPositionsInListOrder() throws IOException {
+        taskList.addTask(new ToDo("Buy milk"));
+        taskList.addTask(new ToDo("read book"));
+        taskList.addTask(new ToDo("buy eggs"));
+
+        assertArrayEquals(new int[] {0, 2}, TaskList.findTaskIndices(taskList.getTasks(), "BUY"));
+        assertEquals(0, TaskList.findTaskIndices(taskList.getTasks(), "cake").length);
+    }
+
+    @Test
+    public void addAll_source_appendsInOrderAndUndoesAsOne() throws IOException, JungException {
+        taskList.addTask(new ToDo("existing"));
+        List<Task> imported = List.of(new ToDo("first"), new ToDo("second"), new ToDo("third"));
+        int[] next = {0};
+
+        int added = taskList.addAll(() -> next[0] < imported.size() ? imported.get(next[0]++) : null);
+
+        assertEquals(3, added);
+        assertEquals(4, taskList.size());
+        assertEquals("third", taskList.getTasks().get(3).getDescription());
+        taskList.getLastAction().executeUndo(taskList);
+        assertEquals(1, taskList.size());
+        assertEquals("existing", taskList.getTasks().get(0).getDescription());
+    }
+
+    @Test
+    public void addAll_sourceFails_addsNothing() throws IOException {
+        int[] calls = {0};
+        assertThrows(IOException.class, () -> taskList.addAll(() -> {
+            if (calls[0]++ < 2) {
+                return new ToDo("partial");
+            }
+            throw new IOException("disk on fire");
+        }));
+        assertEquals(0, taskList.size());
+        assertNull(taskList.getLastAction());
+    }
+
+    @Test
+    public void setListener_mutationsAndUndo_reportsEachTaskAddedAndRemoved() throws IOException, JungException {
+        taskList.addTask(new ToDo("existing"));
+        List<String> changes = new ArrayList<>();
+        taskList.setListener(new TaskListListener() {
+            @Override
+            public void taskAdded(Task task) {
+                changes.add("+" + task);
+            }
+
+            @Override
+            public void taskRemoved(Task task) {
+                changes.add("-" + task);
+            }
+        });
+
+        taskList.addTask(new ToDo("new"));
+        taskList.markTask(1);
+        taskList.deleteTask(0);
+        taskList.getLastAction().executeUndo(taskList);
+
+        assertEquals(List.of("+[T][ ] existing", "+[T][ ] new", "-[T][ ] new", "+[T][X] new",
+                "-[T][ ] existing", "+[T][ ] existing"), changes);
+    }
 }
@@ -0,0 +1,119 @@
+package jung.task;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+public class RecurrenceTest {
+
+    private static final LocalDateTime FIRST = LocalDateTime.of(2026, 1, 31, 9, 0);
+
+    @Test
+    public void parse_naturalForms_matchRules() {
+        assertEquals("FREQ=DAILY", Recurrence.parse("day").toRule());
+        assertEquals("FREQ=WEEKLY;INTERVAL=2", Recurrence.parse("2 weeks").toRule());
+        assertEquals("FREQ=WEEKLY;BYDAY=MO,TU,WE,TH,FR", Recurrence.parse("weekday").toRule());
+        assertEquals("FREQ=WEEKLY;BYDAY=MO,FR", Recurrence.parse("fri,monday").toRule());
+        assertEquals("FREQ=MONTHLY;UNTIL=20261231", Recurrence.parse("month until 31/12/2026").toRule());
+        assertEquals("FREQ=YEARLY;COUNT=3", Recurrence.parse("yearly 3 times").toRule());
+    }
+
+    @Test
+    public void parseRule_roundTripsThroughToRule() {
+        String rule = "FREQ=WEEKLY;INTERVAL=3;BYDAY=TU,SA;COUNT=10";
+        assertEquals(rule, Recurrence.parseRule(rule).toRule());
+        assertEquals(Recurrence.parseRule(rule), Recurrence.parse("RRULE:" + rule));
+        assertEquals("FREQ=DAILY;UNTIL=20260301", Recurrence.parseRule("FREQ=DAILY;UNTIL=20260301T235959Z").toRule());
+    }
+
+    @Test
+    public void parse_invalidText_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> Recurrence.parse("fortnight"));
+        assertThrows(IllegalArgumentException.class, () -> Recurrence.parse("0 days"));
+        assertThrows(IllegalArgumentException.class, () -> Recurrence.parse("month until someday"));
+        assertThrows(IllegalArgumentException.class, () -> Recurrence.parseRule("FREQ=MONTHLY;BYDAY=MO"));
+        assertThrows(IllegalArgumentException.class, () -> Recurrence.parseRule("FREQ=HOURLY"));
+        assertThrows(IllegalArgumentException.class, () -> Recurrence.parseRule("FREQ=WEEKLY;BYDAY=1MO"));
+    }
+
+    @Test
+    public void occurrencesFrom_monthly_clampsToShortMonthsWithoutDrifting() {
+        List<LocalDateTime> occurrences = take(Recurrence.parse("month").occurrencesFrom(FIRST, FIRST), 3);
+
+        assertEquals(LocalDateTime.of(2026, 1, 31, 9, 0), occurrences.get(0));
+        assertEquals(LocalDateTime.of(2026, 2, 28, 9, 0), occurrences.get(1));
+        assertEquals(LocalDateTime.of(2026, 3, 31, 9, 0), occurrences.get(2));
+    }
+
+    @Test
+    public void occurrencesFrom_weeklyOnWeekdays_skipsDaysBeforeFirstOccurrence() {
+        // 31 Jan 2026 is a Saturday
+        Recurrence recurrence = Recurrence.parse("2 weeks");
+        assertEquals(LocalDateTime.of(2026, 2, 14, 9, 0), take(recurrence.occurrencesFrom(FIRST, FIRST), 2).get(1));
+
+        LocalDateTime wednesday = LocalDateTime.of(2026, 1, 28, 18, 0);
+        List<LocalDateTime> occurrences = take(Recurrence.parse("mon,wed").occurrencesFrom(wednesday, wednesday), 3);
+        assertEquals(LocalDateTime.of(2026, 1, 28, 18, 0), occurrences.get(0));
+        assertEquals(LocalDateTime.of(2026, 2, 2, 18, 0), occurrences.get(1));
+        assertEquals(LocalDateTime.of(2026, 2, 4, 18, 0), occurrences.get(2));
+    }
+
+    @Test
+    public void occurrencesFrom_farFuture_jumpsToFirstOccurrenceAtOrAfter() {
+        LocalDateTime from = LocalDateTime.of(3026, 6, 10, 12, 0);
+
+        for (String repeat : new String[] {"day", "3 days", "week", "tue,thu,sat", "2 months", "year"}) {
+            Recurrence recurrence = Recurrence.parse(repeat);
+            LocalDateTime jumped = recurrence.occurrencesFrom(FIRST, from).next();
+            assertFalse(jumped.isBefore(from), repeat);
+
+            // The same occurrence must be reached by stepping, and the one before it must be earlier than from
+            Iterator<LocalDateTime> stepped = recurrence.occurrencesFrom(FIRST, jumped.minusDays(400));
+            LocalDateTime previous = null;
+            LocalDateTime current = stepped.next();
+            while (current.isBefore(from)) {
+                previous = current;
+                current = stepped.next();
+            }
+            assertEquals(current, jumped, repeat);
+            assertNotNull(previous, repeat);
+        }
+    }
+
+    @Test
+    public void occurrencesFrom_countAndUntil_endSeries() {
+        Recurrence counted = Recurrence.parse("day 3 times");
+        assertEquals(3, take(counted.occurrencesFrom(FIRST, FIRST), 10).size());
+        assertFalse(counted.occurrencesFrom(FIRST, FIRST.plusDays(3)).hasNext());
+
+        Recurrence bounded = Recurrence.parse("week until 14/2/2026");
+        assertEquals(3, take(bounded.occurrencesFrom(FIRST, FIRST), 10).size());
+    }
+
+    @Test
+    public void toString_describesRepeat() {
+        assertEquals("every 2 weeks on Mon, Wed until 31 Dec 2026",
+                Recurrence.parse("2 mon,wed until 31/12/2026").toString());
+        assertEquals("every month, 6 times", Recurrence.parse("month 6 times").toString());
+    }
+
+    @Test
+    public void deadline_withRecurrence_keepsRuleThroughCopyAndFile() {
+        Deadline deadline = new Deadline("pay rent", FIRST, Recurrence.parse("month"));
+
+        assertEquals("D | 0 | pay rent | 31/1/2026 0900 | FREQ=MONTHLY", deadline.toFileString());
+        assertTrue(deadline.toString().endsWith(", every month)"));
+        assertEquals(deadline.getRecurrence(), ((Deadline) deadline.withDone(true)).getRecurrence());
+    }
+
+    private static List<LocalDateTime> take(Iterator<LocalDateTime> occurrences, int limit) {
+        List<LocalDateTime> taken = new ArrayList<>();
+        while (occurrences.hasNext() && taken.size() < limit) {
+            taken.add(occurrences.next());
+        }
+        return taken;
+    }
+}
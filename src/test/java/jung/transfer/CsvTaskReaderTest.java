@@ -0,0 +1,79 @@
+package jung.transfer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import jung.task.Deadline;
+import jung.task.Event;
+import jung.task.Task;
+import jung.task.ToDo;
+
+public class CsvTaskReaderTest {
+
+    @Test
+    public void next_allTaskTypes_readsEveryRow() throws IOException {
+        List<Task> tasks = readAll("type,done,description,by,from,to\n"
+                + "todo,false,buy milk,,,\n"
+                + "deadline,true,submit report,2025-03-15T14:00,,\n"
+                + "event,false,team lunch,,2025-03-16T12:00,2025-03-16T13:30\n");
+
+        assertEquals(3, tasks.size());
+        assertTrue(tasks.get(0) instanceof ToDo);
+        assertTrue(tasks.get(1).isDone());
+        assertEquals(LocalDateTime.of(2025, 3, 15, 14, 0), ((Deadline) tasks.get(1)).getDeadlineTime());
+        assertEquals(LocalDateTime.of(2025, 3, 16, 13, 30), ((Event) tasks.get(2)).getEndTime());
+    }
+
+    @Test
+    public void next_quotedFieldsAndOtherColumnOrder_unquotesAndInfersType() throws IOException {
+        List<Task> tasks = readAll("Due,Title,Priority\n"
+                + "15/3/2025 1400,\"call Ah Beng, then \"\"the\"\" boss\",high\n"
+                + ",\"two\nlines\",low\n");
+
+        assertEquals(2, tasks.size());
+        assertTrue(tasks.get(0) instanceof Deadline);
+        assertEquals("call Ah Beng, then \"the\" boss", tasks.get(0).getDescription());
+        assertEquals("two lines", tasks.get(1).getDescription());
+    }
+
+    @Test
+    public void next_badRows_skipsThemAndKeepsGoing() throws IOException {
+        CsvTaskReader reader = new CsvTaskReader(new BufferedReader(new StringReader("description,by,type\n"
+                + "fine,,\n"
+                + ",,\n"
+                + "bad date,31/2/2025 99,\n"
+                + "a | b,,\n"
+                + "late,,deadline\n"
+                + "also fine,,todo\n")));
+
+        List<Task> tasks = drain(reader);
+
+        assertEquals(2, tasks.size());
+        assertEquals("also fine", tasks.get(1).getDescription());
+        assertEquals(4, reader.getSkippedCount());
+    }
+
+    @Test
+    public void next_noDescriptionColumn_throwsTransferException() {
+        CsvTaskReader reader = new CsvTaskReader(new BufferedReader(new StringReader("name,due\nx,\n")));
+        assertThrows(TransferException.class, reader::next);
+    }
+
+    private static List<Task> readAll(String csv) throws IOException {
+        return drain(new CsvTaskReader(new BufferedReader(new StringReader(csv))));
+    }
+
+    private static List<Task> drain(TaskRecordReader reader) throws IOException {
+        List<Task> tasks = new ArrayList<>();
+        Task task;
+        while ((task = reader.next()) != null) {
+            tasks.add(task);
+        }
+        return tasks;
+    }
+}
@@ -0,0 +1,108 @@
+package jung.transfer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import jung.task.Deadline;
+import jung.task.Event;
+import jung.task.Task;
+import jung.task.ToDo;
+
+public class IcsTaskReaderTest {
+
+    private static final ZoneId SINGAPORE = ZoneId.of("Asia/Singapore");
+
+    @Test
+    public void next_componentsOfEachKind_mapsToTaskTypes() throws IOException {
+        List<Task> tasks = readAll("BEGIN:VCALENDAR\r\n"
+                + "BEGIN:VEVENT\r\nSUMMARY:Standup\r\nDTSTART:20250301T010000Z\r\nDURATION:PT15M\r\n"
+                + "BEGIN:VALARM\r\nTRIGGER:-PT5M\r\nSUMMARY:ignored\r\nEND:VALARM\r\nEND:VEVENT\r\n"
+                + "BEGIN:VTODO\r\nSUMMARY:Pay bills\r\nDUE;VALUE=DATE:20250305\r\nSTATUS:COMPLETED\r\nEND:VTODO\r\n"
+                + "BEGIN:VTODO\r\nSUMMARY:Someday\\, maybe\r\nEND:VTODO\r\n"
+                + "END:VCALENDAR\r\n");
+
+        assertEquals(3, tasks.size());
+        Event standup = (Event) tasks.get(0);
+        assertEquals("Standup", standup.getDescription());
+        assertEquals(LocalDateTime.of(2025, 3, 1, 9, 0), standup.getStartTime());
+        assertEquals(LocalDateTime.of(2025, 3, 1, 9, 15), standup.getEndTime());
+        assertEquals(LocalDateTime.of(2025, 3, 5, 23, 59), ((Deadline) tasks.get(1)).getDeadlineTime());
+        assertTrue(tasks.get(1).isDone());
+        assertTrue(tasks.get(2) instanceof ToDo);
+        assertEquals("Someday, maybe", tasks.get(2).getDescription());
+    }
+
+    @Test
+    public void next_foldedLinesAndAllDayEvent_unfoldsAndSpansWholeDays() throws IOException {
+        List<Task> tasks = readAll("BEGIN:VEVENT\r\nSUMMARY:Company\r\n  retreat\r\n"
+                + "DTSTART;VALUE=DATE:20250310\r\nDTEND;VALUE=DATE:20250312\r\nEND:VEVENT\r\n");
+
+        Event retreat = (Event) tasks.get(0);
+        assertEquals("Company retreat", retreat.getDescription());
+        assertEquals(LocalDateTime.of(2025, 3, 10, 0, 0), retreat.getStartTime());
+        assertEquals(LocalDateTime.of(2025, 3, 11, 23, 59), retreat.getEndTime());
+    }
+
+    @Test
+    public void next_cancelledAndUnstartedEvents_skipped() throws IOException {
+        IcsTaskReader reader = reader("BEGIN:VEVENT\r\nSUMMARY:Off\r\nSTATUS:CANCELLED\r\n"
+                + "DTSTART:20250301T090000\r\nEND:VEVENT\r\n"
+                + "BEGIN:VEVENT\r\nSUMMARY:When?\r\nEND:VEVENT\r\n"
+                + "BEGIN:VTODO\r\nSUMMARY:Kept\r\nEND:VTODO\r\n");
+
+        assertEquals("Kept", reader.next().getDescription());
+        assertNull(reader.next());
+        assertEquals(2, reader.getSkippedCount());
+    }
+
+    @Test
+    public void writeAll_thenRead_roundTripsEveryTask() throws IOException {
+        List<Task> original = new ArrayList<>();
+        original.add(new ToDo("Plain; with, punctuation \\ and a long description that will need folding "
+                + "because it goes on and on 😅"));
+        original.add(new Deadline("Tax", LocalDateTime.of(2025, 4, 30, 23, 59)).withDone(true));
+        original.add(new Event("Trip", LocalDateTime.of(2025, 6, 1, 8, 0), LocalDateTime.of(2025, 6, 3, 18, 0))
+                .withDone(true));
+
+        StringWriter file = new StringWriter();
+        Clock clock = Clock.fixed(Instant.parse("2025-01-01T00:00:00Z"), ZoneOffset.UTC);
+        try (IcsTaskWriter writer = new IcsTaskWriter(new BufferedWriter(file), clock)) {
+            writer.writeAll(original);
+        }
+        for (String line : file.toString().split("\r\n")) {
+            assertTrue(line.getBytes(StandardCharsets.UTF_8).length <= 75, line);
+        }
+
+        List<Task> copies = readAll(file.toString());
+        assertEquals(original.size(), copies.size());
+        for (int i = 0; i < original.size(); i++) {
+            assertEquals(original.get(i).toFileString(), copies.get(i).toFileString());
+        }
+    }
+
+    private static IcsTaskReader reader(String ics) {
+        return new IcsTaskReader(new BufferedReader(new StringReader(ics)), SINGAPORE);
+    }
+
+    private static List<Task> readAll(String ics) throws IOException {
+        IcsTaskReader reader = reader(ics);
+        List<Task> tasks = new ArrayList<>();
+        Task task;
+        while ((task = reader.next()) != null) {
+            tasks.add(task);
+        }
+        return tasks;
+    }
+}
@@ -0,0 +1,50 @@
+package jung.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+
+public class DateTimeParserTest {
+
+    private static final String[] SAMPLES = {
+        "15/3/2024 1430", "1/1/2024 0000", "31/12/9999 2359", "5/11/2025 0905",
+        "29/2/2024 1200", "29/2/2023 1200", "31/4/2024 1000", "30/2/2024 0800",
+        "05/03/2024 1430", "015/3/2024 1430", "15/3/24 1430", "15/3/20245 1430",
+        "15/3/2024 2400", "15/3/2024 1460", "0/3/2024 1000", "15/13/2024 1000",
+        "15/3/0000 1000", "15-3-2024 1430", "15/3/2024 143", "15/3/2024  1430",
+        " 15/3/2024 1430", "15/3/2024 1430 ", "", "/", "15/3/2024", "tomorrow"
+    };
+
+    @Test
+    public void parse_samples_matchesInputFormatter() {
+        DateTimeParser parser = new DateTimeParser(4);
+        for (int round = 0; round < 2; round++) {
+            for (String sample : SAMPLES) {
+                LocalDateTime expected;
+                try {
+                    expected = LocalDateTime.parse(sample, DateFormats.INPUT_FORMAT);
+                } catch (DateTimeParseException e) {
+                    assertThrows(DateTimeParseException.class, () -> parser.parse(sample));
+                    continue;
+                }
+                assertEquals(expected, parser.parse(sample), sample);
+            }
+        }
+    }
+
+    @Test
+    public void parseWithoutCache_everyMinuteOfADay_matchesInputFormatter() {
+        LocalDateTime time = LocalDateTime.of(2024, 2, 29, 0, 0);
+        for (int i = 0; i < 24 * 60; i += 7) {
+            String text = time.plusMinutes(i).format(DateFormats.INPUT_FORMAT);
+            assertEquals(time.plusMinutes(i), DateTimeParser.parseWithoutCache(text), text);
+        }
+    }
+
+    @Test
+    public void parse_repeatedString_returnsCachedInstance() {
+        DateTimeParser parser = new DateTimeParser(4);
+        assertSame(parser.parse("15/3/2024 1430"), parser.parse("15/3/2024 1430"));
+    }
+}
@@ -0,0 +1,148 @@
+package jung.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import jung.task.Deadline;
+import jung.task.Event;
+import jung.task.Recurrence;
+import jung.task.Task;
+import jung.task.ToDo;
+
+public class EventConflictsTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 3, 2, 8, 0);
+    private static final LocalDateTime HORIZON = NOW.plusDays(30);
+
+    @Test
+    public void findAll_overlappingEvents_reportsEachPairOnce() {
+        List<Task> tasks = new ArrayList<>();
+        tasks.add(event("lunch", 12, 0, 13, 30));
+        tasks.add(new ToDo("buy milk"));
+        tasks.add(event("call", 13, 0, 14, 0));
+        tasks.add(event("review", 13, 30, 15, 0));
+        tasks.add(new Deadline("report", NOW.plusHours(5)));
+
+        EventConflicts conflicts = EventConflicts.findAll(tasks, NOW, HORIZON, 10);
+
+        // Lunch ends exactly when review starts, so they do not clash
+        assertEquals(2, conflicts.getTotalCount());
+        EventConflicts.Conflict first = conflicts.getConflicts().get(0);
+        assertEquals(1, first.getFirstNumber());
+        assertEquals(3, first.getSecondNumber());
+        assertEquals("call", first.getSecond().getDescription());
+        EventConflicts.Conflict second = conflicts.getConflicts().get(1);
+        assertEquals(3, second.getFirstNumber());
+        assertEquals(4, second.getSecondNumber());
+    }
+
+    @Test
+    public void findAll_doneAndPastEvents_areIgnored() {
+        List<Task> tasks = new ArrayList<>();
+        tasks.add(event("lunch", 12, 0, 13, 0).withDone(true));
+        tasks.add(event("call", 12, 30, 13, 30));
+        tasks.add(new Event("old", NOW.minusDays(1), NOW.minusDays(1).plusHours(2)));
+        tasks.add(new Event("older", NOW.minusDays(1), NOW.minusDays(1).plusHours(1)));
+
+        assertEquals(0, EventConflicts.findAll(tasks, NOW, HORIZON, 10).getTotalCount());
+    }
+
+    @Test
+    public void findAll_recurringEvent_clashesPerOccurrenceUpToHorizon() {
+        List<Task> tasks = new ArrayList<>();
+        tasks.add(new Event("standup", NOW.plusHours(1), NOW.plusHours(2), Recurrence.parse("day")));
+        tasks.add(new Event("offsite", NOW.plusDays(3), NOW.plusDays(5)));
+        tasks.add(new Event("far trip", NOW.plusDays(100), NOW.plusDays(101)));
+
+        EventConflicts conflicts = EventConflicts.findAll(tasks, NOW, HORIZON, 10);
+
+        // Occurrences on days 3 and 4 fall inside the offsite; the trip is past the horizon of the series
+        assertEquals(2, conflicts.getTotalCount());
+        assertEquals(NOW.plusDays(3).plusHours(1), conflicts.getConflicts().get(0).getSecond().getStartTime());
+        assertEquals(NOW.plusDays(4).plusHours(1), conflicts.getConflicts().get(1).getSecond().getStartTime());
+        assertEquals("offsite", conflicts.getConflicts().get(1).getFirst().getDescription());
+    }
+
+    @Test
+    public void findAll_randomEvents_matchesPairwiseCheck() {
+        Random random = new Random(42);
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            LocalDateTime start = NOW.plusMinutes(random.nextInt(20_000));
+            tasks.add(new Event("event " + i, start, start.plusMinutes(1 + random.nextInt(300))));
+        }
+
+        long expected = 0;
+        for (int i = 0; i < tasks.size(); i++) {
+            for (int j = i + 1; j < tasks.size(); j++) {
+                Event a = (Event) tasks.get(i);
+                Event b = (Event) tasks.get(j);
+                if (a.getStartTime().isBefore(b.getEndTime()) && b.getStartTime().isBefore(a.getEndTime())) {
+                    expected++;
+                }
+            }
+        }
+
+        EventConflicts conflicts = EventConflicts.findAll(tasks, NOW, HORIZON, 5);
+        assertEquals(expected, conflicts.getTotalCount());
+        assertEquals(5, conflicts.getConflicts().size());
+    }
+
+    @Test
+    public void findWith_addedEvent_reportsOnlyItsClashes() {
+        List<Task> tasks = new ArrayList<>();
+        tasks.add(event("lunch", 12, 0, 13, 0));
+        tasks.add(event("call", 12, 30, 13, 30));
+        tasks.add(event("review", 12, 45, 14, 0));
+
+        EventConflicts conflicts = EventConflicts.findWith(tasks, 2, NOW, HORIZON, 10);
+
+        assertEquals(2, conflicts.getTotalCount());
+        for (EventConflicts.Conflict conflict : conflicts.getConflicts()) {
+            assertEquals(3, conflict.getSecondNumber());
+        }
+        assertEquals(0, EventConflicts.findWith(tasks, 0, NOW.plusHours(6), HORIZON, 10).getTotalCount());
+    }
+
+    @Test
+    public void findWith_randomRecurringEvents_matchesClashesFoundByFullSweep() {
+        Random random = new Random(7);
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            LocalDateTime start = NOW.plusMinutes(random.nextInt(10_000));
+            LocalDateTime end = start.plusMinutes(30 + random.nextInt(600));
+            Recurrence recurrence = i % 4 == 0 ? Recurrence.parse("day") : i % 4 == 1 ? Recurrence.parse("week") : null;
+            tasks.add(new Event("event " + i, start, end, recurrence));
+        }
+        List<EventConflicts.Conflict> all = EventConflicts.findAll(tasks, NOW, HORIZON, Integer.MAX_VALUE)
+                .getConflicts();
+
+        for (int index = 0; index < tasks.size(); index++) {
+            int number = index + 1;
+            List<EventConflicts.Conflict> expected = new ArrayList<>();
+            for (EventConflicts.Conflict conflict : all) {
+                if (conflict.getFirstNumber() == number || conflict.getSecondNumber() == number) {
+                    expected.add(conflict);
+                }
+            }
+
+            EventConflicts found = EventConflicts.findWith(tasks, index, NOW, HORIZON, 3);
+
+            assertEquals(expected.size(), found.getTotalCount());
+            assertEquals(Math.min(3, expected.size()), found.getConflicts().size());
+            for (int i = 0; i < found.getConflicts().size(); i++) {
+                assertEquals(expected.get(i).getSecond().getStartTime(),
+                        found.getConflicts().get(i).getSecond().getStartTime());
+            }
+        }
+    }
+
+    private static Event event(String description, int startHour, int startMinute, int endHour, int endMinute) {
+        LocalDateTime day = NOW.toLocalDate().atStartOfDay();
+        return new Event(description, day.plusHours(startHour).plusMinutes(startMinute),
+                day.plusHours(endHour).plusMinutes(endMinute));
+    }
+}
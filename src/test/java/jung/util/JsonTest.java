@@ -0,0 +1,41 @@
+package jung.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+import java.time.LocalDateTime;
+import java.util.Map;
+import jung.task.Deadline;
+
+public class JsonTest {
+
+    @Test
+    public void parseObject_scalarsAndNestedValues_keepsScalarsOnly() {
+        Map<String, String> members = Json.parseObject(" {\"a\":\"x\\\"y\\u0041\", \"b\":true, \"c\":-1.5, \"d\":null, "
+                + "\"e\":{\"f\":[1,\"]\"]}, \"g\":\"z\"} ");
+
+        assertEquals("x\"yA", members.get("a"));
+        assertEquals("true", members.get("b"));
+        assertEquals("-1.5", members.get("c"));
+        assertFalse(members.containsKey("d"));
+        assertFalse(members.containsKey("e"));
+        assertEquals("z", members.get("g"));
+    }
+
+    @Test
+    public void parseObject_malformed_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> Json.parseObject("{\"a\":1"));
+        assertThrows(IllegalArgumentException.class, () -> Json.parseObject("{\"a\":1} extra"));
+        assertThrows(IllegalArgumentException.class, () -> Json.parseObject("[1]"));
+    }
+
+    @Test
+    public void appendTask_thenParse_roundTripsFields() {
+        Deadline deadline = new Deadline("say \"hi\"\n", LocalDateTime.of(2025, 3, 15, 14, 0));
+        Map<String, String> members = Json.parseObject(Json.appendTask(new StringBuilder(), deadline).toString());
+
+        assertEquals("deadline", members.get("type"));
+        assertEquals("say \"hi\"\n", members.get("description"));
+        assertEquals("false", members.get("done"));
+        assertEquals("2025-03-15T14:00", members.get("by"));
+    }
+}
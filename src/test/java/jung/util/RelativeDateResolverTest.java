@@ -0,0 +1,67 @@
+package jung.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+public class RelativeDateResolverTest {
+
+    // Wednesday 13 March 2024, 10:00 UTC
+    private static final Instant WEDNESDAY_MORNING = Instant.parse("2024-03-13T10:00:00Z");
+
+    private final RelativeDateResolver resolver = new RelativeDateResolver(Clock.fixed(WEDNESDAY_MORNING,
+            ZoneOffset.UTC));
+
+    @Test
+    public void resolve_dayExpressions_resolvesAgainstToday() {
+        assertEquals(LocalDateTime.of(2024, 3, 13, 23, 59), resolver.resolve("today"));
+        assertEquals(LocalDateTime.of(2024, 3, 13, 23, 59), resolver.resolve("eod"));
+        assertEquals(LocalDateTime.of(2024, 3, 14, 17, 0), resolver.resolve("tomorrow 5pm"));
+        assertEquals(LocalDateTime.of(2024, 3, 14, 17, 30), resolver.resolve("Tmr 5:30 PM"));
+        assertEquals(LocalDateTime.of(2024, 3, 18, 23, 59), resolver.resolve("next mon"));
+        assertEquals(LocalDateTime.of(2024, 3, 20, 9, 15), resolver.resolve("wed 0915"));
+        assertEquals(LocalDateTime.of(2024, 3, 16, 12, 0), resolver.resolve("in 3 days noon"));
+        assertEquals(LocalDateTime.of(2024, 3, 27, 0, 0), resolver.resolve("in 2 weeks 12am"));
+        assertEquals(LocalDateTime.of(2024, 3, 13, 18, 45), resolver.resolve("18:45"));
+    }
+
+    @Test
+    public void resolve_notRelative_returnsNull() {
+        assertNull(resolver.resolve("15/3/2024 1400"));
+        assertNull(resolver.resolve("tomorrow 25pm"));
+        assertNull(resolver.resolve("next week"));
+        assertNull(resolver.resolve("in 3 fortnights"));
+        assertNull(resolver.resolve("whenever lah"));
+        assertNull(resolver.resolve(""));
+    }
+
+    @Test
+    public void resolve_afterMidnight_movesToNewDay() {
+        Instant[] now = {WEDNESDAY_MORNING};
+        Clock clock = new Clock() {
+            @Override
+            public ZoneId getZone() {
+                return ZoneOffset.UTC;
+            }
+
+            @Override
+            public Clock withZone(ZoneId zone) {
+                return this;
+            }
+
+            @Override
+            public Instant instant() {
+                return now[0];
+            }
+        };
+        RelativeDateResolver movingResolver = new RelativeDateResolver(clock);
+
+        assertEquals(LocalDateTime.of(2024, 3, 14, 23, 59), movingResolver.resolve("tomorrow"));
+        now[0] = Instant.parse("2024-03-14T00:00:01Z");
+        assertEquals(LocalDateTime.of(2024, 3, 15, 23, 59), movingResolver.resolve("tomorrow"));
+    }
+}
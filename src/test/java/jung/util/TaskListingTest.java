@@ -0,0 +1,29 @@
+package jung.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+import java.util.List;
+import jung.task.Task;
+import jung.task.ToDo;
+
+public class TaskListingTest {
+
+    private final List<Task> tasks = List.of(new ToDo("buy milk"), new ToDo("read book"), new ToDo("buy eggs"));
+
+    @Test
+    public void getTaskNumber_selectedRows_mapsToFullListNumbers() {
+        TaskListing listing = new TaskListing("Found:", tasks, new int[] {0, 2});
+
+        assertEquals(2, listing.size());
+        assertEquals("buy eggs", listing.getTask(1).getDescription());
+        assertEquals(3, listing.getTaskNumber(1));
+    }
+
+    @Test
+    public void getMessage_listingResult_rendersNumberedRows() {
+        CommandResult result = new CommandResult(new TaskListing("Found:", tasks, new int[] {1, 2}));
+
+        assertEquals("Found:\n1. [T][ ] read book\n2. [T][ ] buy eggs\n", result.getMessage());
+        assertFalse(result.isError());
+    }
+}